@@ -1,4 +1,4 @@
-import { BleManager, Device, Service, Characteristic } from '../index'
+import { BleManager, Device, Service, Characteristic, OperationPriority } from '../index'
 import { BleErrorCode, BleErrorCodeMessage } from '../src/BleError'
 import * as Native from '../src/BleModule'
 
@@ -30,21 +30,43 @@ beforeEach(() => {
     connectToDevice: jest.fn(),
     cancelDeviceConnection: jest.fn(),
     isDeviceConnected: jest.fn(),
+    setConnectionPoolOptions: jest.fn(),
     discoverAllServicesAndCharacteristicsForDevice: jest.fn(),
+    discoverAllServicesAndCharacteristicsWithCacheForDevice: jest.fn(),
+    invalidateGattLayoutCache: jest.fn(),
     servicesForDevice: jest.fn(),
     characteristicsForDevice: jest.fn(),
     descriptorsForDevice: jest.fn(),
+    gattSnapshotForDevice: jest.fn(),
     readCharacteristicForDevice: jest.fn(),
+    readCharacteristicsForDevice: jest.fn(),
     writeCharacteristicForDevice: jest.fn(),
+    writeCharacteristicInBulkForDevice: jest.fn(),
     monitorCharacteristicForDevice: jest.fn(),
+    monitorCharacteristicForDeviceInBatches: jest.fn(),
     readDescriptorForDevice: jest.fn(),
     writeDescriptorForDevice: jest.fn(),
     requestMTUForDevice: jest.fn(),
     requestConnectionPriorityForDevice: jest.fn(),
+    setCharacteristicValueOnlyPayloads: jest.fn(),
+    acknowledgeFullCharacteristic: jest.fn(),
+    requestFullCharacteristic: jest.fn(),
+    setTransactionPriority: jest.fn(),
+    setMetricsOptions: jest.fn(),
+    setConversionOptions: jest.fn(),
+    setEmitOptions: jest.fn(),
     ScanEvent: 'scan_event',
+    ScanBatchEvent: 'scan_batch_event',
+    ScanSnapshotEvent: 'scan_snapshot_event',
     ReadEvent: 'read_event',
+    WriteProgressEvent: 'write_progress_event',
     StateChangeEvent: 'state_change_event',
-    DisconnectionEvent: 'disconnection_event'
+    DisconnectionEvent: 'disconnection_event',
+    GattLayoutChangedEvent: 'gatt_layout_changed_event',
+    BatchConnectionEvent: 'batch_connection_event',
+    ReconnectionEvent: 'reconnection_event',
+    MetricsEvent: 'metrics_event',
+    MultiplexedEvent: 'multiplexed_event'
   }
   bleManager = new BleManager({
     restoreStateIdentifier: 'identifier',
@@ -117,6 +139,13 @@ test('When BleManager cancelTransaction is called it should call BleModule cance
   expect(Native.BleModule.cancelTransaction).toBeCalledWith('id')
 })
 
+test('BleManager passes transaction priority to BleModule', () => {
+  bleManager.setTransactionPriority('id', OperationPriority.Bulk, 500)
+  expect(Native.BleModule.setTransactionPriority).toBeCalledWith('id', 'Bulk', 500)
+  bleManager.setTransactionPriority('id2', OperationPriority.Background)
+  expect(Native.BleModule.setTransactionPriority).toBeCalledWith('id2', 'Background', 0)
+})
+
 test('When BleManager starts scanning it calls BleModule startScanning function', () => {
   const listener = jest.fn()
   bleManager.startDeviceScan(['18a0', '1800'], { allowDuplicates: true }, listener)
@@ -133,6 +162,84 @@ test('When BleManager while scanning emits an error it calls listener with error
   expect(listener.mock.calls[0][0].message).toBe(BleErrorCodeMessage[BleErrorCode.OperationCancelled])
 })
 
+test('When BleManager scans with batching it calls listener for every device in a batch', () => {
+  const listener = jest.fn()
+  bleManager.startDeviceScan(null, { batchIntervalMs: 100 }, listener)
+  Native.BleModule.emit(Native.BleModule.ScanBatchEvent, [{ id: 'a' }, { id: 'b' }])
+  expect(listener.mock.calls.length).toBe(2)
+  expect(listener.mock.calls[0][1]).toBeInstanceOf(Device)
+  expect(listener.mock.calls[0][1].id).toBe('a')
+  expect(listener.mock.calls[1][1].id).toBe('b')
+
+  bleManager.stopDeviceScan()
+  Native.BleModule.emit(Native.BleModule.ScanBatchEvent, [{ id: 'c' }])
+  expect(listener.mock.calls.length).toBe(2)
+})
+
+test('When BleManager stops scanning with batching it passes the last batch', async () => {
+  const listener = jest.fn()
+  let resolveStop
+  Native.BleModule.stopDeviceScan = jest.fn().mockReturnValue(new Promise(resolve => (resolveStop = resolve)))
+  bleManager.startDeviceScan(null, { batchIntervalMs: 100 }, listener)
+
+  bleManager.stopDeviceScan()
+  Native.BleModule.emit(Native.BleModule.ScanEvent, [null, { id: 'a' }])
+  Native.BleModule.emit(Native.BleModule.ScanBatchEvent, [{ id: 'b' }])
+  resolveStop()
+  await Promise.resolve()
+  Native.BleModule.emit(Native.BleModule.ScanBatchEvent, [{ id: 'c' }])
+
+  expect(listener.mock.calls.length).toBe(1)
+  expect(listener.mock.calls[0][1].id).toBe('b')
+})
+
+test('When BleManager restarts scanning with batching it passes batches to the right listener', async () => {
+  const previousListener = jest.fn()
+  const listener = jest.fn()
+  let resolveStop
+  bleManager.startDeviceScan(null, { batchIntervalMs: 100 }, previousListener)
+  Native.BleModule.stopDeviceScan = jest.fn().mockReturnValue(new Promise(resolve => (resolveStop = resolve)))
+
+  bleManager.startDeviceScan(null, { batchIntervalMs: 100 }, listener)
+  Native.BleModule.emit(Native.BleModule.ScanBatchEvent, [{ id: 'a' }])
+  resolveStop()
+  await Promise.resolve()
+  Native.BleModule.emit(Native.BleModule.ScanBatchEvent, [{ id: 'b' }])
+
+  expect(previousListener.mock.calls.length).toBe(1)
+  expect(previousListener.mock.calls[0][1].id).toBe('a')
+  expect(listener.mock.calls.length).toBe(1)
+  expect(listener.mock.calls[0][1].id).toBe('b')
+})
+
+test('BleManager drains buffered scan results', async () => {
+  Native.BleModule.drainScanResults = jest.fn().mockReturnValue(Promise.resolve([{ id: 'a' }, { id: 'b' }]))
+  const devices = await bleManager.drainScanResults(10)
+  expect(Native.BleModule.drainScanResults).toBeCalledWith(10)
+  expect(devices.length).toBe(2)
+  expect(devices[0]).toBeInstanceOf(Device)
+  expect(devices[1].id).toBe('b')
+})
+
+test('BleManager passes aggregated scan snapshots to listener', () => {
+  const listener = jest.fn()
+  const subscription = bleManager.onScanSnapshot(listener)
+  Native.BleModule.emit(Native.BleModule.ScanSnapshotEvent, [
+    [{ device: { id: 'a', rssi: -70 }, smoothedRssi: -65.5, lastSeen: 1000 }],
+    ['b']
+  ])
+  subscription.remove()
+  Native.BleModule.emit(Native.BleModule.ScanSnapshotEvent, [[], ['a']])
+
+  expect(listener.mock.calls.length).toBe(1)
+  const [updatedDevices, expiredDeviceIds] = listener.mock.calls[0]
+  expect(updatedDevices[0].device).toBeInstanceOf(Device)
+  expect(updatedDevices[0].device.id).toBe('a')
+  expect(updatedDevices[0].smoothedRssi).toBe(-65.5)
+  expect(updatedDevices[0].lastSeen).toBe(1000)
+  expect(expiredDeviceIds).toEqual(['b'])
+})
+
 test('When BleManager stops scanning it calls BleModule stopScanning function', () => {
   bleManager.stopDeviceScan()
   expect(Native.BleModule.stopDeviceScan).toBeCalled()
@@ -219,6 +326,24 @@ test('BleManager handles errors properly while monitoring disconnections', () =>
   expect(listener.mock.calls[0][0].message).toBe(BleErrorCodeMessage[BleErrorCode.OperationCancelled])
 })
 
+test('BleManager monitors device reconnection properly', () => {
+  const listener = jest.fn()
+
+  const subscription = bleManager.onDeviceReconnected('id', listener)
+  Native.BleModule.emit(Native.BleModule.ReconnectionEvent, [null, { id: 'id2' }, 1])
+  Native.BleModule.emit(Native.BleModule.ReconnectionEvent, [null, { id: 'id' }, 2])
+  Native.BleModule.emit(Native.BleModule.ReconnectionEvent, [nativeOperationCancelledError, { id: 'id' }, 5])
+  subscription.remove()
+  Native.BleModule.emit(Native.BleModule.ReconnectionEvent, [null, { id: 'id' }, 1])
+
+  expect(listener.mock.calls.length).toBe(2)
+  expect(listener.mock.calls[0][0]).toBeFalsy()
+  expect(listener.mock.calls[0][1]).toBeInstanceOf(Device)
+  expect(listener.mock.calls[0][2]).toBe(2)
+  expect(listener.mock.calls[1][0].message).toBe(BleErrorCodeMessage[BleErrorCode.OperationCancelled])
+  expect(listener.mock.calls[1][2]).toBe(5)
+})
+
 test('BleManager calls BleModule isDeviceConnected function properly', async () => {
   Native.BleModule.isDeviceConnected = jest
     .fn()
@@ -229,6 +354,57 @@ test('BleManager calls BleModule isDeviceConnected function properly', async ()
   expect(Native.BleModule.isDeviceConnected.mock.calls.length).toBe(2)
 })
 
+test('BleManager calls BleModule connection pool functions properly', async () => {
+  const stats = { maxConnections: 7, connectedDevices: 7, queuedConnections: 1, evictions: 3 }
+  Native.BleModule.connectionPoolStats = jest.fn().mockReturnValue(Promise.resolve(stats))
+  bleManager.setConnectionPoolOptions({ maxConnections: 7, maxConcurrentConnections: 2 })
+  expect(Native.BleModule.setConnectionPoolOptions).toBeCalledWith({ maxConnections: 7, maxConcurrentConnections: 2 })
+  expect(await bleManager.connectionPoolStats()).toEqual(stats)
+})
+
+test('BleManager calls BleModule metrics functions properly', async () => {
+  const metrics = { periodMs: 1000, methods: {}, conversions: {}, events: {}, scanResults: 20 }
+  Native.BleModule.getMetrics = jest.fn().mockReturnValue(Promise.resolve(metrics))
+  expect(await bleManager.getMetrics()).toEqual(metrics)
+  expect(Native.BleModule.getMetrics).toBeCalledWith(false)
+  bleManager.setMetricsOptions({ reportIntervalMs: 5000 })
+  expect(Native.BleModule.setMetricsOptions).toBeCalledWith({ reportIntervalMs: 5000 })
+
+  const listener = jest.fn()
+  const subscription = bleManager.onMetrics(listener)
+  Native.BleModule.emit(Native.BleModule.MetricsEvent, metrics)
+  subscription.remove()
+  Native.BleModule.emit(Native.BleModule.MetricsEvent, metrics)
+  expect(listener).toHaveBeenCalledTimes(1)
+  expect(listener).toBeCalledWith(metrics)
+})
+
+test('BleManager dispatches multiplexed events in order', () => {
+  bleManager.setEmitOptions({ rateHz: 60 })
+  expect(Native.BleModule.setEmitOptions).toBeCalledWith({ rateHz: 60 })
+
+  const stateListener = jest.fn()
+  const metricsListener = jest.fn()
+  bleManager.onStateChange(stateListener)
+  bleManager.onMetrics(metricsListener)
+  const metrics = { periodMs: 1000 }
+  Native.BleModule.emit(Native.BleModule.MultiplexedEvent, [
+    ['metrics_event', metrics],
+    ['state_change_event', 'PoweredOn'],
+    ['metrics_event', metrics]
+  ])
+
+  expect(metricsListener).toHaveBeenCalledTimes(2)
+  expect(stateListener).toBeCalledWith('PoweredOn')
+  expect(metricsListener.mock.invocationCallOrder[0]).toBeLessThan(stateListener.mock.invocationCallOrder[0])
+  expect(stateListener.mock.invocationCallOrder[0]).toBeLessThan(metricsListener.mock.invocationCallOrder[1])
+})
+
+test('BleManager passes conversion options to BleModule', () => {
+  bleManager.setConversionOptions({ threads: 2, queueSize: 128 })
+  expect(Native.BleModule.setConversionOptions).toBeCalledWith({ threads: 2, queueSize: 128 })
+})
+
 test('BleManager properly calls BleModule discovery function', async () => {
   Native.BleModule.discoverAllServicesAndCharacteristicsForDevice = jest
     .fn()
@@ -321,6 +497,149 @@ test('BleManager properly writes characteristic value', async () => {
   }
 })
 
+test('BleManager discovers device using GATT layout cache', async () => {
+  const layout = { deviceID: 'id', versionTag: '1.0', fromCache: true, services: [] }
+  Native.BleModule.discoverAllServicesAndCharacteristicsWithCacheForDevice = jest
+    .fn()
+    .mockReturnValue(Promise.resolve(layout))
+  await expect(
+    bleManager.discoverAllServicesAndCharacteristicsWithCacheForDevice('id', '1.0', 'trans')
+  ).resolves.toEqual(layout)
+  expect(Native.BleModule.discoverAllServicesAndCharacteristicsWithCacheForDevice).toBeCalledWith(
+    'id',
+    '1.0',
+    'trans'
+  )
+
+  Native.BleModule.invalidateGattLayoutCache = jest.fn().mockReturnValue(Promise.resolve())
+  await bleManager.invalidateGattLayoutCache('id')
+  expect(Native.BleModule.invalidateGattLayoutCache).toBeCalledWith('id')
+})
+
+test('BleManager notifies about changed GATT layout of monitored device only', () => {
+  const listener = jest.fn()
+  const subscription = bleManager.onGattLayoutChanged('id', listener)
+  Native.BleModule.emit(Native.BleModule.GattLayoutChangedEvent, 'other')
+  Native.BleModule.emit(Native.BleModule.GattLayoutChangedEvent, 'id')
+  expect(listener).toBeCalledTimes(1)
+  subscription.remove()
+  Native.BleModule.emit(Native.BleModule.GattLayoutChangedEvent, 'id')
+  expect(listener).toBeCalledTimes(1)
+})
+
+test('BleManager returns whole GATT snapshot in one call', async () => {
+  Native.BleModule.gattSnapshotForDevice = jest.fn().mockReturnValue(
+    Promise.resolve([
+      {
+        service: { id: 1, uuid: 'aaaa' },
+        characteristics: [
+          { characteristic: { id: 2, uuid: 'bbbb' }, descriptors: [{ id: 3, uuid: 'cccc' }] },
+          { characteristic: { id: 4, uuid: 'dddd' }, descriptors: [] }
+        ]
+      }
+    ])
+  )
+  const snapshot = await bleManager.gattSnapshotForDevice('id')
+  expect(Native.BleModule.gattSnapshotForDevice).toBeCalledWith('id')
+  expect(snapshot.length).toBe(1)
+  expect(snapshot[0].service).toBeInstanceOf(Service)
+  expect(snapshot[0].service.uuid).toBe('aaaa')
+  expect(snapshot[0].characteristics.map(c => c.characteristic.uuid)).toEqual(['bbbb', 'dddd'])
+  expect(snapshot[0].characteristics[0].characteristic).toBeInstanceOf(Characteristic)
+  expect(snapshot[0].characteristics[0].descriptors[0]).toBeInstanceOf(Descriptor)
+  expect(snapshot[0].characteristics[1].descriptors).toEqual([])
+})
+
+test('BleManager reads multiple characteristics in one call', async () => {
+  Native.BleModule.readCharacteristicsForDevice = jest.fn().mockReturnValue(
+    Promise.resolve([
+      { characteristic: { id: 1, uuid: 'bbbb', value: 'AA==' }, error: null },
+      { characteristic: null, error: nativeOperationCancelledError }
+    ])
+  )
+  const paths = [
+    { serviceUUID: 'aaaa', characteristicUUID: 'bbbb' },
+    { serviceUUID: 'aaaa', characteristicUUID: 'cccc' }
+  ]
+  const results = await bleManager.readCharacteristicsForDevice('id', paths, 'trans')
+  expect(Native.BleModule.readCharacteristicsForDevice).toBeCalledWith('id', paths, 'trans')
+  expect(results[0].characteristic).toBeInstanceOf(Characteristic)
+  expect(results[0].characteristic.value).toBe('AA==')
+  expect(results[0].error).toBeNull()
+  expect(results[1].characteristic).toBeNull()
+  expect(results[1].error.errorCode).toBe(BleErrorCode.OperationCancelled)
+})
+
+test('BleManager connects and discovers multiple devices in one call', async () => {
+  let finishBatch
+  Native.BleModule.connectAndDiscoverDevices = jest.fn().mockReturnValue(
+    new Promise(resolve => {
+      finishBatch = resolve
+    })
+  )
+  const listener = jest.fn()
+  const batchPromise = bleManager.connectAndDiscoverDevices(['a', 'b'], { concurrency: 2 }, listener, 'trans')
+  expect(Native.BleModule.connectAndDiscoverDevices).toBeCalledWith(['a', 'b'], { concurrency: 2 }, 'trans')
+
+  const deviceResult = { deviceId: 'a', device: { id: 'a' }, error: null, attempts: 1 }
+  const errorResult = { deviceId: 'b', device: null, error: nativeOperationCancelledError, attempts: 3 }
+  Native.BleModule.emit(Native.BleModule.BatchConnectionEvent, ['trans', deviceResult])
+  Native.BleModule.emit(Native.BleModule.BatchConnectionEvent, ['other', errorResult])
+  finishBatch([deviceResult, errorResult])
+
+  const results = await batchPromise
+  expect(listener).toBeCalledTimes(1)
+  expect(listener.mock.calls[0][0].device).toBeInstanceOf(Device)
+  expect(results[0].device.id).toBe('a')
+  expect(results[0].error).toBeNull()
+  expect(results[1].device).toBeNull()
+  expect(results[1].error.errorCode).toBe(BleErrorCode.OperationCancelled)
+  expect(results[1].attempts).toBe(3)
+
+  Native.BleModule.emit(Native.BleModule.BatchConnectionEvent, ['trans', deviceResult])
+  expect(listener).toBeCalledTimes(1)
+})
+
+test('BleManager writes characteristic in bulk and reports progress', async () => {
+  let finishWrite
+  Native.BleModule.writeCharacteristicInBulkForDevice = jest.fn().mockReturnValue(
+    new Promise(resolve => {
+      finishWrite = resolve
+    })
+  )
+  const progressListener = jest.fn()
+  const writePromise = bleManager.writeCharacteristicInBulkForDevice(
+    'id',
+    'aaaa',
+    'bbbb',
+    'AAECAw==',
+    { chunkSize: 2 },
+    progressListener,
+    'trans'
+  )
+  expect(Native.BleModule.writeCharacteristicInBulkForDevice).toBeCalledWith(
+    'id',
+    'aaaa',
+    'bbbb',
+    ['AAECAw=='],
+    { chunkSize: 2 },
+    'trans'
+  )
+
+  Native.BleModule.emit(Native.BleModule.WriteProgressEvent, ['trans', 2, 4])
+  Native.BleModule.emit(Native.BleModule.WriteProgressEvent, ['other', 1, 1])
+  Native.BleModule.emit(Native.BleModule.WriteProgressEvent, ['trans', 4, 4])
+  finishWrite({ uuid: 'bbbb', value: 'AgM=' })
+
+  const characteristic = await writePromise
+  expect(characteristic).toBeInstanceOf(Characteristic)
+  expect(characteristic.value).toBe('AgM=')
+  expect(progressListener.mock.calls).toEqual([[2, 4], [4, 4]])
+
+  Native.BleModule.emit(Native.BleModule.WriteProgressEvent, ['trans', 4, 4])
+  expect(progressListener).toBeCalledTimes(2)
+})
+
 test('BleManager properly monitors characteristic value', async () => {
   const listener = jest.fn()
   Native.BleModule.monitorCharacteristicForDevice = jest.fn().mockReturnValue(Promise.resolve(null))
@@ -347,6 +666,101 @@ test('BleManager properly handles errors while monitoring characteristic values'
   expect(listener.mock.calls[0][0].message).toBe(BleErrorCodeMessage[BleErrorCode.OperationCancelled])
 })
 
+test('BleManager dispatches characteristic value only to monitor with matching transaction id', () => {
+  Native.BleModule.monitorCharacteristicForDevice = jest.fn().mockReturnValue(new Promise(() => {}))
+  const subscriptionCounts = [1, 10, 30, 100]
+  for (const count of subscriptionCounts) {
+    const listeners = []
+    for (let i = 0; i < count; i++) {
+      const listener = jest.fn()
+      listeners.push(listener)
+      bleManager.monitorCharacteristicForDevice('id', 'aaaa', 'bbbb', listener, `monitor_${count}_${i}`)
+    }
+    Native.BleModule.emit(Native.BleModule.ReadEvent, [null, { id: 'a', value: 'b' }, `monitor_${count}_0`])
+
+    expect(bleManager._eventEmitter.listenerCount(Native.BleModule.ReadEvent)).toBe(1)
+    expect(listeners[0]).toHaveBeenCalledTimes(1)
+    for (let i = 1; i < count; i++) {
+      expect(listeners[i]).not.toBeCalled()
+    }
+    bleManager._destroySubscriptions()
+  }
+  expect(bleManager._eventEmitter.listenerCount(Native.BleModule.ReadEvent)).toBe(0)
+})
+
+test('BleManager properly monitors characteristic values in batches', async () => {
+  const listener = jest.fn()
+  Native.BleModule.monitorCharacteristicForDeviceInBatches = jest.fn().mockReturnValue(Promise.resolve(null))
+
+  const subscription = bleManager.monitorCharacteristicForDeviceInBatches(
+    'id',
+    'aaaa',
+    'bbbb',
+    listener,
+    { batchIntervalMs: 50 },
+    'x'
+  )
+  Native.BleModule.emit(Native.BleModule.ReadEvent, [null, { id: 'a', value: 'b' }, 'x', ['a', 'b'], [1, 2]])
+  Native.BleModule.emit(Native.BleModule.ReadEvent, [null, { id: 'a', value: 'c' }, 'y', ['c'], [3]])
+  subscription.remove()
+  expect(listener).toHaveBeenCalledTimes(1)
+  expect(listener.mock.calls[0][1]).toBeInstanceOf(Characteristic)
+  expect(listener.mock.calls[0][2]).toEqual(['a', 'b'])
+  expect(listener.mock.calls[0][3]).toEqual([1, 2])
+  expect(Native.BleModule.cancelTransaction).toBeCalledWith('x')
+  expect(Native.BleModule.monitorCharacteristicForDeviceInBatches).toBeCalledWith(
+    'id',
+    'aaaa',
+    'bbbb',
+    { batchIntervalMs: 50 },
+    'x'
+  )
+})
+
+test('BleManager restores metadata of value only characteristics', async () => {
+  const manager = new BleManager({ characteristicValueOnlyPayloads: true })
+  expect(Native.BleModule.setCharacteristicValueOnlyPayloads).toBeCalledWith(true)
+
+  const listener = jest.fn()
+  Native.BleModule.monitorCharacteristicForDevice = jest.fn().mockReturnValue(Promise.resolve(null))
+  manager.monitorCharacteristicForDevice('id', 'aaaa', 'bbbb', listener, 'x')
+  const fullCharacteristic = { id: 1, uuid: 'bbbb', serviceUUID: 'aaaa', deviceID: 'id', value: 'a' }
+  Native.BleModule.emit(Native.BleModule.ReadEvent, [null, fullCharacteristic, 'x'])
+  Native.BleModule.emit(Native.BleModule.ReadEvent, [null, fullCharacteristic, 'x'])
+  expect(Native.BleModule.acknowledgeFullCharacteristic).toHaveBeenCalledTimes(1)
+  expect(Native.BleModule.acknowledgeFullCharacteristic).toBeCalledWith(1, 'id')
+  Native.BleModule.emit(Native.BleModule.ReadEvent, [null, { id: 1, value: 'b' }, 'x'])
+  expect(listener.mock.calls[2][1]).toBeInstanceOf(Characteristic)
+  expect(listener.mock.calls[2][1]).toMatchObject({ id: 1, uuid: 'bbbb', serviceUUID: 'aaaa', value: 'b' })
+
+  Native.BleModule.readCharacteristicForDevice = jest.fn().mockReturnValueOnce(Promise.resolve({ id: 1, value: 'c' }))
+  const characteristic = await manager.readCharacteristicForDevice('id', 'aaaa', 'bbbb', 'y')
+  expect(characteristic).toMatchObject({ id: 1, uuid: 'bbbb', serviceUUID: 'aaaa', value: 'c' })
+  expect(Native.BleModule.requestFullCharacteristic).not.toBeCalled()
+})
+
+test('BleManager forgets value only characteristics of disconnected devices', () => {
+  const manager = new BleManager({ characteristicValueOnlyPayloads: true })
+  const listener = jest.fn()
+  Native.BleModule.monitorCharacteristicForDevice = jest.fn().mockReturnValue(Promise.resolve(null))
+  manager.monitorCharacteristicForDevice('id', 'aaaa', 'bbbb', listener, 'x')
+  const fullCharacteristic = { id: 1, uuid: 'bbbb', serviceUUID: 'aaaa', deviceID: 'id', value: 'a' }
+  Native.BleModule.emit(Native.BleModule.ReadEvent, [null, fullCharacteristic, 'x'])
+
+  Native.BleModule.emit(Native.BleModule.DisconnectionEvent, [null, { id: 'id2' }])
+  Native.BleModule.emit(Native.BleModule.ReadEvent, [null, { id: 1, value: 'b' }, 'x'])
+  expect(listener.mock.calls[1][1]).toMatchObject({ uuid: 'bbbb', value: 'b' })
+
+  Native.BleModule.emit(Native.BleModule.DisconnectionEvent, [null, { id: 'id' }])
+  Native.BleModule.emit(Native.BleModule.ReadEvent, [null, { id: 1, value: 'c' }, 'x'])
+  expect(listener.mock.calls[2][1]).toMatchObject({ id: 1, value: 'c' })
+  expect(listener.mock.calls[2][1].uuid).toBeUndefined()
+  expect(Native.BleModule.requestFullCharacteristic).toBeCalledWith(1)
+
+  Native.BleModule.emit(Native.BleModule.ReadEvent, [null, fullCharacteristic, 'x'])
+  expect(Native.BleModule.acknowledgeFullCharacteristic).toHaveBeenCalledTimes(2)
+})
+
 test('BleManager properly requests the MTU', async () => {
   bleManager.requestMTUForDevice('id', 99, 'trId')
   expect(Native.BleModule.requestMTUForDevice).toBeCalledWith('id', 99, 'trId')
@@ -39,11 +39,25 @@ describe("Test if Device is properly calling BleManager's utility function: ", (
     expect(bleManager.discoverAllServicesAndCharacteristicsForDevice).toBeCalledWith('id', 'transaction')
   })
 
+  test('discoverAllServicesAndCharacteristicsWithCache', async () => {
+    await device.discoverAllServicesAndCharacteristicsWithCache('1.0', 'transaction')
+    expect(bleManager.discoverAllServicesAndCharacteristicsWithCacheForDevice).toBeCalledWith(
+      'id',
+      '1.0',
+      'transaction'
+    )
+  })
+
   test('services', async () => {
     await device.services()
     expect(bleManager.servicesForDevice).toBeCalledWith('id')
   })
 
+  test('gattSnapshot', async () => {
+    await device.gattSnapshot()
+    expect(bleManager.gattSnapshotForDevice).toBeCalledWith('id')
+  })
+
   test('characteristicsForService', async () => {
     await device.characteristicsForService('aaaa')
     expect(bleManager.characteristicsForDevice).toBeCalledWith('id', 'aaaa')
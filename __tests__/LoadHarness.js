@@ -0,0 +1,91 @@
+import { BleManager, runLoadScenario, simulatedDeviceId, SimulatedUUID } from '../index'
+import * as Native from '../src/BleModule'
+
+import { NativeEventEmitter } from './Utils'
+Native.EventEmitter = NativeEventEmitter
+
+const metrics = { periodMs: 50, methods: {}, conversions: {}, events: {}, scanResults: 3 }
+const disconnectedError =
+  '{"errorCode": 201, "attErrorCode": null, "iosErrorCode": null, "reason": null, "androidErrorCode": null}'
+
+beforeEach(() => {
+  const memoryStats = [
+    { heapUsedBytes: 1000, allocatedBytes: 5000, gcCount: 1 },
+    { heapUsedBytes: 1500, allocatedBytes: 9000, gcCount: 3 }
+  ]
+  Native.BleModule = {
+    createClient: jest.fn(),
+    destroyClient: jest.fn(),
+    cancelTransaction: jest.fn(),
+    setSimulationOptions: jest.fn(),
+    getMetrics: jest.fn().mockReturnValue(Promise.resolve(metrics)),
+    memoryStats: jest.fn(() => Promise.resolve(memoryStats.shift())),
+    startDeviceScan: jest.fn(() => {
+      setTimeout(() => {
+        for (let i = 0; i < 3; i++) {
+          Native.BleModule.emit(Native.BleModule.ScanEvent, [null, { id: simulatedDeviceId(i) }])
+        }
+      }, 0)
+    }),
+    stopDeviceScan: jest.fn(),
+    connectToDevice: jest.fn(id => Promise.resolve({ id })),
+    cancelDeviceConnection: jest.fn(id => Promise.resolve({ id })),
+    discoverAllServicesAndCharacteristicsForDevice: jest.fn(id => Promise.resolve({ id })),
+    monitorCharacteristicForDevice: jest.fn((id, serviceUUID, characteristicUUID, transactionId) => {
+      return new Promise((resolve, reject) => {
+        setTimeout(() => {
+          Native.BleModule.emit(Native.BleModule.ReadEvent, [null, { id: 1, value: 'AAAAAA==' }, transactionId])
+          Native.BleModule.emit(Native.BleModule.ReadEvent, [null, { id: 1, value: 'AQAAAA==' }, transactionId])
+          if (id === simulatedDeviceId(1)) {
+            reject(disconnectedError)
+          }
+        }, 0)
+      })
+    }),
+    ScanEvent: 'scan_event',
+    ReadEvent: 'read_event'
+  }
+})
+
+test('Simulation options are passed before client is created', () => {
+  const simulation = { advertisers: 500, advertisingRateHz: 5 }
+  const manager = new BleManager({ simulation })
+  expect(Native.BleModule.setSimulationOptions).toBeCalledWith(simulation)
+  expect(Native.BleModule.setSimulationOptions.mock.invocationCallOrder[0]).toBeLessThan(
+    Native.BleModule.createClient.mock.invocationCallOrder[0]
+  )
+  manager.destroy()
+})
+
+test('Simulated device ids are formatted like MAC addresses', () => {
+  expect(simulatedDeviceId(0)).toBe('5E:1A:00:00:00:00')
+  expect(simulatedDeviceId(299)).toBe('5E:1A:00:00:01:2B')
+})
+
+test('Load scenario reports throughput, metrics and allocations', async () => {
+  const manager = new BleManager({ simulation: { advertisers: 3 } })
+  const report = await runLoadScenario(manager, { durationMs: 50, connections: 2 })
+
+  expect(report.durationMs).toBeGreaterThanOrEqual(50)
+  expect(report.scannedDevices).toBe(3)
+  expect(report.connectedDevices).toBe(2)
+  expect(report.notifications).toBe(4)
+  expect(report.disconnections).toBe(1)
+  expect(report.errors).toEqual([])
+  expect(report.metrics).toEqual(metrics)
+  expect(report.allocatedBytes).toBe(4000)
+  expect(report.gcCount).toBe(2)
+  expect(report.heapUsedBytes).toBe(500)
+
+  expect(Native.BleModule.getMetrics).toBeCalledWith(true)
+  expect(Native.BleModule.monitorCharacteristicForDevice).toBeCalledWith(
+    simulatedDeviceId(0),
+    SimulatedUUID.service,
+    SimulatedUUID.notifyCharacteristic,
+    expect.any(String)
+  )
+  expect(Native.BleModule.stopDeviceScan).toBeCalled()
+  expect(Native.BleModule.cancelDeviceConnection).toBeCalledWith(simulatedDeviceId(0))
+  expect(Native.BleModule.cancelDeviceConnection).toBeCalledWith(simulatedDeviceId(1))
+  manager.destroy()
+})
@@ -1,5 +1,5 @@
 const EventEmitter = require('events')
-import { fullUUID, fillStringWithArguments } from '../src/Utils'
+import { fullUUID, fillStringWithArguments, base64ToBytes, bytesToBase64 } from '../src/Utils'
 
 export class NativeEventEmitter extends EventEmitter {
   constructor(module) {
@@ -70,3 +70,37 @@ test('string replacment based on object', () => {
   expect(fillStringWithArguments('hello', {})).toBe('hello')
   expect(fillStringWithArguments('My {id} is {a} or {b}', { a: 'OK', id: 'X' })).toBe('My X is OK or ?')
 })
+
+test('base64ToBytes decodes padded and unpadded values', () => {
+  expect(Array.from(base64ToBytes(''))).toEqual([])
+  expect(Array.from(base64ToBytes('Zm9vYmFy'))).toEqual([102, 111, 111, 98, 97, 114])
+  expect(Array.from(base64ToBytes('Zm9vYg=='))).toEqual([102, 111, 111, 98])
+  expect(Array.from(base64ToBytes('Zm9vYmE'))).toEqual([102, 111, 111, 98, 97])
+  expect(Array.from(base64ToBytes('+/8='))).toEqual([0xfb, 0xff])
+  expect(() => base64ToBytes('Zm9v!')).toThrow()
+})
+
+test('base64ToBytes rejects non ASCII characters and invalid lengths', () => {
+  expect(() => base64ToBytes('Zm9\u0141')).toThrow()
+  expect(() => base64ToBytes('Zm9\u0100')).toThrow()
+  expect(() => base64ToBytes('Zm9vY')).toThrow()
+  expect(() => base64ToBytes('Zm9vY===')).toThrow()
+  expect(() => base64ToBytes('Zm8=Zm8')).toThrow()
+  expect(() => base64ToBytes('Zg=')).toThrow()
+})
+
+test('bytesToBase64 encodes Uint8Array and ArrayBuffer values', () => {
+  expect(bytesToBase64(new Uint8Array([]))).toBe('')
+  expect(bytesToBase64(new Uint8Array([102]))).toBe('Zg==')
+  expect(bytesToBase64(new Uint8Array([102, 111]))).toBe('Zm8=')
+  expect(bytesToBase64(new Uint8Array([102, 111, 111, 98, 97, 114]).buffer)).toBe('Zm9vYmFy')
+  expect(bytesToBase64(new Uint8Array([0xfb, 0xff]))).toBe('+/8=')
+})
+
+test('bytesToBase64 and base64ToBytes round trip large values', () => {
+  const bytes = new Uint8Array(100000)
+  for (let i = 0; i < bytes.length; i++) bytes[i] = (i * 31) & 0xff
+  const base64 = bytesToBase64(bytes)
+  expect(base64).toBe(Buffer.from(bytes).toString('base64'))
+  expect(base64ToBytes(base64)).toEqual(bytes)
+})
@@ -0,0 +1,54 @@
+package com.polidea.reactnativeble.benchmark;
+
+import com.polidea.reactnativeble.utils.Base64Converter;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Encoding and decoding of characteristic values. Sizes cover the default ATT payload, a typical negotiated one and
+ * the maximum one.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class Base64Benchmark {
+
+    @Param({"20", "244", "512"})
+    public int size;
+
+    private byte[] value;
+    private String base64;
+
+    @Setup
+    public void setUp() {
+        value = new byte[size];
+        new Random(size).nextBytes(value);
+        base64 = Base64Converter.encode(value);
+    }
+
+    @Benchmark
+    public String encode() {
+        return Base64Converter.encode(value);
+    }
+
+    @Benchmark
+    public byte[] decode() {
+        return Base64Converter.decode(base64);
+    }
+}
@@ -0,0 +1,92 @@
+package com.polidea.reactnativeble.benchmark;
+
+import com.facebook.react.bridge.WritableMap;
+import com.polidea.multiplatformbleadapter.AdvertisementData;
+import com.polidea.multiplatformbleadapter.Characteristic;
+import com.polidea.multiplatformbleadapter.ScanResult;
+import com.polidea.multiplatformbleadapter.errors.BleError;
+import com.polidea.multiplatformbleadapter.errors.BleErrorCode;
+import com.polidea.reactnativeble.converter.BleErrorToJsObjectConverter;
+import com.polidea.reactnativeble.converter.CharacteristicToJsObjectConverter;
+import com.polidea.reactnativeble.converter.ScanResultToJsObjectConverter;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Conversions of objects passed to JS most often: scan results, read and notified characteristics and errors.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class ConverterBenchmark {
+
+    private static final UUID SERVICE_UUID = UUID.fromString("0000180d-0000-1000-8000-00805f9b34fb");
+    private static final UUID CHARACTERISTIC_UUID = UUID.fromString("00002a37-0000-1000-8000-00805f9b34fb");
+
+    private final ScanResultToJsObjectConverter scanResultConverter = new ScanResultToJsObjectConverter();
+    private final CharacteristicToJsObjectConverter characteristicConverter = new CharacteristicToJsObjectConverter();
+    private final BleErrorToJsObjectConverter errorConverter = new BleErrorToJsObjectConverter();
+
+    private ScanResult scanResult;
+    private Characteristic characteristic;
+    private BleError error;
+
+    @Setup
+    public void setUp() {
+        AdvertisementData advertisementData = new AdvertisementData(
+                new byte[]{0x4c, 0x00, 0x02, 0x15, 0x01, 0x02, 0x03, 0x04, 0x05, 0x06, 0x07, 0x08},
+                Collections.singletonMap(SERVICE_UUID, new byte[]{0x10, 0x20, 0x30, 0x40}),
+                new ArrayList<>(Arrays.asList(SERVICE_UUID, UUID.fromString("0000180f-0000-1000-8000-00805f9b34fb"))),
+                "Heart Rate Sensor",
+                -8,
+                null);
+        scanResult = new ScanResult("AA:BB:CC:DD:EE:FF", "HRM", -67, 23, null, null, advertisementData);
+
+        characteristic = new Characteristic(42, CHARACTERISTIC_UUID, 7, SERVICE_UUID, "AA:BB:CC:DD:EE:FF",
+                new byte[]{0x16, 0x48, 0x03, 0x02, 0x0a, 0x01, 0x00, 0x00, 0x12, 0x34, 0x56, 0x78, 0x11, 0x22});
+
+        error = new BleError(BleErrorCode.CharacteristicReadFailed, "Characteristic read failed", 133);
+        error.deviceID = "AA:BB:CC:DD:EE:FF";
+        error.serviceUUID = SERVICE_UUID.toString();
+        error.characteristicUUID = CHARACTERISTIC_UUID.toString();
+        error.internalMessage = "GATT exception from MAC address AA:BB:CC:DD:EE:FF, with type BleGattOperation";
+    }
+
+    @Benchmark
+    public WritableMap scanResult() {
+        return scanResultConverter.toJSObject(scanResult);
+    }
+
+    @Benchmark
+    public WritableMap characteristic() {
+        return characteristicConverter.toJSObject(characteristic);
+    }
+
+    @Benchmark
+    public WritableMap characteristicValueOnly() {
+        return characteristicConverter.toValueOnlyJSObject(characteristic);
+    }
+
+    @Benchmark
+    public String error() {
+        return errorConverter.toJs(error);
+    }
+}
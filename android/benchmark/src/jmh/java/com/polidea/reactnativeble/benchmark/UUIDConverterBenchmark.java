@@ -0,0 +1,47 @@
+package com.polidea.reactnativeble.benchmark;
+
+import com.polidea.reactnativeble.utils.UUIDConverter;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Parsing of UUIDs passed from JS in short and full forms and formatting of UUIDs passed to JS.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class UUIDConverterBenchmark {
+
+    private final String shortUUID = "2A37";
+    private final String fullUUID = "6e400001-b5a3-f393-e0a9-e50e24dcca9e";
+    private final UUID uuid = UUID.fromString(fullUUID);
+
+    @Benchmark
+    public UUID convertShort() {
+        return UUIDConverter.convert(shortUUID);
+    }
+
+    @Benchmark
+    public UUID convertFull() {
+        return UUIDConverter.convert(fullUUID);
+    }
+
+    @Benchmark
+    public String fromUUID() {
+        return UUIDConverter.fromUUID(uuid);
+    }
+}
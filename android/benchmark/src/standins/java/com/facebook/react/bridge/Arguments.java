@@ -0,0 +1,15 @@
+package com.facebook.react.bridge;
+
+/**
+ * Plain JVM stand-in of React Native's Arguments, which creates Java only collections instead of native ones.
+ */
+public class Arguments {
+
+    public static WritableMap createMap() {
+        return new JavaOnlyMap();
+    }
+
+    public static WritableArray createArray() {
+        return new JavaOnlyArray();
+    }
+}
@@ -0,0 +1,11 @@
+package com.facebook.react.bridge;
+
+/**
+ * Plain JVM stand-in of React Native's ReadableArray, limited to the API used by benchmarked classes.
+ */
+public interface ReadableArray {
+
+    int size();
+
+    String getString(int index);
+}
@@ -0,0 +1,21 @@
+package com.facebook.react.bridge;
+
+/**
+ * Plain JVM stand-in of React Native's WritableArray, limited to the API used by benchmarked classes.
+ */
+public interface WritableArray extends ReadableArray {
+
+    void pushNull();
+
+    void pushBoolean(boolean value);
+
+    void pushDouble(double value);
+
+    void pushInt(int value);
+
+    void pushString(String value);
+
+    void pushArray(WritableArray array);
+
+    void pushMap(WritableMap map);
+}
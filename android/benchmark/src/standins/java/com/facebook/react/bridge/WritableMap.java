@@ -0,0 +1,21 @@
+package com.facebook.react.bridge;
+
+/**
+ * Plain JVM stand-in of React Native's WritableMap, limited to the API used by benchmarked classes.
+ */
+public interface WritableMap {
+
+    void putNull(String key);
+
+    void putBoolean(String key, boolean value);
+
+    void putDouble(String key, double value);
+
+    void putInt(String key, int value);
+
+    void putString(String key, String value);
+
+    void putArray(String key, WritableArray value);
+
+    void putMap(String key, WritableMap value);
+}
@@ -0,0 +1,78 @@
+package com.polidea.multiplatformbleadapter;
+
+import java.util.UUID;
+
+/**
+ * Plain JVM stand-in of the adapter's characteristic. The real one wraps an Android GATT characteristic, this one
+ * is created directly from its attributes and has all properties set.
+ */
+public class Characteristic {
+
+    private final int id;
+    private final UUID uuid;
+    private final int serviceId;
+    private final UUID serviceUUID;
+    private final String deviceId;
+    private byte[] value;
+
+    public Characteristic(int id, UUID uuid, int serviceId, UUID serviceUUID, String deviceId, byte[] value) {
+        this.id = id;
+        this.uuid = uuid;
+        this.serviceId = serviceId;
+        this.serviceUUID = serviceUUID;
+        this.deviceId = deviceId;
+        this.value = value;
+    }
+
+    public int getId() {
+        return id;
+    }
+
+    public UUID getUuid() {
+        return uuid;
+    }
+
+    public int getServiceID() {
+        return serviceId;
+    }
+
+    public UUID getServiceUUID() {
+        return serviceUUID;
+    }
+
+    public String getDeviceId() {
+        return deviceId;
+    }
+
+    public byte[] getValue() {
+        return value;
+    }
+
+    public void setValue(byte[] value) {
+        this.value = value;
+    }
+
+    public boolean isReadable() {
+        return true;
+    }
+
+    public boolean isWritableWithResponse() {
+        return true;
+    }
+
+    public boolean isWritableWithoutResponse() {
+        return true;
+    }
+
+    public boolean isNotifiable() {
+        return true;
+    }
+
+    public boolean isNotifying() {
+        return true;
+    }
+
+    public boolean isIndicatable() {
+        return false;
+    }
+}
@@ -0,0 +1,61 @@
+package com.polidea.multiplatformbleadapter;
+
+import java.util.UUID;
+
+/**
+ * Plain JVM stand-in of the adapter's scan result.
+ */
+public class ScanResult {
+
+    private final String deviceId;
+    private final String deviceName;
+    private final int rssi;
+    private final int mtu;
+    private final Boolean isConnectable;
+    private final UUID[] overflowServiceUUIDs;
+    private final AdvertisementData advertisementData;
+
+    public ScanResult(String deviceId,
+                      String deviceName,
+                      int rssi,
+                      int mtu,
+                      Boolean isConnectable,
+                      UUID[] overflowServiceUUIDs,
+                      AdvertisementData advertisementData) {
+        this.deviceId = deviceId;
+        this.deviceName = deviceName;
+        this.rssi = rssi;
+        this.mtu = mtu;
+        this.isConnectable = isConnectable;
+        this.overflowServiceUUIDs = overflowServiceUUIDs;
+        this.advertisementData = advertisementData;
+    }
+
+    public String getDeviceId() {
+        return deviceId;
+    }
+
+    public String getDeviceName() {
+        return deviceName;
+    }
+
+    public int getRssi() {
+        return rssi;
+    }
+
+    public int getMtu() {
+        return mtu;
+    }
+
+    public Boolean isConnectable() {
+        return isConnectable;
+    }
+
+    public UUID[] getOverflowServiceUUIDs() {
+        return overflowServiceUUIDs;
+    }
+
+    public AdvertisementData getAdvertisementData() {
+        return advertisementData;
+    }
+}
@@ -0,0 +1,22 @@
+package com.polidea.multiplatformbleadapter.errors;
+
+/**
+ * Plain JVM stand-in of the adapter's error.
+ */
+public class BleError extends Throwable {
+
+    public BleErrorCode errorCode;
+    public Integer androidCode;
+    public String reason;
+    public String deviceID;
+    public String serviceUUID;
+    public String characteristicUUID;
+    public String descriptorUUID;
+    public String internalMessage;
+
+    public BleError(BleErrorCode errorCode, String reason, Integer androidCode) {
+        this.errorCode = errorCode;
+        this.reason = reason;
+        this.androidCode = androidCode;
+    }
+}
@@ -0,0 +1,17 @@
+package com.polidea.multiplatformbleadapter.errors;
+
+/**
+ * Plain JVM stand-in of the adapter's error codes, limited to codes used by benchmarks.
+ */
+public enum BleErrorCode {
+
+    UnknownError(0),
+    DeviceDisconnected(201),
+    CharacteristicReadFailed(402);
+
+    public final int code;
+
+    BleErrorCode(int code) {
+        this.code = code;
+    }
+}
@@ -1,5 +1,9 @@
 package com.polidea.reactnativeble;
 
+import android.os.Build;
+import android.os.Debug;
+import android.os.SystemClock;
+
 import com.facebook.react.bridge.Arguments;
 import com.facebook.react.bridge.Promise;
 import com.facebook.react.bridge.ReactApplicationContext;
@@ -25,18 +29,59 @@ import com.polidea.multiplatformbleadapter.RefreshGattMoment;
 import com.polidea.multiplatformbleadapter.ScanResult;
 import com.polidea.multiplatformbleadapter.Service;
 import com.polidea.multiplatformbleadapter.errors.BleError;
+import com.polidea.multiplatformbleadapter.errors.BleErrorCode;
+import com.polidea.reactnativeble.cache.GattLayout;
+import com.polidea.reactnativeble.cache.GattLayoutCache;
+import com.polidea.reactnativeble.connection.AutoReconnect;
+import com.polidea.reactnativeble.connection.BatchConnection;
+import com.polidea.reactnativeble.connection.ConnectionPool;
+import com.polidea.reactnativeble.connection.ReconnectPolicy;
 import com.polidea.reactnativeble.converter.BleErrorToJsObjectConverter;
 import com.polidea.reactnativeble.converter.CharacteristicToJsObjectConverter;
 import com.polidea.reactnativeble.converter.DescriptorToJsObjectConverter;
 import com.polidea.reactnativeble.converter.DeviceToJsObjectConverter;
+import com.polidea.reactnativeble.converter.GattLayoutToJsObjectConverter;
+import com.polidea.reactnativeble.converter.JSObjectConverter;
+import com.polidea.reactnativeble.converter.MetricsToJsObjectConverter;
 import com.polidea.reactnativeble.converter.ScanResultToJsObjectConverter;
 import com.polidea.reactnativeble.converter.ServiceToJsObjectConverter;
+import com.polidea.reactnativeble.gatt.BulkCharacteristicWrite;
+import com.polidea.reactnativeble.gatt.GattOperationScheduler;
+import com.polidea.reactnativeble.metrics.BleMetrics;
+import com.polidea.reactnativeble.scan.ScanResultAggregator;
+import com.polidea.reactnativeble.scan.ScanResultBuffer;
+import com.polidea.reactnativeble.scan.ScanResultDeduplicator;
+import com.polidea.reactnativeble.scan.ScanResultFilter;
+import com.polidea.reactnativeble.simulation.SimulatedBleAdapter;
+import com.polidea.reactnativeble.simulation.SimulationOptions;
+import com.polidea.reactnativeble.utils.Base64Converter;
+import com.polidea.reactnativeble.utils.ConversionExecutor;
+import com.polidea.reactnativeble.utils.EventBatcher;
 import com.polidea.reactnativeble.utils.ReadableArrayConverter;
 import com.polidea.reactnativeble.utils.SafePromise;
-
+import com.polidea.reactnativeble.utils.TimestampedValue;
+import com.polidea.reactnativeble.utils.UUIDConverter;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Random;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.regex.Pattern;
+import java.util.regex.PatternSyntaxException;
 
 import androidx.annotation.NonNull;
 import androidx.annotation.Nullable;
@@ -54,11 +99,114 @@ public class BleClientManager extends ReactContextBaseJavaModule {
     private final CharacteristicToJsObjectConverter characteristicConverter = new CharacteristicToJsObjectConverter();
     private final DescriptorToJsObjectConverter descriptorConverter = new DescriptorToJsObjectConverter();
     private final ServiceToJsObjectConverter serviceConverter = new ServiceToJsObjectConverter();
+    private final GattLayoutToJsObjectConverter gattLayoutConverter = new GattLayoutToJsObjectConverter();
+    private final MetricsToJsObjectConverter metricsConverter = new MetricsToJsObjectConverter();
 
     private BleAdapter bleAdapter;
 
+    // Devices simulated by the adapter of the next created client instead of real ones, used for load testing
+    @Nullable
+    private volatile SimulationOptions simulationOptions;
+
+    // ATT MTU used before a larger one is negotiated and size of a write request header
+    private static final int DEFAULT_MTU = 23;
+    private static final int ATT_WRITE_HEADER_SIZE = 3;
+    private static final long DEFAULT_BULK_WRITE_PROGRESS_INTERVAL_MS = 100;
+    private static final int DEFAULT_CONVERSION_QUEUE_SIZE = 256;
+
+    // Scheduler of delayed batch flushes, GATT operation deadlines and connection retries
+    private final ScheduledExecutorService batchScheduler = Executors.newSingleThreadScheduledExecutor();
+
+    @Nullable
+    private EventBatcher<ScanResult> scanResultBatcher;
+
+    // Scan results kept until JS drains them, when scan runs in pull mode
+    @Nullable
+    private volatile ScanResultBuffer scanResultBuffer;
+
+    // Table of scanned devices reported in periodic snapshots, when scan runs with aggregation
+    private static final long DEFAULT_AGGREGATION_DEVICE_TTL_MS = 10000;
+    private static final double DEFAULT_RSSI_SMOOTHING_FACTOR = 0.3;
+    @Nullable
+    private ScanResultAggregator scanResultAggregator;
+
+    // Whether characteristics already cached by JS are converted to value only objects
+    private volatile boolean characteristicValueOnlyPayloads = false;
+    // Device ids of characteristics which JS acknowledged to have cached in full by characteristic ids
+    private final Map<Integer, String> acknowledgedCharacteristicDeviceIds = new ConcurrentHashMap<>();
+
+    // Batchers of characteristic values monitored in batches by their transaction ids
+    private final Map<String, EventBatcher<TimestampedValue>> monitorBatchers = new ConcurrentHashMap<>();
+
+    // Cancel actions of operations spanning multiple adapter transactions by their transaction ids
+    private final Map<String, Runnable> compositeTransactions = new ConcurrentHashMap<>();
+
+    // Queues GATT operations before they are passed to the adapter
+    private static final int MAX_GATT_OPERATIONS_PER_DEVICE = 2;
+    private static final int MAX_GATT_OPERATIONS = 8;
+    // Operations identified by attribute ids whose device isn't known share a single queue
+    private static final String SHARED_GATT_OPERATION_QUEUE_KEY = "";
+    private GattOperationScheduler gattOperationScheduler;
+
+    // Priorities set for upcoming operations by their transaction ids
+    private final Map<String, TransactionPriority> transactionPriorities = new ConcurrentHashMap<>();
+
+    // Limits the number of connected devices
+    private static final int DEFAULT_BATCH_CONNECTION_CONCURRENCY = 4;
+    private static final int DEFAULT_BATCH_CONNECTION_MAX_ATTEMPTS = 3;
+    private static final long DEFAULT_BATCH_CONNECTION_RETRY_DELAY_MS = 1000;
+    private static final String RECONNECT_TRANSACTION_PREFIX = "Reconnect:";
+    private ConnectionPool connectionPool;
+
+    // Reconnects devices disconnected unexpectedly
+    private static final int DEFAULT_RECONNECT_MAX_ATTEMPTS = 5;
+    private static final long DEFAULT_RECONNECT_INITIAL_DELAY_MS = 1000;
+    private static final long DEFAULT_RECONNECT_MAX_DELAY_MS = 30000;
+    private static final double DEFAULT_RECONNECT_MULTIPLIER = 2;
+    private static final double DEFAULT_RECONNECT_JITTER = 0.5;
+    private AutoReconnect autoReconnect;
+
+    // Monitors interrupted by disconnection of devices being reconnected, by device ids and transaction ids
+    private final Map<String, Map<String, MonitorToRestore>> monitorsToRestore = new HashMap<>();
+
+    // Persistent cache of discovered GATT layouts
+    private static final String GATT_LAYOUT_CACHE_DIRECTORY = "BleGattLayoutCache";
+    private static final int GATT_LAYOUT_CACHE_MAX_ENTRIES = 32;
+    private static final UUID GENERIC_ATTRIBUTE_SERVICE_UUID =
+            UUID.fromString("00001801-0000-1000-8000-00805f9b34fb");
+    private static final UUID SERVICE_CHANGED_CHARACTERISTIC_UUID =
+            UUID.fromString("00002a05-0000-1000-8000-00805f9b34fb");
+    private static final String SERVICE_CHANGED_TRANSACTION_PREFIX = "ServiceChanged:";
+    private GattLayoutCache gattLayoutCache;
+
+    // Operations deferred until a device is ready, by device ids. Device isn't ready while discovery verifies a layout
+    // seeded from the cache or while it's reconnected after eviction from the connection pool.
+    private final Map<String, List<Runnable>> deferredDeviceOperations = new HashMap<>();
+
+    // Devices of attributes by attribute ids, used to keep devices of operations identified only by attribute ids
+    // from eviction
+    private final Map<Integer, String> serviceDeviceIds = new ConcurrentHashMap<>();
+    private final Map<Integer, String> characteristicDeviceIds = new ConcurrentHashMap<>();
+    private final Map<Integer, String> descriptorDeviceIds = new ConcurrentHashMap<>();
+
+    // Counters and latencies of bridge and GATT operations, optionally reported periodically
+    private final BleMetrics metrics =
+            new BleMetrics(System.currentTimeMillis(), UUIDConverter.getUUIDStringCache());
+    @Nullable
+    private ScheduledFuture<?> scheduledMetricsReports;
+
+    // Workers converting scan results and result lists off adapter callback threads, null to convert in place
+    @Nullable
+    private volatile ConversionExecutor conversionExecutor;
+
+    // Coalesces outgoing events into one bridge message per interval, null to emit every event right away. Batches
+    // are emitted only on the batch scheduler thread, which keeps them in order.
+    @Nullable
+    private volatile EventBatcher<PendingEvent> emitBatcher;
+
     public BleClientManager(ReactApplicationContext reactContext) {
         super(reactContext);
+        setConversionMetricsEnabled(true);
     }
 
     @Override
@@ -79,7 +227,75 @@ public class BleClientManager extends ReactContextBaseJavaModule {
 
     @ReactMethod
     public void createClient(String restoreStateIdentifier) {
-        bleAdapter = BleAdapterFactory.getNewAdapter(getReactApplicationContext());
+        acknowledgedCharacteristicDeviceIds.clear();
+        serviceDeviceIds.clear();
+        characteristicDeviceIds.clear();
+        descriptorDeviceIds.clear();
+        SimulationOptions simulation = simulationOptions;
+        bleAdapter = simulation != null
+                ? new SimulatedBleAdapter(simulation)
+                : BleAdapterFactory.getNewAdapter(getReactApplicationContext());
+        gattLayoutCache = new GattLayoutCache(
+                new File(getReactApplicationContext().getFilesDir(), GATT_LAYOUT_CACHE_DIRECTORY),
+                GATT_LAYOUT_CACHE_MAX_ENTRIES);
+        gattOperationScheduler = new GattOperationScheduler(
+                MAX_GATT_OPERATIONS_PER_DEVICE, MAX_GATT_OPERATIONS, batchScheduler);
+        connectionPool = new ConnectionPool(new ConnectionPool.Connector() {
+            @Override
+            public void connect(@NonNull final String deviceId,
+                                @NonNull ConnectionOptions options,
+                                @NonNull OnSuccessCallback<Device> onSuccessCallback,
+                                @NonNull OnErrorCallback onErrorCallback) {
+                bleAdapter.connectToDevice(deviceId, options, onSuccessCallback,
+                        new OnEventCallback<ConnectionState>() {
+                            @Override
+                            public void onEvent(ConnectionState connectionState) {
+                                if (connectionState == ConnectionState.DISCONNECTED) {
+                                    onDeviceDisconnected(deviceId);
+                                }
+                            }
+                        }, onErrorCallback);
+            }
+
+            @Override
+            public void disconnect(@NonNull String deviceId,
+                                   @NonNull OnSuccessCallback<Device> onSuccessCallback,
+                                   @NonNull OnErrorCallback onErrorCallback) {
+                bleAdapter.cancelDeviceConnection(deviceId, onSuccessCallback, onErrorCallback);
+            }
+        });
+        autoReconnect = new AutoReconnect(new AutoReconnect.Connector() {
+            @Override
+            public void connect(@NonNull String deviceId,
+                                @NonNull ConnectionOptions options,
+                                @NonNull OnSuccessCallback<Device> onSuccessCallback,
+                                @NonNull OnErrorCallback onErrorCallback) {
+                connectAndDiscover(deviceId, options, RECONNECT_TRANSACTION_PREFIX + deviceId,
+                        onSuccessCallback, onErrorCallback);
+            }
+        }, new AutoReconnect.Listener() {
+            @Override
+            public void onReconnected(@NonNull String deviceId, @NonNull Device device, int attempts) {
+                WritableArray event = Arguments.createArray();
+                event.pushNull();
+                event.pushMap(deviceConverter.toJSObject(device));
+                event.pushInt(attempts);
+                sendEvent(Event.ReconnectionEvent, event);
+                restoreMonitors(deviceId);
+            }
+
+            @Override
+            public void onReconnectFailed(@NonNull String deviceId, @NonNull BleError error, int attempts) {
+                WritableArray event = Arguments.createArray();
+                event.pushString(errorConverter.toJs(error));
+                WritableMap device = Arguments.createMap();
+                device.putString("id", deviceId);
+                event.pushMap(device);
+                event.pushInt(attempts);
+                sendEvent(Event.ReconnectionEvent, event);
+                failMonitorsToRestore(deviceId);
+            }
+        }, batchScheduler, new Random());
         bleAdapter.createClient(restoreStateIdentifier,
                 new OnEventCallback<String>() {
                     @Override
@@ -96,6 +312,29 @@ public class BleClientManager extends ReactContextBaseJavaModule {
 
     @ReactMethod
     public void destroyClient() {
+        disposeScanResultBatcher();
+        disposeScanResultAggregator();
+        scanResultBuffer = null;
+        for (EventBatcher<TimestampedValue> batcher : monitorBatchers.values()) {
+            batcher.dispose();
+        }
+        monitorBatchers.clear();
+        for (Runnable cancelAction : compositeTransactions.values()) {
+            cancelAction.run();
+        }
+        compositeTransactions.clear();
+        gattOperationScheduler.clear();
+        transactionPriorities.clear();
+        connectionPool.clear();
+        autoReconnect.clear();
+        synchronized (monitorsToRestore) {
+            monitorsToRestore.clear();
+        }
+        synchronized (deferredDeviceOperations) {
+            deferredDeviceOperations.clear();
+        }
+        setConversionExecutor(null);
+        setEmitBatcher(null);
         bleAdapter.destroyClient();
         bleAdapter = null;
     }
@@ -104,6 +343,92 @@ public class BleClientManager extends ReactContextBaseJavaModule {
 
     @ReactMethod
     public void cancelTransaction(String transactionId) {
+        Runnable cancelAction = compositeTransactions.remove(transactionId);
+        if (cancelAction != null) {
+            cancelAction.run();
+        }
+        transactionPriorities.remove(transactionId);
+        cancelGattOperation(transactionId);
+    }
+
+    @ReactMethod
+    public void setTransactionPriority(String transactionId, String priority, double deadlineMs) {
+        GattOperationScheduler.Priority operationPriority = GattOperationScheduler.Priority.getByName(priority);
+        if (operationPriority == null) {
+            transactionPriorities.remove(transactionId);
+            return;
+        }
+        transactionPriorities.put(transactionId, new TransactionPriority(operationPriority, (long) deadlineMs));
+    }
+
+    private TransactionPriority takeTransactionPriority(@Nullable String transactionId,
+                                                        GattOperationScheduler.Priority defaultPriority) {
+        TransactionPriority priority = transactionId != null ? transactionPriorities.remove(transactionId) : null;
+        return priority != null ? priority : new TransactionPriority(defaultPriority, 0);
+    }
+
+    private <T> void scheduleGattOperation(String deviceId,
+                                           @Nullable String transactionId,
+                                           GattOperationScheduler.Call<T> call,
+                                           OnSuccessCallback<T> onSuccessCallback,
+                                           OnErrorCallback onErrorCallback) {
+        scheduleGattOperation(deviceId, transactionId,
+                takeTransactionPriority(transactionId, GattOperationScheduler.Priority.INTERACTIVE),
+                call, onSuccessCallback, onErrorCallback);
+    }
+
+    private <T> void scheduleGattOperation(String deviceId,
+                                           @Nullable String transactionId,
+                                           TransactionPriority priority,
+                                           GattOperationScheduler.Call<T> call,
+                                           OnSuccessCallback<T> onSuccessCallback,
+                                           OnErrorCallback onErrorCallback) {
+        enqueueGattOperation(deviceId, deviceId, transactionId, priority, call, onSuccessCallback, onErrorCallback);
+    }
+
+    /**
+     * Schedules operation identified only by attribute ids in the queue of their device or, when the device isn't
+     * known, in the shared queue.
+     *
+     * @param deviceId Device of the attribute, if it's known, kept from eviction until the operation completes.
+     */
+    private <T> void scheduleAttributeGattOperation(@Nullable String deviceId,
+                                                    @Nullable String transactionId,
+                                                    GattOperationScheduler.Call<T> call,
+                                                    OnSuccessCallback<T> onSuccessCallback,
+                                                    OnErrorCallback onErrorCallback) {
+        enqueueGattOperation(deviceId != null ? deviceId : SHARED_GATT_OPERATION_QUEUE_KEY, deviceId, transactionId,
+                takeTransactionPriority(transactionId, GattOperationScheduler.Priority.INTERACTIVE),
+                call, onSuccessCallback, onErrorCallback);
+    }
+
+    private <T> void enqueueGattOperation(String queueKey,
+                                          @Nullable String deviceId,
+                                          @Nullable String transactionId,
+                                          TransactionPriority priority,
+                                          GattOperationScheduler.Call<T> call,
+                                          final OnSuccessCallback<T> onSuccessCallback,
+                                          final OnErrorCallback onErrorCallback) {
+        // Queued operations count as in progress too, evicting their device would only delay them
+        final DeviceUse deviceUse = new DeviceUse(deviceId);
+        gattOperationScheduler.schedule(queueKey, transactionId, priority.priority, priority.deadlineMs, call,
+                new OnSuccessCallback<T>() {
+                    @Override
+                    public void onSuccess(T data) {
+                        onSuccessCallback.onSuccess(data);
+                        deviceUse.end();
+                    }
+                }, new OnErrorCallback() {
+                    @Override
+                    public void onError(BleError error) {
+                        onErrorCallback.onError(error);
+                        deviceUse.end();
+                    }
+                });
+    }
+
+    private void cancelGattOperation(String transactionId) {
+        gattOperationScheduler.cancel(transactionId);
         bleAdapter.cancelTransaction(transactionId);
     }
 
@@ -117,11 +442,254 @@ public class BleClientManager extends ReactContextBaseJavaModule {
         promise.resolve(bleAdapter.getLogLevel());
     }
 
+    @ReactMethod
+    public void setCharacteristicValueOnlyPayloads(boolean enabled) {
+        characteristicValueOnlyPayloads = enabled;
+    }
+
+    /**
+     * Called by JS after it cached a characteristic passed in full, so that next payloads can be value only.
+     */
+    @ReactMethod
+    public void acknowledgeFullCharacteristic(int characteristicId, String deviceId) {
+        acknowledgedCharacteristicDeviceIds.put(characteristicId, deviceId);
+    }
+
+    /**
+     * Called by JS when it received a value only characteristic which it didn't cache, so that the next payload is
+     * passed in full again.
+     */
+    @ReactMethod
+    public void requestFullCharacteristic(int characteristicId) {
+        acknowledgedCharacteristicDeviceIds.remove(characteristicId);
+    }
+
+    // Mark: Metrics -------------------------------------------------------------------------------
+
+    @ReactMethod
+    public void getMetrics(boolean reset, Promise promise) {
+        promise.resolve(metricsConverter.toJSObject(metrics.snapshot(System.currentTimeMillis(), reset)));
+    }
+
+    @ReactMethod
+    public void setMetricsOptions(ReadableMap options) {
+        if (options.hasKey("enabled") && options.getType("enabled") == ReadableType.Boolean) {
+            metrics.setEnabled(options.getBoolean("enabled"));
+            setConversionMetricsEnabled(metrics.isEnabled());
+        }
+        if (options.hasKey("reportIntervalMs") && options.getType("reportIntervalMs") == ReadableType.Number) {
+            scheduleMetricsReports((long) options.getDouble("reportIntervalMs"));
+        }
+    }
+
+    /**
+     * Reports metrics collected since the previous report every interval. Values <= 0 stop reports.
+     */
+    private synchronized void scheduleMetricsReports(long intervalMs) {
+        if (scheduledMetricsReports != null) {
+            scheduledMetricsReports.cancel(false);
+            scheduledMetricsReports = null;
+        }
+        if (intervalMs <= 0) {
+            return;
+        }
+        scheduledMetricsReports = batchScheduler.scheduleAtFixedRate(new Runnable() {
+            @Override
+            public void run() {
+                if (metrics.isEnabled()) {
+                    sendEvent(Event.MetricsEvent,
+                            metricsConverter.toJSObject(metrics.snapshot(System.currentTimeMillis(), true)));
+                }
+            }
+        }, intervalMs, intervalMs, TimeUnit.MILLISECONDS);
+    }
+
+    private void setConversionMetricsEnabled(boolean enabled) {
+        errorConverter.setConversionTimes(enabled ? metrics.conversionHistogram("error") : null);
+        scanResultConverter.setConversionTimes(enabled ? metrics.conversionHistogram("scanResult") : null);
+        deviceConverter.setConversionTimes(enabled ? metrics.conversionHistogram("device") : null);
+        characteristicConverter.setConversionTimes(enabled ? metrics.conversionHistogram("characteristic") : null);
+        descriptorConverter.setConversionTimes(enabled ? metrics.conversionHistogram("descriptor") : null);
+        serviceConverter.setConversionTimes(enabled ? metrics.conversionHistogram("service") : null);
+        gattLayoutConverter.setConversionTimes(enabled ? metrics.conversionHistogram("gattLayout") : null);
+    }
+
+    // Mark: Conversion --------------------------------------------------------------------------------
+
+    /**
+     * Moves conversions of scan results and result lists to a pool of workers. Zero threads convert results on
+     * adapter callback threads, which is the default.
+     */
+    @ReactMethod
+    public void setConversionOptions(ReadableMap options) {
+        int threads = 0;
+        int queueSize = DEFAULT_CONVERSION_QUEUE_SIZE;
+        if (options.hasKey("threads") && options.getType("threads") == ReadableType.Number) {
+            threads = options.getInt("threads");
+        }
+        if (options.hasKey("queueSize") && options.getType("queueSize") == ReadableType.Number) {
+            queueSize = options.getInt("queueSize");
+        }
+        setConversionExecutor(threads > 0 ? new ConversionExecutor(threads, queueSize) : null);
+    }
+
+    private synchronized void setConversionExecutor(@Nullable ConversionExecutor executor) {
+        ConversionExecutor previousExecutor = conversionExecutor;
+        conversionExecutor = executor;
+        if (previousExecutor != null) {
+            previousExecutor.shutdown();
+        }
+    }
+
+    /**
+     * Sends a scan result to JS. With a conversion executor a result still waiting for conversion is replaced by a
+     * newer one of the same device and the oldest waiting results are dropped when workers fall behind.
+     */
+    private void sendScanResult(final ScanResult scanResult) {
+        Runnable conversion = new Runnable() {
+            @Override
+            public void run() {
+                sendEvent(Event.ScanEvent, scanResultConverter.toJSCallback(scanResult));
+            }
+        };
+        ConversionExecutor executor = conversionExecutor;
+        if (executor != null) {
+            executor.executeLatest(scanResult.getDeviceId(), conversion);
+        } else {
+            conversion.run();
+        }
+    }
+
+    /**
+     * Resolves a promise with an array of converted values, converting them on a worker when there is one.
+     */
+    private <T> void resolveConverted(final Promise promise,
+                                      final List<T> values,
+                                      final JSObjectConverter<T> converter) {
+        Runnable conversion = new Runnable() {
+            @Override
+            public void run() {
+                WritableArray jsValues = Arguments.createArray();
+                for (T value : values) {
+                    jsValues.pushMap(converter.toJSObject(value));
+                }
+                promise.resolve(jsValues);
+            }
+        };
+        ConversionExecutor executor = conversionExecutor;
+        if (executor != null) {
+            executor.execute(conversion);
+        } else {
+            conversion.run();
+        }
+    }
+
+    // Mark: Emitting ----------------------------------------------------------------------------------
+
+    /**
+     * Coalesces outgoing events into a single MultiplexedEvent per interval of {@code 1000 / rateHz} milliseconds.
+     * State and disconnection events are sent right away together with events collected before them. Rate <= 0 emits
+     * every event right away, which is the default.
+     */
+    @ReactMethod
+    public void setEmitOptions(ReadableMap options) {
+        double rateHz = 0;
+        if (options.hasKey("rateHz") && options.getType("rateHz") == ReadableType.Number) {
+            rateHz = options.getDouble("rateHz");
+        }
+        EventBatcher<PendingEvent> batcher = null;
+        if (rateHz > 0) {
+            batcher = new EventBatcher<>(Math.max(1, Math.round(1000 / rateHz)), 0, batchScheduler,
+                    new OnEventCallback<List<PendingEvent>>() {
+                        @Override
+                        public void onEvent(List<PendingEvent> data) {
+                            emitMultiplexed(data);
+                        }
+                    });
+        }
+        setEmitBatcher(batcher);
+    }
+
+    private synchronized void setEmitBatcher(@Nullable EventBatcher<PendingEvent> batcher) {
+        final EventBatcher<PendingEvent> previousBatcher = emitBatcher;
+        emitBatcher = batcher;
+        if (previousBatcher != null) {
+            batchScheduler.execute(new Runnable() {
+                @Override
+                public void run() {
+                    previousBatcher.flush();
+                    previousBatcher.dispose();
+                }
+            });
+        }
+    }
+
+    // Mark: Simulation ----------------------------------------------------------------------------
+
+    /**
+     * Makes the next created client use simulated devices instead of the radio. Null options restore the radio.
+     */
+    @ReactMethod
+    public void setSimulationOptions(@Nullable ReadableMap options) {
+        if (options == null) {
+            simulationOptions = null;
+            return;
+        }
+        simulationOptions = new SimulationOptions(
+                intOption(options, "advertisers", 1),
+                doubleOption(options, "advertisingRateHz", 10),
+                doubleOption(options, "notificationRateHz", 10),
+                intOption(options, "notificationSize", 20),
+                (long) doubleOption(options, "connectionLatencyMs", 50),
+                (long) doubleOption(options, "gattLatencyMs", 10),
+                doubleOption(options, "disconnectsPerMinute", 0),
+                (long) doubleOption(options, "seed", 0));
+    }
+
+    @ReactMethod
+    public void memoryStats(Promise promise) {
+        Runtime runtime = Runtime.getRuntime();
+        WritableMap stats = Arguments.createMap();
+        stats.putDouble("heapUsedBytes", runtime.totalMemory() - runtime.freeMemory());
+        // Runtime stats of ART are available since Android 6.0
+        String allocatedBytes = null;
+        String gcCount = null;
+        if (Build.VERSION.SDK_INT >= Build.VERSION_CODES.M) {
+            allocatedBytes = Debug.getRuntimeStat("art.gc.bytes-allocated");
+            gcCount = Debug.getRuntimeStat("art.gc.gc-count");
+        }
+        putNumberOrNull(stats, "allocatedBytes", allocatedBytes);
+        putNumberOrNull(stats, "gcCount", gcCount);
+        promise.resolve(stats);
+    }
+
+    private static int intOption(ReadableMap options, String key, int defaultValue) {
+        return (int) doubleOption(options, key, defaultValue);
+    }
+
+    private static double doubleOption(ReadableMap options, String key, double defaultValue) {
+        return options.hasKey(key) && options.getType(key) == ReadableType.Number
+                ? options.getDouble(key)
+                : defaultValue;
+    }
+
+    private static void putNumberOrNull(WritableMap map, String key, @Nullable String value) {
+        try {
+            if (value != null) {
+                map.putDouble(key, Double.parseDouble(value));
+                return;
+            }
+        } catch (NumberFormatException e) {
+            // Reported as unavailable
+        }
+        map.putNull(key);
+    }
+
     // Mark: Monitoring state ----------------------------------------------------------------------
 
     @ReactMethod
     public void enable(final String transactionId, final Promise promise) {
-        final SafePromise safePromise = new SafePromise(promise);
+        final SafePromise safePromise = new SafePromise(promise, metrics.startMethod("enable"));
         bleAdapter.enable(transactionId, new OnSuccessCallback<Void>() {
             @Override
             public void onSuccess(Void data) {
@@ -137,7 +705,7 @@ public class BleClientManager extends ReactContextBaseJavaModule {
 
     @ReactMethod
     public void disable(final String transactionId, final Promise promise) {
-        final SafePromise safePromise = new SafePromise(promise);
+        final SafePromise safePromise = new SafePromise(promise, metrics.startMethod("disable"));
         bleAdapter.disable(transactionId, new OnSuccessCallback<Void>() {
             @Override
             public void onSuccess(Void data) {
@@ -165,6 +733,15 @@ public class BleClientManager extends ReactContextBaseJavaModule {
 
         int scanMode = DEFAULT_SCAN_MODE_LOW_POWER;
         int callbackType = DEFAULT_CALLBACK_TYPE_ALL_MATCHES;
+        int batchIntervalMs = 0;
+        int maxBatchSize = 0;
+        Integer deduplicationRssiDelta = null;
+        Integer deduplicationIntervalMs = null;
+        int scanResultBufferSize = 0;
+        boolean latestScanResultPerDevice = false;
+        int aggregationIntervalMs = 0;
+        long aggregationDeviceTtlMs = DEFAULT_AGGREGATION_DEVICE_TTL_MS;
+        double rssiSmoothingFactor = DEFAULT_RSSI_SMOOTHING_FACTOR;
 
         if (options != null) {
             if (options.hasKey("scanMode") && options.getType("scanMode") == ReadableType.Number) {
@@ -173,7 +750,106 @@ public class BleClientManager extends ReactContextBaseJavaModule {
             if (options.hasKey("callbackType") && options.getType("callbackType") == ReadableType.Number) {
                 callbackType = options.getInt("callbackType");
             }
+            if (options.hasKey("batchIntervalMs") && options.getType("batchIntervalMs") == ReadableType.Number) {
+                batchIntervalMs = options.getInt("batchIntervalMs");
+            }
+            if (options.hasKey("maxBatchSize") && options.getType("maxBatchSize") == ReadableType.Number) {
+                maxBatchSize = options.getInt("maxBatchSize");
+            }
+            if (options.hasKey("deduplicationRssiDelta") && options.getType("deduplicationRssiDelta") == ReadableType.Number) {
+                deduplicationRssiDelta = options.getInt("deduplicationRssiDelta");
+            }
+            if (options.hasKey("deduplicationIntervalMs") && options.getType("deduplicationIntervalMs") == ReadableType.Number) {
+                deduplicationIntervalMs = options.getInt("deduplicationIntervalMs");
+            }
+            if (options.hasKey("scanResultBufferSize")
+                    && options.getType("scanResultBufferSize") == ReadableType.Number) {
+                scanResultBufferSize = options.getInt("scanResultBufferSize");
+            }
+            if (options.hasKey("latestScanResultPerDevice")
+                    && options.getType("latestScanResultPerDevice") == ReadableType.Boolean) {
+                latestScanResultPerDevice = options.getBoolean("latestScanResultPerDevice");
+            }
+            if (options.hasKey("aggregationIntervalMs")
+                    && options.getType("aggregationIntervalMs") == ReadableType.Number) {
+                aggregationIntervalMs = options.getInt("aggregationIntervalMs");
+            }
+            if (options.hasKey("aggregationDeviceTtlMs")
+                    && options.getType("aggregationDeviceTtlMs") == ReadableType.Number) {
+                aggregationDeviceTtlMs = (long) options.getDouble("aggregationDeviceTtlMs");
+            }
+            if (options.hasKey("rssiSmoothingFactor")
+                    && options.getType("rssiSmoothingFactor") == ReadableType.Number) {
+                rssiSmoothingFactor = options.getDouble("rssiSmoothingFactor");
+            }
+        }
+
+        final ScanResultFilter filter;
+        try {
+            filter = scanResultFilterFromJs(options);
+        } catch (BleError error) {
+            sendEvent(Event.ScanEvent, errorConverter.toJSCallback(error));
+            return;
+        }
+
+        final ScanResultDeduplicator deduplicator;
+        if (deduplicationRssiDelta != null || deduplicationIntervalMs != null) {
+            deduplicator = new ScanResultDeduplicator(
+                    deduplicationRssiDelta != null ? deduplicationRssiDelta : -1,
+                    deduplicationIntervalMs != null ? deduplicationIntervalMs : 0);
+        } else {
+            deduplicator = null;
+        }
+
+        disposeScanResultBatcher();
+        disposeScanResultAggregator();
+        if (aggregationIntervalMs > 0) {
+            scanResultAggregator = new ScanResultAggregator(aggregationIntervalMs, aggregationDeviceTtlMs,
+                    rssiSmoothingFactor, batchScheduler, new ScanResultAggregator.OnSnapshotCallback() {
+                        @Override
+                        public void onSnapshot(@NonNull List<ScanResultAggregator.DeviceState> updatedDevices,
+                                               @NonNull List<String> expiredDeviceIds) {
+                            WritableArray jsUpdatedDevices = Arguments.createArray();
+                            for (ScanResultAggregator.DeviceState deviceState : updatedDevices) {
+                                WritableMap jsDeviceState = Arguments.createMap();
+                                jsDeviceState.putMap("device",
+                                        scanResultConverter.toJSObject(deviceState.scanResult));
+                                jsDeviceState.putDouble("smoothedRssi", deviceState.smoothedRssi);
+                                jsDeviceState.putDouble("lastSeen", deviceState.lastSeenMs);
+                                jsUpdatedDevices.pushMap(jsDeviceState);
+                            }
+                            WritableArray jsExpiredDeviceIds = Arguments.createArray();
+                            for (String deviceId : expiredDeviceIds) {
+                                jsExpiredDeviceIds.pushString(deviceId);
+                            }
+                            WritableArray jsSnapshot = Arguments.createArray();
+                            jsSnapshot.pushArray(jsUpdatedDevices);
+                            jsSnapshot.pushArray(jsExpiredDeviceIds);
+                            sendEvent(Event.ScanSnapshotEvent, jsSnapshot,
+                                    updatedDevices.size() + expiredDeviceIds.size());
+                        }
+                    });
+            scanResultAggregator.start();
+        }
+        final ScanResultAggregator aggregator = scanResultAggregator;
+        scanResultBuffer = aggregator == null && scanResultBufferSize > 0
+                ? new ScanResultBuffer(scanResultBufferSize, latestScanResultPerDevice)
+                : null;
+        final ScanResultBuffer buffer = scanResultBuffer;
+        if (aggregator == null && buffer == null && batchIntervalMs > 0) {
+            scanResultBatcher = new EventBatcher<>(batchIntervalMs, maxBatchSize, batchScheduler,
+                    new OnEventCallback<List<ScanResult>>() {
+                        @Override
+                        public void onEvent(List<ScanResult> data) {
+                            WritableArray jsScanResults = Arguments.createArray();
+                            for (ScanResult scanResult : data) {
+                                jsScanResults.pushMap(scanResultConverter.toJSObject(scanResult));
+                            }
+                            sendEvent(Event.ScanBatchEvent, jsScanResults, data.size());
+                        }
+                    });
         }
+        final EventBatcher<ScanResult> batcher = scanResultBatcher;
 
         bleAdapter.startDeviceScan(
                 filteredUUIDs != null ? ReadableArrayConverter.toStringArray(filteredUUIDs) : null,
@@ -181,7 +857,22 @@ public class BleClientManager extends ReactContextBaseJavaModule {
                 new OnEventCallback<ScanResult>() {
                     @Override
                     public void onEvent(ScanResult data) {
-                        sendEvent(Event.ScanEvent, scanResultConverter.toJSCallback(data));
+                        metrics.onScanResult();
+                        if (filter != null && !filter.matches(data)) {
+                            return;
+                        }
+                        if (deduplicator != null && !deduplicator.shouldReport(data, SystemClock.elapsedRealtime())) {
+                            return;
+                        }
+                        if (aggregator != null) {
+                            aggregator.add(data, System.currentTimeMillis());
+                        } else if (buffer != null) {
+                            buffer.add(data);
+                        } else if (batcher != null) {
+                            batcher.add(data);
+                        } else {
+                            sendScanResult(data);
+                        }
                     }
                 }, new OnErrorCallback() {
                     @Override
@@ -191,9 +882,121 @@ public class BleClientManager extends ReactContextBaseJavaModule {
                 });
     }
 
+    /**
+     * @return Filter of scan results or null when options don't restrict them.
+     * @throws BleError when a filter is invalid.
+     */
+    @Nullable
+    private static ScanResultFilter scanResultFilterFromJs(@Nullable ReadableMap options) throws BleError {
+        if (options == null) {
+            return null;
+        }
+        Integer minRssi = null;
+        if (options.hasKey("minRssi") && options.getType("minRssi") == ReadableType.Number) {
+            minRssi = options.getInt("minRssi");
+        }
+        List<ScanResultFilter.AdvertisementFilter> advertisementFilters = new ArrayList<>();
+        if (options.hasKey("advertisementFilters") && options.getType("advertisementFilters") == ReadableType.Array) {
+            ReadableArray jsFilters = options.getArray("advertisementFilters");
+            for (int i = 0; i < jsFilters.size(); i++) {
+                advertisementFilters.add(advertisementFilterFromJs(jsFilters.getMap(i)));
+            }
+        }
+        if (minRssi == null && advertisementFilters.isEmpty()) {
+            return null;
+        }
+        return new ScanResultFilter(minRssi, advertisementFilters);
+    }
+
+    private static ScanResultFilter.AdvertisementFilter advertisementFilterFromJs(ReadableMap filter)
+            throws BleError {
+        Integer manufacturerId = null;
+        Pattern namePattern = null;
+        UUID serviceDataUuid = null;
+        if (filter.hasKey("manufacturerId") && filter.getType("manufacturerId") == ReadableType.Number) {
+            manufacturerId = filter.getInt("manufacturerId");
+        }
+        if (filter.hasKey("namePattern") && filter.getType("namePattern") == ReadableType.String) {
+            try {
+                namePattern = Pattern.compile(filter.getString("namePattern"));
+            } catch (PatternSyntaxException e) {
+                throw new BleError(BleErrorCode.ScanStartFailed, "Invalid name pattern: " + e.getMessage(), null);
+            }
+        }
+        if (filter.hasKey("serviceDataUUID") && filter.getType("serviceDataUUID") == ReadableType.String) {
+            serviceDataUuid = UUIDConverter.convert(filter.getString("serviceDataUUID"));
+            if (serviceDataUuid == null) {
+                throw new BleError(BleErrorCode.ScanStartFailed, "Invalid service data UUID", null);
+            }
+        }
+        return new ScanResultFilter.AdvertisementFilter(
+                manufacturerId,
+                base64FilterValue(filter, "manufacturerData"),
+                base64FilterValue(filter, "manufacturerDataMask"),
+                filter.hasKey("namePrefix") && filter.getType("namePrefix") == ReadableType.String
+                        ? filter.getString("namePrefix") : null,
+                namePattern,
+                serviceDataUuid,
+                base64FilterValue(filter, "serviceData"),
+                base64FilterValue(filter, "serviceDataMask"));
+    }
+
+    @Nullable
+    private static byte[] base64FilterValue(ReadableMap filter, String key) throws BleError {
+        if (!filter.hasKey(key) || filter.getType(key) != ReadableType.String) {
+            return null;
+        }
+        try {
+            return Base64Converter.decode(filter.getString(key));
+        } catch (IllegalArgumentException e) {
+            throw new BleError(BleErrorCode.ScanStartFailed, "Invalid Base64 value of " + key, null);
+        }
+    }
+
+    /**
+     * Resolves after scan results which were waiting for the next batch are passed to JS, so that they aren't lost.
+     * Batches of the stopped scan are passed before the promise resolves and batches of the next scan after it.
+     */
     @ReactMethod
-    public void stopDeviceScan() {
+    public void stopDeviceScan(Promise promise) {
         bleAdapter.stopDeviceScan();
+        // Batchers hand over their batches in order, so flushing them here can't overtake earlier batches
+        if (scanResultBatcher != null) {
+            scanResultBatcher.flush();
+        }
+        disposeScanResultBatcher();
+        disposeScanResultAggregator();
+        EventBatcher<PendingEvent> pendingEvents = emitBatcher;
+        if (pendingEvents != null) {
+            pendingEvents.flush();
+        }
+        promise.resolve(null);
+    }
+
+    private void disposeScanResultAggregator() {
+        if (scanResultAggregator != null) {
+            scanResultAggregator.dispose();
+            scanResultAggregator = null;
+        }
+    }
+
+    @ReactMethod
+    public void drainScanResults(int maxCount, Promise promise) {
+        WritableArray jsScanResults = Arguments.createArray();
+        ScanResultBuffer buffer = scanResultBuffer;
+        if (buffer != null) {
+            for (ScanResult scanResult : buffer.drain(maxCount)) {
+                jsScanResults.pushMap(scanResultConverter.toJSObject(scanResult));
+            }
+        }
+        promise.resolve(jsScanResults);
+    }
+
+    private void disposeScanResultBatcher() {
+        if (scanResultBatcher != null) {
+            scanResultBatcher.dispose();
+            scanResultBatcher = null;
+        }
     }
 
     // Mark: Device management ---------------------------------------------------------------------
@@ -204,11 +1007,7 @@ public class BleClientManager extends ReactContextBaseJavaModule {
                 new OnSuccessCallback<Device[]>() {
                     @Override
                     public void onSuccess(Device[] data) {
-                        WritableArray jsDevices = Arguments.createArray();
-                        for (Device device : data) {
-                            jsDevices.pushMap(deviceConverter.toJSObject(device));
-                        }
-                        promise.resolve(jsDevices);
+                        resolveConverted(promise, Arrays.asList(data), deviceConverter);
                     }
                 }, new OnErrorCallback() {
                     @Override
@@ -224,11 +1023,7 @@ public class BleClientManager extends ReactContextBaseJavaModule {
                 new OnSuccessCallback<Device[]>() {
                     @Override
                     public void onSuccess(Device[] data) {
-                        final WritableArray writableArray = Arguments.createArray();
-                        for (Device device : data) {
-                            writableArray.pushMap(deviceConverter.toJSObject(device));
-                        }
-                        promise.resolve(writableArray);
+                        resolveConverted(promise, Arrays.asList(data), deviceConverter);
                     }
                 }, new OnErrorCallback() {
                     @Override
@@ -242,7 +1037,8 @@ public class BleClientManager extends ReactContextBaseJavaModule {
 
     @ReactMethod
     public void requestConnectionPriorityForDevice(final String deviceId, int connectionPriority, final String transactionId, final Promise promise) {
-        final SafePromise safePromise = new SafePromise(promise);
+        final SafePromise safePromise =
+                new SafePromise(promise, metrics.startMethod("requestConnectionPriorityForDevice"));
         bleAdapter.requestConnectionPriorityForDevice(deviceId, connectionPriority, transactionId,
                 new OnSuccessCallback<Device>() {
                     @Override
@@ -259,7 +1055,7 @@ public class BleClientManager extends ReactContextBaseJavaModule {
 
     @ReactMethod
     public void requestMTUForDevice(final String deviceId, int mtu, final String transactionId, final Promise promise) {
-        final SafePromise safePromise = new SafePromise(promise);
+        final SafePromise safePromise = new SafePromise(promise, metrics.startMethod("requestMTUForDevice"));
         bleAdapter.requestMTUForDevice(deviceId, mtu, transactionId,
                 new OnSuccessCallback<Device>() {
                     @Override
@@ -276,7 +1072,7 @@ public class BleClientManager extends ReactContextBaseJavaModule {
 
     @ReactMethod
     public void readRSSIForDevice(final String deviceId, final String transactionId, final Promise promise) {
-        final SafePromise safePromise = new SafePromise(promise);
+        final SafePromise safePromise = new SafePromise(promise, metrics.startMethod("readRSSIForDevice"));
         bleAdapter.readRSSIForDevice(deviceId, transactionId,
                 new OnSuccessCallback<Device>() {
                     @Override
@@ -293,8 +1089,33 @@ public class BleClientManager extends ReactContextBaseJavaModule {
 
     @ReactMethod
     public void connectToDevice(final String deviceId, @Nullable ReadableMap options, final Promise promise) {
-        final SafePromise safePromise = new SafePromise(promise);
+        final SafePromise safePromise = new SafePromise(promise, metrics.startMethod("connectToDevice"));
+        final ConnectionOptions connectionOptions = connectionOptionsFromJs(options);
+        final ReconnectPolicy reconnectPolicy = reconnectPolicyFromJs(options);
+        // JS takes over from pending reconnection, monitors waiting for it end as they would without it.
+        autoReconnect.disable(deviceId);
+        failMonitorsToRestore(deviceId);
+        connectionPool.connect(
+                deviceId,
+                connectionOptions,
+                new OnSuccessCallback<Device>() {
+                    @Override
+                    public void onSuccess(Device data) {
+                        if (reconnectPolicy != null) {
+                            autoReconnect.enable(deviceId, reconnectPolicy, connectionOptions);
+                        }
+                        safePromise.resolve(deviceConverter.toJSObject(data));
+                    }
+                },
+                new OnErrorCallback() {
+                    @Override
+                    public void onError(BleError error) {
+                        safePromise.reject(null, errorConverter.toJs(error));
+                    }
+                });
+    }
 
+    private static ConnectionOptions connectionOptionsFromJs(@Nullable ReadableMap options) {
         boolean autoConnect = false;
         int requestMtu = 0;
         RefreshGattMoment refreshGattMoment = null;
@@ -318,44 +1139,205 @@ public class BleClientManager extends ReactContextBaseJavaModule {
                 connectionPriority = options.getInt("connectionPriority");
             }
         }
-        bleAdapter.connectToDevice(
-                deviceId,
-                new ConnectionOptions(autoConnect,
-                        requestMtu,
-                        refreshGattMoment,
-                        timeout != null ? timeout.longValue() : null,
-                        connectionPriority),
-                new OnSuccessCallback<Device>() {
+        return new ConnectionOptions(autoConnect,
+                requestMtu,
+                refreshGattMoment,
+                timeout != null ? timeout.longValue() : null,
+                connectionPriority);
+    }
+
+    @Nullable
+    private static ReconnectPolicy reconnectPolicyFromJs(@Nullable ReadableMap options) {
+        if (options == null || !options.hasKey("reconnect") || options.getType("reconnect") != ReadableType.Map) {
+            return null;
+        }
+        ReadableMap reconnect = options.getMap("reconnect");
+        int maxAttempts = DEFAULT_RECONNECT_MAX_ATTEMPTS;
+        long initialDelayMs = DEFAULT_RECONNECT_INITIAL_DELAY_MS;
+        long maxDelayMs = DEFAULT_RECONNECT_MAX_DELAY_MS;
+        double multiplier = DEFAULT_RECONNECT_MULTIPLIER;
+        double jitter = DEFAULT_RECONNECT_JITTER;
+        boolean restoreMonitors = true;
+
+        if (reconnect.hasKey("maxAttempts") && reconnect.getType("maxAttempts") == ReadableType.Number) {
+            maxAttempts = reconnect.getInt("maxAttempts");
+        }
+        if (reconnect.hasKey("initialDelayMs") && reconnect.getType("initialDelayMs") == ReadableType.Number) {
+            initialDelayMs = (long) reconnect.getDouble("initialDelayMs");
+        }
+        if (reconnect.hasKey("maxDelayMs") && reconnect.getType("maxDelayMs") == ReadableType.Number) {
+            maxDelayMs = (long) reconnect.getDouble("maxDelayMs");
+        }
+        if (reconnect.hasKey("multiplier") && reconnect.getType("multiplier") == ReadableType.Number) {
+            multiplier = reconnect.getDouble("multiplier");
+        }
+        if (reconnect.hasKey("jitter") && reconnect.getType("jitter") == ReadableType.Number) {
+            jitter = reconnect.getDouble("jitter");
+        }
+        if (reconnect.hasKey("restoreMonitors") && reconnect.getType("restoreMonitors") == ReadableType.Boolean) {
+            restoreMonitors = reconnect.getBoolean("restoreMonitors");
+        }
+        return new ReconnectPolicy(maxAttempts, initialDelayMs, maxDelayMs, multiplier, jitter, restoreMonitors);
+    }
+
+    @ReactMethod
+    public void connectAndDiscoverDevices(final ReadableArray deviceIds,
+                                          @Nullable ReadableMap options,
+                                          final String transactionId,
+                                          final Promise promise) {
+        final SafePromise safePromise = new SafePromise(promise, metrics.startMethod("connectAndDiscoverDevices"));
+
+        int concurrency = DEFAULT_BATCH_CONNECTION_CONCURRENCY;
+        int maxAttempts = DEFAULT_BATCH_CONNECTION_MAX_ATTEMPTS;
+        long retryDelayMs = DEFAULT_BATCH_CONNECTION_RETRY_DELAY_MS;
+        ReadableMap connectionOptions = null;
+        if (options != null) {
+            if (options.hasKey("concurrency") && options.getType("concurrency") == ReadableType.Number) {
+                concurrency = options.getInt("concurrency");
+            }
+            if (options.hasKey("maxAttempts") && options.getType("maxAttempts") == ReadableType.Number) {
+                maxAttempts = options.getInt("maxAttempts");
+            }
+            if (options.hasKey("retryDelayMs") && options.getType("retryDelayMs") == ReadableType.Number) {
+                retryDelayMs = (long) options.getDouble("retryDelayMs");
+            }
+            if (options.hasKey("connectionOptions") && options.getType("connectionOptions") == ReadableType.Map) {
+                connectionOptions = options.getMap("connectionOptions");
+            }
+        }
+
+        final ConnectionOptions deviceConnectionOptions = connectionOptionsFromJs(connectionOptions);
+        final BatchConnection batchConnection = new BatchConnection(
+                Arrays.asList(ReadableArrayConverter.toStringArray(deviceIds)),
+                concurrency, maxAttempts, retryDelayMs, transactionId, batchScheduler,
+                new BatchConnection.DeviceConnector() {
                     @Override
-                    public void onSuccess(Device data) {
-                        safePromise.resolve(deviceConverter.toJSObject(data));
+                    public void connect(@NonNull String deviceId,
+                                        @NonNull String attemptTransactionId,
+                                        @NonNull OnSuccessCallback<Device> onSuccessCallback,
+                                        @NonNull OnErrorCallback onErrorCallback) {
+                        connectAndDiscover(deviceId, deviceConnectionOptions, attemptTransactionId,
+                                onSuccessCallback, onErrorCallback);
+                    }
+
+                    @Override
+                    public void cancel(@NonNull String deviceId, @NonNull String attemptTransactionId) {
+                        bleAdapter.cancelTransaction(attemptTransactionId);
+                        connectionPool.disconnect(deviceId, new OnSuccessCallback<Device>() {
+                            @Override
+                            public void onSuccess(Device data) {
+                            }
+                        }, new OnErrorCallback() {
+                            @Override
+                            public void onError(BleError error) {
+                            }
+                        });
                     }
                 },
-                new OnEventCallback<ConnectionState>() {
-                    @Override
-                    public void onEvent(ConnectionState connectionState) {
-                        if (connectionState == ConnectionState.DISCONNECTED) {
-                            WritableArray event = Arguments.createArray();
-                            event.pushNull();
-                            WritableMap device = Arguments.createMap();
-                            device.putString("id", deviceId);
-                            event.pushMap(device);
-                            sendEvent(Event.DisconnectionEvent, event);
-                        }
+                new BatchConnection.OnDeviceResultCallback() {
+                    @Override
+                    public void onDeviceResult(@NonNull BatchConnection.Result result) {
+                        WritableArray event = Arguments.createArray();
+                        event.pushString(transactionId);
+                        event.pushMap(batchConnectionResultToJs(result));
+                        sendEvent(Event.BatchConnectionEvent, event);
                     }
                 },
-                new OnErrorCallback() {
+                new OnSuccessCallback<List<BatchConnection.Result>>() {
                     @Override
-                    public void onError(BleError error) {
-                        safePromise.reject(null, errorConverter.toJs(error));
+                    public void onSuccess(List<BatchConnection.Result> data) {
+                        compositeTransactions.remove(transactionId);
+                        WritableArray jsResults = Arguments.createArray();
+                        for (BatchConnection.Result result : data) {
+                            jsResults.pushMap(batchConnectionResultToJs(result));
+                        }
+                        safePromise.resolve(jsResults);
                     }
                 });
+        compositeTransactions.put(transactionId, new Runnable() {
+            @Override
+            public void run() {
+                batchConnection.cancel();
+            }
+        });
+        batchConnection.start();
+    }
+
+    /**
+     * Connects to a device through the connection pool, unless it's connected already, and discovers its attributes.
+     */
+    private void connectAndDiscover(final String deviceId,
+                                    ConnectionOptions options,
+                                    final String transactionId,
+                                    final OnSuccessCallback<Device> onSuccessCallback,
+                                    final OnErrorCallback onErrorCallback) {
+        final OnSuccessCallback<Device> discover = new OnSuccessCallback<Device>() {
+            @Override
+            public void onSuccess(Device data) {
+                bleAdapter.discoverAllServicesAndCharacteristicsForDevice(
+                        deviceId, transactionId, onSuccessCallback, onErrorCallback);
+            }
+        };
+        connectionPool.connect(deviceId, options, discover, new OnErrorCallback() {
+            @Override
+            public void onError(BleError error) {
+                if (error.errorCode == BleErrorCode.DeviceAlreadyConnected) {
+                    discover.onSuccess(null);
+                } else {
+                    onErrorCallback.onError(error);
+                }
+            }
+        });
+    }
+
+    private WritableMap batchConnectionResultToJs(BatchConnection.Result result) {
+        WritableMap js = Arguments.createMap();
+        js.putString("deviceId", result.deviceId);
+        if (result.device != null) {
+            js.putMap("device", deviceConverter.toJSObject(result.device));
+        } else {
+            js.putNull("device");
+        }
+        if (result.error != null) {
+            js.putString("error", errorConverter.toJs(result.error));
+        } else {
+            js.putNull("error");
+        }
+        js.putInt("attempts", result.attempts);
+        return js;
+    }
+
+    private void onDeviceDisconnected(String deviceId) {
+        forgetAttributesOfDevice(deviceId);
+        if (connectionPool.onDisconnected(deviceId)) {
+            // Evicted devices are reconnected when they are used by device ids again, not by automatic reconnection.
+            // JS is still notified, because its services, characteristics and descriptors aren't valid anymore.
+            sendDisconnectionEvent(deviceId);
+            return;
+        }
+        if (autoReconnect.isReconnecting(deviceId)) {
+            // Failed reconnection attempts report disconnections too, JS was notified about the first one.
+            return;
+        }
+        autoReconnect.onDisconnected(deviceId);
+        sendDisconnectionEvent(deviceId);
+    }
+
+    private void sendDisconnectionEvent(String deviceId) {
+        WritableArray event = Arguments.createArray();
+        event.pushNull();
+        WritableMap device = Arguments.createMap();
+        device.putString("id", deviceId);
+        event.pushMap(device);
+        sendEvent(Event.DisconnectionEvent, event);
     }
 
     @ReactMethod
     public void cancelDeviceConnection(String deviceId, Promise promise) {
-        final SafePromise safePromise = new SafePromise(promise);
-        bleAdapter.cancelDeviceConnection(deviceId,
+        final SafePromise safePromise = new SafePromise(promise, metrics.startMethod("cancelDeviceConnection"));
+        autoReconnect.disable(deviceId);
+        failMonitorsToRestore(deviceId);
+        connectionPool.disconnect(deviceId,
                 new OnSuccessCallback<Device>() {
                     @Override
                     public void onSuccess(Device data) {
@@ -385,11 +1367,51 @@ public class BleClientManager extends ReactContextBaseJavaModule {
                 });
     }
 
+    @ReactMethod
+    public void setConnectionPoolOptions(ReadableMap options) {
+        int maxConnections = 0;
+        int maxConcurrentConnections = 0;
+        if (options.hasKey("maxConnections") && options.getType("maxConnections") == ReadableType.Number) {
+            maxConnections = options.getInt("maxConnections");
+        }
+        if (options.hasKey("maxConcurrentConnections")
+                && options.getType("maxConcurrentConnections") == ReadableType.Number) {
+            maxConcurrentConnections = options.getInt("maxConcurrentConnections");
+        }
+        connectionPool.setLimits(maxConnections, maxConcurrentConnections);
+    }
+
+    @ReactMethod
+    public void connectionPoolStats(Promise promise) {
+        ConnectionPool.Stats stats = connectionPool.getStats();
+        WritableMap js = Arguments.createMap();
+        js.putInt("maxConnections", stats.maxConnections);
+        js.putInt("maxConcurrentConnections", stats.maxConcurrentConnections);
+        js.putInt("connectedDevices", stats.connectedDevices);
+        js.putInt("pendingConnections", stats.pendingConnections);
+        js.putInt("queuedConnections", stats.queuedConnections);
+        js.putInt("evictedDevices", stats.evictedDevices);
+        js.putDouble("evictions", stats.evictions);
+        js.putDouble("reconnections", stats.reconnections);
+        promise.resolve(js);
+    }
+
     // Mark: Discovery -----------------------------------------------------------------------------
 
     @ReactMethod
-    public void discoverAllServicesAndCharacteristicsForDevice(String deviceId, final String transactionId, final Promise promise) {
-        final SafePromise safePromise = new SafePromise(promise);
+    public void discoverAllServicesAndCharacteristicsForDevice(final String deviceId,
+                                                               final String transactionId,
+                                                               final Promise promise) {
+        if (deferUntilDeviceReady(deviceId, new Runnable() {
+            @Override
+            public void run() {
+                discoverAllServicesAndCharacteristicsForDevice(deviceId, transactionId, promise);
+            }
+        })) {
+            return;
+        }
+        final SafePromise safePromise =
+                new SafePromise(promise, metrics.startMethod("discoverAllServicesAndCharacteristicsForDevice"));
         bleAdapter.discoverAllServicesAndCharacteristicsForDevice(deviceId, transactionId,
                 new OnSuccessCallback<Device>() {
                     @Override
@@ -404,17 +1426,362 @@ public class BleClientManager extends ReactContextBaseJavaModule {
                 });
     }
 
+    /**
+     * Resolves with the cached layout of a device right away, if there is one for the version tag, and with the
+     * discovered layout otherwise. Discovery runs in both cases, as the adapter needs discovered attributes to perform
+     * any operation, so the cache doesn't make the device usable sooner: operations on it wait until discovery ends.
+     * When discovery doesn't confirm the cached layout, the layout is removed from the cache and JS is notified with
+     * GattLayoutChangedEvent, as the promise was already resolved.
+     */
+    @ReactMethod
+    public void discoverAllServicesAndCharacteristicsWithCacheForDevice(final String deviceId,
+                                                                        final String versionTag,
+                                                                        final String transactionId,
+                                                                        final Promise promise) {
+        final SafePromise safePromise = new SafePromise(promise,
+                metrics.startMethod("discoverAllServicesAndCharacteristicsWithCacheForDevice"));
+        final GattLayout cachedLayout = gattLayoutCache.get(deviceId, versionTag);
+        if (cachedLayout != null) {
+            // Layout is seeded from the cache while discovery verifies it. Operations on the device wait for
+            // discovery to finish, as the adapter needs discovered attributes to perform them.
+            synchronized (deferredDeviceOperations) {
+                if (!deferredDeviceOperations.containsKey(deviceId)) {
+                    deferredDeviceOperations.put(deviceId, new ArrayList<Runnable>());
+                }
+            }
+            safePromise.resolve(gattLayoutToJs(cachedLayout, true));
+        }
+
+        final OnErrorCallback onDiscoveryError = new OnErrorCallback() {
+            @Override
+            public void onError(BleError error) {
+                if (cachedLayout != null) {
+                    // Cached layout wasn't verified and may be stale
+                    gattLayoutCache.remove(deviceId);
+                    sendEvent(Event.GattLayoutChangedEvent, deviceId);
+                } else {
+                    safePromise.reject(null, errorConverter.toJs(error));
+                }
+                runDeferredDeviceOperations(deviceId);
+            }
+        };
+        bleAdapter.discoverAllServicesAndCharacteristicsForDevice(deviceId, transactionId,
+                new OnSuccessCallback<Device>() {
+                    @Override
+                    public void onSuccess(Device data) {
+                        GattLayout layout;
+                        try {
+                            layout = discoveredGattLayout(deviceId, versionTag);
+                        } catch (BleError error) {
+                            onDiscoveryError.onError(error);
+                            return;
+                        }
+                        if (cachedLayout == null || !cachedLayout.hasSameAttributes(layout)) {
+                            try {
+                                gattLayoutCache.put(layout);
+                            } catch (IOException e) {
+                                // Cache is an optimization only, next discovery will try to store layout again.
+                            }
+                        }
+                        monitorServiceChanged(deviceId, layout);
+                        if (cachedLayout == null) {
+                            safePromise.resolve(gattLayoutToJs(layout, false));
+                        } else if (!cachedLayout.hasSameAttributes(layout)) {
+                            sendEvent(Event.GattLayoutChangedEvent, deviceId);
+                        }
+                        runDeferredDeviceOperations(deviceId);
+                    }
+                }, onDiscoveryError);
+    }
+
+    @ReactMethod
+    public void invalidateGattLayoutCache(@Nullable String deviceId, Promise promise) {
+        if (deviceId != null) {
+            gattLayoutCache.remove(deviceId);
+        } else {
+            gattLayoutCache.clear();
+        }
+        promise.resolve(null);
+    }
+
+    private GattLayout discoveredGattLayout(String deviceId, String versionTag) throws BleError {
+        List<GattLayout.ServiceLayout> services = new ArrayList<>();
+        for (Service service : bleAdapter.getServicesForDevice(deviceId)) {
+            List<GattLayout.CharacteristicLayout> characteristics = new ArrayList<>();
+            for (Characteristic characteristic : bleAdapter.getCharacteristicsForService(service.getId())) {
+                List<UUID> descriptors = new ArrayList<>();
+                for (Descriptor descriptor : bleAdapter.descriptorsForCharacteristic(characteristic.getId())) {
+                    descriptors.add(descriptor.getUuid());
+                }
+                characteristics.add(new GattLayout.CharacteristicLayout(
+                        characteristic.getUuid(), characteristicProperties(characteristic), descriptors));
+            }
+            services.add(new GattLayout.ServiceLayout(service.getUuid(), service.isPrimary(), characteristics));
+        }
+        return new GattLayout(deviceId, versionTag, services);
+    }
+
+    private static int characteristicProperties(Characteristic characteristic) {
+        int properties = 0;
+        if (characteristic.isReadable()) {
+            properties |= GattLayout.PROPERTY_READABLE;
+        }
+        if (characteristic.isWritableWithResponse()) {
+            properties |= GattLayout.PROPERTY_WRITABLE_WITH_RESPONSE;
+        }
+        if (characteristic.isWritableWithoutResponse()) {
+            properties |= GattLayout.PROPERTY_WRITABLE_WITHOUT_RESPONSE;
+        }
+        if (characteristic.isNotifiable()) {
+            properties |= GattLayout.PROPERTY_NOTIFIABLE;
+        }
+        if (characteristic.isIndicatable()) {
+            properties |= GattLayout.PROPERTY_INDICATABLE;
+        }
+        return properties;
+    }
+
+    private WritableMap gattLayoutToJs(GattLayout layout, boolean fromCache) {
+        WritableMap js = gattLayoutConverter.toJSObject(layout);
+        js.putBoolean("fromCache", fromCache);
+        return js;
+    }
+
+    /**
+     * Subscribes to Service Changed indications of a device, if it exposes them, and drops its cached layout
+     * as soon as the peripheral reports that attributes were modified.
+     */
+    private void monitorServiceChanged(final String deviceId, GattLayout layout) {
+        boolean hasServiceChanged = false;
+        for (GattLayout.ServiceLayout service : layout.services) {
+            if (service.uuid.equals(GENERIC_ATTRIBUTE_SERVICE_UUID)) {
+                for (GattLayout.CharacteristicLayout characteristic : service.characteristics) {
+                    hasServiceChanged |= characteristic.uuid.equals(SERVICE_CHANGED_CHARACTERISTIC_UUID)
+                            && characteristic.hasProperty(GattLayout.PROPERTY_INDICATABLE);
+                }
+            }
+        }
+        if (!hasServiceChanged) {
+            return;
+        }
+        bleAdapter.monitorCharacteristicForDevice(
+                deviceId,
+                GENERIC_ATTRIBUTE_SERVICE_UUID.toString(),
+                SERVICE_CHANGED_CHARACTERISTIC_UUID.toString(),
+                SERVICE_CHANGED_TRANSACTION_PREFIX + deviceId,
+                new OnEventCallback<Characteristic>() {
+                    @Override
+                    public void onEvent(Characteristic data) {
+                        gattLayoutCache.remove(deviceId);
+                        sendEvent(Event.GattLayoutChangedEvent, deviceId);
+                    }
+                }, new OnErrorCallback() {
+                    @Override
+                    public void onError(BleError error) {
+                        // Monitoring ends with disconnection. Cached layout stays valid without indications.
+                    }
+                });
+    }
+
+    private boolean deferUntilDeviceReady(String deviceId, Runnable operation) {
+        connectionPool.touch(deviceId);
+        synchronized (deferredDeviceOperations) {
+            List<Runnable> operations = deferredDeviceOperations.get(deviceId);
+            if (operations != null) {
+                operations.add(operation);
+                return true;
+            }
+            if (!connectionPool.isEvicted(deviceId)) {
+                return false;
+            }
+            operations = new ArrayList<>();
+            operations.add(operation);
+            deferredDeviceOperations.put(deviceId, operations);
+        }
+        reconnectEvictedDevice(deviceId);
+        return true;
+    }
+
+    /**
+     * Connects a device evicted from the connection pool and discovers its attributes again before running
+     * operations deferred until then. When reconnection fails the operations report errors of a disconnected device.
+     */
+    private void reconnectEvictedDevice(final String deviceId) {
+        connectionPool.reconnect(deviceId,
+                new OnSuccessCallback<Device>() {
+                    @Override
+                    public void onSuccess(Device data) {
+                        bleAdapter.discoverAllServicesAndCharacteristicsForDevice(deviceId,
+                                RECONNECT_TRANSACTION_PREFIX + deviceId,
+                                new OnSuccessCallback<Device>() {
+                                    @Override
+                                    public void onSuccess(Device data) {
+                                        runDeferredDeviceOperations(deviceId);
+                                    }
+                                }, new OnErrorCallback() {
+                                    @Override
+                                    public void onError(BleError error) {
+                                        runDeferredDeviceOperations(deviceId);
+                                    }
+                                });
+                    }
+                }, new OnErrorCallback() {
+                    @Override
+                    public void onError(BleError error) {
+                        runDeferredDeviceOperations(deviceId);
+                    }
+                });
+    }
+
+    /**
+     * Keeps monitoring interrupted by disconnection of a device pending until the device is reconnected, when its
+     * policy restores monitors.
+     *
+     * @return Whether monitoring will be restored.
+     */
+    private boolean restoreMonitorAfterReconnection(final String deviceId,
+                                                    final String transactionId,
+                                                    BleError error,
+                                                    SafePromise promise,
+                                                    Runnable monitor) {
+        ReconnectPolicy policy = autoReconnect.getPolicy(deviceId);
+        if (error.errorCode != BleErrorCode.DeviceDisconnected || policy == null || !policy.restoreMonitors) {
+            return false;
+        }
+        synchronized (monitorsToRestore) {
+            Map<String, MonitorToRestore> monitors = monitorsToRestore.get(deviceId);
+            if (monitors == null) {
+                monitors = new HashMap<>();
+                monitorsToRestore.put(deviceId, monitors);
+            }
+            monitors.put(transactionId, new MonitorToRestore(monitor, promise, error));
+        }
+        compositeTransactions.put(transactionId, new Runnable() {
+            @Override
+            public void run() {
+                MonitorToRestore monitor;
+                synchronized (monitorsToRestore) {
+                    Map<String, MonitorToRestore> monitors = monitorsToRestore.get(deviceId);
+                    monitor = monitors != null ? monitors.remove(transactionId) : null;
+                }
+                if (monitor != null) {
+                    BleError error = new BleError(BleErrorCode.OperationCancelled, "Monitoring was cancelled", null);
+                    error.deviceID = deviceId;
+                    monitor.promise.reject(null, errorConverter.toJs(error));
+                }
+            }
+        });
+        return true;
+    }
+
+    private void restoreMonitors(String deviceId) {
+        Map<String, MonitorToRestore> monitors;
+        synchronized (monitorsToRestore) {
+            monitors = monitorsToRestore.remove(deviceId);
+        }
+        if (monitors == null) {
+            return;
+        }
+        for (Map.Entry<String, MonitorToRestore> monitor : monitors.entrySet()) {
+            compositeTransactions.remove(monitor.getKey());
+            monitor.getValue().monitor.run();
+        }
+    }
+
+    private void failMonitorsToRestore(String deviceId) {
+        Map<String, MonitorToRestore> monitors;
+        synchronized (monitorsToRestore) {
+            monitors = monitorsToRestore.remove(deviceId);
+        }
+        if (monitors == null) {
+            return;
+        }
+        for (Map.Entry<String, MonitorToRestore> monitor : monitors.entrySet()) {
+            compositeTransactions.remove(monitor.getKey());
+            monitor.getValue().promise.reject(null, errorConverter.toJs(monitor.getValue().error));
+        }
+    }
+
+    private void runDeferredDeviceOperations(String deviceId) {
+        List<Runnable> operations;
+        synchronized (deferredDeviceOperations) {
+            operations = deferredDeviceOperations.remove(deviceId);
+        }
+        if (operations != null) {
+            for (Runnable operation : operations) {
+                operation.run();
+            }
+        }
+    }
+
+    @Nullable
+    private String deviceIdOfService(int serviceIdentifier) {
+        return deviceIdOfAttribute(serviceDeviceIds, serviceIdentifier);
+    }
+
+    @Nullable
+    private String deviceIdOfCharacteristic(int characteristicIdentifier) {
+        return deviceIdOfAttribute(characteristicDeviceIds, characteristicIdentifier);
+    }
+
+    @Nullable
+    private String deviceIdOfDescriptor(int descriptorIdentifier) {
+        return deviceIdOfAttribute(descriptorDeviceIds, descriptorIdentifier);
+    }
+
+    @Nullable
+    private String deviceIdOfAttribute(Map<Integer, String> deviceIds, int attributeIdentifier) {
+        String deviceId = deviceIds.get(attributeIdentifier);
+        if (deviceId == null) {
+            indexAttributesOfConnectedDevices();
+            deviceId = deviceIds.get(attributeIdentifier);
+        }
+        return deviceId;
+    }
+
+    /**
+     * Finds devices of attributes discovered on connected devices. Attribute ids don't change while a device is
+     * connected, so attributes are indexed again only when an unknown id is used.
+     */
+    private void indexAttributesOfConnectedDevices() {
+        for (String deviceId : connectionPool.getConnectedDeviceIds()) {
+            try {
+                for (Service service : bleAdapter.getServicesForDevice(deviceId)) {
+                    serviceDeviceIds.put(service.getId(), deviceId);
+                    for (Characteristic characteristic : bleAdapter.getCharacteristicsForService(service.getId())) {
+                        characteristicDeviceIds.put(characteristic.getId(), deviceId);
+                        for (Descriptor descriptor : bleAdapter.descriptorsForCharacteristic(characteristic.getId())) {
+                            descriptorDeviceIds.put(descriptor.getId(), deviceId);
+                        }
+                    }
+                }
+            } catch (BleError error) {
+                // Attributes of devices which weren't discovered yet can't be used
+            }
+        }
+    }
+
+    private void forgetAttributesOfDevice(String deviceId) {
+        serviceDeviceIds.values().removeAll(Collections.singleton(deviceId));
+        characteristicDeviceIds.values().removeAll(Collections.singleton(deviceId));
+        descriptorDeviceIds.values().removeAll(Collections.singleton(deviceId));
+        acknowledgedCharacteristicDeviceIds.values().removeAll(Collections.singleton(deviceId));
+    }
+
     // Mark: Service and characteristic getters ----------------------------------------------------
 
     @ReactMethod
     public void servicesForDevice(final String deviceId, final Promise promise) {
-        try {
-            List<Service> services = bleAdapter.getServicesForDevice(deviceId);
-            WritableArray jsArray = Arguments.createArray();
-            for (Service service : services) {
-                jsArray.pushMap(serviceConverter.toJSObject(service));
+        if (deferUntilDeviceReady(deviceId, new Runnable() {
+            @Override
+            public void run() {
+                servicesForDevice(deviceId, promise);
             }
-            promise.resolve(jsArray);
+        })) {
+            return;
+        }
+        try {
+            resolveConverted(promise, bleAdapter.getServicesForDevice(deviceId), serviceConverter);
         } catch (BleError error) {
             promise.reject(null, errorConverter.toJs(error));
         }
@@ -425,14 +1792,17 @@ public class BleClientManager extends ReactContextBaseJavaModule {
     public void characteristicsForDevice(final String deviceId,
                                          final String serviceUUID,
                                          final Promise promise) {
-        try {
-            List<Characteristic> characteristics = bleAdapter.getCharacteristicsForDevice(deviceId, serviceUUID);
-
-            WritableArray jsCharacteristics = Arguments.createArray();
-            for (Characteristic characteristic : characteristics) {
-                jsCharacteristics.pushMap(characteristicConverter.toJSObject(characteristic));
+        if (deferUntilDeviceReady(deviceId, new Runnable() {
+            @Override
+            public void run() {
+                characteristicsForDevice(deviceId, serviceUUID, promise);
             }
-            promise.resolve(jsCharacteristics);
+        })) {
+            return;
+        }
+        try {
+            resolveConverted(promise,
+                    bleAdapter.getCharacteristicsForDevice(deviceId, serviceUUID), characteristicConverter);
         } catch (BleError error) {
             promise.reject(null, errorConverter.toJs(error));
         }
@@ -441,12 +1811,8 @@ public class BleClientManager extends ReactContextBaseJavaModule {
     @ReactMethod
     public void characteristicsForService(final int serviceIdentifier, final Promise promise) {
         try {
-            List<Characteristic> characteristics = bleAdapter.getCharacteristicsForService(serviceIdentifier);
-            WritableArray jsCharacteristics = Arguments.createArray();
-            for (Characteristic characteristic : characteristics) {
-                jsCharacteristics.pushMap(characteristicConverter.toJSObject(characteristic));
-            }
-            promise.resolve(jsCharacteristics);
+            resolveConverted(promise,
+                    bleAdapter.getCharacteristicsForService(serviceIdentifier), characteristicConverter);
         } catch (BleError error) {
             promise.reject(null, errorConverter.toJs(error));
         }
@@ -457,13 +1823,18 @@ public class BleClientManager extends ReactContextBaseJavaModule {
                                      final String serviceUUID,
                                      final String characteristicUUID,
                                      final Promise promise) {
-        try {
-            List<Descriptor> descriptors = bleAdapter.descriptorsForDevice(deviceIdentifier, serviceUUID, characteristicUUID);
-            WritableArray jsDescriptors = Arguments.createArray();
-            for (Descriptor descriptor : descriptors) {
-                jsDescriptors.pushMap(descriptorConverter.toJSObject(descriptor));
+        if (deferUntilDeviceReady(deviceIdentifier, new Runnable() {
+            @Override
+            public void run() {
+                descriptorsForDevice(deviceIdentifier, serviceUUID, characteristicUUID, promise);
             }
-            promise.resolve(jsDescriptors);
+        })) {
+            return;
+        }
+        try {
+            resolveConverted(promise,
+                    bleAdapter.descriptorsForDevice(deviceIdentifier, serviceUUID, characteristicUUID),
+                    descriptorConverter);
         } catch (BleError error) {
             promise.reject(null, errorConverter.toJs(error));
         }
@@ -474,12 +1845,8 @@ public class BleClientManager extends ReactContextBaseJavaModule {
                                       final String characteristicUUID,
                                       final Promise promise) {
         try {
-            List<Descriptor> descriptors = bleAdapter.descriptorsForService(serviceIdentifier, characteristicUUID);
-            WritableArray jsDescriptors = Arguments.createArray();
-            for (Descriptor descriptor : descriptors) {
-                jsDescriptors.pushMap(descriptorConverter.toJSObject(descriptor));
-            }
-            promise.resolve(jsDescriptors);
+            resolveConverted(promise,
+                    bleAdapter.descriptorsForService(serviceIdentifier, characteristicUUID), descriptorConverter);
         } catch (BleError error) {
             promise.reject(null, errorConverter.toJs(error));
         }
@@ -489,12 +1856,44 @@ public class BleClientManager extends ReactContextBaseJavaModule {
     public void descriptorsForCharacteristic(final int characteristicIdentifier,
                                              final Promise promise) {
         try {
-            List<Descriptor> descriptors = bleAdapter.descriptorsForCharacteristic(characteristicIdentifier);
-            WritableArray jsDescriptors = Arguments.createArray();
-            for (Descriptor descriptor : descriptors) {
-                jsDescriptors.pushMap(descriptorConverter.toJSObject(descriptor));
+            resolveConverted(promise,
+                    bleAdapter.descriptorsForCharacteristic(characteristicIdentifier), descriptorConverter);
+        } catch (BleError error) {
+            promise.reject(null, errorConverter.toJs(error));
+        }
+    }
+
+    @ReactMethod
+    public void gattSnapshotForDevice(final String deviceId, final Promise promise) {
+        if (deferUntilDeviceReady(deviceId, new Runnable() {
+            @Override
+            public void run() {
+                gattSnapshotForDevice(deviceId, promise);
+            }
+        })) {
+            return;
+        }
+        try {
+            List<Service> services = bleAdapter.getServicesForDevice(deviceId);
+            WritableArray jsServices = Arguments.createArray();
+            for (Service service : services) {
+                WritableArray jsCharacteristics = Arguments.createArray();
+                for (Characteristic characteristic : bleAdapter.getCharacteristicsForService(service.getId())) {
+                    WritableArray jsDescriptors = Arguments.createArray();
+                    for (Descriptor descriptor : bleAdapter.descriptorsForCharacteristic(characteristic.getId())) {
+                        jsDescriptors.pushMap(descriptorConverter.toJSObject(descriptor));
+                    }
+                    WritableMap jsCharacteristic = Arguments.createMap();
+                    jsCharacteristic.putMap("characteristic", characteristicConverter.toJSObject(characteristic));
+                    jsCharacteristic.putArray("descriptors", jsDescriptors);
+                    jsCharacteristics.pushMap(jsCharacteristic);
+                }
+                WritableMap jsService = Arguments.createMap();
+                jsService.putMap("service", serviceConverter.toJSObject(service));
+                jsService.putArray("characteristics", jsCharacteristics);
+                jsServices.pushMap(jsService);
             }
-            promise.resolve(jsDescriptors);
+            promise.resolve(jsServices);
         } catch (BleError error) {
             promise.reject(null, errorConverter.toJs(error));
         }
@@ -510,10 +1909,27 @@ public class BleClientManager extends ReactContextBaseJavaModule {
                                              final Boolean response,
                                              final String transactionId,
                                              final Promise promise) {
-        final SafePromise safePromise = new SafePromise(promise);
+        if (deferUntilDeviceReady(deviceId, new Runnable() {
+            @Override
+            public void run() {
+                writeCharacteristicForDevice(deviceId, serviceUUID, characteristicUUID, valueBase64, response,
+                        transactionId, promise);
+            }
+        })) {
+            return;
+        }
+        final SafePromise safePromise = new SafePromise(promise, metrics.startMethod("writeCharacteristicForDevice"));
 
-        bleAdapter.writeCharacteristicForDevice(
-                deviceId, serviceUUID, characteristicUUID, valueBase64, response, transactionId,
+        scheduleGattOperation(deviceId, transactionId,
+                new GattOperationScheduler.Call<Characteristic>() {
+                    @Override
+                    public void call(@NonNull OnSuccessCallback<Characteristic> onSuccessCallback,
+                                     @NonNull OnErrorCallback onErrorCallback) {
+                        bleAdapter.writeCharacteristicForDevice(
+                                deviceId, serviceUUID, characteristicUUID, valueBase64, response, transactionId,
+                                onSuccessCallback, onErrorCallback);
+                    }
+                },
                 new OnSuccessCallback<Characteristic>() {
                     @Override
                     public void onSuccess(Characteristic data) {
@@ -535,9 +1951,17 @@ public class BleClientManager extends ReactContextBaseJavaModule {
                                               final Boolean response,
                                               final String transactionId,
                                               final Promise promise) {
-        final SafePromise safePromise = new SafePromise(promise);
-        bleAdapter.writeCharacteristicForService(
-                serviceIdentifier, characteristicUUID, valueBase64, response, transactionId,
+        final SafePromise safePromise = new SafePromise(promise, metrics.startMethod("writeCharacteristicForService"));
+        scheduleAttributeGattOperation(deviceIdOfService(serviceIdentifier), transactionId,
+                new GattOperationScheduler.Call<Characteristic>() {
+                    @Override
+                    public void call(@NonNull OnSuccessCallback<Characteristic> onSuccessCallback,
+                                     @NonNull OnErrorCallback onErrorCallback) {
+                        bleAdapter.writeCharacteristicForService(
+                                serviceIdentifier, characteristicUUID, valueBase64, response, transactionId,
+                                onSuccessCallback, onErrorCallback);
+                    }
+                },
                 new OnSuccessCallback<Characteristic>() {
                     @Override
                     public void onSuccess(Characteristic data) {
@@ -558,9 +1982,18 @@ public class BleClientManager extends ReactContextBaseJavaModule {
                                     final Boolean response,
                                     final String transactionId,
                                     final Promise promise) {
-        final SafePromise safePromise = new SafePromise(promise);
+        final SafePromise safePromise = new SafePromise(promise, metrics.startMethod("writeCharacteristic"));
 
-        bleAdapter.writeCharacteristic(characteristicIdentifier, valueBase64, response, transactionId,
+        scheduleAttributeGattOperation(deviceIdOfCharacteristic(characteristicIdentifier), transactionId,
+                new GattOperationScheduler.Call<Characteristic>() {
+                    @Override
+                    public void call(@NonNull OnSuccessCallback<Characteristic> onSuccessCallback,
+                                     @NonNull OnErrorCallback onErrorCallback) {
+                        bleAdapter.writeCharacteristic(
+                                characteristicIdentifier, valueBase64, response, transactionId,
+                                onSuccessCallback, onErrorCallback);
+                    }
+                },
                 new OnSuccessCallback<Characteristic>() {
                     @Override
                     public void onSuccess(Characteristic data) {
@@ -574,20 +2007,188 @@ public class BleClientManager extends ReactContextBaseJavaModule {
                 });
     }
 
+    @ReactMethod
+    public void writeCharacteristicInBulkForDevice(final String deviceId,
+                                                   final String serviceUUID,
+                                                   final String characteristicUUID,
+                                                   final ReadableArray valuesBase64,
+                                                   @Nullable final ReadableMap options,
+                                                   final String transactionId,
+                                                   final Promise promise) {
+        if (deferUntilDeviceReady(deviceId, new Runnable() {
+            @Override
+            public void run() {
+                writeCharacteristicInBulkForDevice(deviceId, serviceUUID, characteristicUUID, valuesBase64,
+                        options, transactionId, promise);
+            }
+        })) {
+            return;
+        }
+        final SafePromise safePromise =
+                new SafePromise(promise, metrics.startMethod("writeCharacteristicInBulkForDevice"));
+
+        boolean withResponse = false;
+        int chunkSize = 0;
+        int maxWritesInFlight = MAX_GATT_OPERATIONS_PER_DEVICE;
+        long progressIntervalMs = DEFAULT_BULK_WRITE_PROGRESS_INTERVAL_MS;
+        if (options != null) {
+            if (options.hasKey("withResponse") && options.getType("withResponse") == ReadableType.Boolean) {
+                withResponse = options.getBoolean("withResponse");
+            }
+            if (options.hasKey("chunkSize") && options.getType("chunkSize") == ReadableType.Number) {
+                chunkSize = options.getInt("chunkSize");
+            }
+            if (options.hasKey("maxWritesInFlight") && options.getType("maxWritesInFlight") == ReadableType.Number) {
+                maxWritesInFlight = options.getInt("maxWritesInFlight");
+            }
+            if (options.hasKey("progressIntervalMs") && options.getType("progressIntervalMs") == ReadableType.Number) {
+                progressIntervalMs = (long) options.getDouble("progressIntervalMs");
+            }
+        }
+
+        final List<byte[]> values = new ArrayList<>(valuesBase64.size());
+        try {
+            for (int i = 0; i < valuesBase64.size(); i++) {
+                values.add(Base64Converter.decode(valuesBase64.getString(i)));
+            }
+        } catch (IllegalArgumentException e) {
+            BleError error = new BleError(BleErrorCode.CharacteristicInvalidDataFormat, e.getMessage(), null);
+            error.deviceID = deviceId;
+            error.serviceUUID = serviceUUID;
+            error.characteristicUUID = characteristicUUID;
+            safePromise.reject(null, errorConverter.toJs(error));
+            return;
+        }
+
+        if (chunkSize <= 0) {
+            chunkSize = getMtuForDevice(deviceId) - ATT_WRITE_HEADER_SIZE;
+        }
+        // Chunks are scheduled like other operations on the device, more of them wouldn't run at once
+        maxWritesInFlight = Math.min(maxWritesInFlight, MAX_GATT_OPERATIONS_PER_DEVICE);
+
+        final boolean response = withResponse;
+        final long progressInterval = progressIntervalMs;
+        // Device stays in use between chunks too
+        final DeviceUse deviceUse = new DeviceUse(deviceId);
+        final TransactionPriority priority =
+                takeTransactionPriority(transactionId, GattOperationScheduler.Priority.BULK);
+        final BulkCharacteristicWrite bulkWrite = new BulkCharacteristicWrite(
+                values, chunkSize, maxWritesInFlight, transactionId,
+                new BulkCharacteristicWrite.ChunkWriter() {
+                    @Override
+                    public void write(@NonNull final String chunkBase64,
+                                      @NonNull final String chunkTransactionId,
+                                      @NonNull OnSuccessCallback<Characteristic> onSuccessCallback,
+                                      @NonNull OnErrorCallback onErrorCallback) {
+                        scheduleGattOperation(deviceId, chunkTransactionId, priority,
+                                new GattOperationScheduler.Call<Characteristic>() {
+                                    @Override
+                                    public void call(@NonNull OnSuccessCallback<Characteristic> onSuccessCallback,
+                                                     @NonNull OnErrorCallback onErrorCallback) {
+                                        bleAdapter.writeCharacteristicForDevice(
+                                                deviceId, serviceUUID, characteristicUUID, chunkBase64, response,
+                                                chunkTransactionId, onSuccessCallback, onErrorCallback);
+                                    }
+                                }, onSuccessCallback, onErrorCallback);
+                    }
+
+                    @Override
+                    public void cancel(@NonNull String chunkTransactionId) {
+                        cancelGattOperation(chunkTransactionId);
+                    }
+                },
+                new BulkCharacteristicWrite.OnProgressCallback() {
+                    private long lastProgressTime = 0;
+
+                    @Override
+                    public void onProgress(int bytesWritten, int totalBytes) {
+                        long now = SystemClock.elapsedRealtime();
+                        if (bytesWritten < totalBytes && now - lastProgressTime < progressInterval) {
+                            return;
+                        }
+                        lastProgressTime = now;
+                        WritableArray event = Arguments.createArray();
+                        event.pushString(transactionId);
+                        event.pushInt(bytesWritten);
+                        event.pushInt(totalBytes);
+                        sendEvent(Event.WriteProgressEvent, event);
+                    }
+                },
+                new OnSuccessCallback<Characteristic>() {
+                    @Override
+                    public void onSuccess(Characteristic data) {
+                        compositeTransactions.remove(transactionId);
+                        deviceUse.end();
+                        safePromise.resolve(data != null ? characteristicConverter.toJSObject(data) : null);
+                    }
+                },
+                new OnErrorCallback() {
+                    @Override
+                    public void onError(BleError error) {
+                        compositeTransactions.remove(transactionId);
+                        deviceUse.end();
+                        safePromise.reject(null, errorConverter.toJs(error));
+                    }
+                });
+        compositeTransactions.put(transactionId, new Runnable() {
+            @Override
+            public void run() {
+                bulkWrite.cancel();
+            }
+        });
+        bulkWrite.start();
+    }
+
+    private int getMtuForDevice(String deviceId) {
+        final AtomicReference<Integer> mtu = new AtomicReference<>();
+        // Known devices are returned synchronously from the adapter's connected devices cache.
+        bleAdapter.getKnownDevices(new String[]{deviceId},
+                new OnSuccessCallback<Device[]>() {
+                    @Override
+                    public void onSuccess(Device[] data) {
+                        if (data.length > 0) {
+                            mtu.set(data[0].getMtu());
+                        }
+                    }
+                }, new OnErrorCallback() {
+                    @Override
+                    public void onError(BleError error) {
+                    }
+                });
+        Integer value = mtu.get();
+        return value != null && value > ATT_WRITE_HEADER_SIZE ? value : DEFAULT_MTU;
+    }
+
     @ReactMethod
     public void readCharacteristicForDevice(final String deviceId,
                                             final String serviceUUID,
                                             final String characteristicUUID,
                                             final String transactionId,
                                             final Promise promise) {
-        final SafePromise safePromise = new SafePromise(promise);
+        if (deferUntilDeviceReady(deviceId, new Runnable() {
+            @Override
+            public void run() {
+                readCharacteristicForDevice(deviceId, serviceUUID, characteristicUUID, transactionId, promise);
+            }
+        })) {
+            return;
+        }
+        final SafePromise safePromise = new SafePromise(promise, metrics.startMethod("readCharacteristicForDevice"));
 
-        bleAdapter.readCharacteristicForDevice(
-                deviceId, serviceUUID, characteristicUUID, transactionId,
+        scheduleGattOperation(deviceId, transactionId,
+                new GattOperationScheduler.Call<Characteristic>() {
+                    @Override
+                    public void call(@NonNull OnSuccessCallback<Characteristic> onSuccessCallback,
+                                     @NonNull OnErrorCallback onErrorCallback) {
+                        bleAdapter.readCharacteristicForDevice(
+                                deviceId, serviceUUID, characteristicUUID, transactionId,
+                                onSuccessCallback, onErrorCallback);
+                    }
+                },
                 new OnSuccessCallback<Characteristic>() {
                     @Override
                     public void onSuccess(Characteristic data) {
-                        safePromise.resolve(characteristicConverter.toJSObject(data));
+                        safePromise.resolve(valueCharacteristicToJs(data));
                     }
                 }, new OnErrorCallback() {
                     @Override
@@ -598,19 +2199,117 @@ public class BleClientManager extends ReactContextBaseJavaModule {
         );
     }
 
+    @ReactMethod
+    public void readCharacteristicsForDevice(final String deviceId,
+                                             final ReadableArray characteristics,
+                                             final String transactionId,
+                                             final Promise promise) {
+        if (deferUntilDeviceReady(deviceId, new Runnable() {
+            @Override
+            public void run() {
+                readCharacteristicsForDevice(deviceId, characteristics, transactionId, promise);
+            }
+        })) {
+            return;
+        }
+        final SafePromise safePromise = new SafePromise(promise, metrics.startMethod("readCharacteristicsForDevice"));
+        final int count = characteristics.size();
+        final WritableMap[] results = new WritableMap[count];
+        final String[] readTransactionIds = new String[count];
+        final AtomicInteger remainingReads = new AtomicInteger(count);
+
+        for (int i = 0; i < count; i++) {
+            readTransactionIds[i] = transactionId + "#" + i;
+        }
+        final TransactionPriority priority =
+                takeTransactionPriority(transactionId, GattOperationScheduler.Priority.BACKGROUND);
+        compositeTransactions.put(transactionId, new Runnable() {
+            @Override
+            public void run() {
+                for (String readTransactionId : readTransactionIds) {
+                    cancelGattOperation(readTransactionId);
+                }
+            }
+        });
+        if (count == 0) {
+            compositeTransactions.remove(transactionId);
+            safePromise.resolve(Arguments.createArray());
+            return;
+        }
+
+        // All reads are queued at once and executed back to back by the GATT operation scheduler.
+        for (int i = 0; i < count; i++) {
+            final int index = i;
+            final ReadableMap item = characteristics.getMap(i);
+            final String serviceUUID = item.getString("serviceUUID");
+            final String characteristicUUID = item.getString("characteristicUUID");
+            final Runnable onReadFinished = new Runnable() {
+                @Override
+                public void run() {
+                    if (remainingReads.decrementAndGet() == 0) {
+                        compositeTransactions.remove(transactionId);
+                        WritableArray jsResults = Arguments.createArray();
+                        for (WritableMap result : results) {
+                            jsResults.pushMap(result);
+                        }
+                        safePromise.resolve(jsResults);
+                    }
+                }
+            };
+            scheduleGattOperation(deviceId, readTransactionIds[index], priority,
+                    new GattOperationScheduler.Call<Characteristic>() {
+                        @Override
+                        public void call(@NonNull OnSuccessCallback<Characteristic> onSuccessCallback,
+                                         @NonNull OnErrorCallback onErrorCallback) {
+                            bleAdapter.readCharacteristicForDevice(
+                                    deviceId, serviceUUID, characteristicUUID, readTransactionIds[index],
+                                    onSuccessCallback, onErrorCallback);
+                        }
+                    },
+                    new OnSuccessCallback<Characteristic>() {
+                        @Override
+                        public void onSuccess(Characteristic data) {
+                            WritableMap result = Arguments.createMap();
+                            result.putMap("characteristic", valueCharacteristicToJs(data));
+                            result.putNull("error");
+                            results[index] = result;
+                            onReadFinished.run();
+                        }
+                    }, new OnErrorCallback() {
+                        @Override
+                        public void onError(BleError error) {
+                            WritableMap result = Arguments.createMap();
+                            result.putNull("characteristic");
+                            result.putString("error", errorConverter.toJs(error));
+                            results[index] = result;
+                            onReadFinished.run();
+                        }
+                    }
+            );
+        }
+    }
+
     @ReactMethod
     public void readCharacteristicForService(final int serviceIdentifier,
                                              final String characteristicUUID,
                                              final String transactionId,
                                              final Promise promise) {
-        final SafePromise safePromise = new SafePromise(promise);
+        final SafePromise safePromise = new SafePromise(promise, metrics.startMethod("readCharacteristicForService"));
 
-        bleAdapter.readCharacteristicForService(
-                serviceIdentifier, characteristicUUID, transactionId,
+        scheduleAttributeGattOperation(deviceIdOfService(serviceIdentifier), transactionId,
+                new GattOperationScheduler.Call<Characteristic>() {
+                    @Override
+                    public void call(@NonNull OnSuccessCallback<Characteristic> onSuccessCallback,
+                                     @NonNull OnErrorCallback onErrorCallback) {
+                        bleAdapter.readCharacteristicForService(
+                                serviceIdentifier, characteristicUUID, transactionId,
+                                onSuccessCallback, onErrorCallback);
+                    }
+                },
                 new OnSuccessCallback<Characteristic>() {
                     @Override
                     public void onSuccess(Characteristic data) {
-                        safePromise.resolve(characteristicConverter.toJSObject(data));
+                        safePromise.resolve(valueCharacteristicToJs(data));
                     }
                 }, new OnErrorCallback() {
                     @Override
@@ -625,14 +2324,22 @@ public class BleClientManager extends ReactContextBaseJavaModule {
     public void readCharacteristic(final int characteristicIdentifier,
                                    final String transactionId,
                                    final Promise promise) {
-        final SafePromise safePromise = new SafePromise(promise);
+        final SafePromise safePromise = new SafePromise(promise, metrics.startMethod("readCharacteristic"));
 
-        bleAdapter.readCharacteristic(
-                characteristicIdentifier, transactionId,
+        scheduleAttributeGattOperation(deviceIdOfCharacteristic(characteristicIdentifier), transactionId,
+                new GattOperationScheduler.Call<Characteristic>() {
+                    @Override
+                    public void call(@NonNull OnSuccessCallback<Characteristic> onSuccessCallback,
+                                     @NonNull OnErrorCallback onErrorCallback) {
+                        bleAdapter.readCharacteristic(
+                                characteristicIdentifier, transactionId,
+                                onSuccessCallback, onErrorCallback);
+                    }
+                },
                 new OnSuccessCallback<Characteristic>() {
                     @Override
                     public void onSuccess(Characteristic data) {
-                        safePromise.resolve(characteristicConverter.toJSObject(data));
+                        safePromise.resolve(valueCharacteristicToJs(data));
                     }
                 }, new OnErrorCallback() {
                     @Override
@@ -649,21 +2356,43 @@ public class BleClientManager extends ReactContextBaseJavaModule {
                                                final String characteristicUUID,
                                                final String transactionId,
                                                final Promise promise) {
+        if (deferUntilDeviceReady(deviceId, new Runnable() {
+            @Override
+            public void run() {
+                monitorCharacteristicForDevice(deviceId, serviceUUID, characteristicUUID, transactionId, promise);
+            }
+        })) {
+            return;
+        }
+        // Latency of monitors isn't measured, as their promises settle only when monitoring ends
         final SafePromise safePromise = new SafePromise(promise);
+        final DeviceUse deviceUse = new DeviceUse(deviceId);
         bleAdapter.monitorCharacteristicForDevice(
                 deviceId, serviceUUID, characteristicUUID, transactionId,
                 new OnEventCallback<Characteristic>() {
                     @Override
                     public void onEvent(Characteristic data) {
+                        metrics.onNotification();
                         WritableArray jsResult = Arguments.createArray();
                         jsResult.pushNull();
-                        jsResult.pushMap(characteristicConverter.toJSObject(data));
+                        jsResult.pushMap(valueCharacteristicToJs(data));
                         jsResult.pushString(transactionId);
                         sendEvent(Event.ReadEvent, jsResult);
                     }
                 }, new OnErrorCallback() {
                     @Override
                     public void onError(BleError error) {
+                        deviceUse.end();
+                        if (restoreMonitorAfterReconnection(deviceId, transactionId, error, safePromise,
+                                new Runnable() {
+                                    @Override
+                                    public void run() {
+                                        monitorCharacteristicForDevice(deviceId, serviceUUID, characteristicUUID,
+                                                transactionId, promise);
+                                    }
+                                })) {
+                            return;
+                        }
                         safePromise.reject(null, errorConverter.toJs(error));
                     }
                 }
@@ -676,20 +2405,23 @@ public class BleClientManager extends ReactContextBaseJavaModule {
                                                 final String transactionId,
                                                 final Promise promise) {
         final SafePromise safePromise = new SafePromise(promise);
+        final DeviceUse deviceUse = new DeviceUse(deviceIdOfService(serviceIdentifier));
         bleAdapter.monitorCharacteristicForService(
                 serviceIdentifier, characteristicUUID, transactionId,
                 new OnEventCallback<Characteristic>() {
                     @Override
                     public void onEvent(Characteristic data) {
+                        metrics.onNotification();
                         WritableArray jsResult = Arguments.createArray();
                         jsResult.pushNull();
-                        jsResult.pushMap(characteristicConverter.toJSObject(data));
+                        jsResult.pushMap(valueCharacteristicToJs(data));
                         jsResult.pushString(transactionId);
                         sendEvent(Event.ReadEvent, jsResult);
                     }
                 }, new OnErrorCallback() {
                     @Override
                     public void onError(BleError error) {
+                        deviceUse.end();
                         safePromise.reject(null, errorConverter.toJs(error));
                     }
                 }
@@ -702,20 +2434,113 @@ public class BleClientManager extends ReactContextBaseJavaModule {
                                       final Promise promise) {
         final SafePromise safePromise = new SafePromise(promise);
         //TODO resolve safePromise with null when monitoring has been completed
+        final DeviceUse deviceUse = new DeviceUse(deviceIdOfCharacteristic(characteristicIdentifier));
         bleAdapter.monitorCharacteristic(
                 characteristicIdentifier, transactionId,
                 new OnEventCallback<Characteristic>() {
                     @Override
                     public void onEvent(Characteristic data) {
+                        metrics.onNotification();
                         WritableArray jsResult = Arguments.createArray();
                         jsResult.pushNull();
-                        jsResult.pushMap(characteristicConverter.toJSObject(data));
+                        jsResult.pushMap(valueCharacteristicToJs(data));
                         jsResult.pushString(transactionId);
                         sendEvent(Event.ReadEvent, jsResult);
                     }
                 }, new OnErrorCallback() {
                     @Override
                     public void onError(BleError error) {
+                        deviceUse.end();
+                        safePromise.reject(null, errorConverter.toJs(error));
+                    }
+                }
+        );
+    }
+
+    @ReactMethod
+    public void monitorCharacteristicForDeviceInBatches(final String deviceId,
+                                                        final String serviceUUID,
+                                                        final String characteristicUUID,
+                                                        @Nullable final ReadableMap options,
+                                                        final String transactionId,
+                                                        final Promise promise) {
+        if (deferUntilDeviceReady(deviceId, new Runnable() {
+            @Override
+            public void run() {
+                monitorCharacteristicForDeviceInBatches(deviceId, serviceUUID, characteristicUUID, options,
+                        transactionId, promise);
+            }
+        })) {
+            return;
+        }
+        final int DEFAULT_BATCH_INTERVAL_MS = 100;
+
+        int batchIntervalMs = DEFAULT_BATCH_INTERVAL_MS;
+        int maxBatchSize = 0;
+
+        if (options != null) {
+            if (options.hasKey("batchIntervalMs") && options.getType("batchIntervalMs") == ReadableType.Number) {
+                batchIntervalMs = options.getInt("batchIntervalMs");
+            }
+            if (options.hasKey("maxBatchSize") && options.getType("maxBatchSize") == ReadableType.Number) {
+                maxBatchSize = options.getInt("maxBatchSize");
+            }
+        }
+
+        final SafePromise safePromise = new SafePromise(promise);
+        final AtomicReference<Characteristic> lastCharacteristic = new AtomicReference<>();
+        final EventBatcher<TimestampedValue> batcher = new EventBatcher<>(batchIntervalMs, maxBatchSize, batchScheduler,
+                new OnEventCallback<List<TimestampedValue>>() {
+                    @Override
+                    public void onEvent(List<TimestampedValue> data) {
+                        WritableArray jsValues = Arguments.createArray();
+                        WritableArray jsTimestamps = Arguments.createArray();
+                        for (TimestampedValue timestampedValue : data) {
+                            jsValues.pushString(timestampedValue.value != null ?
+                                    Base64Converter.encode(timestampedValue.value) : null);
+                            jsTimestamps.pushDouble(timestampedValue.timestamp);
+                        }
+                        WritableArray jsResult = Arguments.createArray();
+                        jsResult.pushNull();
+                        jsResult.pushMap(valueCharacteristicToJs(lastCharacteristic.get()));
+                        jsResult.pushString(transactionId);
+                        jsResult.pushArray(jsValues);
+                        jsResult.pushArray(jsTimestamps);
+                        sendEvent(Event.ReadEvent, jsResult, data.size());
+                    }
+                });
+        EventBatcher<TimestampedValue> previousBatcher = monitorBatchers.put(transactionId, batcher);
+        if (previousBatcher != null) {
+            previousBatcher.dispose();
+        }
+        final DeviceUse deviceUse = new DeviceUse(deviceId);
+
+        bleAdapter.monitorCharacteristicForDevice(
+                deviceId, serviceUUID, characteristicUUID, transactionId,
+                new OnEventCallback<Characteristic>() {
+                    @Override
+                    public void onEvent(Characteristic data) {
+                        metrics.onNotification();
+                        lastCharacteristic.set(data);
+                        batcher.add(new TimestampedValue(data.getValue(), System.currentTimeMillis()));
+                    }
+                }, new OnErrorCallback() {
+                    @Override
+                    public void onError(BleError error) {
+                        deviceUse.end();
+                        batcher.flush();
+                        batcher.dispose();
+                        monitorBatchers.remove(transactionId, batcher);
+                        if (restoreMonitorAfterReconnection(deviceId, transactionId, error, safePromise,
+                                new Runnable() {
+                                    @Override
+                                    public void run() {
+                                        monitorCharacteristicForDeviceInBatches(deviceId, serviceUUID,
+                                                characteristicUUID, options, transactionId, promise);
+                                    }
+                                })) {
+                            return;
+                        }
                         safePromise.reject(null, errorConverter.toJs(error));
                     }
                 }
@@ -729,21 +2554,35 @@ public class BleClientManager extends ReactContextBaseJavaModule {
                                         final String descriptorUUID,
                                         final String transactionId,
                                         final Promise promise) {
-        bleAdapter.readDescriptorForDevice(
-                deviceId,
-                serviceUUID,
-                characteristicUUID,
-                descriptorUUID,
-                transactionId,
+        if (deferUntilDeviceReady(deviceId, new Runnable() {
+            @Override
+            public void run() {
+                readDescriptorForDevice(deviceId, serviceUUID, characteristicUUID, descriptorUUID, transactionId,
+                        promise);
+            }
+        })) {
+            return;
+        }
+        final SafePromise safePromise = new SafePromise(promise, metrics.startMethod("readDescriptorForDevice"));
+        scheduleGattOperation(deviceId, transactionId,
+                new GattOperationScheduler.Call<Descriptor>() {
+                    @Override
+                    public void call(@NonNull OnSuccessCallback<Descriptor> onSuccessCallback,
+                                     @NonNull OnErrorCallback onErrorCallback) {
+                        bleAdapter.readDescriptorForDevice(
+                                deviceId, serviceUUID, characteristicUUID, descriptorUUID, transactionId,
+                                onSuccessCallback, onErrorCallback);
+                    }
+                },
                 new OnSuccessCallback<Descriptor>() {
                     @Override
                     public void onSuccess(Descriptor descriptor) {
-                        promise.resolve(descriptorConverter.toJSObject(descriptor));
+                        safePromise.resolve(descriptorConverter.toJSObject(descriptor));
                     }
                 }, new OnErrorCallback() {
                     @Override
                     public void onError(BleError bleError) {
-                        promise.reject(null, errorConverter.toJs(bleError));
+                        safePromise.reject(null, errorConverter.toJs(bleError));
                     }
                 });
     }
@@ -754,21 +2593,27 @@ public class BleClientManager extends ReactContextBaseJavaModule {
                                          final String descriptorUUID,
                                          final String transactionId,
                                          final Promise promise) {
-        bleAdapter.readDescriptorForService(
-                serviceIdentifier,
-                characteristicUUID,
-                descriptorUUID,
-                transactionId,
+        final SafePromise safePromise = new SafePromise(promise, metrics.startMethod("readDescriptorForService"));
+        scheduleAttributeGattOperation(deviceIdOfService(serviceIdentifier), transactionId,
+                new GattOperationScheduler.Call<Descriptor>() {
+                    @Override
+                    public void call(@NonNull OnSuccessCallback<Descriptor> onSuccessCallback,
+                                     @NonNull OnErrorCallback onErrorCallback) {
+                        bleAdapter.readDescriptorForService(
+                                serviceIdentifier, characteristicUUID, descriptorUUID, transactionId,
+                                onSuccessCallback, onErrorCallback);
+                    }
+                },
                 new OnSuccessCallback<Descriptor>() {
                     @Override
                     public void onSuccess(Descriptor descriptor) {
-                        promise.resolve(descriptorConverter.toJSObject(descriptor));
+                        safePromise.resolve(descriptorConverter.toJSObject(descriptor));
                     }
                 },
                 new OnErrorCallback() {
                     @Override
                     public void onError(BleError bleError) {
-                        promise.reject(null, errorConverter.toJs(bleError));
+                        safePromise.reject(null, errorConverter.toJs(bleError));
                     }
                 });
     }
@@ -778,20 +2623,28 @@ public class BleClientManager extends ReactContextBaseJavaModule {
                                                 final String descriptorUUID,
                                                 final String transactionId,
                                                 final Promise promise) {
-        bleAdapter.readDescriptorForCharacteristic(
-                characteristicIdentifier,
-                descriptorUUID,
-                transactionId,
+        final SafePromise safePromise =
+                new SafePromise(promise, metrics.startMethod("readDescriptorForCharacteristic"));
+        scheduleAttributeGattOperation(deviceIdOfCharacteristic(characteristicIdentifier), transactionId,
+                new GattOperationScheduler.Call<Descriptor>() {
+                    @Override
+                    public void call(@NonNull OnSuccessCallback<Descriptor> onSuccessCallback,
+                                     @NonNull OnErrorCallback onErrorCallback) {
+                        bleAdapter.readDescriptorForCharacteristic(
+                                characteristicIdentifier, descriptorUUID, transactionId,
+                                onSuccessCallback, onErrorCallback);
+                    }
+                },
                 new OnSuccessCallback<Descriptor>() {
                     @Override
                     public void onSuccess(Descriptor descriptor) {
-                        promise.resolve(descriptorConverter.toJSObject(descriptor));
+                        safePromise.resolve(descriptorConverter.toJSObject(descriptor));
                     }
                 },
                 new OnErrorCallback() {
                     @Override
                     public void onError(BleError bleError) {
-                        promise.reject(null, errorConverter.toJs(bleError));
+                        safePromise.reject(null, errorConverter.toJs(bleError));
                     }
                 });
     }
@@ -800,19 +2653,27 @@ public class BleClientManager extends ReactContextBaseJavaModule {
     public void readDescriptor(final int descriptorIdentifier,
                                final String transactionId,
                                final Promise promise) {
-        bleAdapter.readDescriptor(
-                descriptorIdentifier,
-                transactionId,
+        final SafePromise safePromise = new SafePromise(promise, metrics.startMethod("readDescriptor"));
+        scheduleAttributeGattOperation(deviceIdOfDescriptor(descriptorIdentifier), transactionId,
+                new GattOperationScheduler.Call<Descriptor>() {
+                    @Override
+                    public void call(@NonNull OnSuccessCallback<Descriptor> onSuccessCallback,
+                                     @NonNull OnErrorCallback onErrorCallback) {
+                        bleAdapter.readDescriptor(
+                                descriptorIdentifier, transactionId,
+                                onSuccessCallback, onErrorCallback);
+                    }
+                },
                 new OnSuccessCallback<Descriptor>() {
                     @Override
                     public void onSuccess(Descriptor descriptor) {
-                        promise.resolve(descriptorConverter.toJSObject(descriptor));
+                        safePromise.resolve(descriptorConverter.toJSObject(descriptor));
                     }
                 },
                 new OnErrorCallback() {
                     @Override
                     public void onError(BleError bleError) {
-                        promise.reject(null, errorConverter.toJs(bleError));
+                        safePromise.reject(null, errorConverter.toJs(bleError));
                     }
                 });
     }
@@ -825,23 +2686,36 @@ public class BleClientManager extends ReactContextBaseJavaModule {
                                          final String valueBase64,
                                          final String transactionId,
                                          final Promise promise) {
-        bleAdapter.writeDescriptorForDevice(
-                deviceId,
-                serviceUUID,
-                characteristicUUID,
-                descriptorUUID,
-                valueBase64,
-                transactionId,
+        if (deferUntilDeviceReady(deviceId, new Runnable() {
+            @Override
+            public void run() {
+                writeDescriptorForDevice(deviceId, serviceUUID, characteristicUUID, descriptorUUID, valueBase64,
+                        transactionId, promise);
+            }
+        })) {
+            return;
+        }
+        final SafePromise safePromise = new SafePromise(promise, metrics.startMethod("writeDescriptorForDevice"));
+        scheduleGattOperation(deviceId, transactionId,
+                new GattOperationScheduler.Call<Descriptor>() {
+                    @Override
+                    public void call(@NonNull OnSuccessCallback<Descriptor> onSuccessCallback,
+                                     @NonNull OnErrorCallback onErrorCallback) {
+                        bleAdapter.writeDescriptorForDevice(
+                                deviceId, serviceUUID, characteristicUUID, descriptorUUID, valueBase64, transactionId,
+                                onSuccessCallback, onErrorCallback);
+                    }
+                },
                 new OnSuccessCallback<Descriptor>() {
                     @Override
                     public void onSuccess(Descriptor descriptor) {
-                        promise.resolve(descriptorConverter.toJSObject(descriptor));
+                        safePromise.resolve(descriptorConverter.toJSObject(descriptor));
                     }
                 },
                 new OnErrorCallback() {
                     @Override
                     public void onError(BleError bleError) {
-                        promise.reject(null, errorConverter.toJs(bleError));
+                        safePromise.reject(null, errorConverter.toJs(bleError));
                     }
                 }
         );
@@ -854,22 +2728,27 @@ public class BleClientManager extends ReactContextBaseJavaModule {
                                           final String valueBase64,
                                           final String transactionId,
                                           final Promise promise) {
-        bleAdapter.writeDescriptorForService(
-                serviceIdentifier,
-                characteristicUUID,
-                descriptorUUID,
-                valueBase64,
-                transactionId,
+        final SafePromise safePromise = new SafePromise(promise, metrics.startMethod("writeDescriptorForService"));
+        scheduleAttributeGattOperation(deviceIdOfService(serviceIdentifier), transactionId,
+                new GattOperationScheduler.Call<Descriptor>() {
+                    @Override
+                    public void call(@NonNull OnSuccessCallback<Descriptor> onSuccessCallback,
+                                     @NonNull OnErrorCallback onErrorCallback) {
+                        bleAdapter.writeDescriptorForService(
+                                serviceIdentifier, characteristicUUID, descriptorUUID, valueBase64, transactionId,
+                                onSuccessCallback, onErrorCallback);
+                    }
+                },
                 new OnSuccessCallback<Descriptor>() {
                     @Override
                     public void onSuccess(Descriptor descriptor) {
-                        promise.resolve(descriptorConverter.toJSObject(descriptor));
+                        safePromise.resolve(descriptorConverter.toJSObject(descriptor));
                     }
                 },
                 new OnErrorCallback() {
                     @Override
                     public void onError(BleError bleError) {
-                        promise.reject(null, errorConverter.toJs(bleError));
+                        safePromise.reject(null, errorConverter.toJs(bleError));
                     }
                 }
         );
@@ -881,21 +2760,28 @@ public class BleClientManager extends ReactContextBaseJavaModule {
                                                  final String valueBase64,
                                                  final String transactionId,
                                                  final Promise promise) {
-        bleAdapter.writeDescriptorForCharacteristic(
-                characteristicIdentifier,
-                descriptorUUID,
-                valueBase64,
-                transactionId,
+        final SafePromise safePromise =
+                new SafePromise(promise, metrics.startMethod("writeDescriptorForCharacteristic"));
+        scheduleAttributeGattOperation(deviceIdOfCharacteristic(characteristicIdentifier), transactionId,
+                new GattOperationScheduler.Call<Descriptor>() {
+                    @Override
+                    public void call(@NonNull OnSuccessCallback<Descriptor> onSuccessCallback,
+                                     @NonNull OnErrorCallback onErrorCallback) {
+                        bleAdapter.writeDescriptorForCharacteristic(
+                                characteristicIdentifier, descriptorUUID, valueBase64, transactionId,
+                                onSuccessCallback, onErrorCallback);
+                    }
+                },
                 new OnSuccessCallback<Descriptor>() {
                     @Override
                     public void onSuccess(Descriptor descriptor) {
-                        promise.resolve(descriptorConverter.toJSObject(descriptor));
+                        safePromise.resolve(descriptorConverter.toJSObject(descriptor));
                     }
                 },
                 new OnErrorCallback() {
                     @Override
                     public void onError(BleError bleError) {
-                        promise.reject(null, errorConverter.toJs(bleError));
+                        safePromise.reject(null, errorConverter.toJs(bleError));
                     }
                 }
         );
@@ -906,28 +2792,174 @@ public class BleClientManager extends ReactContextBaseJavaModule {
                                 final String valueBase64,
                                 final String transactionId,
                                 final Promise promise) {
-        bleAdapter.writeDescriptor(
-                descriptorIdentifier,
-                valueBase64,
-                transactionId,
+        final SafePromise safePromise = new SafePromise(promise, metrics.startMethod("writeDescriptor"));
+        scheduleAttributeGattOperation(deviceIdOfDescriptor(descriptorIdentifier), transactionId,
+                new GattOperationScheduler.Call<Descriptor>() {
+                    @Override
+                    public void call(@NonNull OnSuccessCallback<Descriptor> onSuccessCallback,
+                                     @NonNull OnErrorCallback onErrorCallback) {
+                        bleAdapter.writeDescriptor(
+                                descriptorIdentifier, valueBase64, transactionId,
+                                onSuccessCallback, onErrorCallback);
+                    }
+                },
                 new OnSuccessCallback<Descriptor>() {
                     @Override
                     public void onSuccess(Descriptor descriptor) {
-                        promise.resolve(descriptorConverter.toJSObject(descriptor));
+                        safePromise.resolve(descriptorConverter.toJSObject(descriptor));
                     }
                 },
                 new OnErrorCallback() {
                     @Override
                     public void onError(BleError bleError) {
-                        promise.reject(null, errorConverter.toJs(bleError));
+                        safePromise.reject(null, errorConverter.toJs(bleError));
                     }
                 }
         );
     }
 
+    /**
+     * Converts characteristic passed as a result of read or monitor operation. When value only payloads are enabled
+     * characteristics contain all their metadata until JS acknowledges that it cached them.
+     */
+    private WritableMap valueCharacteristicToJs(Characteristic characteristic) {
+        if (characteristicValueOnlyPayloads
+                && acknowledgedCharacteristicDeviceIds.containsKey(characteristic.getId())) {
+            return characteristicConverter.toValueOnlyJSObject(characteristic);
+        }
+        return characteristicConverter.toJSObject(characteristic);
+    }
+
     private void sendEvent(@NonNull Event event, @Nullable Object params) {
+        sendEvent(event, params, 1);
+    }
+
+    /**
+     * @param itemCount Number of scan results, values or other items the event carries, reported as its payload size.
+     */
+    private void sendEvent(@NonNull Event event, @Nullable Object params, int itemCount) {
+        metrics.onEventSent(event.name, itemCount);
+        final EventBatcher<PendingEvent> batcher = emitBatcher;
+        if (batcher == null) {
+            emit(event.name, params);
+            return;
+        }
+        batcher.add(new PendingEvent(event, params));
+        if (event == Event.StateChangeEvent || event == Event.DisconnectionEvent) {
+            batchScheduler.execute(new Runnable() {
+                @Override
+                public void run() {
+                    batcher.flush();
+                }
+            });
+        }
+    }
+
+    /**
+     * Emits collected events as a MultiplexedEvent with an array of [event name, payload] pairs. A single event is
+     * emitted as is.
+     */
+    private void emitMultiplexed(List<PendingEvent> events) {
+        if (events.size() == 1) {
+            emit(events.get(0).event.name, events.get(0).params);
+            return;
+        }
+        WritableArray jsEvents = Arguments.createArray();
+        for (PendingEvent pendingEvent : events) {
+            WritableArray jsEvent = Arguments.createArray();
+            jsEvent.pushString(pendingEvent.event.name);
+            pushParams(jsEvent, pendingEvent.params);
+            jsEvents.pushArray(jsEvent);
+        }
+        metrics.onEventSent(Event.MultiplexedEvent.name, events.size());
+        emit(Event.MultiplexedEvent.name, jsEvents);
+    }
+
+    /**
+     * Pushes event payload to an array, accepting the same types as events emitted one by one.
+     *
+     * @throws IllegalArgumentException when the payload can't be passed to JS.
+     */
+    private static void pushParams(WritableArray array, @Nullable Object params) {
+        if (params == null) {
+            array.pushNull();
+        } else if (params instanceof WritableArray) {
+            array.pushArray((WritableArray) params);
+        } else if (params instanceof WritableMap) {
+            array.pushMap((WritableMap) params);
+        } else if (params instanceof String) {
+            array.pushString((String) params);
+        } else if (params instanceof Boolean) {
+            array.pushBoolean((Boolean) params);
+        } else if (params instanceof Integer) {
+            array.pushInt((Integer) params);
+        } else if (params instanceof Number) {
+            array.pushDouble(((Number) params).doubleValue());
+        } else {
+            throw new IllegalArgumentException("Unsupported event payload: " + params.getClass().getName());
+        }
+    }
+
+    private void emit(@NonNull String eventName, @Nullable Object params) {
         getReactApplicationContext()
                 .getJSModule(DeviceEventManagerModule.RCTDeviceEventEmitter.class)
-                .emit(event.name, params);
+                .emit(eventName, params);
+    }
+
+    private static class PendingEvent {
+        final Event event;
+        @Nullable
+        final Object params;
+
+        PendingEvent(Event event, @Nullable Object params) {
+            this.event = event;
+            this.params = params;
+        }
+    }
+
+    private static class MonitorToRestore {
+        final Runnable monitor;
+        final SafePromise promise;
+        final BleError error;
+
+        MonitorToRestore(Runnable monitor, SafePromise promise, BleError error) {
+            this.monitor = monitor;
+            this.promise = promise;
+            this.error = error;
+        }
+    }
+
+    /**
+     * Keeps a device from eviction from the connection pool until an operation on it ends.
+     */
+    private class DeviceUse {
+        @Nullable
+        private final String deviceId;
+        // Pool the use was started in, the pool is replaced when a new client is created
+        private final ConnectionPool pool = connectionPool;
+        private final AtomicBoolean isEnded = new AtomicBoolean(false);
+
+        DeviceUse(@Nullable String deviceId) {
+            this.deviceId = deviceId;
+            if (deviceId != null) {
+                pool.beginUse(deviceId);
+            }
+        }
+
+        void end() {
+            if (deviceId != null && isEnded.compareAndSet(false, true)) {
+                pool.endUse(deviceId);
+            }
+        }
+    }
+
+    private static class TransactionPriority {
+        final GattOperationScheduler.Priority priority;
+        final long deadlineMs;
+
+        TransactionPriority(GattOperationScheduler.Priority priority, long deadlineMs) {
+            this.priority = priority;
+            this.deadlineMs = deadlineMs;
+        }
     }
 }
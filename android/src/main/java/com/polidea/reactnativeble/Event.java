@@ -3,10 +3,18 @@ package com.polidea.reactnativeble;
 public enum Event {
 
     ScanEvent("ScanEvent"),
+    ScanBatchEvent("ScanBatchEvent"),
+    ScanSnapshotEvent("ScanSnapshotEvent"),
     ReadEvent("ReadEvent"),
+    WriteProgressEvent("WriteProgressEvent"),
     StateChangeEvent("StateChangeEvent"),
     RestoreStateEvent("RestoreStateEvent"),
-    DisconnectionEvent("DisconnectionEvent");
+    DisconnectionEvent("DisconnectionEvent"),
+    GattLayoutChangedEvent("GattLayoutChangedEvent"),
+    BatchConnectionEvent("BatchConnectionEvent"),
+    ReconnectionEvent("ReconnectionEvent"),
+    MetricsEvent("MetricsEvent"),
+    MultiplexedEvent("MultiplexedEvent");
 
     public String name;
 
@@ -0,0 +1,100 @@
+package com.polidea.reactnativeble.cache;
+
+import androidx.annotation.NonNull;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Identifier independent layout of services, characteristics and descriptors discovered on a device.
+ */
+public class GattLayout {
+
+    public static final int PROPERTY_READABLE = 1;
+    public static final int PROPERTY_WRITABLE_WITH_RESPONSE = 1 << 1;
+    public static final int PROPERTY_WRITABLE_WITHOUT_RESPONSE = 1 << 2;
+    public static final int PROPERTY_NOTIFIABLE = 1 << 3;
+    public static final int PROPERTY_INDICATABLE = 1 << 4;
+
+    public final String deviceId;
+    public final String versionTag;
+    public final List<ServiceLayout> services;
+
+    public GattLayout(@NonNull String deviceId, @NonNull String versionTag, @NonNull List<ServiceLayout> services) {
+        this.deviceId = deviceId;
+        this.versionTag = versionTag;
+        this.services = Collections.unmodifiableList(services);
+    }
+
+    /**
+     * Layouts are equal when they describe the same attributes, regardless of device and version tag.
+     */
+    public boolean hasSameAttributes(@NonNull GattLayout other) {
+        return services.equals(other.services);
+    }
+
+    public static class ServiceLayout {
+        public final UUID uuid;
+        public final boolean isPrimary;
+        public final List<CharacteristicLayout> characteristics;
+
+        public ServiceLayout(@NonNull UUID uuid, boolean isPrimary, @NonNull List<CharacteristicLayout> characteristics) {
+            this.uuid = uuid;
+            this.isPrimary = isPrimary;
+            this.characteristics = Collections.unmodifiableList(characteristics);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (!(o instanceof ServiceLayout)) return false;
+            ServiceLayout that = (ServiceLayout) o;
+            return isPrimary == that.isPrimary
+                    && uuid.equals(that.uuid)
+                    && characteristics.equals(that.characteristics);
+        }
+
+        @Override
+        public int hashCode() {
+            int result = uuid.hashCode();
+            result = 31 * result + (isPrimary ? 1 : 0);
+            result = 31 * result + characteristics.hashCode();
+            return result;
+        }
+    }
+
+    public static class CharacteristicLayout {
+        public final UUID uuid;
+        public final int properties;
+        public final List<UUID> descriptors;
+
+        public CharacteristicLayout(@NonNull UUID uuid, int properties, @NonNull List<UUID> descriptors) {
+            this.uuid = uuid;
+            this.properties = properties;
+            this.descriptors = Collections.unmodifiableList(descriptors);
+        }
+
+        public boolean hasProperty(int property) {
+            return (properties & property) != 0;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (!(o instanceof CharacteristicLayout)) return false;
+            CharacteristicLayout that = (CharacteristicLayout) o;
+            return properties == that.properties
+                    && uuid.equals(that.uuid)
+                    && descriptors.equals(that.descriptors);
+        }
+
+        @Override
+        public int hashCode() {
+            int result = uuid.hashCode();
+            result = 31 * result + properties;
+            result = 31 * result + descriptors.hashCode();
+            return result;
+        }
+    }
+}
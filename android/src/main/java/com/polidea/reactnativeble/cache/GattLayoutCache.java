@@ -0,0 +1,264 @@
+package com.polidea.reactnativeble.cache;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Persists discovered {@link GattLayout}s, one file per device. An entry is returned only when it was stored
+ * with the same version tag as the requested one. When the number of entries exceeds the limit, the least
+ * recently used ones are removed.
+ */
+public class GattLayoutCache {
+
+    static final int MAGIC = 0x424c4743; // "BLGC"
+    static final int FORMAT_VERSION = 1;
+    static final String FILE_EXTENSION = ".gatt";
+
+    private final File directory;
+    private final int maxEntries;
+
+    // Last access times of entries by device ids, loaded lazily from file modification times
+    @Nullable
+    private Map<String, Long> accessTimes;
+    private long lastAccessTime = 0;
+
+    /**
+     * @param directory  Directory holding cache files. It is created when the first entry is stored.
+     * @param maxEntries Maximum number of devices kept in the cache.
+     */
+    public GattLayoutCache(@NonNull File directory, int maxEntries) {
+        if (maxEntries <= 0) {
+            throw new IllegalArgumentException("maxEntries must be positive");
+        }
+        this.directory = directory;
+        this.maxEntries = maxEntries;
+    }
+
+    /**
+     * Returns cached layout of a device or null when there is none or it was stored for other version tag.
+     * Unreadable entries and entries with other version tag are removed.
+     */
+    @Nullable
+    public synchronized GattLayout get(@NonNull String deviceId, @NonNull String versionTag) {
+        File file = fileFor(deviceId);
+        if (!file.isFile()) {
+            return null;
+        }
+        GattLayout layout;
+        try {
+            layout = read(file);
+        } catch (IOException e) {
+            layout = null;
+        }
+        if (layout == null || !layout.deviceId.equals(deviceId) || !layout.versionTag.equals(versionTag)) {
+            remove(deviceId);
+            return null;
+        }
+        touch(deviceId, file);
+        return layout;
+    }
+
+    public synchronized void put(@NonNull GattLayout layout) throws IOException {
+        if (!directory.isDirectory() && !directory.mkdirs()) {
+            throw new IOException("Cannot create cache directory " + directory);
+        }
+        File file = fileFor(layout.deviceId);
+        File temporaryFile = new File(directory, file.getName() + ".tmp");
+        DataOutputStream output = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(temporaryFile)));
+        try {
+            write(layout, output);
+        } finally {
+            output.close();
+        }
+        if (!temporaryFile.renameTo(file)) {
+            //noinspection ResultOfMethodCallIgnored
+            temporaryFile.delete();
+            throw new IOException("Cannot replace cache file " + file);
+        }
+        touch(layout.deviceId, file);
+        evictLeastRecentlyUsed();
+    }
+
+    public synchronized void remove(@NonNull String deviceId) {
+        //noinspection ResultOfMethodCallIgnored
+        fileFor(deviceId).delete();
+        getAccessTimes().remove(deviceId);
+    }
+
+    public synchronized void clear() {
+        for (File file : listCacheFiles()) {
+            //noinspection ResultOfMethodCallIgnored
+            file.delete();
+        }
+        getAccessTimes().clear();
+    }
+
+    public synchronized int size() {
+        return getAccessTimes().size();
+    }
+
+    // Storage format --------------------------------------------------------------------------------
+
+    static void write(@NonNull GattLayout layout, @NonNull DataOutputStream output) throws IOException {
+        output.writeInt(MAGIC);
+        output.writeByte(FORMAT_VERSION);
+        output.writeUTF(layout.deviceId);
+        output.writeUTF(layout.versionTag);
+        output.writeInt(layout.services.size());
+        for (GattLayout.ServiceLayout service : layout.services) {
+            writeUUID(service.uuid, output);
+            output.writeBoolean(service.isPrimary);
+            output.writeInt(service.characteristics.size());
+            for (GattLayout.CharacteristicLayout characteristic : service.characteristics) {
+                writeUUID(characteristic.uuid, output);
+                output.writeInt(characteristic.properties);
+                output.writeInt(characteristic.descriptors.size());
+                for (UUID descriptor : characteristic.descriptors) {
+                    writeUUID(descriptor, output);
+                }
+            }
+        }
+    }
+
+    /**
+     * Reads layout written by {@link #write(GattLayout, DataOutputStream)}. Returns null for data written in
+     * other format version.
+     */
+    @Nullable
+    static GattLayout read(@NonNull DataInputStream input) throws IOException {
+        if (input.readInt() != MAGIC || input.readUnsignedByte() != FORMAT_VERSION) {
+            return null;
+        }
+        String deviceId = input.readUTF();
+        String versionTag = input.readUTF();
+        int serviceCount = readCount(input);
+        List<GattLayout.ServiceLayout> services = new ArrayList<>(serviceCount);
+        for (int i = 0; i < serviceCount; i++) {
+            UUID serviceUUID = readUUID(input);
+            boolean isPrimary = input.readBoolean();
+            int characteristicCount = readCount(input);
+            List<GattLayout.CharacteristicLayout> characteristics = new ArrayList<>(characteristicCount);
+            for (int j = 0; j < characteristicCount; j++) {
+                UUID characteristicUUID = readUUID(input);
+                int properties = input.readInt();
+                int descriptorCount = readCount(input);
+                List<UUID> descriptors = new ArrayList<>(descriptorCount);
+                for (int k = 0; k < descriptorCount; k++) {
+                    descriptors.add(readUUID(input));
+                }
+                characteristics.add(new GattLayout.CharacteristicLayout(characteristicUUID, properties, descriptors));
+            }
+            services.add(new GattLayout.ServiceLayout(serviceUUID, isPrimary, characteristics));
+        }
+        return new GattLayout(deviceId, versionTag, services);
+    }
+
+    private static GattLayout read(File file) throws IOException {
+        DataInputStream input = new DataInputStream(new BufferedInputStream(new FileInputStream(file)));
+        try {
+            return read(input);
+        } finally {
+            input.close();
+        }
+    }
+
+    private static void writeUUID(UUID uuid, DataOutputStream output) throws IOException {
+        output.writeLong(uuid.getMostSignificantBits());
+        output.writeLong(uuid.getLeastSignificantBits());
+    }
+
+    private static UUID readUUID(DataInputStream input) throws IOException {
+        return new UUID(input.readLong(), input.readLong());
+    }
+
+    private static int readCount(DataInputStream input) throws IOException {
+        int count = input.readInt();
+        // Attribute handles are 16 bit, so there can't be more attributes than that in a valid entry.
+        if (count < 0 || count > 0xffff) {
+            throw new IOException("Invalid attribute count " + count);
+        }
+        return count;
+    }
+
+    // Entries ---------------------------------------------------------------------------------------
+
+    File fileFor(String deviceId) {
+        StringBuilder name = new StringBuilder(deviceId.length() + FILE_EXTENSION.length());
+        for (int i = 0; i < deviceId.length(); i++) {
+            char c = deviceId.charAt(i);
+            name.append(Character.isLetterOrDigit(c) || c == '-' ? c : '_');
+        }
+        return new File(directory, name.append(FILE_EXTENSION).toString());
+    }
+
+    private void touch(String deviceId, File file) {
+        // Access times are kept strictly increasing as file systems may store modification times in seconds.
+        lastAccessTime = Math.max(System.currentTimeMillis(), lastAccessTime + 1);
+        getAccessTimes().put(deviceId, lastAccessTime);
+        //noinspection ResultOfMethodCallIgnored
+        file.setLastModified(lastAccessTime);
+    }
+
+    private void evictLeastRecentlyUsed() {
+        Map<String, Long> times = getAccessTimes();
+        while (times.size() > maxEntries) {
+            String oldestDeviceId = null;
+            long oldestTime = Long.MAX_VALUE;
+            for (Map.Entry<String, Long> entry : times.entrySet()) {
+                if (entry.getValue() < oldestTime) {
+                    oldestTime = entry.getValue();
+                    oldestDeviceId = entry.getKey();
+                }
+            }
+            remove(oldestDeviceId);
+        }
+    }
+
+    private Map<String, Long> getAccessTimes() {
+        if (accessTimes == null) {
+            accessTimes = new HashMap<>();
+            for (File file : listCacheFiles()) {
+                try {
+                    GattLayout layout = read(file);
+                    if (layout != null) {
+                        accessTimes.put(layout.deviceId, file.lastModified());
+                        lastAccessTime = Math.max(lastAccessTime, file.lastModified());
+                        continue;
+                    }
+                } catch (IOException e) {
+                    // Unreadable entries are removed below.
+                }
+                //noinspection ResultOfMethodCallIgnored
+                file.delete();
+            }
+        }
+        return accessTimes;
+    }
+
+    private List<File> listCacheFiles() {
+        List<File> files = new ArrayList<>();
+        File[] children = directory.listFiles();
+        if (children != null) {
+            for (File child : children) {
+                if (child.isFile() && child.getName().endsWith(FILE_EXTENSION)) {
+                    files.add(child);
+                }
+            }
+        }
+        return files;
+    }
+}
@@ -0,0 +1,193 @@
+package com.polidea.reactnativeble.connection;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+import com.polidea.multiplatformbleadapter.ConnectionOptions;
+import com.polidea.multiplatformbleadapter.Device;
+import com.polidea.multiplatformbleadapter.OnErrorCallback;
+import com.polidea.multiplatformbleadapter.OnSuccessCallback;
+import com.polidea.multiplatformbleadapter.errors.BleError;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Connects again devices which were disconnected unexpectedly, without waiting for JS to do it. Attempts are
+ * scheduled according to a {@link ReconnectPolicy} registered for a device when it was connected.
+ */
+public class AutoReconnect {
+
+    public interface Connector {
+        void connect(@NonNull String deviceId,
+                     @NonNull ConnectionOptions options,
+                     @NonNull OnSuccessCallback<Device> onSuccessCallback,
+                     @NonNull OnErrorCallback onErrorCallback);
+    }
+
+    public interface Listener {
+        void onReconnected(@NonNull String deviceId, @NonNull Device device, int attempts);
+
+        void onReconnectFailed(@NonNull String deviceId, @NonNull BleError error, int attempts);
+    }
+
+    private final Connector connector;
+    private final Listener listener;
+    private final ScheduledExecutorService scheduler;
+    private final Random random;
+
+    private final Map<String, Entry> entries = new HashMap<>();
+
+    public AutoReconnect(@NonNull Connector connector,
+                         @NonNull Listener listener,
+                         @NonNull ScheduledExecutorService scheduler,
+                         @NonNull Random random) {
+        this.connector = connector;
+        this.listener = listener;
+        this.scheduler = scheduler;
+        this.random = random;
+    }
+
+    /**
+     * Reconnects a device with passed options whenever it's disconnected unexpectedly. Replaces previous policy of
+     * the device and stops its pending reconnection.
+     */
+    public synchronized void enable(@NonNull String deviceId,
+                                    @NonNull ReconnectPolicy policy,
+                                    @NonNull ConnectionOptions options) {
+        disable(deviceId);
+        entries.put(deviceId, new Entry(policy, options));
+    }
+
+    /**
+     * Stops reconnecting a device, e.g. because it was disconnected on purpose.
+     */
+    public synchronized void disable(@NonNull String deviceId) {
+        Entry entry = entries.remove(deviceId);
+        if (entry != null && entry.scheduledAttempt != null) {
+            entry.scheduledAttempt.cancel(false);
+        }
+    }
+
+    @Nullable
+    public synchronized ReconnectPolicy getPolicy(@NonNull String deviceId) {
+        Entry entry = entries.get(deviceId);
+        return entry != null ? entry.policy : null;
+    }
+
+    public synchronized boolean isReconnecting(@NonNull String deviceId) {
+        Entry entry = entries.get(deviceId);
+        return entry != null && entry.isReconnecting;
+    }
+
+    /**
+     * Starts reconnecting a device if it has a policy and isn't reconnected already.
+     *
+     * @return Whether the device is being reconnected.
+     */
+    public boolean onDisconnected(@NonNull String deviceId) {
+        synchronized (this) {
+            Entry entry = entries.get(deviceId);
+            if (entry == null) {
+                return false;
+            }
+            if (entry.isReconnecting) {
+                // Failed attempts report disconnections too.
+                return true;
+            }
+            entry.isReconnecting = true;
+            entry.attempts = 0;
+        }
+        scheduleNextAttempt(deviceId, null);
+        return true;
+    }
+
+    public synchronized void clear() {
+        for (Entry entry : entries.values()) {
+            if (entry.scheduledAttempt != null) {
+                entry.scheduledAttempt.cancel(false);
+            }
+        }
+        entries.clear();
+    }
+
+    /**
+     * Schedules next attempt or reports failure when all attempts were made. Error is passed after failed attempts.
+     */
+    private void scheduleNextAttempt(final String deviceId, @Nullable BleError lastError) {
+        final Entry entry;
+        int attempts;
+        synchronized (this) {
+            entry = entries.get(deviceId);
+            if (entry == null) {
+                return;
+            }
+            attempts = entry.attempts;
+            if (attempts < entry.policy.maxAttempts) {
+                long delayMs = entry.policy.delayBeforeAttempt(attempts + 1, random.nextDouble());
+                entry.scheduledAttempt = scheduler.schedule(new Runnable() {
+                    @Override
+                    public void run() {
+                        attempt(deviceId, entry);
+                    }
+                }, delayMs, TimeUnit.MILLISECONDS);
+                return;
+            }
+            // Policy is dropped with the last attempt. Connecting to the device from JS registers it again.
+            entries.remove(deviceId);
+        }
+        listener.onReconnectFailed(deviceId, lastError, attempts);
+    }
+
+    private void attempt(final String deviceId, final Entry entry) {
+        synchronized (this) {
+            if (entries.get(deviceId) != entry) {
+                return;
+            }
+            entry.scheduledAttempt = null;
+            entry.attempts++;
+        }
+        connector.connect(deviceId, entry.options, new OnSuccessCallback<Device>() {
+            @Override
+            public void onSuccess(Device data) {
+                int attempts;
+                synchronized (AutoReconnect.this) {
+                    if (entries.get(deviceId) != entry) {
+                        return;
+                    }
+                    entry.isReconnecting = false;
+                    attempts = entry.attempts;
+                }
+                listener.onReconnected(deviceId, data, attempts);
+            }
+        }, new OnErrorCallback() {
+            @Override
+            public void onError(BleError error) {
+                synchronized (AutoReconnect.this) {
+                    if (entries.get(deviceId) != entry) {
+                        return;
+                    }
+                }
+                scheduleNextAttempt(deviceId, error);
+            }
+        });
+    }
+
+    private static class Entry {
+        final ReconnectPolicy policy;
+        final ConnectionOptions options;
+        boolean isReconnecting = false;
+        int attempts = 0;
+        @Nullable
+        ScheduledFuture<?> scheduledAttempt;
+
+        Entry(ReconnectPolicy policy, ConnectionOptions options) {
+            this.policy = policy;
+            this.options = options;
+        }
+    }
+}
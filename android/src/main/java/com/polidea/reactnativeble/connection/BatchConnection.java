@@ -0,0 +1,240 @@
+package com.polidea.reactnativeble.connection;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+import com.polidea.multiplatformbleadapter.Device;
+import com.polidea.multiplatformbleadapter.OnErrorCallback;
+import com.polidea.multiplatformbleadapter.OnSuccessCallback;
+import com.polidea.multiplatformbleadapter.errors.BleError;
+import com.polidea.multiplatformbleadapter.errors.BleErrorCode;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Connects to a list of devices and discovers their attributes with limited concurrency. Failed devices are retried
+ * after a delay at the end of the queue, so that they don't hold back the remaining ones. Result of every device is
+ * reported as soon as it is known and the operation finishes with results of all devices in the passed order.
+ */
+public class BatchConnection {
+
+    public interface DeviceConnector {
+        /**
+         * Connects to a device, when it isn't connected yet, and discovers its attributes.
+         */
+        void connect(@NonNull String deviceId,
+                     @NonNull String attemptTransactionId,
+                     @NonNull OnSuccessCallback<Device> onSuccessCallback,
+                     @NonNull OnErrorCallback onErrorCallback);
+
+        void cancel(@NonNull String deviceId, @NonNull String attemptTransactionId);
+    }
+
+    public interface OnDeviceResultCallback {
+        void onDeviceResult(@NonNull Result result);
+    }
+
+    public static class Result {
+        public final String deviceId;
+        @Nullable
+        public final Device device;
+        @Nullable
+        public final BleError error;
+        public final int attempts;
+
+        Result(String deviceId, @Nullable Device device, @Nullable BleError error, int attempts) {
+            this.deviceId = deviceId;
+            this.device = device;
+            this.error = error;
+            this.attempts = attempts;
+        }
+    }
+
+    private final List<String> deviceIds;
+    private final int concurrency;
+    private final int maxAttempts;
+    private final long retryDelayMs;
+    private final String transactionId;
+    private final ScheduledExecutorService scheduler;
+    private final DeviceConnector deviceConnector;
+    private final OnDeviceResultCallback onDeviceResultCallback;
+    private final OnSuccessCallback<List<Result>> onSuccessCallback;
+
+    private final Result[] results;
+    private final int[] attempts;
+    private final ArrayDeque<Integer> queuedDevices = new ArrayDeque<>();
+    private final Map<Integer, ScheduledFuture<?>> scheduledRetries = new HashMap<>();
+    private final Map<Integer, String> devicesInFlight = new HashMap<>();
+    private int remainingDevices;
+    private boolean isFinished = false;
+
+    /**
+     * @param deviceIds              Devices to connect to.
+     * @param concurrency            Maximum number of devices connected at once.
+     * @param maxAttempts            Maximum number of connection attempts of a single device.
+     * @param retryDelayMs           Time in milliseconds after which a failed device is queued again.
+     * @param transactionId          Transaction id used to derive ids of particular connection attempts.
+     * @param scheduler              Scheduler of retries.
+     * @param deviceConnector        Performs a single connection attempt.
+     * @param onDeviceResultCallback Called with a final result of every device.
+     * @param onSuccessCallback      Called once with results of all devices in the order of passed device ids.
+     */
+    public BatchConnection(@NonNull List<String> deviceIds,
+                           int concurrency,
+                           int maxAttempts,
+                           long retryDelayMs,
+                           @NonNull String transactionId,
+                           @NonNull ScheduledExecutorService scheduler,
+                           @NonNull DeviceConnector deviceConnector,
+                           @NonNull OnDeviceResultCallback onDeviceResultCallback,
+                           @NonNull OnSuccessCallback<List<Result>> onSuccessCallback) {
+        this.deviceIds = deviceIds;
+        this.concurrency = Math.max(1, concurrency);
+        this.maxAttempts = Math.max(1, maxAttempts);
+        this.retryDelayMs = Math.max(0, retryDelayMs);
+        this.transactionId = transactionId;
+        this.scheduler = scheduler;
+        this.deviceConnector = deviceConnector;
+        this.onDeviceResultCallback = onDeviceResultCallback;
+        this.onSuccessCallback = onSuccessCallback;
+        this.results = new Result[deviceIds.size()];
+        this.attempts = new int[deviceIds.size()];
+        this.remainingDevices = deviceIds.size();
+        for (int i = 0; i < deviceIds.size(); i++) {
+            queuedDevices.addLast(i);
+        }
+    }
+
+    public void start() {
+        dispatch();
+    }
+
+    /**
+     * Stops connecting to remaining devices. Devices which don't have their results yet finish with
+     * {@link BleErrorCode#OperationCancelled}.
+     */
+    public void cancel() {
+        Map<Integer, String> cancelledAttempts;
+        List<Result> cancelledResults = new ArrayList<>();
+        synchronized (this) {
+            if (isFinished) {
+                return;
+            }
+            cancelledAttempts = new HashMap<>(devicesInFlight);
+            devicesInFlight.clear();
+            for (ScheduledFuture<?> retry : scheduledRetries.values()) {
+                retry.cancel(false);
+            }
+            scheduledRetries.clear();
+            queuedDevices.clear();
+            for (int i = 0; i < results.length; i++) {
+                if (results[i] == null) {
+                    BleError error = new BleError(BleErrorCode.OperationCancelled, "Connection was cancelled", null);
+                    error.deviceID = deviceIds.get(i);
+                    results[i] = new Result(deviceIds.get(i), null, error, attempts[i]);
+                    cancelledResults.add(results[i]);
+                }
+            }
+            remainingDevices = 0;
+        }
+        for (Map.Entry<Integer, String> attempt : cancelledAttempts.entrySet()) {
+            deviceConnector.cancel(deviceIds.get(attempt.getKey()), attempt.getValue());
+        }
+        for (Result result : cancelledResults) {
+            onDeviceResultCallback.onDeviceResult(result);
+        }
+        finish();
+    }
+
+    private void dispatch() {
+        Map<Integer, String> attemptsToStart = new HashMap<>();
+        boolean isCompleted;
+        synchronized (this) {
+            while (devicesInFlight.size() < concurrency && !queuedDevices.isEmpty()) {
+                int index = queuedDevices.pollFirst();
+                attempts[index]++;
+                // Retries get their own ids so that late callbacks of earlier attempts can be told apart
+                String attemptTransactionId = transactionId + "#" + index + "." + attempts[index];
+                devicesInFlight.put(index, attemptTransactionId);
+                attemptsToStart.put(index, attemptTransactionId);
+            }
+            isCompleted = remainingDevices == 0;
+        }
+        if (isCompleted) {
+            finish();
+            return;
+        }
+        for (Map.Entry<Integer, String> attempt : attemptsToStart.entrySet()) {
+            connect(attempt.getKey(), attempt.getValue());
+        }
+    }
+
+    private void connect(final int index, final String attemptTransactionId) {
+        deviceConnector.connect(deviceIds.get(index), attemptTransactionId,
+                new OnSuccessCallback<Device>() {
+                    @Override
+                    public void onSuccess(Device data) {
+                        onAttemptFinished(index, attemptTransactionId, data, null);
+                    }
+                }, new OnErrorCallback() {
+                    @Override
+                    public void onError(BleError error) {
+                        onAttemptFinished(index, attemptTransactionId, null, error);
+                    }
+                });
+    }
+
+    private void onAttemptFinished(final int index,
+                                   String attemptTransactionId,
+                                   @Nullable Device device,
+                                   @Nullable BleError error) {
+        Result result = null;
+        synchronized (this) {
+            if (!attemptTransactionId.equals(devicesInFlight.get(index))) {
+                // Attempt was cancelled.
+                return;
+            }
+            devicesInFlight.remove(index);
+            if (error != null && attempts[index] < maxAttempts) {
+                scheduledRetries.put(index, scheduler.schedule(new Runnable() {
+                    @Override
+                    public void run() {
+                        synchronized (BatchConnection.this) {
+                            if (scheduledRetries.remove(index) == null) {
+                                return;
+                            }
+                            queuedDevices.addLast(index);
+                        }
+                        dispatch();
+                    }
+                }, retryDelayMs, TimeUnit.MILLISECONDS));
+            } else {
+                result = new Result(deviceIds.get(index), device, error, attempts[index]);
+                results[index] = result;
+                remainingDevices--;
+            }
+        }
+        if (result != null) {
+            onDeviceResultCallback.onDeviceResult(result);
+        }
+        dispatch();
+    }
+
+    private void finish() {
+        synchronized (this) {
+            if (isFinished) {
+                return;
+            }
+            isFinished = true;
+        }
+        onSuccessCallback.onSuccess(Arrays.asList(results));
+    }
+}
@@ -0,0 +1,435 @@
+package com.polidea.reactnativeble.connection;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+import com.polidea.multiplatformbleadapter.ConnectionOptions;
+import com.polidea.multiplatformbleadapter.Device;
+import com.polidea.multiplatformbleadapter.OnErrorCallback;
+import com.polidea.multiplatformbleadapter.OnSuccessCallback;
+import com.polidea.multiplatformbleadapter.errors.BleError;
+import com.polidea.multiplatformbleadapter.errors.BleErrorCode;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Limits the number of devices connected at once. Connect requests above the limit wait in a queue while the least
+ * recently used idle connection is closed to make room for them. Devices are busy, and never evicted, between
+ * {@link #beginUse(String)} and {@link #endUse(String)} calls, e.g. while they are monitored or operations on them
+ * are in progress. Evicted devices are remembered with their connection options, so that they can be reconnected
+ * when they are used again.
+ */
+public class ConnectionPool {
+
+    public interface Connector {
+        void connect(@NonNull String deviceId,
+                     @NonNull ConnectionOptions options,
+                     @NonNull OnSuccessCallback<Device> onSuccessCallback,
+                     @NonNull OnErrorCallback onErrorCallback);
+
+        void disconnect(@NonNull String deviceId,
+                        @NonNull OnSuccessCallback<Device> onSuccessCallback,
+                        @NonNull OnErrorCallback onErrorCallback);
+    }
+
+    public static class Stats {
+        public final int maxConnections;
+        public final int maxConcurrentConnections;
+        public final int connectedDevices;
+        public final int pendingConnections;
+        public final int queuedConnections;
+        public final int evictedDevices;
+        public final long evictions;
+        public final long reconnections;
+
+        Stats(int maxConnections,
+              int maxConcurrentConnections,
+              int connectedDevices,
+              int pendingConnections,
+              int queuedConnections,
+              int evictedDevices,
+              long evictions,
+              long reconnections) {
+            this.maxConnections = maxConnections;
+            this.maxConcurrentConnections = maxConcurrentConnections;
+            this.connectedDevices = connectedDevices;
+            this.pendingConnections = pendingConnections;
+            this.queuedConnections = queuedConnections;
+            this.evictedDevices = evictedDevices;
+            this.evictions = evictions;
+            this.reconnections = reconnections;
+        }
+    }
+
+    private enum State {
+        CONNECTING,
+        CONNECTED,
+        DISCONNECTING
+    }
+
+    private final Connector connector;
+
+    // 0 means no limit
+    private int maxConnections = 0;
+    private int maxConcurrentConnections = 0;
+
+    private final Map<String, Connection> connections = new HashMap<>();
+    private final ArrayDeque<ConnectRequest> queuedRequests = new ArrayDeque<>();
+    private final Map<String, ConnectionOptions> evictedDevices = new HashMap<>();
+    // Numbers of uses in progress by device ids, kept apart from connections as uses may outlive them
+    private final Map<String, Integer> activeUses = new HashMap<>();
+    private long lastUseTime = 0;
+    private long evictions = 0;
+    private long reconnections = 0;
+
+    public ConnectionPool(@NonNull Connector connector) {
+        this.connector = connector;
+    }
+
+    /**
+     * @param maxConnections           Maximum number of devices connected at once, 0 for no limit.
+     * @param maxConcurrentConnections Maximum number of connections being established at once, 0 for no limit.
+     */
+    public void setLimits(int maxConnections, int maxConcurrentConnections) {
+        synchronized (this) {
+            this.maxConnections = Math.max(0, maxConnections);
+            this.maxConcurrentConnections = Math.max(0, maxConcurrentConnections);
+        }
+        dispatch();
+    }
+
+    public void connect(@NonNull String deviceId,
+                        @NonNull ConnectionOptions options,
+                        @NonNull OnSuccessCallback<Device> onSuccessCallback,
+                        @NonNull OnErrorCallback onErrorCallback) {
+        boolean isTracked;
+        synchronized (this) {
+            evictedDevices.remove(deviceId);
+            Connection connection = connections.get(deviceId);
+            isTracked = connection != null && connection.state != State.DISCONNECTING;
+            if (!isTracked) {
+                queuedRequests.addLast(new ConnectRequest(deviceId, options, onSuccessCallback, onErrorCallback));
+            }
+        }
+        if (isTracked) {
+            // Device already holds a slot, the adapter reports whether it's connected or still connecting.
+            connector.connect(deviceId, options, onSuccessCallback, onErrorCallback);
+            return;
+        }
+        dispatch();
+    }
+
+    /**
+     * Connects again a device evicted from the pool with options passed when it was connected before.
+     */
+    public void reconnect(@NonNull String deviceId,
+                          @NonNull OnSuccessCallback<Device> onSuccessCallback,
+                          @NonNull OnErrorCallback onErrorCallback) {
+        ConnectionOptions options;
+        synchronized (this) {
+            options = evictedDevices.get(deviceId);
+            if (options != null) {
+                reconnections++;
+            }
+        }
+        if (options == null) {
+            BleError error = new BleError(BleErrorCode.DeviceNotConnected, "Device wasn't evicted", null);
+            error.deviceID = deviceId;
+            onErrorCallback.onError(error);
+            return;
+        }
+        connect(deviceId, options, onSuccessCallback, onErrorCallback);
+    }
+
+    /**
+     * Cancels queued connect requests of a device and closes its connection.
+     */
+    public void disconnect(@NonNull final String deviceId,
+                           @NonNull final OnSuccessCallback<Device> onSuccessCallback,
+                           @NonNull final OnErrorCallback onErrorCallback) {
+        List<ConnectRequest> cancelled = new ArrayList<>();
+        synchronized (this) {
+            evictedDevices.remove(deviceId);
+            Iterator<ConnectRequest> iterator = queuedRequests.iterator();
+            while (iterator.hasNext()) {
+                ConnectRequest request = iterator.next();
+                if (request.deviceId.equals(deviceId)) {
+                    iterator.remove();
+                    cancelled.add(request);
+                }
+            }
+        }
+        for (ConnectRequest request : cancelled) {
+            BleError error = new BleError(BleErrorCode.OperationCancelled, "Connection was cancelled", null);
+            error.deviceID = deviceId;
+            request.onErrorCallback.onError(error);
+        }
+        connector.disconnect(deviceId, new OnSuccessCallback<Device>() {
+            @Override
+            public void onSuccess(Device data) {
+                onDisconnected(deviceId);
+                onSuccessCallback.onSuccess(data);
+            }
+        }, new OnErrorCallback() {
+            @Override
+            public void onError(BleError error) {
+                onDisconnected(deviceId);
+                onErrorCallback.onError(error);
+            }
+        });
+    }
+
+    /**
+     * Releases the slot of a disconnected device.
+     *
+     * @return Whether the device was disconnected because it was evicted from the pool.
+     */
+    public boolean onDisconnected(@NonNull String deviceId) {
+        boolean wasEvicted;
+        boolean isReleased = false;
+        synchronized (this) {
+            Connection connection = connections.get(deviceId);
+            // Failed connection attempts release their slots in connect callbacks.
+            if (connection != null && connection.state != State.CONNECTING) {
+                connections.remove(deviceId);
+                isReleased = true;
+            }
+            wasEvicted = evictedDevices.containsKey(deviceId);
+        }
+        if (isReleased) {
+            dispatch();
+        }
+        return wasEvicted;
+    }
+
+    /**
+     * Marks a device as recently used, so that it is evicted after devices which weren't used for longer.
+     */
+    public synchronized void touch(@NonNull String deviceId) {
+        Connection connection = connections.get(deviceId);
+        if (connection != null) {
+            connection.lastUseTime = ++lastUseTime;
+        }
+    }
+
+    /**
+     * Marks a device as busy until a matching {@link #endUse(String)} call, so that it isn't evicted.
+     */
+    public synchronized void beginUse(@NonNull String deviceId) {
+        Integer uses = activeUses.get(deviceId);
+        activeUses.put(deviceId, uses != null ? uses + 1 : 1);
+        touch(deviceId);
+    }
+
+    /**
+     * Ends a use started with {@link #beginUse(String)} and marks the device as recently used. Connect requests
+     * waiting for all busy devices are started once one of them becomes idle.
+     */
+    public void endUse(@NonNull String deviceId) {
+        boolean isIdle = false;
+        synchronized (this) {
+            Integer uses = activeUses.get(deviceId);
+            if (uses == null) {
+                return;
+            }
+            if (uses > 1) {
+                activeUses.put(deviceId, uses - 1);
+            } else {
+                activeUses.remove(deviceId);
+                isIdle = true;
+            }
+            touch(deviceId);
+        }
+        if (isIdle) {
+            dispatch();
+        }
+    }
+
+    public synchronized boolean isEvicted(@NonNull String deviceId) {
+        return evictedDevices.containsKey(deviceId);
+    }
+
+    @NonNull
+    public synchronized List<String> getConnectedDeviceIds() {
+        List<String> deviceIds = new ArrayList<>();
+        for (Map.Entry<String, Connection> entry : connections.entrySet()) {
+            if (entry.getValue().state == State.CONNECTED) {
+                deviceIds.add(entry.getKey());
+            }
+        }
+        return deviceIds;
+    }
+
+    public synchronized Stats getStats() {
+        int connected = 0;
+        int pending = 0;
+        for (Connection connection : connections.values()) {
+            if (connection.state == State.CONNECTING) {
+                pending++;
+            } else if (connection.state == State.CONNECTED) {
+                connected++;
+            }
+        }
+        return new Stats(maxConnections, maxConcurrentConnections, connected, pending, queuedRequests.size(),
+                evictedDevices.size(), evictions, reconnections);
+    }
+
+    /**
+     * Forgets all connections and drops queued requests without calling their callbacks.
+     */
+    public synchronized void clear() {
+        connections.clear();
+        queuedRequests.clear();
+        evictedDevices.clear();
+        activeUses.clear();
+    }
+
+    private void dispatch() {
+        List<ConnectRequest> requestsToStart = new ArrayList<>();
+        String deviceToEvict = null;
+        synchronized (this) {
+            while (!queuedRequests.isEmpty() && canStartConnecting()) {
+                if (!hasFreeSlot()) {
+                    if (!isDisconnecting()) {
+                        deviceToEvict = evictLeastRecentlyUsed();
+                    }
+                    break;
+                }
+                if (connections.containsKey(queuedRequests.peekFirst().deviceId)) {
+                    // Device is still being disconnected, the request is started after it releases its slot.
+                    break;
+                }
+                ConnectRequest request = queuedRequests.pollFirst();
+                connections.put(request.deviceId, new Connection(request.options));
+                requestsToStart.add(request);
+            }
+        }
+        if (deviceToEvict != null) {
+            final String deviceId = deviceToEvict;
+            connector.disconnect(deviceId, new OnSuccessCallback<Device>() {
+                @Override
+                public void onSuccess(Device data) {
+                    onDisconnected(deviceId);
+                }
+            }, new OnErrorCallback() {
+                @Override
+                public void onError(BleError error) {
+                    onDisconnected(deviceId);
+                }
+            });
+        }
+        for (ConnectRequest request : requestsToStart) {
+            start(request);
+        }
+    }
+
+    private boolean canStartConnecting() {
+        if (maxConcurrentConnections == 0) {
+            return true;
+        }
+        int connecting = 0;
+        for (Connection connection : connections.values()) {
+            if (connection.state == State.CONNECTING) {
+                connecting++;
+            }
+        }
+        return connecting < maxConcurrentConnections;
+    }
+
+    private boolean hasFreeSlot() {
+        return maxConnections == 0 || connections.size() < maxConnections;
+    }
+
+    private boolean isDisconnecting() {
+        for (Connection connection : connections.values()) {
+            if (connection.state == State.DISCONNECTING) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Nullable
+    private String evictLeastRecentlyUsed() {
+        String deviceId = null;
+        Connection leastRecentlyUsed = null;
+        for (Map.Entry<String, Connection> entry : connections.entrySet()) {
+            Connection connection = entry.getValue();
+            if (connection.state == State.CONNECTED
+                    && !activeUses.containsKey(entry.getKey())
+                    && (leastRecentlyUsed == null || connection.lastUseTime < leastRecentlyUsed.lastUseTime)) {
+                deviceId = entry.getKey();
+                leastRecentlyUsed = connection;
+            }
+        }
+        if (leastRecentlyUsed == null) {
+            // All slots are taken by busy connections or connections being established.
+            return null;
+        }
+        leastRecentlyUsed.state = State.DISCONNECTING;
+        evictedDevices.put(deviceId, leastRecentlyUsed.options);
+        evictions++;
+        return deviceId;
+    }
+
+    private void start(final ConnectRequest request) {
+        connector.connect(request.deviceId, request.options, new OnSuccessCallback<Device>() {
+            @Override
+            public void onSuccess(Device data) {
+                synchronized (ConnectionPool.this) {
+                    Connection connection = connections.get(request.deviceId);
+                    if (connection != null && connection.state == State.CONNECTING) {
+                        connection.state = State.CONNECTED;
+                        connection.lastUseTime = ++lastUseTime;
+                    }
+                }
+                request.onSuccessCallback.onSuccess(data);
+                dispatch();
+            }
+        }, new OnErrorCallback() {
+            @Override
+            public void onError(BleError error) {
+                synchronized (ConnectionPool.this) {
+                    Connection connection = connections.get(request.deviceId);
+                    if (connection != null && connection.state == State.CONNECTING) {
+                        connections.remove(request.deviceId);
+                    }
+                }
+                request.onErrorCallback.onError(error);
+                dispatch();
+            }
+        });
+    }
+
+    private static class Connection {
+        final ConnectionOptions options;
+        State state = State.CONNECTING;
+        long lastUseTime = 0;
+
+        Connection(ConnectionOptions options) {
+            this.options = options;
+        }
+    }
+
+    private static class ConnectRequest {
+        final String deviceId;
+        final ConnectionOptions options;
+        final OnSuccessCallback<Device> onSuccessCallback;
+        final OnErrorCallback onErrorCallback;
+
+        ConnectRequest(String deviceId,
+                       ConnectionOptions options,
+                       OnSuccessCallback<Device> onSuccessCallback,
+                       OnErrorCallback onErrorCallback) {
+            this.deviceId = deviceId;
+            this.options = options;
+            this.onSuccessCallback = onSuccessCallback;
+            this.onErrorCallback = onErrorCallback;
+        }
+    }
+}
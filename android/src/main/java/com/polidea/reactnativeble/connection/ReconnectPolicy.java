@@ -0,0 +1,48 @@
+package com.polidea.reactnativeble.connection;
+
+/**
+ * Describes how a device disconnected unexpectedly is connected again. Delays between attempts grow exponentially
+ * up to a limit and are randomized, so that devices lost at the same time don't reconnect in lockstep.
+ */
+public class ReconnectPolicy {
+
+    public final int maxAttempts;
+    public final long initialDelayMs;
+    public final long maxDelayMs;
+    public final double multiplier;
+    public final double jitter;
+    public final boolean restoreMonitors;
+
+    /**
+     * @param maxAttempts     Maximum number of reconnection attempts after a single disconnection.
+     * @param initialDelayMs  Delay in milliseconds before the first attempt.
+     * @param maxDelayMs      Upper bound of the delay in milliseconds.
+     * @param multiplier      Factor by which the delay grows after every failed attempt.
+     * @param jitter          Part of the delay, from 0 to 1, which is randomized.
+     * @param restoreMonitors Whether characteristics monitored before disconnection are monitored again.
+     */
+    public ReconnectPolicy(int maxAttempts,
+                           long initialDelayMs,
+                           long maxDelayMs,
+                           double multiplier,
+                           double jitter,
+                           boolean restoreMonitors) {
+        this.maxAttempts = Math.max(1, maxAttempts);
+        this.initialDelayMs = Math.max(0, initialDelayMs);
+        this.maxDelayMs = Math.max(this.initialDelayMs, maxDelayMs);
+        this.multiplier = Math.max(1, multiplier);
+        this.jitter = Math.min(1, Math.max(0, jitter));
+        this.restoreMonitors = restoreMonitors;
+    }
+
+    /**
+     * @param attempt Number of the attempt, starting from 1.
+     * @param random  Random value from 0 (inclusive) to 1 (exclusive).
+     * @return Delay in milliseconds before the attempt.
+     */
+    public long delayBeforeAttempt(int attempt, double random) {
+        double delay = initialDelayMs * Math.pow(multiplier, Math.max(0, attempt - 1));
+        delay = Math.min(delay, maxDelayMs);
+        return (long) (delay * (1 - jitter * random));
+    }
+}
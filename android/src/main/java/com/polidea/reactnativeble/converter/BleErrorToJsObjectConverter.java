@@ -1,13 +1,27 @@
 package com.polidea.reactnativeble.converter;
 
+import androidx.annotation.Nullable;
+
 import com.facebook.react.bridge.Arguments;
 import com.facebook.react.bridge.ReadableArray;
 import com.facebook.react.bridge.WritableArray;
 import com.facebook.react.bridge.WritableMap;
 import com.polidea.multiplatformbleadapter.errors.BleError;
+import com.polidea.reactnativeble.metrics.LatencyHistogram;
+import com.polidea.reactnativeble.utils.JsonWriter;
 
 public class BleErrorToJsObjectConverter {
 
+    @Nullable
+    private volatile LatencyHistogram conversionTimes;
+
+    /**
+     * @param conversionTimes Histogram receiving durations of conversions, null to stop measuring them.
+     */
+    public void setConversionTimes(@Nullable LatencyHistogram conversionTimes) {
+        this.conversionTimes = conversionTimes;
+    }
+
     public ReadableArray toJSCallback(BleError error) {
         WritableArray array = Arguments.createArray();
         array.pushString(toJs(error));
@@ -16,51 +30,39 @@ public class BleErrorToJsObjectConverter {
     }
 
     public String toJs(BleError error) {
-        WritableArray array = Arguments.createArray();
-        StringBuilder stringBuilder = new StringBuilder();
-        stringBuilder.append("{");
+        LatencyHistogram histogram = conversionTimes;
+        long startNs = histogram != null ? System.nanoTime() : 0;
+        JsonWriter writer = JsonWriter.obtain().beginObject();
 
-        stringBuilder.append("\"errorCode\":");
-        stringBuilder.append(error.errorCode.code);
+        writer.name("errorCode").value(error.errorCode.code);
 
-        stringBuilder.append(",\"attErrorCode\":");
+        writer.name("attErrorCode");
         if (error.androidCode == null || error.androidCode >= 0x80 || error.androidCode < 0) {
-            stringBuilder.append("null");
+            writer.nullValue();
         } else {
-            stringBuilder.append(error.androidCode.intValue());
+            writer.value(error.androidCode);
         }
 
-        stringBuilder.append(",\"iosErrorCode\": null");
+        writer.name("iosErrorCode").nullValue();
 
-        stringBuilder.append(",\"androidErrorCode\":");
+        writer.name("androidErrorCode");
         if (error.androidCode == null || error.androidCode < 0x80) {
-            stringBuilder.append("null");
+            writer.nullValue();
         } else {
-            stringBuilder.append(error.androidCode.intValue());
+            writer.value(error.androidCode);
         }
 
-        appendString(stringBuilder, "reason", error.reason);
-        appendString(stringBuilder, "deviceID", error.deviceID);
-        appendString(stringBuilder, "serviceUUID", error.serviceUUID);
-        appendString(stringBuilder, "characteristicUUID", error.characteristicUUID);
-        appendString(stringBuilder, "descriptorUUID", error.descriptorUUID);
-        appendString(stringBuilder, "internalMessage", error.internalMessage);
+        writer.name("reason").value(error.reason);
+        writer.name("deviceID").value(error.deviceID);
+        writer.name("serviceUUID").value(error.serviceUUID);
+        writer.name("characteristicUUID").value(error.characteristicUUID);
+        writer.name("descriptorUUID").value(error.descriptorUUID);
+        writer.name("internalMessage").value(error.internalMessage);
 
-        stringBuilder.append("}");
-
-        return stringBuilder.toString();
-    }
-
-    private void appendString(StringBuilder stringBuilder, String key, String value) {
-        stringBuilder.append(",\"");
-        stringBuilder.append(key);
-        stringBuilder.append("\":");
-        if (value == null) {
-            stringBuilder.append("null");
-        } else {
-            stringBuilder.append("\"");
-            stringBuilder.append(value);
-            stringBuilder.append("\"");
+        String json = writer.endObject().toString();
+        if (histogram != null) {
+            histogram.record(System.nanoTime() - startNs);
         }
+        return json;
     }
-}
\ No newline at end of file
+}
@@ -3,8 +3,9 @@ package com.polidea.reactnativeble.converter;
 import com.facebook.react.bridge.Arguments;
 import com.facebook.react.bridge.WritableMap;
 import com.polidea.multiplatformbleadapter.Characteristic;
-import com.polidea.multiplatformbleadapter.utils.Base64Converter;
-import com.polidea.multiplatformbleadapter.utils.UUIDConverter;
+import com.polidea.reactnativeble.metrics.LatencyHistogram;
+import com.polidea.reactnativeble.utils.Base64Converter;
+import com.polidea.reactnativeble.utils.UUIDConverter;
 
 public class CharacteristicToJsObjectConverter extends JSObjectConverter<Characteristic> {
 
@@ -24,7 +25,7 @@ public class CharacteristicToJsObjectConverter extends JSObjectConverter<Charact
     }
 
     @Override
-    public WritableMap toJSObject(Characteristic characteristic) {
+    protected WritableMap convert(Characteristic characteristic) {
         WritableMap js = Arguments.createMap();
 
         js.putInt(Metadata.ID, characteristic.getId());
@@ -43,4 +44,24 @@ public class CharacteristicToJsObjectConverter extends JSObjectConverter<Charact
                         Base64Converter.encode(characteristic.getValue()) : null);
         return js;
     }
+
+    /**
+     * Converts only fields which may change between subsequent reads and notifications of the same
+     * characteristic. Remaining metadata is expected to be cached by JS side from a full object.
+     */
+    public WritableMap toValueOnlyJSObject(Characteristic characteristic) {
+        LatencyHistogram histogram = getConversionTimes();
+        long startNs = histogram != null ? System.nanoTime() : 0;
+        WritableMap js = Arguments.createMap();
+
+        js.putInt(Metadata.ID, characteristic.getId());
+        js.putBoolean(Metadata.IS_NOTIFYING, characteristic.isNotifying());
+        js.putString(Metadata.VALUE,
+                characteristic.getValue() != null ?
+                        Base64Converter.encode(characteristic.getValue()) : null);
+        if (histogram != null) {
+            histogram.record(System.nanoTime() - startNs);
+        }
+        return js;
+    }
 }
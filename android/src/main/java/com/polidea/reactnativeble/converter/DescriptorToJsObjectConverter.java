@@ -3,8 +3,8 @@ package com.polidea.reactnativeble.converter;
 import com.facebook.react.bridge.Arguments;
 import com.facebook.react.bridge.WritableMap;
 import com.polidea.multiplatformbleadapter.Descriptor;
-import com.polidea.multiplatformbleadapter.utils.Base64Converter;
-import com.polidea.multiplatformbleadapter.utils.UUIDConverter;
+import com.polidea.reactnativeble.utils.Base64Converter;
+import com.polidea.reactnativeble.utils.UUIDConverter;
 
 public class DescriptorToJsObjectConverter extends JSObjectConverter<Descriptor> {
 
@@ -20,7 +20,7 @@ public class DescriptorToJsObjectConverter extends JSObjectConverter<Descriptor>
     }
 
     @Override
-    public WritableMap toJSObject(Descriptor descriptor) {
+    protected WritableMap convert(Descriptor descriptor) {
         WritableMap js = Arguments.createMap();
         js.putInt(Metadata.ID, descriptor.getId());
         js.putString(Metadata.UUID, UUIDConverter.fromUUID(descriptor.getUuid()));
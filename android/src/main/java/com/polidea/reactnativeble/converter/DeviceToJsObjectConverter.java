@@ -25,7 +25,7 @@ public class DeviceToJsObjectConverter extends JSObjectConverter<Device> {
 
 
     @Override
-    public WritableMap toJSObject(Device value) {
+    protected WritableMap convert(Device value) {
         WritableMap result = Arguments.createMap();
         result.putString(Metadata.ID, value.getId());
         result.putString(Metadata.NAME, value.getName());
@@ -0,0 +1,66 @@
+package com.polidea.reactnativeble.converter;
+
+import com.facebook.react.bridge.Arguments;
+import com.facebook.react.bridge.WritableArray;
+import com.facebook.react.bridge.WritableMap;
+import com.polidea.reactnativeble.cache.GattLayout;
+import com.polidea.reactnativeble.utils.UUIDConverter;
+
+import java.util.UUID;
+
+public class GattLayoutToJsObjectConverter extends JSObjectConverter<GattLayout> {
+
+    private interface Metadata {
+        String DEVICE_ID = "deviceID";
+        String VERSION_TAG = "versionTag";
+        String SERVICES = "services";
+        String UUID = "uuid";
+        String IS_PRIMARY = "isPrimary";
+        String CHARACTERISTICS = "characteristics";
+        String IS_READABLE = "isReadable";
+        String IS_WRITABLE_WITH_RESPONSE = "isWritableWithResponse";
+        String IS_WRITABLE_WITHOUT_RESPONSE = "isWritableWithoutResponse";
+        String IS_NOTIFIABLE = "isNotifiable";
+        String IS_INDICATABLE = "isIndicatable";
+        String DESCRIPTORS = "descriptors";
+    }
+
+    @Override
+    protected WritableMap convert(GattLayout layout) {
+        WritableArray services = Arguments.createArray();
+        for (GattLayout.ServiceLayout service : layout.services) {
+            WritableArray characteristics = Arguments.createArray();
+            for (GattLayout.CharacteristicLayout characteristic : service.characteristics) {
+                WritableArray descriptors = Arguments.createArray();
+                for (UUID descriptor : characteristic.descriptors) {
+                    descriptors.pushString(UUIDConverter.fromUUID(descriptor));
+                }
+                WritableMap jsCharacteristic = Arguments.createMap();
+                jsCharacteristic.putString(Metadata.UUID, UUIDConverter.fromUUID(characteristic.uuid));
+                jsCharacteristic.putBoolean(Metadata.IS_READABLE,
+                        characteristic.hasProperty(GattLayout.PROPERTY_READABLE));
+                jsCharacteristic.putBoolean(Metadata.IS_WRITABLE_WITH_RESPONSE,
+                        characteristic.hasProperty(GattLayout.PROPERTY_WRITABLE_WITH_RESPONSE));
+                jsCharacteristic.putBoolean(Metadata.IS_WRITABLE_WITHOUT_RESPONSE,
+                        characteristic.hasProperty(GattLayout.PROPERTY_WRITABLE_WITHOUT_RESPONSE));
+                jsCharacteristic.putBoolean(Metadata.IS_NOTIFIABLE,
+                        characteristic.hasProperty(GattLayout.PROPERTY_NOTIFIABLE));
+                jsCharacteristic.putBoolean(Metadata.IS_INDICATABLE,
+                        characteristic.hasProperty(GattLayout.PROPERTY_INDICATABLE));
+                jsCharacteristic.putArray(Metadata.DESCRIPTORS, descriptors);
+                characteristics.pushMap(jsCharacteristic);
+            }
+            WritableMap jsService = Arguments.createMap();
+            jsService.putString(Metadata.UUID, UUIDConverter.fromUUID(service.uuid));
+            jsService.putBoolean(Metadata.IS_PRIMARY, service.isPrimary);
+            jsService.putArray(Metadata.CHARACTERISTICS, characteristics);
+            services.pushMap(jsService);
+        }
+
+        WritableMap js = Arguments.createMap();
+        js.putString(Metadata.DEVICE_ID, layout.deviceId);
+        js.putString(Metadata.VERSION_TAG, layout.versionTag);
+        js.putArray(Metadata.SERVICES, services);
+        return js;
+    }
+}
@@ -1,12 +1,41 @@
 package com.polidea.reactnativeble.converter;
 
+import androidx.annotation.Nullable;
+
 import com.facebook.react.bridge.Arguments;
 import com.facebook.react.bridge.WritableArray;
 import com.facebook.react.bridge.WritableMap;
+import com.polidea.reactnativeble.metrics.LatencyHistogram;
+
+public abstract class JSObjectConverter<T> {
+
+    @Nullable
+    private volatile LatencyHistogram conversionTimes;
+
+    /**
+     * @param conversionTimes Histogram receiving durations of conversions, null to stop measuring them.
+     */
+    public void setConversionTimes(@Nullable LatencyHistogram conversionTimes) {
+        this.conversionTimes = conversionTimes;
+    }
+
+    @Nullable
+    protected LatencyHistogram getConversionTimes() {
+        return conversionTimes;
+    }
 
-abstract class JSObjectConverter<T> {
+    public WritableMap toJSObject(T value) {
+        LatencyHistogram histogram = conversionTimes;
+        if (histogram == null) {
+            return convert(value);
+        }
+        long startNs = System.nanoTime();
+        WritableMap js = convert(value);
+        histogram.record(System.nanoTime() - startNs);
+        return js;
+    }
 
-    abstract public WritableMap toJSObject(T value);
+    abstract protected WritableMap convert(T value);
 
     public WritableArray toJSCallback(T value) {
         WritableArray array = Arguments.createArray();
@@ -14,4 +43,4 @@ abstract class JSObjectConverter<T> {
         array.pushMap(toJSObject(value));
         return array;
     }
-}
\ No newline at end of file
+}
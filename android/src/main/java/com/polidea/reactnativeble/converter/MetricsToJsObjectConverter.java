@@ -0,0 +1,80 @@
+package com.polidea.reactnativeble.converter;
+
+import com.facebook.react.bridge.Arguments;
+import com.facebook.react.bridge.WritableMap;
+import com.polidea.reactnativeble.metrics.BleMetrics;
+import com.polidea.reactnativeble.metrics.LatencyHistogram;
+
+import java.util.Map;
+
+public class MetricsToJsObjectConverter extends JSObjectConverter<BleMetrics.Snapshot> {
+
+    private static final double NS_PER_MS = 1000000.0;
+
+    private interface Metadata {
+        String PERIOD_MS = "periodMs";
+        String METHODS = "methods";
+        String CONVERSIONS = "conversions";
+        String EVENTS = "events";
+        String SCAN_RESULTS = "scanResults";
+        String SCAN_RESULTS_PER_SECOND = "scanResultsPerSecond";
+        String NOTIFICATIONS = "notifications";
+        String NOTIFICATIONS_PER_SECOND = "notificationsPerSecond";
+        String COUNT = "count";
+        String MEAN_MS = "meanMs";
+        String MAX_MS = "maxMs";
+        String P50_MS = "p50Ms";
+        String P90_MS = "p90Ms";
+        String P99_MS = "p99Ms";
+        String PAYLOAD_SIZE = "payloadSize";
+        String UUID_STRING_CACHE = "uuidStringCache";
+        String HITS = "hits";
+        String MISSES = "misses";
+        String SIZE = "size";
+    }
+
+    @Override
+    protected WritableMap convert(BleMetrics.Snapshot snapshot) {
+        WritableMap events = Arguments.createMap();
+        for (Map.Entry<String, BleMetrics.EventStats> entry : snapshot.events.entrySet()) {
+            WritableMap jsEvent = Arguments.createMap();
+            jsEvent.putDouble(Metadata.COUNT, entry.getValue().count);
+            jsEvent.putDouble(Metadata.PAYLOAD_SIZE, entry.getValue().payloadSize);
+            events.putMap(entry.getKey(), jsEvent);
+        }
+
+        WritableMap js = Arguments.createMap();
+        js.putDouble(Metadata.PERIOD_MS, snapshot.periodMs);
+        js.putMap(Metadata.METHODS, latenciesToJs(snapshot.methods));
+        js.putMap(Metadata.CONVERSIONS, latenciesToJs(snapshot.conversions));
+        js.putMap(Metadata.EVENTS, events);
+        js.putDouble(Metadata.SCAN_RESULTS, snapshot.scanResults);
+        js.putDouble(Metadata.SCAN_RESULTS_PER_SECOND, snapshot.scanResultsPerSecond());
+        js.putDouble(Metadata.NOTIFICATIONS, snapshot.notifications);
+        js.putDouble(Metadata.NOTIFICATIONS_PER_SECOND, snapshot.notificationsPerSecond());
+        if (snapshot.uuidStringCache != null) {
+            WritableMap jsCache = Arguments.createMap();
+            jsCache.putDouble(Metadata.HITS, snapshot.uuidStringCache.hits);
+            jsCache.putDouble(Metadata.MISSES, snapshot.uuidStringCache.misses);
+            jsCache.putInt(Metadata.SIZE, snapshot.uuidStringCache.size);
+            js.putMap(Metadata.UUID_STRING_CACHE, jsCache);
+        }
+        return js;
+    }
+
+    private WritableMap latenciesToJs(Map<String, LatencyHistogram.Snapshot> latencies) {
+        WritableMap js = Arguments.createMap();
+        for (Map.Entry<String, LatencyHistogram.Snapshot> entry : latencies.entrySet()) {
+            LatencyHistogram.Snapshot histogram = entry.getValue();
+            WritableMap jsLatency = Arguments.createMap();
+            jsLatency.putDouble(Metadata.COUNT, histogram.count);
+            jsLatency.putDouble(Metadata.MEAN_MS, histogram.meanNs() / NS_PER_MS);
+            jsLatency.putDouble(Metadata.MAX_MS, histogram.maxNs / NS_PER_MS);
+            jsLatency.putDouble(Metadata.P50_MS, histogram.percentileNs(50) / NS_PER_MS);
+            jsLatency.putDouble(Metadata.P90_MS, histogram.percentileNs(90) / NS_PER_MS);
+            jsLatency.putDouble(Metadata.P99_MS, histogram.percentileNs(99) / NS_PER_MS);
+            js.putMap(entry.getKey(), jsLatency);
+        }
+        return js;
+    }
+}
@@ -3,7 +3,7 @@ package com.polidea.reactnativeble.converter;
 import com.facebook.react.bridge.Arguments;
 import com.facebook.react.bridge.WritableMap;
 import com.polidea.multiplatformbleadapter.Service;
-import com.polidea.multiplatformbleadapter.utils.UUIDConverter;
+import com.polidea.reactnativeble.utils.UUIDConverter;
 
 public class ServiceToJsObjectConverter extends JSObjectConverter<Service> {
 
@@ -15,7 +15,7 @@ public class ServiceToJsObjectConverter extends JSObjectConverter<Service> {
     }
 
     @Override
-    public WritableMap toJSObject(Service service) {
+    protected WritableMap convert(Service service) {
         WritableMap result = Arguments.createMap();
         result.putInt(Metadata.ID, service.getId());
         result.putString(Metadata.UUID, UUIDConverter.fromUUID(service.getUuid()));
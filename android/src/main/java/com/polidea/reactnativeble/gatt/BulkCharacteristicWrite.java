@@ -0,0 +1,196 @@
+package com.polidea.reactnativeble.gatt;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+import com.polidea.multiplatformbleadapter.Characteristic;
+import com.polidea.multiplatformbleadapter.OnErrorCallback;
+import com.polidea.multiplatformbleadapter.OnSuccessCallback;
+import com.polidea.multiplatformbleadapter.errors.BleError;
+import com.polidea.multiplatformbleadapter.errors.BleErrorCode;
+import com.polidea.reactnativeble.utils.Base64Converter;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Writes a sequence of values to a characteristic in chunks not larger than a single ATT payload. Up to
+ * {@code maxWritesInFlight} chunks are handed to the adapter before the previous ones complete, so the GATT
+ * queue never runs dry, and the operation reports progress and finishes with a single callback.
+ */
+public class BulkCharacteristicWrite {
+
+    public interface ChunkWriter {
+        void write(@NonNull String chunkBase64,
+                   @NonNull String chunkTransactionId,
+                   @NonNull OnSuccessCallback<Characteristic> onSuccessCallback,
+                   @NonNull OnErrorCallback onErrorCallback);
+
+        void cancel(@NonNull String chunkTransactionId);
+    }
+
+    public interface OnProgressCallback {
+        void onProgress(int bytesWritten, int totalBytes);
+    }
+
+    private final List<byte[]> values;
+    private final int chunkSize;
+    private final int maxWritesInFlight;
+    private final String transactionId;
+    private final ChunkWriter chunkWriter;
+    private final OnProgressCallback onProgressCallback;
+    private final OnSuccessCallback<Characteristic> onSuccessCallback;
+    private final OnErrorCallback onErrorCallback;
+    private final int totalBytes;
+
+    private final Set<String> pendingChunkTransactionIds = new HashSet<>();
+    private int valueIndex = 0;
+    private int valueOffset = 0;
+    private int chunkIndex = 0;
+    private int bytesWritten = 0;
+    private boolean isFinished = false;
+
+    /**
+     * @param values             Values to write. Values longer than {@code chunkSize} are split, shorter ones are
+     *                           written as single chunks.
+     * @param chunkSize          Maximum number of bytes in a single write.
+     * @param maxWritesInFlight  Number of writes handed to the adapter before waiting for completions.
+     * @param transactionId      Transaction id used to derive ids of particular chunk writes.
+     * @param chunkWriter        Performs a single chunk write.
+     * @param onProgressCallback Called after every completed chunk.
+     * @param onSuccessCallback  Called once with the characteristic returned by the last write.
+     * @param onErrorCallback    Called once when any chunk fails or the operation is cancelled.
+     */
+    public BulkCharacteristicWrite(@NonNull List<byte[]> values,
+                                   int chunkSize,
+                                   int maxWritesInFlight,
+                                   @NonNull String transactionId,
+                                   @NonNull ChunkWriter chunkWriter,
+                                   @NonNull OnProgressCallback onProgressCallback,
+                                   @NonNull OnSuccessCallback<Characteristic> onSuccessCallback,
+                                   @NonNull OnErrorCallback onErrorCallback) {
+        if (chunkSize <= 0) {
+            throw new IllegalArgumentException("chunkSize must be positive");
+        }
+        this.values = values;
+        this.chunkSize = chunkSize;
+        this.maxWritesInFlight = Math.max(1, maxWritesInFlight);
+        this.transactionId = transactionId;
+        this.chunkWriter = chunkWriter;
+        this.onProgressCallback = onProgressCallback;
+        this.onSuccessCallback = onSuccessCallback;
+        this.onErrorCallback = onErrorCallback;
+        int total = 0;
+        for (byte[] value : values) {
+            total += value.length;
+        }
+        this.totalBytes = total;
+    }
+
+    public int getTotalBytes() {
+        return totalBytes;
+    }
+
+    public void start() {
+        pump(null);
+    }
+
+    public void cancel() {
+        BleError error = new BleError(BleErrorCode.OperationCancelled, "Bulk write was cancelled", null);
+        fail(error);
+    }
+
+    private void pump(@Nullable Characteristic lastCharacteristic) {
+        List<Chunk> chunksToWrite = new ArrayList<>();
+        boolean isCompleted = false;
+        synchronized (this) {
+            if (isFinished) {
+                return;
+            }
+            while (pendingChunkTransactionIds.size() + chunksToWrite.size() < maxWritesInFlight
+                    && skipEmptyValues()) {
+                byte[] value = values.get(valueIndex);
+                int length = Math.min(chunkSize, value.length - valueOffset);
+                chunksToWrite.add(new Chunk(Base64Converter.encode(value, valueOffset, length),
+                        transactionId + "#" + chunkIndex++,
+                        length));
+                valueOffset += length;
+            }
+            for (Chunk chunk : chunksToWrite) {
+                pendingChunkTransactionIds.add(chunk.transactionId);
+            }
+            if (pendingChunkTransactionIds.isEmpty() && !skipEmptyValues()) {
+                isFinished = true;
+                isCompleted = true;
+            }
+        }
+        if (isCompleted) {
+            onSuccessCallback.onSuccess(lastCharacteristic);
+            return;
+        }
+        for (Chunk chunk : chunksToWrite) {
+            writeChunk(chunk);
+        }
+    }
+
+    private boolean skipEmptyValues() {
+        while (valueIndex < values.size() && valueOffset >= values.get(valueIndex).length) {
+            valueIndex++;
+            valueOffset = 0;
+        }
+        return valueIndex < values.size();
+    }
+
+    private void writeChunk(final Chunk chunk) {
+        chunkWriter.write(chunk.valueBase64, chunk.transactionId,
+                new OnSuccessCallback<Characteristic>() {
+                    @Override
+                    public void onSuccess(Characteristic data) {
+                        synchronized (BulkCharacteristicWrite.this) {
+                            if (isFinished || !pendingChunkTransactionIds.remove(chunk.transactionId)) {
+                                return;
+                            }
+                            bytesWritten += chunk.length;
+                            // Reported under the lock so that progress values never go backwards.
+                            onProgressCallback.onProgress(bytesWritten, totalBytes);
+                        }
+                        pump(data);
+                    }
+                }, new OnErrorCallback() {
+                    @Override
+                    public void onError(BleError error) {
+                        fail(error);
+                    }
+                });
+    }
+
+    private void fail(BleError error) {
+        List<String> chunksToCancel;
+        synchronized (this) {
+            if (isFinished) {
+                return;
+            }
+            isFinished = true;
+            chunksToCancel = new ArrayList<>(pendingChunkTransactionIds);
+            pendingChunkTransactionIds.clear();
+        }
+        for (String chunkTransactionId : chunksToCancel) {
+            chunkWriter.cancel(chunkTransactionId);
+        }
+        onErrorCallback.onError(error);
+    }
+
+    private static class Chunk {
+        final String valueBase64;
+        final String transactionId;
+        final int length;
+
+        Chunk(String valueBase64, String transactionId, int length) {
+            this.valueBase64 = valueBase64;
+            this.transactionId = transactionId;
+            this.length = length;
+        }
+    }
+}
@@ -0,0 +1,349 @@
+package com.polidea.reactnativeble.gatt;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+import com.polidea.multiplatformbleadapter.OnErrorCallback;
+import com.polidea.multiplatformbleadapter.OnSuccessCallback;
+import com.polidea.multiplatformbleadapter.errors.BleError;
+import com.polidea.multiplatformbleadapter.errors.BleErrorCode;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Orders GATT operations before they are passed to the adapter. Every device has its own queue with
+ * {@link Priority} classes and a limit of operations handed to the adapter at once, so that an operation of
+ * higher priority doesn't wait behind a long backlog of lower priority ones. Devices with pending operations are
+ * served in round robin order within a global limit. Operations which don't start before their deadline fail with
+ * {@link BleErrorCode#OperationTimedOut}.
+ */
+public class GattOperationScheduler {
+
+    public enum Priority {
+        INTERACTIVE("Interactive"),
+        BACKGROUND("Background"),
+        BULK("Bulk");
+
+        public final String name;
+
+        Priority(String name) {
+            this.name = name;
+        }
+
+        @Nullable
+        public static Priority getByName(@Nullable String name) {
+            for (Priority priority : values()) {
+                if (priority.name.equals(name)) {
+                    return priority;
+                }
+            }
+            return null;
+        }
+    }
+
+    /**
+     * Starts an adapter operation which has to report its result to passed callbacks.
+     */
+    public interface Call<T> {
+        void call(@NonNull OnSuccessCallback<T> onSuccessCallback, @NonNull OnErrorCallback onErrorCallback);
+    }
+
+    private final int maxOperationsPerDevice;
+    private final int maxOperations;
+    private final ScheduledExecutorService scheduler;
+
+    private final Map<String, DeviceQueue> deviceQueues = new HashMap<>();
+    // Devices in the order they will be served
+    private final ArrayDeque<DeviceQueue> roundRobin = new ArrayDeque<>();
+    private int operationsInFlight = 0;
+
+    /**
+     * @param maxOperationsPerDevice Number of operations of a single device handed to the adapter at once.
+     * @param maxOperations          Number of operations of all devices handed to the adapter at once.
+     * @param scheduler              Scheduler of operation deadlines.
+     */
+    public GattOperationScheduler(int maxOperationsPerDevice,
+                                  int maxOperations,
+                                  @NonNull ScheduledExecutorService scheduler) {
+        this.maxOperationsPerDevice = Math.max(1, maxOperationsPerDevice);
+        this.maxOperations = Math.max(1, maxOperations);
+        this.scheduler = scheduler;
+    }
+
+    /**
+     * @param deviceKey     Key of the queue, usually device identifier.
+     * @param transactionId Transaction id which can be used to {@link #cancel(String)} the operation before it starts.
+     * @param priority      Priority class of the operation.
+     * @param deadlineMs    Maximum time in milliseconds the operation may wait in the queue. Values <= 0 disable it.
+     */
+    public <T> void schedule(@NonNull String deviceKey,
+                             @Nullable String transactionId,
+                             @NonNull Priority priority,
+                             long deadlineMs,
+                             @NonNull Call<T> call,
+                             @NonNull OnSuccessCallback<T> onSuccessCallback,
+                             @NonNull OnErrorCallback onErrorCallback) {
+        final PendingOperation<T> operation = new PendingOperation<>(
+                deviceKey, transactionId, priority, call, onSuccessCallback, onErrorCallback);
+        synchronized (this) {
+            DeviceQueue queue = deviceQueues.get(deviceKey);
+            if (queue == null) {
+                queue = new DeviceQueue(deviceKey);
+                deviceQueues.put(deviceKey, queue);
+            }
+            queue.add(operation);
+            if (!queue.isScheduled && queue.canStart()) {
+                queue.isScheduled = true;
+                roundRobin.addLast(queue);
+            }
+            if (deadlineMs > 0) {
+                operation.deadline = scheduler.schedule(new Runnable() {
+                    @Override
+                    public void run() {
+                        if (remove(operation)) {
+                            operation.fail(new BleError(BleErrorCode.OperationTimedOut,
+                                    "Operation didn't start before its deadline", null));
+                        }
+                    }
+                }, deadlineMs, TimeUnit.MILLISECONDS);
+            }
+        }
+        dispatch();
+    }
+
+    /**
+     * Removes operations with passed transaction id which haven't started yet and fails them with
+     * {@link BleErrorCode#OperationCancelled}. Started operations have to be cancelled in the adapter.
+     *
+     * @return Whether any operation was removed.
+     */
+    public boolean cancel(@NonNull String transactionId) {
+        List<PendingOperation<?>> cancelled = new ArrayList<>();
+        synchronized (this) {
+            for (DeviceQueue queue : new ArrayList<>(deviceQueues.values())) {
+                queue.removeByTransactionId(transactionId, cancelled);
+                removeIfIdle(queue);
+            }
+            for (PendingOperation<?> operation : cancelled) {
+                operation.cancelDeadline();
+            }
+        }
+        for (PendingOperation<?> operation : cancelled) {
+            operation.fail(new BleError(BleErrorCode.OperationCancelled, "Operation was cancelled", null));
+        }
+        return !cancelled.isEmpty();
+    }
+
+    /**
+     * Drops all operations which haven't started yet without calling their callbacks.
+     */
+    public void clear() {
+        synchronized (this) {
+            for (DeviceQueue queue : deviceQueues.values()) {
+                for (ArrayDeque<PendingOperation<?>> operations : queue.operations) {
+                    for (PendingOperation<?> operation : operations) {
+                        operation.cancelDeadline();
+                    }
+                    operations.clear();
+                }
+            }
+            deviceQueues.clear();
+            roundRobin.clear();
+            operationsInFlight = 0;
+        }
+    }
+
+    public synchronized int getPendingOperationCount() {
+        int count = 0;
+        for (DeviceQueue queue : deviceQueues.values()) {
+            count += queue.size();
+        }
+        return count;
+    }
+
+    public synchronized int getOperationsInFlightCount() {
+        return operationsInFlight;
+    }
+
+    private void dispatch() {
+        List<PendingOperation<?>> operationsToStart = new ArrayList<>();
+        synchronized (this) {
+            while (operationsInFlight < maxOperations && !roundRobin.isEmpty()) {
+                DeviceQueue queue = roundRobin.pollFirst();
+                queue.isScheduled = false;
+                PendingOperation<?> operation = queue.poll();
+                if (operation == null) {
+                    removeIfIdle(queue);
+                    continue;
+                }
+                operation.cancelDeadline();
+                queue.inFlight++;
+                operationsInFlight++;
+                operationsToStart.add(operation);
+                if (queue.canStart()) {
+                    queue.isScheduled = true;
+                    roundRobin.addLast(queue);
+                }
+            }
+        }
+        for (PendingOperation<?> operation : operationsToStart) {
+            operation.start();
+        }
+    }
+
+    private synchronized boolean remove(PendingOperation<?> operation) {
+        DeviceQueue queue = deviceQueues.get(operation.deviceKey);
+        if (queue == null || !queue.operations[operation.priority.ordinal()].remove(operation)) {
+            return false;
+        }
+        removeIfIdle(queue);
+        return true;
+    }
+
+    private void removeIfIdle(DeviceQueue queue) {
+        if (queue.inFlight == 0 && queue.size() == 0) {
+            deviceQueues.remove(queue.deviceKey);
+            roundRobin.remove(queue);
+            queue.isScheduled = false;
+        }
+    }
+
+    private void onOperationFinished(String deviceKey) {
+        synchronized (this) {
+            DeviceQueue queue = deviceQueues.get(deviceKey);
+            if (queue == null) {
+                // Scheduler was cleared while the operation was running.
+                return;
+            }
+            queue.inFlight--;
+            operationsInFlight--;
+            removeIfIdle(queue);
+            if (!queue.isScheduled && queue.canStart()) {
+                queue.isScheduled = true;
+                roundRobin.addLast(queue);
+            }
+        }
+        dispatch();
+    }
+
+    private class DeviceQueue {
+        final String deviceKey;
+        @SuppressWarnings({"unchecked", "rawtypes"})
+        final ArrayDeque<PendingOperation<?>>[] operations = new ArrayDeque[Priority.values().length];
+        int inFlight = 0;
+        boolean isScheduled = false;
+
+        DeviceQueue(String deviceKey) {
+            this.deviceKey = deviceKey;
+            for (int i = 0; i < operations.length; i++) {
+                operations[i] = new ArrayDeque<>();
+            }
+        }
+
+        void add(PendingOperation<?> operation) {
+            operations[operation.priority.ordinal()].addLast(operation);
+        }
+
+        @Nullable
+        PendingOperation<?> poll() {
+            for (ArrayDeque<PendingOperation<?>> queue : operations) {
+                if (!queue.isEmpty()) {
+                    return queue.pollFirst();
+                }
+            }
+            return null;
+        }
+
+        boolean canStart() {
+            return inFlight < maxOperationsPerDevice && size() > 0;
+        }
+
+        int size() {
+            int size = 0;
+            for (ArrayDeque<PendingOperation<?>> queue : operations) {
+                size += queue.size();
+            }
+            return size;
+        }
+
+        void removeByTransactionId(String transactionId, List<PendingOperation<?>> removed) {
+            for (ArrayDeque<PendingOperation<?>> queue : operations) {
+                Iterator<PendingOperation<?>> iterator = queue.iterator();
+                while (iterator.hasNext()) {
+                    PendingOperation<?> operation = iterator.next();
+                    if (transactionId.equals(operation.transactionId)) {
+                        iterator.remove();
+                        removed.add(operation);
+                    }
+                }
+            }
+        }
+    }
+
+    private class PendingOperation<T> {
+        final String deviceKey;
+        final String transactionId;
+        final Priority priority;
+        final Call<T> call;
+        final OnSuccessCallback<T> onSuccessCallback;
+        final OnErrorCallback onErrorCallback;
+        @Nullable
+        ScheduledFuture<?> deadline;
+
+        PendingOperation(String deviceKey,
+                         String transactionId,
+                         Priority priority,
+                         Call<T> call,
+                         OnSuccessCallback<T> onSuccessCallback,
+                         OnErrorCallback onErrorCallback) {
+            this.deviceKey = deviceKey;
+            this.transactionId = transactionId;
+            this.priority = priority;
+            this.call = call;
+            this.onSuccessCallback = onSuccessCallback;
+            this.onErrorCallback = onErrorCallback;
+        }
+
+        void start() {
+            // Adapter reports a single result, but the slot is released at most once in any case.
+            final AtomicBoolean isFinished = new AtomicBoolean(false);
+            call.call(new OnSuccessCallback<T>() {
+                @Override
+                public void onSuccess(T data) {
+                    if (isFinished.compareAndSet(false, true)) {
+                        onOperationFinished(deviceKey);
+                        onSuccessCallback.onSuccess(data);
+                    }
+                }
+            }, new OnErrorCallback() {
+                @Override
+                public void onError(BleError error) {
+                    if (isFinished.compareAndSet(false, true)) {
+                        onOperationFinished(deviceKey);
+                        onErrorCallback.onError(error);
+                    }
+                }
+            });
+        }
+
+        void fail(BleError error) {
+            onErrorCallback.onError(error);
+        }
+
+        void cancelDeadline() {
+            if (deadline != null) {
+                deadline.cancel(false);
+                deadline = null;
+            }
+        }
+    }
+}
@@ -0,0 +1,244 @@
+package com.polidea.reactnativeble.metrics;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+import com.polidea.reactnativeble.utils.UUIDStringCache;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Collects counters and latencies of bridge and GATT operations. Recording uses only atomic counters, so metrics
+ * may stay enabled in production. Names of methods, converters and events are used as keys.
+ */
+public class BleMetrics {
+
+    public static class EventStats {
+        public final long count;
+        public final long payloadSize;
+
+        EventStats(long count, long payloadSize) {
+            this.count = count;
+            this.payloadSize = payloadSize;
+        }
+    }
+
+    public static class CacheStats {
+        public final long hits;
+        public final long misses;
+        public final int size;
+
+        CacheStats(long hits, long misses, int size) {
+            this.hits = hits;
+            this.misses = misses;
+            this.size = size;
+        }
+    }
+
+    public static class Snapshot {
+        public final long periodMs;
+        public final Map<String, LatencyHistogram.Snapshot> methods;
+        public final Map<String, LatencyHistogram.Snapshot> conversions;
+        public final Map<String, EventStats> events;
+        public final long scanResults;
+        public final long notifications;
+        @Nullable
+        public final CacheStats uuidStringCache;
+
+        Snapshot(long periodMs,
+                 Map<String, LatencyHistogram.Snapshot> methods,
+                 Map<String, LatencyHistogram.Snapshot> conversions,
+                 Map<String, EventStats> events,
+                 long scanResults,
+                 long notifications,
+                 @Nullable CacheStats uuidStringCache) {
+            this.periodMs = periodMs;
+            this.methods = methods;
+            this.conversions = conversions;
+            this.events = events;
+            this.scanResults = scanResults;
+            this.notifications = notifications;
+            this.uuidStringCache = uuidStringCache;
+        }
+
+        public double scanResultsPerSecond() {
+            return periodMs > 0 ? scanResults * 1000.0 / periodMs : 0;
+        }
+
+        public double notificationsPerSecond() {
+            return periodMs > 0 ? notifications * 1000.0 / periodMs : 0;
+        }
+    }
+
+    private static class EventCounters {
+        final AtomicLong count = new AtomicLong();
+        final AtomicLong payloadSize = new AtomicLong();
+    }
+
+    private final ConcurrentMap<String, LatencyHistogram> methods = new ConcurrentHashMap<>();
+    private final ConcurrentMap<String, LatencyHistogram> conversions = new ConcurrentHashMap<>();
+    private final ConcurrentMap<String, EventCounters> events = new ConcurrentHashMap<>();
+    private final AtomicLong scanResults = new AtomicLong();
+    private final AtomicLong notifications = new AtomicLong();
+    private final AtomicLong periodStartMs;
+
+    // Cache counters are totals kept by the cache, they're reported relative to their values at the period start
+    @Nullable
+    private final UUIDStringCache uuidStringCache;
+    private long uuidStringCacheHitsAtPeriodStart = 0;
+    private long uuidStringCacheMissesAtPeriodStart = 0;
+
+    private volatile boolean isEnabled = true;
+
+    public BleMetrics(long timeMs) {
+        this(timeMs, null);
+    }
+
+    /**
+     * @param uuidStringCache Cache of UUID strings whose hits and misses are reported, if any.
+     */
+    public BleMetrics(long timeMs, @Nullable UUIDStringCache uuidStringCache) {
+        periodStartMs = new AtomicLong(timeMs);
+        this.uuidStringCache = uuidStringCache;
+        if (uuidStringCache != null) {
+            uuidStringCacheHitsAtPeriodStart = uuidStringCache.getHitCount();
+            uuidStringCacheMissesAtPeriodStart = uuidStringCache.getMissCount();
+        }
+    }
+
+    public boolean isEnabled() {
+        return isEnabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        isEnabled = enabled;
+    }
+
+    /**
+     * Starts measuring a call of a method.
+     *
+     * @return Action to run when the call completes, null when metrics are disabled.
+     */
+    @Nullable
+    public Runnable startMethod(@NonNull String method) {
+        if (!isEnabled) {
+            return null;
+        }
+        final LatencyHistogram histogram = histogram(methods, method);
+        final long startNs = System.nanoTime();
+        final AtomicBoolean isStopped = new AtomicBoolean();
+        return new Runnable() {
+            @Override
+            public void run() {
+                if (isStopped.compareAndSet(false, true)) {
+                    histogram.record(System.nanoTime() - startNs);
+                }
+            }
+        };
+    }
+
+    /**
+     * Histogram of durations of a converter. Converters record to it themselves while they hold it.
+     */
+    @NonNull
+    public LatencyHistogram conversionHistogram(@NonNull String converter) {
+        return histogram(conversions, converter);
+    }
+
+    /**
+     * @param payloadSize Number of items carried by the event, e.g. scan results of a batch.
+     */
+    public void onEventSent(@NonNull String event, int payloadSize) {
+        if (!isEnabled) {
+            return;
+        }
+        EventCounters counters = events.get(event);
+        if (counters == null) {
+            EventCounters newCounters = new EventCounters();
+            counters = events.putIfAbsent(event, newCounters);
+            if (counters == null) {
+                counters = newCounters;
+            }
+        }
+        counters.count.incrementAndGet();
+        counters.payloadSize.addAndGet(payloadSize);
+    }
+
+    public void onScanResult() {
+        if (isEnabled) {
+            scanResults.incrementAndGet();
+        }
+    }
+
+    public void onNotification() {
+        if (isEnabled) {
+            notifications.incrementAndGet();
+        }
+    }
+
+    /**
+     * @param timeMs Current time in milliseconds, used to compute rates.
+     * @param reset  Whether the next snapshot covers only what is recorded from now on.
+     */
+    @NonNull
+    public Snapshot snapshot(long timeMs, boolean reset) {
+        long startMs = reset ? periodStartMs.getAndSet(timeMs) : periodStartMs.get();
+        Map<String, EventStats> eventStats = new HashMap<>();
+        for (Map.Entry<String, EventCounters> entry : events.entrySet()) {
+            EventCounters counters = entry.getValue();
+            eventStats.put(entry.getKey(), reset
+                    ? new EventStats(counters.count.getAndSet(0), counters.payloadSize.getAndSet(0))
+                    : new EventStats(counters.count.get(), counters.payloadSize.get()));
+        }
+        return new Snapshot(
+                Math.max(0, timeMs - startMs),
+                snapshotHistograms(methods, reset),
+                snapshotHistograms(conversions, reset),
+                eventStats,
+                reset ? scanResults.getAndSet(0) : scanResults.get(),
+                reset ? notifications.getAndSet(0) : notifications.get(),
+                snapshotUUIDStringCache(reset));
+    }
+
+    @Nullable
+    private synchronized CacheStats snapshotUUIDStringCache(boolean reset) {
+        if (uuidStringCache == null) {
+            return null;
+        }
+        long hits = uuidStringCache.getHitCount();
+        long misses = uuidStringCache.getMissCount();
+        CacheStats stats = new CacheStats(hits - uuidStringCacheHitsAtPeriodStart,
+                misses - uuidStringCacheMissesAtPeriodStart, uuidStringCache.size());
+        if (reset) {
+            uuidStringCacheHitsAtPeriodStart = hits;
+            uuidStringCacheMissesAtPeriodStart = misses;
+        }
+        return stats;
+    }
+
+    private static LatencyHistogram histogram(ConcurrentMap<String, LatencyHistogram> histograms, String name) {
+        LatencyHistogram histogram = histograms.get(name);
+        if (histogram == null) {
+            LatencyHistogram newHistogram = new LatencyHistogram();
+            histogram = histograms.putIfAbsent(name, newHistogram);
+            if (histogram == null) {
+                histogram = newHistogram;
+            }
+        }
+        return histogram;
+    }
+
+    private static Map<String, LatencyHistogram.Snapshot> snapshotHistograms(
+            ConcurrentMap<String, LatencyHistogram> histograms, boolean reset) {
+        Map<String, LatencyHistogram.Snapshot> snapshots = new HashMap<>();
+        for (Map.Entry<String, LatencyHistogram> entry : histograms.entrySet()) {
+            snapshots.put(entry.getKey(), entry.getValue().snapshot(reset));
+        }
+        return snapshots;
+    }
+}
@@ -0,0 +1,97 @@
+package com.polidea.reactnativeble.metrics;
+
+import androidx.annotation.NonNull;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Lock-free histogram of durations. Bucket i counts durations shorter than 2^i nanoseconds and not shorter than
+ * 2^(i-1), so recording costs a few atomic increments and percentiles are accurate up to a factor of two.
+ */
+public class LatencyHistogram {
+
+    // 2^40 ns is over 18 minutes, longer durations fall into the last bucket
+    static final int BUCKET_COUNT = 41;
+
+    public static class Snapshot {
+        public final long count;
+        public final long totalNs;
+        public final long maxNs;
+        private final long[] buckets;
+
+        Snapshot(long count, long totalNs, long maxNs, long[] buckets) {
+            this.count = count;
+            this.totalNs = totalNs;
+            this.maxNs = maxNs;
+            this.buckets = buckets;
+        }
+
+        public double meanNs() {
+            return count > 0 ? (double) totalNs / count : 0;
+        }
+
+        /**
+         * @param percentile Percentile from 0 to 100.
+         * @return Upper bound in nanoseconds of the bucket containing the percentile, never more than the maximum.
+         */
+        public long percentileNs(double percentile) {
+            long total = 0;
+            for (long bucket : buckets) {
+                total += bucket;
+            }
+            if (total == 0) {
+                return 0;
+            }
+            long rank = (long) Math.ceil(total * Math.min(100, Math.max(0, percentile)) / 100);
+            long seen = 0;
+            for (int i = 0; i < buckets.length; i++) {
+                seen += buckets[i];
+                if (seen >= Math.max(1, rank)) {
+                    return Math.min(upperBoundNs(i), maxNs);
+                }
+            }
+            return maxNs;
+        }
+    }
+
+    private final AtomicLongArray buckets = new AtomicLongArray(BUCKET_COUNT);
+    private final AtomicLong count = new AtomicLong();
+    private final AtomicLong totalNs = new AtomicLong();
+    private final AtomicLong maxNs = new AtomicLong();
+
+    public void record(long durationNs) {
+        long duration = Math.max(0, durationNs);
+        buckets.incrementAndGet(bucketOf(duration));
+        count.incrementAndGet();
+        totalNs.addAndGet(duration);
+        long max = maxNs.get();
+        while (duration > max && !maxNs.compareAndSet(max, duration)) {
+            max = maxNs.get();
+        }
+    }
+
+    /**
+     * Reads recorded durations, optionally starting over. Durations recorded concurrently with a reset may be
+     * partially attributed to either period.
+     */
+    @NonNull
+    public Snapshot snapshot(boolean reset) {
+        long[] bucketValues = new long[BUCKET_COUNT];
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            bucketValues[i] = reset ? buckets.getAndSet(i, 0) : buckets.get(i);
+        }
+        if (reset) {
+            return new Snapshot(count.getAndSet(0), totalNs.getAndSet(0), maxNs.getAndSet(0), bucketValues);
+        }
+        return new Snapshot(count.get(), totalNs.get(), maxNs.get(), bucketValues);
+    }
+
+    static int bucketOf(long durationNs) {
+        return Math.min(BUCKET_COUNT - 1, 64 - Long.numberOfLeadingZeros(durationNs));
+    }
+
+    static long upperBoundNs(int bucket) {
+        return bucket == BUCKET_COUNT - 1 ? Long.MAX_VALUE : 1L << bucket;
+    }
+}
@@ -0,0 +1,155 @@
+package com.polidea.reactnativeble.scan;
+
+import androidx.annotation.NonNull;
+
+import com.polidea.multiplatformbleadapter.ScanResult;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Keeps a table of scanned devices with their latest advertisement and smoothed RSSI. Instead of every scan result
+ * a periodic snapshot reports devices updated since the previous one and devices which weren't seen for longer than
+ * their time to live.
+ */
+public class ScanResultAggregator {
+
+    public static class DeviceState {
+        public final ScanResult scanResult;
+        public final double smoothedRssi;
+        public final long lastSeenMs;
+
+        DeviceState(ScanResult scanResult, double smoothedRssi, long lastSeenMs) {
+            this.scanResult = scanResult;
+            this.smoothedRssi = smoothedRssi;
+            this.lastSeenMs = lastSeenMs;
+        }
+    }
+
+    public interface OnSnapshotCallback {
+        void onSnapshot(@NonNull List<DeviceState> updatedDevices, @NonNull List<String> expiredDeviceIds);
+    }
+
+    private static class Entry {
+        ScanResult scanResult;
+        double smoothedRssi;
+        long lastSeenMs;
+        boolean isUpdated = true;
+
+        Entry(ScanResult scanResult, long lastSeenMs) {
+            this.scanResult = scanResult;
+            this.smoothedRssi = scanResult.getRssi();
+            this.lastSeenMs = lastSeenMs;
+        }
+    }
+
+    private final long snapshotIntervalMs;
+    private final long deviceTtlMs;
+    private final double rssiSmoothingFactor;
+    private final ScheduledExecutorService scheduler;
+    private final OnSnapshotCallback onSnapshotCallback;
+
+    private final Map<String, Entry> entries = new HashMap<>();
+    private ScheduledFuture<?> scheduledSnapshots;
+    private boolean isDisposed = false;
+
+    /**
+     * @param snapshotIntervalMs  Time in milliseconds between snapshots.
+     * @param deviceTtlMs         Time in milliseconds after which a device which isn't seen expires. Values <= 0
+     *                            keep devices until aggregation is disposed.
+     * @param rssiSmoothingFactor Weight of a new RSSI in the exponential moving average, from 0 (exclusive) to 1.
+     *                            1 disables smoothing.
+     * @param scheduler           Scheduler running snapshots. It may be shared with other components.
+     * @param onSnapshotCallback  Callback receiving snapshots which contain any updated or expired devices.
+     */
+    public ScanResultAggregator(long snapshotIntervalMs,
+                                long deviceTtlMs,
+                                double rssiSmoothingFactor,
+                                @NonNull ScheduledExecutorService scheduler,
+                                @NonNull OnSnapshotCallback onSnapshotCallback) {
+        this.snapshotIntervalMs = Math.max(1, snapshotIntervalMs);
+        this.deviceTtlMs = deviceTtlMs;
+        this.rssiSmoothingFactor = rssiSmoothingFactor > 0 && rssiSmoothingFactor <= 1 ? rssiSmoothingFactor : 1;
+        this.scheduler = scheduler;
+        this.onSnapshotCallback = onSnapshotCallback;
+    }
+
+    public synchronized void start() {
+        if (isDisposed || scheduledSnapshots != null) {
+            return;
+        }
+        scheduledSnapshots = scheduler.scheduleAtFixedRate(new Runnable() {
+            @Override
+            public void run() {
+                snapshot(System.currentTimeMillis());
+            }
+        }, snapshotIntervalMs, snapshotIntervalMs, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * @param scanResult Scanned advertisement.
+     * @param timeMs     Time of the scan in milliseconds since epoch.
+     */
+    public synchronized void add(@NonNull ScanResult scanResult, long timeMs) {
+        if (isDisposed) {
+            return;
+        }
+        Entry entry = entries.get(scanResult.getDeviceId());
+        if (entry == null) {
+            entries.put(scanResult.getDeviceId(), new Entry(scanResult, timeMs));
+            return;
+        }
+        entry.scanResult = scanResult;
+        entry.smoothedRssi += rssiSmoothingFactor * (scanResult.getRssi() - entry.smoothedRssi);
+        entry.lastSeenMs = timeMs;
+        entry.isUpdated = true;
+    }
+
+    /**
+     * Reports devices updated since the previous snapshot and removes expired ones.
+     *
+     * @param timeMs Current time in milliseconds since epoch.
+     */
+    public void snapshot(long timeMs) {
+        List<DeviceState> updatedDevices = new ArrayList<>();
+        List<String> expiredDeviceIds = new ArrayList<>();
+        synchronized (this) {
+            if (isDisposed) {
+                return;
+            }
+            Iterator<Map.Entry<String, Entry>> iterator = entries.entrySet().iterator();
+            while (iterator.hasNext()) {
+                Map.Entry<String, Entry> mapEntry = iterator.next();
+                Entry entry = mapEntry.getValue();
+                if (deviceTtlMs > 0 && timeMs - entry.lastSeenMs > deviceTtlMs) {
+                    iterator.remove();
+                    expiredDeviceIds.add(mapEntry.getKey());
+                } else if (entry.isUpdated) {
+                    entry.isUpdated = false;
+                    updatedDevices.add(new DeviceState(entry.scanResult, entry.smoothedRssi, entry.lastSeenMs));
+                }
+            }
+        }
+        if (!updatedDevices.isEmpty() || !expiredDeviceIds.isEmpty()) {
+            onSnapshotCallback.onSnapshot(updatedDevices, expiredDeviceIds);
+        }
+    }
+
+    /**
+     * Stops snapshots and drops the table. Aggregator cannot be used afterwards.
+     */
+    public synchronized void dispose() {
+        isDisposed = true;
+        entries.clear();
+        if (scheduledSnapshots != null) {
+            scheduledSnapshots.cancel(false);
+            scheduledSnapshots = null;
+        }
+    }
+}
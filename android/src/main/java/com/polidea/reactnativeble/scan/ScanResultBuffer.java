@@ -0,0 +1,93 @@
+package com.polidea.reactnativeble.scan;
+
+import androidx.annotation.NonNull;
+
+import com.polidea.multiplatformbleadapter.ScanResult;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Keeps a bounded number of recent scan results until JS takes them. When the buffer is full the oldest result is
+ * dropped, so memory stays bounded regardless of the advertisement rate. Optionally only the latest result of every
+ * device is kept, in which case a new result of a buffered device replaces the previous one in place.
+ */
+public class ScanResultBuffer {
+
+    private final int capacity;
+    private final boolean latestPerDevice;
+
+    // Ring of results used when all results are kept
+    private final ScanResult[] ring;
+    private int head = 0;
+    private int size = 0;
+
+    // Results by device ids in order of their first arrival, used when only latest results are kept
+    private final LinkedHashMap<String, ScanResult> latestResults = new LinkedHashMap<>();
+
+    /**
+     * @param capacity        Maximum number of buffered results.
+     * @param latestPerDevice Whether only the latest result of every device is kept.
+     */
+    public ScanResultBuffer(int capacity, boolean latestPerDevice) {
+        this.capacity = Math.max(1, capacity);
+        this.latestPerDevice = latestPerDevice;
+        this.ring = latestPerDevice ? null : new ScanResult[this.capacity];
+    }
+
+    public synchronized void add(@NonNull ScanResult scanResult) {
+        if (latestPerDevice) {
+            String deviceId = scanResult.getDeviceId();
+            if (latestResults.containsKey(deviceId)) {
+                latestResults.put(deviceId, scanResult);
+                return;
+            }
+            if (latestResults.size() == capacity) {
+                Iterator<Map.Entry<String, ScanResult>> oldest = latestResults.entrySet().iterator();
+                oldest.next();
+                oldest.remove();
+            }
+            latestResults.put(deviceId, scanResult);
+            return;
+        }
+        ring[(head + size) % capacity] = scanResult;
+        if (size == capacity) {
+            head = (head + 1) % capacity;
+        } else {
+            size++;
+        }
+    }
+
+    /**
+     * Removes and returns the oldest buffered results.
+     *
+     * @param maxCount Maximum number of returned results, values <= 0 return all of them.
+     */
+    @NonNull
+    public synchronized List<ScanResult> drain(int maxCount) {
+        int count = maxCount > 0 ? Math.min(maxCount, size()) : size();
+        List<ScanResult> results = new ArrayList<>(count);
+        if (latestPerDevice) {
+            Iterator<ScanResult> iterator = latestResults.values().iterator();
+            while (results.size() < count) {
+                results.add(iterator.next());
+                iterator.remove();
+            }
+            return results;
+        }
+        for (int i = 0; i < count; i++) {
+            results.add(ring[head]);
+            ring[head] = null;
+            head = (head + 1) % capacity;
+        }
+        size -= count;
+        return results;
+    }
+
+    public synchronized int size() {
+        return latestPerDevice ? latestResults.size() : size;
+    }
+}
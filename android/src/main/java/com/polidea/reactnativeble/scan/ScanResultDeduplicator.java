@@ -0,0 +1,135 @@
+package com.polidea.reactnativeble.scan;
+
+import androidx.annotation.NonNull;
+
+import com.polidea.multiplatformbleadapter.AdvertisementData;
+import com.polidea.multiplatformbleadapter.ScanResult;
+
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Drops repeated scan results of the same device. A result is reported only when it is the first one for
+ * its device, its advertisement payload changed, its RSSI moved by more than the configured delta or the
+ * minimum report interval passed since the last reported result.
+ * <p>
+ * Last reports older than the report interval are forgotten, and at most {@link #MAX_TRACKED_DEVICES} devices are
+ * tracked at once, so that long scans don't remember every device ever seen.
+ */
+public class ScanResultDeduplicator {
+
+    private static class LastReport {
+        final ScanResult scanResult;
+        final long timestampMs;
+
+        LastReport(ScanResult scanResult, long timestampMs) {
+            this.scanResult = scanResult;
+            this.timestampMs = timestampMs;
+        }
+    }
+
+    static final int MAX_TRACKED_DEVICES = 4096;
+
+    private final int rssiDelta;
+    private final long reportIntervalMs;
+    // Ordered from the oldest report, stale reports and reports above the limit are removed from the head
+    private final LinkedHashMap<String, LastReport> lastReports = new LinkedHashMap<String, LastReport>() {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, LastReport> eldest) {
+            return size() > MAX_TRACKED_DEVICES;
+        }
+    };
+
+    /**
+     * @param rssiDelta        RSSI change which needs to be exceeded to report a result. Negative values disable
+     *                         reporting on RSSI change.
+     * @param reportIntervalMs Time after which a result is reported even if nothing changed. Values <= 0 disable
+     *                         periodic reports.
+     */
+    public ScanResultDeduplicator(int rssiDelta, long reportIntervalMs) {
+        this.rssiDelta = rssiDelta;
+        this.reportIntervalMs = reportIntervalMs;
+    }
+
+    /**
+     * @param timeMs Monotonic time of the result, not smaller than times of previous results.
+     */
+    public synchronized boolean shouldReport(@NonNull ScanResult scanResult, long timeMs) {
+        pruneStaleReports(timeMs);
+        final LastReport lastReport = lastReports.get(scanResult.getDeviceId());
+
+        if (lastReport != null
+                && !isRssiChanged(lastReport.scanResult, scanResult)
+                && !isReportIntervalPassed(lastReport, timeMs)
+                && isPayloadEqual(lastReport.scanResult, scanResult)) {
+            return false;
+        }
+        lastReports.remove(scanResult.getDeviceId());
+        lastReports.put(scanResult.getDeviceId(), new LastReport(scanResult, timeMs));
+        return true;
+    }
+
+    synchronized int getTrackedDeviceCount() {
+        return lastReports.size();
+    }
+
+    /**
+     * Forgets reports after which the report interval passed, next results of their devices are reported anyway.
+     */
+    private void pruneStaleReports(long timeMs) {
+        if (reportIntervalMs <= 0) {
+            return;
+        }
+        Iterator<LastReport> iterator = lastReports.values().iterator();
+        while (iterator.hasNext() && isReportIntervalPassed(iterator.next(), timeMs)) {
+            iterator.remove();
+        }
+    }
+
+    private boolean isRssiChanged(ScanResult previous, ScanResult current) {
+        return rssiDelta >= 0 && Math.abs(current.getRssi() - previous.getRssi()) > rssiDelta;
+    }
+
+    private boolean isReportIntervalPassed(LastReport lastReport, long now) {
+        return reportIntervalMs > 0 && now - lastReport.timestampMs >= reportIntervalMs;
+    }
+
+    private static boolean isPayloadEqual(ScanResult previous, ScanResult current) {
+        if (!equals(previous.getDeviceName(), current.getDeviceName())) {
+            return false;
+        }
+        AdvertisementData previousData = previous.getAdvertisementData();
+        AdvertisementData currentData = current.getAdvertisementData();
+        if (previousData == null || currentData == null) {
+            return previousData == currentData;
+        }
+        return Arrays.equals(previousData.getManufacturerData(), currentData.getManufacturerData())
+                && isServiceDataEqual(previousData.getServiceData(), currentData.getServiceData())
+                && equals(previousData.getServiceUUIDs(), currentData.getServiceUUIDs())
+                && equals(previousData.getLocalName(), currentData.getLocalName())
+                && equals(previousData.getTxPowerLevel(), currentData.getTxPowerLevel())
+                && equals(previousData.getSolicitedServiceUUIDs(), currentData.getSolicitedServiceUUIDs());
+    }
+
+    private static boolean isServiceDataEqual(Map<UUID, byte[]> previous, Map<UUID, byte[]> current) {
+        if (previous == null || current == null) {
+            return previous == current;
+        }
+        if (previous.size() != current.size()) {
+            return false;
+        }
+        for (Map.Entry<UUID, byte[]> entry : previous.entrySet()) {
+            if (!Arrays.equals(entry.getValue(), current.get(entry.getKey()))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean equals(Object a, Object b) {
+        return a == null ? b == null : a.equals(b);
+    }
+}
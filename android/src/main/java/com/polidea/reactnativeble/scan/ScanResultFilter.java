@@ -0,0 +1,156 @@
+package com.polidea.reactnativeble.scan;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+import com.polidea.multiplatformbleadapter.AdvertisementData;
+import com.polidea.multiplatformbleadapter.ScanResult;
+
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.regex.Pattern;
+
+/**
+ * Drops scan results which don't match advertisement criteria before they are converted and passed to JS.
+ * A result is accepted when its RSSI reaches the minimum and it matches any of advertisement filters, or
+ * when no advertisement filters are set.
+ */
+public class ScanResultFilter {
+
+    /**
+     * Set of criteria which all need to be met by an advertisement. Criteria which are null are not checked.
+     * Masked byte comparisons check only bits set in the mask, missing mask compares whole bytes.
+     */
+    public static class AdvertisementFilter {
+        @Nullable
+        final Integer manufacturerId;
+        @Nullable
+        final byte[] manufacturerData;
+        @Nullable
+        final byte[] manufacturerDataMask;
+        @Nullable
+        final String namePrefix;
+        @Nullable
+        final Pattern namePattern;
+        @Nullable
+        final UUID serviceDataUuid;
+        @Nullable
+        final byte[] serviceData;
+        @Nullable
+        final byte[] serviceDataMask;
+
+        /**
+         * @param manufacturerId       Company identifier which starts manufacturer specific data.
+         * @param manufacturerData     Expected manufacturer specific data following the company identifier.
+         * @param manufacturerDataMask Mask of compared manufacturer data bits.
+         * @param namePrefix           Prefix of the device name or the advertised local name.
+         * @param namePattern          Regular expression which needs to be found in the device name or the
+         *                             advertised local name.
+         * @param serviceDataUuid      UUID of a service which advertises service data.
+         * @param serviceData          Expected data of the service.
+         * @param serviceDataMask      Mask of compared service data bits.
+         */
+        public AdvertisementFilter(@Nullable Integer manufacturerId,
+                                   @Nullable byte[] manufacturerData,
+                                   @Nullable byte[] manufacturerDataMask,
+                                   @Nullable String namePrefix,
+                                   @Nullable Pattern namePattern,
+                                   @Nullable UUID serviceDataUuid,
+                                   @Nullable byte[] serviceData,
+                                   @Nullable byte[] serviceDataMask) {
+            this.manufacturerId = manufacturerId;
+            this.manufacturerData = manufacturerData;
+            this.manufacturerDataMask = manufacturerDataMask;
+            this.namePrefix = namePrefix;
+            this.namePattern = namePattern;
+            this.serviceDataUuid = serviceDataUuid;
+            this.serviceData = serviceData;
+            this.serviceDataMask = serviceDataMask;
+        }
+
+        boolean matches(@NonNull ScanResult scanResult) {
+            AdvertisementData advertisementData = scanResult.getAdvertisementData();
+            if ((namePrefix != null || namePattern != null)
+                    && !matchesName(scanResult.getDeviceName())
+                    && !matchesName(advertisementData != null ? advertisementData.getLocalName() : null)) {
+                return false;
+            }
+            if (manufacturerId != null || manufacturerData != null) {
+                byte[] data = advertisementData != null ? advertisementData.getManufacturerData() : null;
+                if (data == null || data.length < 2) {
+                    return false;
+                }
+                // Company identifier is little endian
+                int id = (data[0] & 0xFF) | (data[1] & 0xFF) << 8;
+                if (manufacturerId != null && manufacturerId != id) {
+                    return false;
+                }
+                if (manufacturerData != null && !matchesMasked(data, 2, manufacturerData, manufacturerDataMask)) {
+                    return false;
+                }
+            }
+            if (serviceDataUuid != null) {
+                Map<UUID, byte[]> allServiceData =
+                        advertisementData != null ? advertisementData.getServiceData() : null;
+                byte[] data = allServiceData != null ? allServiceData.get(serviceDataUuid) : null;
+                if (data == null) {
+                    return false;
+                }
+                if (serviceData != null && !matchesMasked(data, 0, serviceData, serviceDataMask)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        private boolean matchesName(@Nullable String name) {
+            if (name == null) {
+                return false;
+            }
+            return (namePrefix == null || name.startsWith(namePrefix))
+                    && (namePattern == null || namePattern.matcher(name).find());
+        }
+
+        private static boolean matchesMasked(byte[] actual, int offset, byte[] expected, @Nullable byte[] mask) {
+            if (actual.length - offset < expected.length) {
+                return false;
+            }
+            for (int i = 0; i < expected.length; i++) {
+                int bitMask = mask != null ? (i < mask.length ? mask[i] : 0) : 0xFF;
+                if (((actual[offset + i] ^ expected[i]) & bitMask) != 0) {
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
+
+    @Nullable
+    private final Integer minRssi;
+    private final List<AdvertisementFilter> advertisementFilters;
+
+    /**
+     * @param minRssi              Minimum RSSI of accepted results, null to accept any.
+     * @param advertisementFilters Filters of which any needs to match, empty to accept any advertisement.
+     */
+    public ScanResultFilter(@Nullable Integer minRssi, @NonNull List<AdvertisementFilter> advertisementFilters) {
+        this.minRssi = minRssi;
+        this.advertisementFilters = advertisementFilters;
+    }
+
+    public boolean matches(@NonNull ScanResult scanResult) {
+        if (minRssi != null && scanResult.getRssi() < minRssi) {
+            return false;
+        }
+        if (advertisementFilters.isEmpty()) {
+            return true;
+        }
+        for (AdvertisementFilter filter : advertisementFilters) {
+            if (filter.matches(scanResult)) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,937 @@
+package com.polidea.reactnativeble.simulation;
+
+import android.bluetooth.BluetoothGattCharacteristic;
+import android.bluetooth.BluetoothGattService;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+import com.polidea.multiplatformbleadapter.AdvertisementData;
+import com.polidea.multiplatformbleadapter.BleAdapter;
+import com.polidea.multiplatformbleadapter.Characteristic;
+import com.polidea.multiplatformbleadapter.ConnectionOptions;
+import com.polidea.multiplatformbleadapter.ConnectionState;
+import com.polidea.multiplatformbleadapter.Descriptor;
+import com.polidea.multiplatformbleadapter.Device;
+import com.polidea.multiplatformbleadapter.OnErrorCallback;
+import com.polidea.multiplatformbleadapter.OnEventCallback;
+import com.polidea.multiplatformbleadapter.OnSuccessCallback;
+import com.polidea.multiplatformbleadapter.ScanResult;
+import com.polidea.multiplatformbleadapter.Service;
+import com.polidea.multiplatformbleadapter.errors.BleError;
+import com.polidea.multiplatformbleadapter.errors.BleErrorCode;
+import com.polidea.reactnativeble.utils.Base64Converter;
+import com.polidea.reactnativeble.utils.UUIDConverter;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Random;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Adapter simulating devices instead of using the radio, used to load test the module without real devices.
+ * Every simulated device advertises {@link #SERVICE_UUID} and, once connected and discovered, exposes it with
+ * a readable and notifiable {@link #NOTIFY_CHARACTERISTIC_UUID} and a readable and writable
+ * {@link #WRITE_CHARACTERISTIC_UUID}. Simulated devices have no descriptors.
+ * <p>
+ * All callbacks are called on a single simulation thread, like callbacks of the real adapter come from its own
+ * threads.
+ */
+public class SimulatedBleAdapter implements BleAdapter {
+
+    public static final UUID SERVICE_UUID = UUID.fromString("5e1a0001-0000-4000-8000-00805f9b34fb");
+    public static final UUID NOTIFY_CHARACTERISTIC_UUID = UUID.fromString("5e1a0002-0000-4000-8000-00805f9b34fb");
+    public static final UUID WRITE_CHARACTERISTIC_UUID = UUID.fromString("5e1a0003-0000-4000-8000-00805f9b34fb");
+
+    private static final String DEVICE_ID_FORMAT = "5E:1A:00:00:%02X:%02X";
+    private static final String POWERED_ON = "PoweredOn";
+    private static final int DEFAULT_MTU = 23;
+    private static final int MAX_MTU = 517;
+    private static final long SCAN_TICK_MS = 10;
+    private static final long DISCONNECT_CHECK_INTERVAL_MS = 1000;
+
+    private static class SimulatedDevice {
+        final String id;
+        final String name;
+        volatile boolean isConnected = false;
+        volatile int mtu = DEFAULT_MTU;
+        @Nullable
+        OnEventCallback<ConnectionState> onConnectionStateChangedCallback;
+        @Nullable
+        ScheduledFuture<?> disconnectChecks;
+        @Nullable
+        volatile List<Service> services;
+
+        SimulatedDevice(String id, String name) {
+            this.id = id;
+            this.name = name;
+        }
+    }
+
+    private static class SimulatedCharacteristic {
+        final SimulatedDevice device;
+        final Service service;
+        final BluetoothGattCharacteristic gattCharacteristic;
+        volatile Characteristic characteristic;
+
+        SimulatedCharacteristic(SimulatedDevice device,
+                                Service service,
+                                BluetoothGattCharacteristic gattCharacteristic) {
+            this.device = device;
+            this.service = service;
+            this.gattCharacteristic = gattCharacteristic;
+            this.characteristic = new Characteristic(service, gattCharacteristic);
+        }
+    }
+
+    private static class PendingOperation {
+        @Nullable
+        final String deviceId;
+        final OnErrorCallback onErrorCallback;
+        // Set right after the operation is scheduled
+        volatile ScheduledFuture<?> future;
+
+        PendingOperation(@Nullable String deviceId, OnErrorCallback onErrorCallback) {
+            this.deviceId = deviceId;
+            this.onErrorCallback = onErrorCallback;
+        }
+
+        void cancel() {
+            ScheduledFuture<?> scheduledFuture = future;
+            if (scheduledFuture != null) {
+                scheduledFuture.cancel(false);
+            }
+        }
+    }
+
+    private final SimulationOptions options;
+    private final Random random;
+    private final ScheduledExecutorService executor = Executors.newSingleThreadScheduledExecutor();
+
+    private final Map<String, SimulatedDevice> devices = new ConcurrentHashMap<>();
+    private final Map<Integer, Service> services = new ConcurrentHashMap<>();
+    private final Map<Integer, SimulatedCharacteristic> characteristics = new ConcurrentHashMap<>();
+    // Operations which may be cancelled, by transaction ids
+    private final Map<String, PendingOperation> pendingOperations = new ConcurrentHashMap<>();
+    private final Map<String, PendingOperation> monitors = new ConcurrentHashMap<>();
+
+    @Nullable
+    private ScheduledFuture<?> scanTicks;
+    private volatile String logLevel = "None";
+
+    public SimulatedBleAdapter(@NonNull SimulationOptions options) {
+        this.options = options;
+        this.random = new Random(options.seed);
+        for (int i = 0; i < options.advertisers; i++) {
+            String id = String.format(Locale.US, DEVICE_ID_FORMAT, (i >> 8) & 0xFF, i & 0xFF);
+            devices.put(id, new SimulatedDevice(id, "Simulated " + i));
+        }
+    }
+
+    // Lifecycle -----------------------------------------------------------------------------------
+
+    @Override
+    public void createClient(String restoreStateIdentifier,
+                             final OnEventCallback<String> onAdapterStateChangeCallback,
+                             OnEventCallback<Integer> onStateRestored) {
+        executor.execute(new Runnable() {
+            @Override
+            public void run() {
+                onAdapterStateChangeCallback.onEvent(POWERED_ON);
+            }
+        });
+    }
+
+    @Override
+    public void destroyClient() {
+        stopDeviceScan();
+        executor.shutdownNow();
+        pendingOperations.clear();
+        monitors.clear();
+    }
+
+    @Override
+    public void enable(String transactionId,
+                       OnSuccessCallback<Void> onSuccessCallback,
+                       OnErrorCallback onErrorCallback) {
+        onSuccessCallback.onSuccess(null);
+    }
+
+    @Override
+    public void disable(String transactionId,
+                        OnSuccessCallback<Void> onSuccessCallback,
+                        OnErrorCallback onErrorCallback) {
+        onSuccessCallback.onSuccess(null);
+    }
+
+    @Override
+    public String getCurrentState() {
+        return POWERED_ON;
+    }
+
+    // Scanning ------------------------------------------------------------------------------------
+
+    @Override
+    public synchronized void startDeviceScan(String[] filteredUUIDs,
+                                             int scanMode,
+                                             int callbackType,
+                                             final OnEventCallback<ScanResult> onEventCallback,
+                                             OnErrorCallback onErrorCallback) {
+        stopDeviceScan();
+        if (filteredUUIDs != null && filteredUUIDs.length > 0) {
+            boolean isAdvertised = false;
+            for (String uuid : filteredUUIDs) {
+                isAdvertised |= SERVICE_UUID.equals(UUIDConverter.convert(uuid));
+            }
+            if (!isAdvertised) {
+                return;
+            }
+        }
+        final List<SimulatedDevice> advertisers = new ArrayList<>(devices.values());
+        final double resultsPerTick = advertisers.size() * options.advertisingRateHz * SCAN_TICK_MS / 1000;
+        scanTicks = executor.scheduleAtFixedRate(new Runnable() {
+            private double dueResults = 0;
+            private int nextAdvertiser = 0;
+            private int sequenceNumber = 0;
+
+            @Override
+            public void run() {
+                dueResults += resultsPerTick;
+                while (dueResults >= 1) {
+                    dueResults--;
+                    SimulatedDevice device = advertisers.get(nextAdvertiser);
+                    nextAdvertiser = (nextAdvertiser + 1) % advertisers.size();
+                    onEventCallback.onEvent(scanResult(device, sequenceNumber++));
+                }
+            }
+        }, 0, SCAN_TICK_MS, TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    public synchronized void stopDeviceScan() {
+        if (scanTicks != null) {
+            scanTicks.cancel(false);
+            scanTicks = null;
+        }
+    }
+
+    private ScanResult scanResult(SimulatedDevice device, int sequenceNumber) {
+        byte[] manufacturerData = new byte[]{
+                (byte) 0xFF, (byte) 0xFF,
+                (byte) sequenceNumber, (byte) (sequenceNumber >> 8),
+                (byte) (sequenceNumber >> 16), (byte) (sequenceNumber >> 24)
+        };
+        ArrayList<UUID> serviceUUIDs = new ArrayList<>(Collections.singletonList(SERVICE_UUID));
+        AdvertisementData advertisementData =
+                new AdvertisementData(manufacturerData, null, serviceUUIDs, device.name, -8, null);
+        return new ScanResult(device.id, device.name, randomRssi(), DEFAULT_MTU, null, null, advertisementData);
+    }
+
+    private int randomRssi() {
+        return -40 - random.nextInt(60);
+    }
+
+    // Device operations ---------------------------------------------------------------------------
+
+    @Override
+    public void requestConnectionPriorityForDevice(final String deviceIdentifier,
+                                                   int connectionPriority,
+                                                   String transactionId,
+                                                   final OnSuccessCallback<Device> onSuccessCallback,
+                                                   final OnErrorCallback onErrorCallback) {
+        scheduleOperation(deviceIdentifier, transactionId, options.gattLatencyMs, new Operation() {
+            @Override
+            public void run() throws BleError {
+                onSuccessCallback.onSuccess(toDevice(connectedDevice(deviceIdentifier)));
+            }
+        }, onErrorCallback);
+    }
+
+    @Override
+    public void readRSSIForDevice(final String deviceIdentifier,
+                                  String transactionId,
+                                  final OnSuccessCallback<Device> onSuccessCallback,
+                                  OnErrorCallback onErrorCallback) {
+        scheduleOperation(deviceIdentifier, transactionId, options.gattLatencyMs, new Operation() {
+            @Override
+            public void run() throws BleError {
+                Device device = toDevice(connectedDevice(deviceIdentifier));
+                device.setRssi(randomRssi());
+                onSuccessCallback.onSuccess(device);
+            }
+        }, onErrorCallback);
+    }
+
+    @Override
+    public void requestMTUForDevice(final String deviceIdentifier,
+                                    final int mtu,
+                                    String transactionId,
+                                    final OnSuccessCallback<Device> onSuccessCallback,
+                                    OnErrorCallback onErrorCallback) {
+        scheduleOperation(deviceIdentifier, transactionId, options.gattLatencyMs, new Operation() {
+            @Override
+            public void run() throws BleError {
+                SimulatedDevice device = connectedDevice(deviceIdentifier);
+                device.mtu = Math.max(DEFAULT_MTU, Math.min(MAX_MTU, mtu));
+                onSuccessCallback.onSuccess(toDevice(device));
+            }
+        }, onErrorCallback);
+    }
+
+    @Override
+    public void getKnownDevices(String[] deviceIdentifiers,
+                                OnSuccessCallback<Device[]> onSuccessCallback,
+                                OnErrorCallback onErrorCallback) {
+        List<Device> knownDevices = new ArrayList<>();
+        for (String deviceIdentifier : deviceIdentifiers) {
+            SimulatedDevice device = devices.get(deviceIdentifier);
+            if (device != null) {
+                knownDevices.add(toDevice(device));
+            }
+        }
+        onSuccessCallback.onSuccess(knownDevices.toArray(new Device[0]));
+    }
+
+    @Override
+    public void getConnectedDevices(String[] serviceUUIDs,
+                                    OnSuccessCallback<Device[]> onSuccessCallback,
+                                    OnErrorCallback onErrorCallback) {
+        List<Device> connectedDevices = new ArrayList<>();
+        for (SimulatedDevice device : devices.values()) {
+            if (device.isConnected) {
+                connectedDevices.add(toDevice(device));
+            }
+        }
+        onSuccessCallback.onSuccess(connectedDevices.toArray(new Device[0]));
+    }
+
+    // Connection management -----------------------------------------------------------------------
+
+    @Override
+    public void connectToDevice(final String deviceIdentifier,
+                                ConnectionOptions connectionOptions,
+                                final OnSuccessCallback<Device> onSuccessCallback,
+                                final OnEventCallback<ConnectionState> onConnectionStateChangedCallback,
+                                final OnErrorCallback onErrorCallback) {
+        final SimulatedDevice device = devices.get(deviceIdentifier);
+        if (device != null && device.isConnected) {
+            onErrorCallback.onError(error(BleErrorCode.DeviceAlreadyConnected, deviceIdentifier));
+            return;
+        }
+        // Connection can be cancelled only by cancelling connection of the device
+        scheduleOperation(deviceIdentifier, null, options.connectionLatencyMs, new Operation() {
+            @Override
+            public void run() throws BleError {
+                if (device == null) {
+                    throw error(BleErrorCode.DeviceConnectionFailed, deviceIdentifier);
+                }
+                device.isConnected = true;
+                device.mtu = DEFAULT_MTU;
+                device.onConnectionStateChangedCallback = onConnectionStateChangedCallback;
+                if (options.disconnectsPerMinute > 0) {
+                    device.disconnectChecks = executor.scheduleAtFixedRate(new Runnable() {
+                        @Override
+                        public void run() {
+                            double probability = options.disconnectsPerMinute * DISCONNECT_CHECK_INTERVAL_MS / 60000;
+                            if (random.nextDouble() < probability) {
+                                disconnect(device, error(BleErrorCode.DeviceDisconnected, device.id));
+                            }
+                        }
+                    }, DISCONNECT_CHECK_INTERVAL_MS, DISCONNECT_CHECK_INTERVAL_MS, TimeUnit.MILLISECONDS);
+                }
+                onConnectionStateChangedCallback.onEvent(ConnectionState.CONNECTED);
+                onSuccessCallback.onSuccess(toDevice(device));
+            }
+        }, onErrorCallback);
+    }
+
+    @Override
+    public void cancelDeviceConnection(final String deviceIdentifier,
+                                       final OnSuccessCallback<Device> onSuccessCallback,
+                                       final OnErrorCallback onErrorCallback) {
+        executor.execute(new Runnable() {
+            @Override
+            public void run() {
+                SimulatedDevice device = devices.get(deviceIdentifier);
+                if (device == null || !device.isConnected) {
+                    onErrorCallback.onError(error(BleErrorCode.DeviceNotConnected, deviceIdentifier));
+                    return;
+                }
+                disconnect(device, error(BleErrorCode.OperationCancelled, deviceIdentifier));
+                onSuccessCallback.onSuccess(toDevice(device));
+            }
+        });
+    }
+
+    @Override
+    public void isDeviceConnected(String deviceIdentifier,
+                                  OnSuccessCallback<Boolean> onSuccessCallback,
+                                  OnErrorCallback onErrorCallback) {
+        SimulatedDevice device = devices.get(deviceIdentifier);
+        onSuccessCallback.onSuccess(device != null && device.isConnected);
+    }
+
+    /**
+     * Disconnects a device on the simulation thread. Its pending operations and monitors fail with passed error.
+     */
+    private void disconnect(SimulatedDevice device, BleError error) {
+        if (!device.isConnected) {
+            return;
+        }
+        device.isConnected = false;
+        if (device.disconnectChecks != null) {
+            device.disconnectChecks.cancel(false);
+            device.disconnectChecks = null;
+        }
+        failOperations(pendingOperations, device.id, error);
+        failOperations(monitors, device.id, error);
+        OnEventCallback<ConnectionState> onConnectionStateChangedCallback = device.onConnectionStateChangedCallback;
+        device.onConnectionStateChangedCallback = null;
+        if (onConnectionStateChangedCallback != null) {
+            onConnectionStateChangedCallback.onEvent(ConnectionState.DISCONNECTED);
+        }
+    }
+
+    private static void failOperations(Map<String, PendingOperation> operations, String deviceId, BleError error) {
+        Iterator<PendingOperation> iterator = operations.values().iterator();
+        while (iterator.hasNext()) {
+            PendingOperation operation = iterator.next();
+            if (deviceId.equals(operation.deviceId)) {
+                iterator.remove();
+                operation.cancel();
+                operation.onErrorCallback.onError(error);
+            }
+        }
+    }
+
+    // Discovery -----------------------------------------------------------------------------------
+
+    @Override
+    public void discoverAllServicesAndCharacteristicsForDevice(final String deviceIdentifier,
+                                                               String transactionId,
+                                                               final OnSuccessCallback<Device> onSuccessCallback,
+                                                               OnErrorCallback onErrorCallback) {
+        scheduleOperation(deviceIdentifier, transactionId, options.gattLatencyMs, new Operation() {
+            @Override
+            public void run() throws BleError {
+                SimulatedDevice device = connectedDevice(deviceIdentifier);
+                if (device.services == null) {
+                    device.services = createServices(device);
+                }
+                onSuccessCallback.onSuccess(toDevice(device));
+            }
+        }, onErrorCallback);
+    }
+
+    private List<Service> createServices(SimulatedDevice device) {
+        BluetoothGattService gattService =
+                new BluetoothGattService(SERVICE_UUID, BluetoothGattService.SERVICE_TYPE_PRIMARY);
+        BluetoothGattCharacteristic notifyCharacteristic = new BluetoothGattCharacteristic(NOTIFY_CHARACTERISTIC_UUID,
+                BluetoothGattCharacteristic.PROPERTY_READ | BluetoothGattCharacteristic.PROPERTY_NOTIFY,
+                BluetoothGattCharacteristic.PERMISSION_READ);
+        BluetoothGattCharacteristic writeCharacteristic = new BluetoothGattCharacteristic(WRITE_CHARACTERISTIC_UUID,
+                BluetoothGattCharacteristic.PROPERTY_READ | BluetoothGattCharacteristic.PROPERTY_WRITE
+                        | BluetoothGattCharacteristic.PROPERTY_WRITE_NO_RESPONSE,
+                BluetoothGattCharacteristic.PERMISSION_READ | BluetoothGattCharacteristic.PERMISSION_WRITE);
+        gattService.addCharacteristic(notifyCharacteristic);
+        gattService.addCharacteristic(writeCharacteristic);
+
+        Service service = new Service(services.size() + 1, device.id, gattService);
+        services.put(service.getId(), service);
+        for (BluetoothGattCharacteristic gattCharacteristic : gattService.getCharacteristics()) {
+            SimulatedCharacteristic characteristic = new SimulatedCharacteristic(device, service, gattCharacteristic);
+            characteristics.put(characteristic.characteristic.getId(), characteristic);
+        }
+        return Collections.singletonList(service);
+    }
+
+    @Override
+    public List<Service> getServicesForDevice(String deviceIdentifier) throws BleError {
+        return discoveredServices(deviceIdentifier);
+    }
+
+    @Override
+    public List<Characteristic> getCharacteristicsForDevice(String deviceIdentifier,
+                                                            String serviceUUID) throws BleError {
+        UUID uuid = UUIDConverter.convert(serviceUUID);
+        for (Service service : discoveredServices(deviceIdentifier)) {
+            if (service.getUuid().equals(uuid)) {
+                return service.getCharacteristics();
+            }
+        }
+        throw error(BleErrorCode.ServiceNotFound, deviceIdentifier);
+    }
+
+    @Override
+    public List<Characteristic> getCharacteristicsForService(int serviceIdentifier) throws BleError {
+        Service service = services.get(serviceIdentifier);
+        if (service == null) {
+            throw error(BleErrorCode.ServiceNotFound, null);
+        }
+        return service.getCharacteristics();
+    }
+
+    @Override
+    public List<Descriptor> descriptorsForDevice(String deviceIdentifier,
+                                                 String serviceUUID,
+                                                 String characteristicUUID) throws BleError {
+        findCharacteristic(deviceIdentifier, serviceUUID, characteristicUUID);
+        return Collections.emptyList();
+    }
+
+    @Override
+    public List<Descriptor> descriptorsForService(int serviceIdentifier, String characteristicUUID) throws BleError {
+        findCharacteristic(serviceIdentifier, characteristicUUID);
+        return Collections.emptyList();
+    }
+
+    @Override
+    public List<Descriptor> descriptorsForCharacteristic(int characteristicIdentifier) throws BleError {
+        findCharacteristic(characteristicIdentifier);
+        return Collections.emptyList();
+    }
+
+    // Characteristics operations ------------------------------------------------------------------
+
+    @Override
+    public void readCharacteristicForDevice(final String deviceIdentifier,
+                                            final String serviceUUID,
+                                            final String characteristicUUID,
+                                            String transactionId,
+                                            OnSuccessCallback<Characteristic> onSuccessCallback,
+                                            OnErrorCallback onErrorCallback) {
+        read(deviceIdentifier, transactionId, new Lookup() {
+            @Override
+            public SimulatedCharacteristic find() throws BleError {
+                return findCharacteristic(deviceIdentifier, serviceUUID, characteristicUUID);
+            }
+        }, onSuccessCallback, onErrorCallback);
+    }
+
+    @Override
+    public void readCharacteristicForService(final int serviceIdentifier,
+                                             final String characteristicUUID,
+                                             String transactionId,
+                                             OnSuccessCallback<Characteristic> onSuccessCallback,
+                                             OnErrorCallback onErrorCallback) {
+        read(null, transactionId, new Lookup() {
+            @Override
+            public SimulatedCharacteristic find() throws BleError {
+                return findCharacteristic(serviceIdentifier, characteristicUUID);
+            }
+        }, onSuccessCallback, onErrorCallback);
+    }
+
+    @Override
+    public void readCharacteristic(final int characteristicIdentifer,
+                                   String transactionId,
+                                   OnSuccessCallback<Characteristic> onSuccessCallback,
+                                   OnErrorCallback onErrorCallback) {
+        read(null, transactionId, new Lookup() {
+            @Override
+            public SimulatedCharacteristic find() throws BleError {
+                return findCharacteristic(characteristicIdentifer);
+            }
+        }, onSuccessCallback, onErrorCallback);
+    }
+
+    @Override
+    public void writeCharacteristicForDevice(final String deviceIdentifier,
+                                             final String serviceUUID,
+                                             final String characteristicUUID,
+                                             String valueBase64,
+                                             boolean withResponse,
+                                             String transactionId,
+                                             OnSuccessCallback<Characteristic> onSuccessCallback,
+                                             OnErrorCallback onErrorCallback) {
+        write(deviceIdentifier, valueBase64, transactionId, new Lookup() {
+            @Override
+            public SimulatedCharacteristic find() throws BleError {
+                return findCharacteristic(deviceIdentifier, serviceUUID, characteristicUUID);
+            }
+        }, onSuccessCallback, onErrorCallback);
+    }
+
+    @Override
+    public void writeCharacteristicForService(final int serviceIdentifier,
+                                              final String characteristicUUID,
+                                              String valueBase64,
+                                              boolean withResponse,
+                                              String transactionId,
+                                              OnSuccessCallback<Characteristic> onSuccessCallback,
+                                              OnErrorCallback onErrorCallback) {
+        write(null, valueBase64, transactionId, new Lookup() {
+            @Override
+            public SimulatedCharacteristic find() throws BleError {
+                return findCharacteristic(serviceIdentifier, characteristicUUID);
+            }
+        }, onSuccessCallback, onErrorCallback);
+    }
+
+    @Override
+    public void writeCharacteristic(final int characteristicIdentifier,
+                                    String valueBase64,
+                                    boolean withResponse,
+                                    String transactionId,
+                                    OnSuccessCallback<Characteristic> onSuccessCallback,
+                                    OnErrorCallback onErrorCallback) {
+        write(null, valueBase64, transactionId, new Lookup() {
+            @Override
+            public SimulatedCharacteristic find() throws BleError {
+                return findCharacteristic(characteristicIdentifier);
+            }
+        }, onSuccessCallback, onErrorCallback);
+    }
+
+    @Override
+    public void monitorCharacteristicForDevice(final String deviceIdentifier,
+                                               final String serviceUUID,
+                                               final String characteristicUUID,
+                                               String transactionId,
+                                               OnEventCallback<Characteristic> onEventCallback,
+                                               OnErrorCallback onErrorCallback) {
+        monitor(transactionId, new Lookup() {
+            @Override
+            public SimulatedCharacteristic find() throws BleError {
+                return findCharacteristic(deviceIdentifier, serviceUUID, characteristicUUID);
+            }
+        }, onEventCallback, onErrorCallback);
+    }
+
+    @Override
+    public void monitorCharacteristicForService(final int serviceIdentifier,
+                                                final String characteristicUUID,
+                                                String transactionId,
+                                                OnEventCallback<Characteristic> onEventCallback,
+                                                OnErrorCallback onErrorCallback) {
+        monitor(transactionId, new Lookup() {
+            @Override
+            public SimulatedCharacteristic find() throws BleError {
+                return findCharacteristic(serviceIdentifier, characteristicUUID);
+            }
+        }, onEventCallback, onErrorCallback);
+    }
+
+    @Override
+    public void monitorCharacteristic(final int characteristicIdentifier,
+                                      String transactionId,
+                                      OnEventCallback<Characteristic> onEventCallback,
+                                      OnErrorCallback onErrorCallback) {
+        monitor(transactionId, new Lookup() {
+            @Override
+            public SimulatedCharacteristic find() throws BleError {
+                return findCharacteristic(characteristicIdentifier);
+            }
+        }, onEventCallback, onErrorCallback);
+    }
+
+    private interface Lookup {
+        SimulatedCharacteristic find() throws BleError;
+    }
+
+    private void read(@Nullable String deviceId,
+                      String transactionId,
+                      final Lookup lookup,
+                      final OnSuccessCallback<Characteristic> onSuccessCallback,
+                      OnErrorCallback onErrorCallback) {
+        scheduleOperation(deviceId, transactionId, options.gattLatencyMs, new Operation() {
+            @Override
+            public void run() throws BleError {
+                onSuccessCallback.onSuccess(lookup.find().characteristic);
+            }
+        }, onErrorCallback);
+    }
+
+    private void write(@Nullable String deviceId,
+                       final String valueBase64,
+                       String transactionId,
+                       final Lookup lookup,
+                       final OnSuccessCallback<Characteristic> onSuccessCallback,
+                       OnErrorCallback onErrorCallback) {
+        scheduleOperation(deviceId, transactionId, options.gattLatencyMs, new Operation() {
+            @Override
+            public void run() throws BleError {
+                SimulatedCharacteristic characteristic = lookup.find();
+                byte[] value;
+                try {
+                    value = Base64Converter.decode(valueBase64);
+                } catch (IllegalArgumentException e) {
+                    throw error(BleErrorCode.CharacteristicInvalidDataFormat, characteristic.device.id);
+                }
+                characteristic.characteristic = characteristicWithValue(characteristic, value);
+                onSuccessCallback.onSuccess(characteristic.characteristic);
+            }
+        }, onErrorCallback);
+    }
+
+    private void monitor(String transactionId,
+                         Lookup lookup,
+                         final OnEventCallback<Characteristic> onEventCallback,
+                         OnErrorCallback onErrorCallback) {
+        final SimulatedCharacteristic characteristic;
+        try {
+            characteristic = lookup.find();
+        } catch (BleError error) {
+            onErrorCallback.onError(error);
+            return;
+        }
+        final PendingOperation monitor = new PendingOperation(characteristic.device.id, onErrorCallback);
+        PendingOperation previousMonitor = monitors.put(transactionId, monitor);
+        if (previousMonitor != null) {
+            previousMonitor.cancel();
+        }
+        // Monitor without notifications still ends when it's cancelled or the device disconnects
+        if (options.notificationRateHz <= 0) {
+            return;
+        }
+        long periodNs = (long) (TimeUnit.SECONDS.toNanos(1) / options.notificationRateHz);
+        monitor.future = executor.scheduleAtFixedRate(new Runnable() {
+            private int sequenceNumber = 0;
+
+            @Override
+            public void run() {
+                byte[] value = new byte[options.notificationSize];
+                value[0] = (byte) sequenceNumber;
+                value[1] = (byte) (sequenceNumber >> 8);
+                value[2] = (byte) (sequenceNumber >> 16);
+                value[3] = (byte) (sequenceNumber >> 24);
+                sequenceNumber++;
+                characteristic.characteristic = characteristicWithValue(characteristic, value);
+                onEventCallback.onEvent(characteristic.characteristic);
+            }
+        }, periodNs, periodNs, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * Creates a new characteristic object for every value, so that values already passed on aren't modified.
+     */
+    private static Characteristic characteristicWithValue(SimulatedCharacteristic characteristic, byte[] value) {
+        Characteristic updatedCharacteristic =
+                new Characteristic(characteristic.service, characteristic.gattCharacteristic);
+        updatedCharacteristic.setValue(value);
+        return updatedCharacteristic;
+    }
+
+    // Descriptors operations ----------------------------------------------------------------------
+
+    @Override
+    public void readDescriptorForDevice(String deviceId,
+                                        String serviceUUID,
+                                        String characteristicUUID,
+                                        String descriptorUUID,
+                                        String transactionId,
+                                        OnSuccessCallback<Descriptor> onSuccessCallback,
+                                        OnErrorCallback onErrorCallback) {
+        onErrorCallback.onError(error(BleErrorCode.DescriptorNotFound, deviceId));
+    }
+
+    @Override
+    public void readDescriptorForService(int serviceIdentifier,
+                                         String characteristicUUID,
+                                         String descriptorUUID,
+                                         String transactionId,
+                                         OnSuccessCallback<Descriptor> onSuccessCallback,
+                                         OnErrorCallback onErrorCallback) {
+        onErrorCallback.onError(error(BleErrorCode.DescriptorNotFound, null));
+    }
+
+    @Override
+    public void readDescriptorForCharacteristic(int characteristicIdentifier,
+                                                String descriptorUUID,
+                                                String transactionId,
+                                                OnSuccessCallback<Descriptor> onSuccessCallback,
+                                                OnErrorCallback onErrorCallback) {
+        onErrorCallback.onError(error(BleErrorCode.DescriptorNotFound, null));
+    }
+
+    @Override
+    public void readDescriptor(int descriptorIdentifier,
+                               String transactionId,
+                               OnSuccessCallback<Descriptor> onSuccessCallback,
+                               OnErrorCallback onErrorCallback) {
+        onErrorCallback.onError(error(BleErrorCode.DescriptorNotFound, null));
+    }
+
+    @Override
+    public void writeDescriptorForDevice(String deviceId,
+                                         String serviceUUID,
+                                         String characteristicUUID,
+                                         String descriptorUUID,
+                                         String valueBase64,
+                                         String transactionId,
+                                         OnSuccessCallback<Descriptor> onSuccessCallback,
+                                         OnErrorCallback onErrorCallback) {
+        onErrorCallback.onError(error(BleErrorCode.DescriptorNotFound, deviceId));
+    }
+
+    @Override
+    public void writeDescriptorForService(int serviceIdentifier,
+                                          String characteristicUUID,
+                                          String descriptorUUID,
+                                          String valueBase64,
+                                          String transactionId,
+                                          OnSuccessCallback<Descriptor> onSuccessCallback,
+                                          OnErrorCallback onErrorCallback) {
+        onErrorCallback.onError(error(BleErrorCode.DescriptorNotFound, null));
+    }
+
+    @Override
+    public void writeDescriptorForCharacteristic(int characteristicIdentifier,
+                                                 String descriptorUUID,
+                                                 String valueBase64,
+                                                 String transactionId,
+                                                 OnSuccessCallback<Descriptor> onSuccessCallback,
+                                                 OnErrorCallback onErrorCallback) {
+        onErrorCallback.onError(error(BleErrorCode.DescriptorNotFound, null));
+    }
+
+    @Override
+    public void writeDescriptor(int descriptorIdentifier,
+                                String valueBase64,
+                                String transactionId,
+                                OnSuccessCallback<Descriptor> onSuccessCallback,
+                                OnErrorCallback onErrorCallback) {
+        onErrorCallback.onError(error(BleErrorCode.DescriptorNotFound, null));
+    }
+
+    // Other ---------------------------------------------------------------------------------------
+
+    @Override
+    public void cancelTransaction(String transactionId) {
+        BleError error = error(BleErrorCode.OperationCancelled, null);
+        PendingOperation operation = pendingOperations.remove(transactionId);
+        if (operation == null) {
+            operation = monitors.remove(transactionId);
+        }
+        if (operation != null) {
+            operation.cancel();
+            operation.onErrorCallback.onError(error);
+        }
+    }
+
+    @Override
+    public void setLogLevel(String logLevel) {
+        this.logLevel = logLevel;
+    }
+
+    @Override
+    public String getLogLevel() {
+        return logLevel;
+    }
+
+    // Helpers -------------------------------------------------------------------------------------
+
+    private interface Operation {
+        void run() throws BleError;
+    }
+
+    /**
+     * Runs an operation on the simulation thread after a delay. Operations with a transaction id can be cancelled
+     * and operations bound to a device fail when it's disconnected.
+     */
+    private void scheduleOperation(@Nullable String deviceId,
+                                   @Nullable final String transactionId,
+                                   long delayMs,
+                                   final Operation operation,
+                                   final OnErrorCallback onErrorCallback) {
+        final PendingOperation pendingOperation = new PendingOperation(deviceId, onErrorCallback);
+        if (transactionId != null) {
+            PendingOperation previousOperation = pendingOperations.put(transactionId, pendingOperation);
+            if (previousOperation != null) {
+                previousOperation.cancel();
+            }
+        }
+        pendingOperation.future = executor.schedule(new Runnable() {
+            @Override
+            public void run() {
+                // Cancelled operations are already removed
+                if (transactionId != null && !pendingOperations.remove(transactionId, pendingOperation)) {
+                    return;
+                }
+                try {
+                    operation.run();
+                } catch (BleError error) {
+                    onErrorCallback.onError(error);
+                }
+            }
+        }, delayMs, TimeUnit.MILLISECONDS);
+    }
+
+    private SimulatedDevice connectedDevice(String deviceId) throws BleError {
+        SimulatedDevice device = devices.get(deviceId);
+        if (device == null || !device.isConnected) {
+            throw error(BleErrorCode.DeviceNotConnected, deviceId);
+        }
+        return device;
+    }
+
+    private List<Service> discoveredServices(String deviceId) throws BleError {
+        List<Service> deviceServices = connectedDevice(deviceId).services;
+        if (deviceServices == null) {
+            throw error(BleErrorCode.ServicesNotDiscovered, deviceId);
+        }
+        return deviceServices;
+    }
+
+    private SimulatedCharacteristic findCharacteristic(String deviceId,
+                                                       String serviceUUID,
+                                                       String characteristicUUID) throws BleError {
+        UUID service = UUIDConverter.convert(serviceUUID);
+        UUID characteristic = UUIDConverter.convert(characteristicUUID);
+        connectedDevice(deviceId);
+        for (SimulatedCharacteristic candidate : characteristics.values()) {
+            if (candidate.device.id.equals(deviceId)
+                    && candidate.service.getUuid().equals(service)
+                    && candidate.gattCharacteristic.getUuid().equals(characteristic)) {
+                return candidate;
+            }
+        }
+        throw error(BleErrorCode.CharacteristicNotFound, deviceId);
+    }
+
+    private SimulatedCharacteristic findCharacteristic(int serviceId, String characteristicUUID) throws BleError {
+        UUID characteristic = UUIDConverter.convert(characteristicUUID);
+        for (SimulatedCharacteristic candidate : characteristics.values()) {
+            if (candidate.service.getId() == serviceId
+                    && candidate.gattCharacteristic.getUuid().equals(characteristic)) {
+                return checkConnected(candidate);
+            }
+        }
+        throw error(BleErrorCode.CharacteristicNotFound, null);
+    }
+
+    private SimulatedCharacteristic findCharacteristic(int characteristicId) throws BleError {
+        SimulatedCharacteristic characteristic = characteristics.get(characteristicId);
+        if (characteristic == null) {
+            throw error(BleErrorCode.CharacteristicNotFound, null);
+        }
+        return checkConnected(characteristic);
+    }
+
+    private SimulatedCharacteristic checkConnected(SimulatedCharacteristic characteristic) throws BleError {
+        connectedDevice(characteristic.device.id);
+        return characteristic;
+    }
+
+    private static Device toDevice(SimulatedDevice simulatedDevice) {
+        Device device = new Device(simulatedDevice.id, simulatedDevice.name);
+        device.setMtu(simulatedDevice.mtu);
+        device.setServices(simulatedDevice.services);
+        return device;
+    }
+
+    private static BleError error(BleErrorCode errorCode, @Nullable String deviceId) {
+        BleError error = new BleError(errorCode, "Simulated " + errorCode.name(), null);
+        error.deviceID = deviceId;
+        return error;
+    }
+}
@@ -0,0 +1,45 @@
+package com.polidea.reactnativeble.simulation;
+
+/**
+ * Parameters of devices simulated by {@link SimulatedBleAdapter}.
+ */
+public class SimulationOptions {
+
+    public final int advertisers;
+    public final double advertisingRateHz;
+    public final double notificationRateHz;
+    public final int notificationSize;
+    public final long connectionLatencyMs;
+    public final long gattLatencyMs;
+    public final double disconnectsPerMinute;
+    public final long seed;
+
+    /**
+     * @param advertisers          Number of simulated devices, all of which advertise and are connectable.
+     * @param advertisingRateHz    Advertisements per second of every device.
+     * @param notificationRateHz   Notifications per second of every monitored characteristic.
+     * @param notificationSize     Size of notified values in bytes.
+     * @param connectionLatencyMs  Time in milliseconds a connection takes.
+     * @param gattLatencyMs        Time in milliseconds a discovery, read or write takes.
+     * @param disconnectsPerMinute Average number of unexpected disconnections of a connected device per minute.
+     * @param seed                 Seed of randomized RSSI values and disconnections.
+     */
+    public SimulationOptions(int advertisers,
+                             double advertisingRateHz,
+                             double notificationRateHz,
+                             int notificationSize,
+                             long connectionLatencyMs,
+                             long gattLatencyMs,
+                             double disconnectsPerMinute,
+                             long seed) {
+        this.advertisers = Math.max(1, advertisers);
+        this.advertisingRateHz = Math.max(0, advertisingRateHz);
+        this.notificationRateHz = Math.max(0, notificationRateHz);
+        // Sequence number of a notification takes first 4 bytes
+        this.notificationSize = Math.max(4, notificationSize);
+        this.connectionLatencyMs = Math.max(0, connectionLatencyMs);
+        this.gattLatencyMs = Math.max(0, gattLatencyMs);
+        this.disconnectsPerMinute = Math.max(0, disconnectsPerMinute);
+        this.seed = seed;
+    }
+}
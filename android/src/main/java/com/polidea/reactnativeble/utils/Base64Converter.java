@@ -1,12 +1,153 @@
 package com.polidea.reactnativeble.utils;
 
-import android.util.Base64;
+import java.util.Arrays;
 
+/**
+ * Base64 encoder and decoder producing the same results as {@code android.util.Base64} with {@code NO_WRAP} flag.
+ * Characteristic values are small and converted very often, so intermediate buffers are kept per thread and
+ * reused instead of being allocated for every conversion.
+ */
 public class Base64Converter {
+
+    private static final char[] ENCODE_TABLE = {
+            'A', 'B', 'C', 'D', 'E', 'F', 'G', 'H', 'I', 'J', 'K', 'L', 'M', 'N', 'O', 'P',
+            'Q', 'R', 'S', 'T', 'U', 'V', 'W', 'X', 'Y', 'Z', 'a', 'b', 'c', 'd', 'e', 'f',
+            'g', 'h', 'i', 'j', 'k', 'l', 'm', 'n', 'o', 'p', 'q', 'r', 's', 't', 'u', 'v',
+            'w', 'x', 'y', 'z', '0', '1', '2', '3', '4', '5', '6', '7', '8', '9', '+', '/'
+    };
+
+    private static final int SKIP = -1;
+    private static final int EQUALS = -2;
+    private static final int[] DECODE_TABLE = new int[128];
+
+    static {
+        Arrays.fill(DECODE_TABLE, SKIP);
+        for (int i = 0; i < ENCODE_TABLE.length; i++) {
+            DECODE_TABLE[ENCODE_TABLE[i]] = i;
+        }
+        DECODE_TABLE['='] = EQUALS;
+    }
+
+    // Scratch buffers grow to the largest value converted on a given thread, which is bounded by maximum MTU
+    private static final ThreadLocal<char[]> encodeBuffer = new ThreadLocal<char[]>() {
+        @Override
+        protected char[] initialValue() {
+            return new char[256];
+        }
+    };
+
+    private static final ThreadLocal<byte[]> decodeBuffer = new ThreadLocal<byte[]>() {
+        @Override
+        protected byte[] initialValue() {
+            return new byte[192];
+        }
+    };
+
     public static String encode(byte[] bytes) {
-        return Base64.encodeToString(bytes, Base64.NO_WRAP);
+        return encode(bytes, 0, bytes.length);
     }
+
+    public static String encode(byte[] bytes, int offset, int length) {
+        final int encodedLength = (length + 2) / 3 * 4;
+        char[] output = encodeBuffer.get();
+        if (output.length < encodedLength) {
+            output = new char[encodedLength];
+            encodeBuffer.set(output);
+        }
+
+        final int end = offset + length;
+        final int fullGroupsEnd = offset + length / 3 * 3;
+        int in = offset;
+        int out = 0;
+        while (in < fullGroupsEnd) {
+            final int group = (bytes[in++] & 0xff) << 16 | (bytes[in++] & 0xff) << 8 | (bytes[in++] & 0xff);
+            output[out++] = ENCODE_TABLE[group >>> 18];
+            output[out++] = ENCODE_TABLE[(group >>> 12) & 0x3f];
+            output[out++] = ENCODE_TABLE[(group >>> 6) & 0x3f];
+            output[out++] = ENCODE_TABLE[group & 0x3f];
+        }
+
+        final int remaining = end - in;
+        if (remaining == 1) {
+            final int group = (bytes[in] & 0xff) << 16;
+            output[out++] = ENCODE_TABLE[group >>> 18];
+            output[out++] = ENCODE_TABLE[(group >>> 12) & 0x3f];
+            output[out++] = '=';
+            output[out++] = '=';
+        } else if (remaining == 2) {
+            final int group = (bytes[in] & 0xff) << 16 | (bytes[in + 1] & 0xff) << 8;
+            output[out++] = ENCODE_TABLE[group >>> 18];
+            output[out++] = ENCODE_TABLE[(group >>> 12) & 0x3f];
+            output[out++] = ENCODE_TABLE[(group >>> 6) & 0x3f];
+            output[out++] = '=';
+        }
+        return new String(output, 0, out);
+    }
+
+    /**
+     * Decodes Base64 string. Characters outside of Base64 alphabet are skipped and padding is optional.
+     *
+     * @throws IllegalArgumentException when string is not a valid Base64 value.
+     */
     public static byte[] decode(String base64) {
-        return Base64.decode(base64, Base64.NO_WRAP);
+        final int length = base64.length();
+        final int maxDecodedLength = length / 4 * 3 + 3;
+        byte[] output = decodeBuffer.get();
+        if (output.length < maxDecodedLength) {
+            output = new byte[maxDecodedLength];
+            decodeBuffer.set(output);
+        }
+
+        int group = 0;
+        int groupSize = 0;
+        int paddingCount = 0;
+        int out = 0;
+        for (int i = 0; i < length; i++) {
+            final char c = base64.charAt(i);
+            final int value = c < DECODE_TABLE.length ? DECODE_TABLE[c] : SKIP;
+            if (value == SKIP) {
+                continue;
+            }
+            if (value == EQUALS) {
+                paddingCount++;
+                continue;
+            }
+            if (paddingCount > 0) {
+                throw new IllegalArgumentException("bad base-64");
+            }
+            group = group << 6 | value;
+            groupSize++;
+            if (groupSize == 4) {
+                output[out++] = (byte) (group >> 16);
+                output[out++] = (byte) (group >> 8);
+                output[out++] = (byte) group;
+                group = 0;
+                groupSize = 0;
+            }
+        }
+
+        switch (groupSize) {
+            case 0:
+                if (paddingCount > 0) {
+                    throw new IllegalArgumentException("bad base-64");
+                }
+                break;
+            case 2:
+                if (paddingCount != 0 && paddingCount != 2) {
+                    throw new IllegalArgumentException("bad base-64");
+                }
+                output[out++] = (byte) (group >> 4);
+                break;
+            case 3:
+                if (paddingCount > 1) {
+                    throw new IllegalArgumentException("bad base-64");
+                }
+                output[out++] = (byte) (group >> 10);
+                output[out++] = (byte) (group >> 2);
+                break;
+            default:
+                throw new IllegalArgumentException("bad base-64");
+        }
+        return Arrays.copyOf(output, out);
     }
 }
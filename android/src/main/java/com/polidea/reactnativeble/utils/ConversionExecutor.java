@@ -0,0 +1,172 @@
+package com.polidea.reactnativeble.utils;
+
+import androidx.annotation.NonNull;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Small pool of worker threads converting results passed to JS, so that adapter callbacks return quickly. Every
+ * worker has its own bounded queue.
+ * <p>
+ * Tasks submitted with {@link #execute(Runnable)} always run: when the queue of the chosen worker is full, they run
+ * on the calling thread instead. Tasks submitted with {@link #executeLatest(Object, Runnable)} are meant for results
+ * which get stale, like scan results: tasks with the same key run on the same worker in submission order, a pending
+ * task is replaced by a newer one with the same key and when the queue is full the oldest pending task of this kind
+ * is dropped.
+ */
+public class ConversionExecutor {
+
+    private static class Task {
+        final Runnable runnable;
+        final boolean isDroppable;
+
+        Task(Runnable runnable, boolean isDroppable) {
+            this.runnable = runnable;
+            this.isDroppable = isDroppable;
+        }
+    }
+
+    private class Worker extends Thread {
+        // Pending tasks by their keys in submission order; tasks which can't be replaced have unique keys
+        private final LinkedHashMap<Object, Task> pendingTasks = new LinkedHashMap<>();
+
+        Worker(String name) {
+            super(name);
+            setDaemon(true);
+        }
+
+        /**
+         * @return Whether the task was queued.
+         */
+        synchronized boolean offer(Object key, Task task) {
+            if (isShutdown) {
+                return task.isDroppable;
+            }
+            if (task.isDroppable && pendingTasks.containsKey(key)) {
+                pendingTasks.put(key, task);
+                coalescedCount.incrementAndGet();
+                return true;
+            }
+            if (pendingTasks.size() >= queueCapacity && !(task.isDroppable && dropOldestDroppable())) {
+                return false;
+            }
+            pendingTasks.put(key, task);
+            notify();
+            return true;
+        }
+
+        private boolean dropOldestDroppable() {
+            Iterator<Task> iterator = pendingTasks.values().iterator();
+            while (iterator.hasNext()) {
+                if (iterator.next().isDroppable) {
+                    iterator.remove();
+                    droppedCount.incrementAndGet();
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        synchronized void shutdown() {
+            // Tasks submitted with execute() may settle promises, so only the droppable ones are discarded
+            Iterator<Task> iterator = pendingTasks.values().iterator();
+            while (iterator.hasNext()) {
+                if (iterator.next().isDroppable) {
+                    iterator.remove();
+                }
+            }
+            notify();
+        }
+
+        @Override
+        public void run() {
+            while (true) {
+                Runnable runnable;
+                synchronized (this) {
+                    while (pendingTasks.isEmpty() && !isShutdown) {
+                        try {
+                            wait();
+                        } catch (InterruptedException e) {
+                            return;
+                        }
+                    }
+                    if (pendingTasks.isEmpty()) {
+                        return;
+                    }
+                    Iterator<Map.Entry<Object, Task>> iterator = pendingTasks.entrySet().iterator();
+                    runnable = iterator.next().getValue().runnable;
+                    iterator.remove();
+                }
+                runnable.run();
+            }
+        }
+    }
+
+    private final int queueCapacity;
+    private final Worker[] workers;
+    private final AtomicInteger nextWorker = new AtomicInteger();
+    private final AtomicLong droppedCount = new AtomicLong();
+    private final AtomicLong coalescedCount = new AtomicLong();
+    private volatile boolean isShutdown = false;
+
+    /**
+     * @param threadCount   Number of worker threads, at least 1.
+     * @param queueCapacity Maximum number of pending tasks of a single worker, at least 1.
+     */
+    public ConversionExecutor(int threadCount, int queueCapacity) {
+        this.queueCapacity = Math.max(1, queueCapacity);
+        workers = new Worker[Math.max(1, threadCount)];
+        for (int i = 0; i < workers.length; i++) {
+            workers[i] = new Worker("BleConversion-" + i);
+            workers[i].start();
+        }
+    }
+
+    /**
+     * Runs a task on a worker or, when its queue is full or the executor is shut down, on the calling thread.
+     */
+    public void execute(@NonNull Runnable task) {
+        Worker worker = workers[(nextWorker.getAndIncrement() & Integer.MAX_VALUE) % workers.length];
+        if (!worker.offer(new Object(), new Task(task, false))) {
+            task.run();
+        }
+    }
+
+    /**
+     * Runs a task on the worker assigned to its key after previously submitted tasks with the same key. A pending
+     * task with the same key is replaced. Tasks submitted after shutdown are dropped.
+     */
+    public void executeLatest(@NonNull Object key, @NonNull Runnable task) {
+        Worker worker = workers[(key.hashCode() & Integer.MAX_VALUE) % workers.length];
+        worker.offer(key, new Task(task, true));
+    }
+
+    /**
+     * @return Number of tasks submitted with a key which were dropped because a queue was full.
+     */
+    public long getDroppedCount() {
+        return droppedCount.get();
+    }
+
+    /**
+     * @return Number of tasks submitted with a key which were replaced by newer ones.
+     */
+    public long getCoalescedCount() {
+        return coalescedCount.get();
+    }
+
+    /**
+     * Stops workers once they run pending tasks submitted with {@link #execute(Runnable)}. Pending tasks submitted
+     * with {@link #executeLatest(Object, Runnable)} are discarded.
+     */
+    public void shutdown() {
+        isShutdown = true;
+        for (Worker worker : workers) {
+            worker.shutdown();
+        }
+    }
+}
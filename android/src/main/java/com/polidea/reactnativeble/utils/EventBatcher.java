@@ -0,0 +1,109 @@
+package com.polidea.reactnativeble.utils;
+
+import androidx.annotation.NonNull;
+
+import com.polidea.multiplatformbleadapter.OnEventCallback;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Collects events and hands them over in batches. A batch is flushed when the flush window, started by
+ * the first event added to an empty batch, elapses or when it reaches its maximum size. Batches are handed over one
+ * at a time in the order they were collected, whichever thread flushes them.
+ */
+public class EventBatcher<T> {
+
+    private final long batchIntervalMs;
+    private final int maxBatchSize;
+    private final ScheduledExecutorService scheduler;
+    private final OnEventCallback<List<T>> onFlushCallback;
+
+    private final Object lock = new Object();
+    // Held while a batch is taken and handed over, so that flushes from different threads can't overtake each other
+    private final Object flushLock = new Object();
+    private List<T> pendingEvents = new ArrayList<>();
+    private ScheduledFuture<?> scheduledFlush;
+    private boolean isDisposed = false;
+
+    private final Runnable flushRunnable = new Runnable() {
+        @Override
+        public void run() {
+            flush();
+        }
+    };
+
+    /**
+     * @param batchIntervalMs Maximum time in milliseconds an event waits in a batch before it is flushed.
+     * @param maxBatchSize    Number of events which flushes a batch immediately. Values <= 0 disable the limit.
+     * @param scheduler       Scheduler running delayed flushes. It may be shared between batchers.
+     * @param onFlushCallback Callback receiving every non-empty batch.
+     */
+    public EventBatcher(long batchIntervalMs,
+                        int maxBatchSize,
+                        @NonNull ScheduledExecutorService scheduler,
+                        @NonNull OnEventCallback<List<T>> onFlushCallback) {
+        this.batchIntervalMs = batchIntervalMs;
+        this.maxBatchSize = maxBatchSize;
+        this.scheduler = scheduler;
+        this.onFlushCallback = onFlushCallback;
+    }
+
+    public void add(@NonNull T event) {
+        boolean isFull;
+        synchronized (lock) {
+            if (isDisposed) {
+                return;
+            }
+            pendingEvents.add(event);
+            isFull = maxBatchSize > 0 && pendingEvents.size() >= maxBatchSize;
+            if (!isFull && scheduledFlush == null) {
+                scheduledFlush = scheduler.schedule(flushRunnable, batchIntervalMs, TimeUnit.MILLISECONDS);
+            }
+        }
+        if (isFull) {
+            flush();
+        }
+    }
+
+    public void flush() {
+        synchronized (flushLock) {
+            List<T> batchToFlush;
+            synchronized (lock) {
+                if (isDisposed || pendingEvents.isEmpty()) {
+                    return;
+                }
+                batchToFlush = takePendingEvents();
+            }
+            onFlushCallback.onEvent(batchToFlush);
+        }
+    }
+
+    /**
+     * Drops pending events and cancels a scheduled flush. Batcher cannot be used afterwards.
+     */
+    public void dispose() {
+        synchronized (lock) {
+            isDisposed = true;
+            pendingEvents = new ArrayList<>();
+            cancelScheduledFlush();
+        }
+    }
+
+    private List<T> takePendingEvents() {
+        List<T> batch = pendingEvents;
+        pendingEvents = new ArrayList<>(batch.size());
+        cancelScheduledFlush();
+        return batch;
+    }
+
+    private void cancelScheduledFlush() {
+        if (scheduledFlush != null) {
+            scheduledFlush.cancel(false);
+            scheduledFlush = null;
+        }
+    }
+}
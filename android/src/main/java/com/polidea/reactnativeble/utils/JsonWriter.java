@@ -0,0 +1,169 @@
+package com.polidea.reactnativeble.utils;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+/**
+ * Minimal writer of JSON objects with string, number, boolean and null values. Strings are escaped according to
+ * RFC 8259, so any value produces valid JSON. Writers are kept per thread and reuse their buffer, so only the
+ * resulting string is allocated.
+ * <p>
+ * Writer is not validating: callers are responsible for pairing {@link #beginObject()} with {@link #endObject()} and
+ * for following every {@link #name(String)} with exactly one value.
+ */
+public class JsonWriter {
+
+    private static final char[] HEX_DIGITS = "0123456789abcdef".toCharArray();
+    private static final char LINE_SEPARATOR = 0x2028;
+    private static final char PARAGRAPH_SEPARATOR = 0x2029;
+
+    // Buffers grown above this capacity by unusually long values aren't kept for reuse
+    static final int MAX_POOLED_CAPACITY = 4096;
+    private static final int INITIAL_CAPACITY = 256;
+
+    private static final ThreadLocal<JsonWriter> writers = new ThreadLocal<JsonWriter>() {
+        @Override
+        protected JsonWriter initialValue() {
+            return new JsonWriter();
+        }
+    };
+
+    private StringBuilder buffer = new StringBuilder(INITIAL_CAPACITY);
+    private boolean needsSeparator = false;
+
+    /**
+     * Returns an empty writer owned by the calling thread. It's valid until the next call on the same thread.
+     */
+    @NonNull
+    public static JsonWriter obtain() {
+        JsonWriter writer = writers.get();
+        writer.reset();
+        return writer;
+    }
+
+    private void reset() {
+        if (buffer.capacity() > MAX_POOLED_CAPACITY) {
+            buffer = new StringBuilder(INITIAL_CAPACITY);
+        } else {
+            buffer.setLength(0);
+        }
+        needsSeparator = false;
+    }
+
+    public JsonWriter beginObject() {
+        separate();
+        buffer.append('{');
+        needsSeparator = false;
+        return this;
+    }
+
+    public JsonWriter endObject() {
+        buffer.append('}');
+        needsSeparator = true;
+        return this;
+    }
+
+    public JsonWriter name(@NonNull String name) {
+        separate();
+        appendString(name);
+        buffer.append(':');
+        needsSeparator = false;
+        return this;
+    }
+
+    public JsonWriter value(@Nullable String value) {
+        separate();
+        if (value == null) {
+            buffer.append("null");
+        } else {
+            appendString(value);
+        }
+        needsSeparator = true;
+        return this;
+    }
+
+    public JsonWriter value(long value) {
+        separate();
+        buffer.append(value);
+        needsSeparator = true;
+        return this;
+    }
+
+    public JsonWriter value(@Nullable Integer value) {
+        return value == null ? nullValue() : value(value.longValue());
+    }
+
+    public JsonWriter value(boolean value) {
+        separate();
+        buffer.append(value);
+        needsSeparator = true;
+        return this;
+    }
+
+    public JsonWriter nullValue() {
+        separate();
+        buffer.append("null");
+        needsSeparator = true;
+        return this;
+    }
+
+    /**
+     * @return JSON written so far.
+     */
+    @Override
+    public String toString() {
+        return buffer.toString();
+    }
+
+    private void separate() {
+        if (needsSeparator) {
+            buffer.append(',');
+        }
+    }
+
+    private void appendString(String value) {
+        buffer.append('"');
+        int unescapedStart = 0;
+        final int length = value.length();
+        for (int i = 0; i < length; i++) {
+            final char c = value.charAt(i);
+            if (c >= 0x20 && c != '"' && c != '\\' && c != LINE_SEPARATOR && c != PARAGRAPH_SEPARATOR) {
+                continue;
+            }
+            buffer.append(value, unescapedStart, i);
+            unescapedStart = i + 1;
+            switch (c) {
+                case '"':
+                    buffer.append("\\\"");
+                    break;
+                case '\\':
+                    buffer.append("\\\\");
+                    break;
+                case '\n':
+                    buffer.append("\\n");
+                    break;
+                case '\r':
+                    buffer.append("\\r");
+                    break;
+                case '\t':
+                    buffer.append("\\t");
+                    break;
+                case '\b':
+                    buffer.append("\\b");
+                    break;
+                case '\f':
+                    buffer.append("\\f");
+                    break;
+                default:
+                    // Remaining control characters and line separators, which aren't allowed in JS string literals
+                    buffer.append("\\u")
+                            .append(HEX_DIGITS[(c >> 12) & 0xF])
+                            .append(HEX_DIGITS[(c >> 8) & 0xF])
+                            .append(HEX_DIGITS[(c >> 4) & 0xF])
+                            .append(HEX_DIGITS[c & 0xF]);
+            }
+        }
+        buffer.append(value, unescapedStart, length);
+        buffer.append('"');
+    }
+}
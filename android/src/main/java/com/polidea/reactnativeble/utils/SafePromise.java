@@ -9,31 +9,45 @@ import javax.annotation.Nullable;
 public class SafePromise {
     private Promise promise;
     private AtomicBoolean isFinished = new AtomicBoolean();
+    @Nullable
+    private Runnable onSettled;
 
     public SafePromise(Promise promise) {
         this.promise = promise;
     }
 
+    /**
+     * @param onSettled Action run once, right before the promise is resolved or rejected.
+     */
+    public SafePromise(Promise promise, @Nullable Runnable onSettled) {
+        this.promise = promise;
+        this.onSettled = onSettled;
+    }
+
     public void resolve(@Nullable Object value) {
         if (isFinished.compareAndSet(false, true)) {
+            settled();
             promise.resolve(value);
         }
     }
 
     public void reject(String code, String message) {
         if (isFinished.compareAndSet(false, true)) {
+            settled();
             promise.reject(code, message);
         }
     }
 
     public void reject(String code, Throwable e) {
         if (isFinished.compareAndSet(false, true)) {
+            settled();
             promise.reject(code, e);
         }
     }
 
     public void reject(String code, String message, Throwable e) {
         if (isFinished.compareAndSet(false, true)) {
+            settled();
             promise.reject(code, message, e);
         }
     }
@@ -41,13 +55,21 @@ public class SafePromise {
     @Deprecated
     public void reject(String message) {
         if (isFinished.compareAndSet(false, true)) {
+            settled();
             promise.reject(message);
         }
     }
 
     public void reject(Throwable reason) {
         if (isFinished.compareAndSet(false, true)) {
+            settled();
             promise.reject(reason);
         }
     }
+
+    private void settled() {
+        if (onSettled != null) {
+            onSettled.run();
+        }
+    }
 }
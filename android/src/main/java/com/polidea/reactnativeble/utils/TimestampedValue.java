@@ -0,0 +1,15 @@
+package com.polidea.reactnativeble.utils;
+
+/**
+ * Characteristic value together with the time in milliseconds since epoch when it was received.
+ */
+public class TimestampedValue {
+
+    public final byte[] value;
+    public final long timestamp;
+
+    public TimestampedValue(byte[] value, long timestamp) {
+        this.value = value;
+        this.timestamp = timestamp;
+    }
+}
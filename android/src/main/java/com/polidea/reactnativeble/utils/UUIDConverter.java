@@ -9,6 +9,9 @@ public class UUIDConverter {
     private static String baseUUIDPrefix = "0000";
     private static String baseUUIDSuffix = "-0000-1000-8000-00805F9B34FB";
 
+    private static final int UUID_STRING_CACHE_CAPACITY = 512;
+    private static final UUIDStringCache uuidStringCache = new UUIDStringCache(UUID_STRING_CACHE_CAPACITY);
+
     public static UUID convert(String sUUID) {
         if (sUUID == null) return null;
 
@@ -67,6 +70,10 @@ public class UUIDConverter {
     }
 
     public static String fromUUID(UUID uuid) {
-        return uuid.toString().toLowerCase();
+        return uuidStringCache.get(uuid);
+    }
+
+    public static UUIDStringCache getUUIDStringCache() {
+        return uuidStringCache;
     }
 }
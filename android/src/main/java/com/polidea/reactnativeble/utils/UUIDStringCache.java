@@ -0,0 +1,53 @@
+package com.polidea.reactnativeble.utils;
+
+import androidx.annotation.NonNull;
+
+import java.util.Locale;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Bounded, thread safe cache of lower case UUID strings. Devices expose a small, fixed set of UUIDs so after
+ * a warm up every conversion is a single map lookup. When the cache overflows it is cleared and filled again.
+ */
+public class UUIDStringCache {
+
+    private final int capacity;
+    private final ConcurrentHashMap<UUID, String> cache;
+    private final AtomicLong hitCount = new AtomicLong();
+    private final AtomicLong missCount = new AtomicLong();
+
+    public UUIDStringCache(int capacity) {
+        this.capacity = capacity;
+        this.cache = new ConcurrentHashMap<>(capacity);
+    }
+
+    @NonNull
+    public String get(@NonNull UUID uuid) {
+        String uuidString = cache.get(uuid);
+        if (uuidString != null) {
+            hitCount.incrementAndGet();
+            return uuidString;
+        }
+        missCount.incrementAndGet();
+        uuidString = uuid.toString().toLowerCase(Locale.US);
+        if (cache.size() >= capacity) {
+            cache.clear();
+        }
+        cache.put(uuid, uuidString);
+        return uuidString;
+    }
+
+    public long getHitCount() {
+        return hitCount.get();
+    }
+
+    public long getMissCount() {
+        return missCount.get();
+    }
+
+    public int size() {
+        return cache.size();
+    }
+}
@@ -0,0 +1,183 @@
+package com.polidea.reactnativeble.cache;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.UUID;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+public class GattLayoutCacheTest {
+
+    private static final String DEVICE_ID = "AA:BB:CC:DD:EE:FF";
+    private static final UUID SERVICE_UUID = UUID.fromString("0000180a-0000-1000-8000-00805f9b34fb");
+    private static final UUID CHARACTERISTIC_UUID = UUID.fromString("00002a29-0000-1000-8000-00805f9b34fb");
+    private static final UUID DESCRIPTOR_UUID = UUID.fromString("00002902-0000-1000-8000-00805f9b34fb");
+
+    private File directory;
+
+    @Before
+    public void setUp() throws IOException {
+        directory = File.createTempFile("gatt-layout-cache", "");
+        assertTrue(directory.delete());
+    }
+
+    @After
+    public void tearDown() {
+        File[] files = directory.listFiles();
+        if (files != null) {
+            for (File file : files) {
+                assertTrue(file.delete());
+            }
+        }
+        directory.delete();
+    }
+
+    @Test
+    public void formatRoundTripsLayout() throws IOException {
+        GattLayout layout = layout(DEVICE_ID, "1.0.0");
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        GattLayoutCache.write(layout, new DataOutputStream(bytes));
+
+        GattLayout restored = GattLayoutCache.read(new DataInputStream(new ByteArrayInputStream(bytes.toByteArray())));
+
+        assertNotNull(restored);
+        assertEquals(DEVICE_ID, restored.deviceId);
+        assertEquals("1.0.0", restored.versionTag);
+        assertTrue(restored.hasSameAttributes(layout));
+        GattLayout.CharacteristicLayout characteristic = restored.services.get(0).characteristics.get(0);
+        assertTrue(characteristic.hasProperty(GattLayout.PROPERTY_READABLE));
+        assertTrue(characteristic.hasProperty(GattLayout.PROPERTY_NOTIFIABLE));
+        assertFalse(characteristic.hasProperty(GattLayout.PROPERTY_INDICATABLE));
+        assertEquals(Collections.singletonList(DESCRIPTOR_UUID), characteristic.descriptors);
+    }
+
+    @Test
+    public void formatStartsWithMagicAndVersion() throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        GattLayoutCache.write(layout(DEVICE_ID, "1.0.0"), new DataOutputStream(bytes));
+
+        byte[] header = Arrays.copyOf(bytes.toByteArray(), 5);
+        assertArrayEquals(new byte[]{'B', 'L', 'G', 'C', GattLayoutCache.FORMAT_VERSION}, header);
+    }
+
+    @Test
+    public void readIgnoresOtherFormatVersion() throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        GattLayoutCache.write(layout(DEVICE_ID, "1.0.0"), new DataOutputStream(bytes));
+        byte[] data = bytes.toByteArray();
+        data[4] = GattLayoutCache.FORMAT_VERSION + 1;
+
+        assertNull(GattLayoutCache.read(new DataInputStream(new ByteArrayInputStream(data))));
+    }
+
+    @Test
+    public void returnsStoredLayoutForSameVersionTag() throws IOException {
+        GattLayoutCache cache = new GattLayoutCache(directory, 4);
+        cache.put(layout(DEVICE_ID, "1.0.0"));
+
+        GattLayout cached = new GattLayoutCache(directory, 4).get(DEVICE_ID, "1.0.0");
+
+        assertNotNull(cached);
+        assertTrue(cached.hasSameAttributes(layout(DEVICE_ID, "1.0.0")));
+    }
+
+    @Test
+    public void dropsLayoutStoredForOtherVersionTag() throws IOException {
+        GattLayoutCache cache = new GattLayoutCache(directory, 4);
+        cache.put(layout(DEVICE_ID, "1.0.0"));
+
+        assertNull(cache.get(DEVICE_ID, "1.0.1"));
+        assertNull(cache.get(DEVICE_ID, "1.0.0"));
+        assertEquals(0, cache.size());
+    }
+
+    @Test
+    public void dropsCorruptedEntries() throws IOException {
+        GattLayoutCache cache = new GattLayoutCache(directory, 4);
+        cache.put(layout(DEVICE_ID, "1.0.0"));
+        File file = cache.fileFor(DEVICE_ID);
+        FileOutputStream output = new FileOutputStream(file);
+        output.write(new byte[]{'B', 'L', 'G', 'C', GattLayoutCache.FORMAT_VERSION, 0, 42});
+        output.close();
+
+        assertNull(cache.get(DEVICE_ID, "1.0.0"));
+        assertFalse(file.exists());
+    }
+
+    @Test
+    public void evictsLeastRecentlyUsedEntries() throws IOException {
+        GattLayoutCache cache = new GattLayoutCache(directory, 2);
+        cache.put(layout("device-1", "v"));
+        cache.put(layout("device-2", "v"));
+        assertNotNull(cache.get("device-1", "v"));
+
+        cache.put(layout("device-3", "v"));
+
+        assertEquals(2, cache.size());
+        assertNotNull(cache.get("device-1", "v"));
+        assertNull(cache.get("device-2", "v"));
+        assertNotNull(cache.get("device-3", "v"));
+    }
+
+    @Test
+    public void evictionAppliesToEntriesStoredByPreviousInstance() throws IOException {
+        GattLayoutCache previousCache = new GattLayoutCache(directory, 3);
+        previousCache.put(layout("device-1", "v"));
+        previousCache.put(layout("device-2", "v"));
+        previousCache.put(layout("device-3", "v"));
+
+        GattLayoutCache cache = new GattLayoutCache(directory, 3);
+        cache.put(layout("device-4", "v"));
+
+        assertEquals(3, cache.size());
+        assertNull(cache.get("device-1", "v"));
+        assertEquals(3, directory.listFiles().length);
+    }
+
+    @Test
+    public void removesAndClearsEntries() throws IOException {
+        GattLayoutCache cache = new GattLayoutCache(directory, 4);
+        cache.put(layout("device-1", "v"));
+        cache.put(layout("device-2", "v"));
+
+        cache.remove("device-1");
+        assertNull(cache.get("device-1", "v"));
+        assertEquals(1, cache.size());
+
+        cache.clear();
+        assertNull(cache.get("device-2", "v"));
+        assertEquals(0, cache.size());
+    }
+
+    @Test
+    public void fileNamesContainOnlySafeCharacters() {
+        GattLayoutCache cache = new GattLayoutCache(directory, 4);
+        assertEquals("AA_BB_CC_DD_EE_FF.gatt", cache.fileFor(DEVICE_ID).getName());
+    }
+
+    private static GattLayout layout(String deviceId, String versionTag) {
+        GattLayout.CharacteristicLayout characteristic = new GattLayout.CharacteristicLayout(
+                CHARACTERISTIC_UUID,
+                GattLayout.PROPERTY_READABLE | GattLayout.PROPERTY_NOTIFIABLE,
+                Collections.singletonList(DESCRIPTOR_UUID));
+        GattLayout.ServiceLayout service = new GattLayout.ServiceLayout(
+                SERVICE_UUID, true, Collections.singletonList(characteristic));
+        return new GattLayout(deviceId, versionTag, Collections.singletonList(service));
+    }
+}
@@ -0,0 +1,145 @@
+package com.polidea.reactnativeble.connection;
+
+import androidx.annotation.NonNull;
+
+import com.polidea.multiplatformbleadapter.ConnectionOptions;
+import com.polidea.multiplatformbleadapter.Device;
+import com.polidea.multiplatformbleadapter.OnErrorCallback;
+import com.polidea.multiplatformbleadapter.OnSuccessCallback;
+import com.polidea.multiplatformbleadapter.errors.BleError;
+import com.polidea.multiplatformbleadapter.errors.BleErrorCode;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+public class AutoReconnectTest {
+
+    private static final ConnectionOptions OPTIONS = new ConnectionOptions(false, 0, null, null, 0);
+
+    private ScheduledExecutorService executor;
+    private final List<String> attempts = Collections.synchronizedList(new ArrayList<String>());
+    private final List<ConnectionOptions> attemptOptions =
+            Collections.synchronizedList(new ArrayList<ConnectionOptions>());
+    private final CountDownLatch finished = new CountDownLatch(1);
+    private volatile int failuresLeft = 0;
+    private volatile Integer reconnectedAttempts;
+    private volatile BleError failure;
+    private volatile Integer failedAttempts;
+
+    private AutoReconnect autoReconnect;
+
+    @Before
+    public void setUp() {
+        executor = Executors.newSingleThreadScheduledExecutor();
+        autoReconnect = new AutoReconnect(new AutoReconnect.Connector() {
+            @Override
+            public void connect(@NonNull String deviceId,
+                                @NonNull ConnectionOptions options,
+                                @NonNull OnSuccessCallback<Device> onSuccessCallback,
+                                @NonNull OnErrorCallback onErrorCallback) {
+                attempts.add(deviceId);
+                attemptOptions.add(options);
+                if (failuresLeft > 0) {
+                    failuresLeft--;
+                    onErrorCallback.onError(new BleError(BleErrorCode.DeviceConnectionFailed, null, null));
+                } else {
+                    onSuccessCallback.onSuccess(new Device(deviceId, null));
+                }
+            }
+        }, new AutoReconnect.Listener() {
+            @Override
+            public void onReconnected(@NonNull String deviceId, @NonNull Device device, int attempts) {
+                reconnectedAttempts = attempts;
+                finished.countDown();
+            }
+
+            @Override
+            public void onReconnectFailed(@NonNull String deviceId, @NonNull BleError error, int attempts) {
+                failure = error;
+                failedAttempts = attempts;
+                finished.countDown();
+            }
+        }, executor, new Random());
+    }
+
+    @After
+    public void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    public void ignoresDevicesWithoutPolicy() {
+        assertFalse(autoReconnect.onDisconnected("a"));
+        assertNull(autoReconnect.getPolicy("a"));
+    }
+
+    @Test
+    public void reconnectsAfterFailedAttempts() throws InterruptedException {
+        autoReconnect.enable("a", new ReconnectPolicy(3, 0, 0, 2, 0, true), OPTIONS);
+        failuresLeft = 2;
+
+        assertTrue(autoReconnect.onDisconnected("a"));
+
+        assertTrue(finished.await(1, TimeUnit.SECONDS));
+        assertEquals(3, attempts.size());
+        assertSame(OPTIONS, attemptOptions.get(0));
+        assertEquals(Integer.valueOf(3), reconnectedAttempts);
+        assertFalse(autoReconnect.isReconnecting("a"));
+        // Device is reconnected again after next disconnection.
+        assertNotNull(autoReconnect.getPolicy("a"));
+    }
+
+    @Test
+    public void givesUpAfterMaxAttempts() throws InterruptedException {
+        autoReconnect.enable("a", new ReconnectPolicy(2, 0, 0, 2, 0, true), OPTIONS);
+        failuresLeft = 5;
+
+        autoReconnect.onDisconnected("a");
+
+        assertTrue(finished.await(1, TimeUnit.SECONDS));
+        assertEquals(2, attempts.size());
+        assertEquals(BleErrorCode.DeviceConnectionFailed, failure.errorCode);
+        assertEquals(Integer.valueOf(2), failedAttempts);
+        assertNull(autoReconnect.getPolicy("a"));
+    }
+
+    @Test
+    public void disableStopsScheduledAttempt() throws InterruptedException {
+        autoReconnect.enable("a", new ReconnectPolicy(3, 100, 100, 2, 0, true), OPTIONS);
+
+        autoReconnect.onDisconnected("a");
+        assertTrue(autoReconnect.isReconnecting("a"));
+        autoReconnect.disable("a");
+
+        assertFalse(finished.await(300, TimeUnit.MILLISECONDS));
+        assertTrue(attempts.isEmpty());
+    }
+
+    @Test
+    public void reportsDisconnectionsDuringReconnectionOnce() throws InterruptedException {
+        autoReconnect.enable("a", new ReconnectPolicy(3, 100, 100, 2, 0, true), OPTIONS);
+
+        assertTrue(autoReconnect.onDisconnected("a"));
+        assertTrue(autoReconnect.onDisconnected("a"));
+
+        assertTrue(finished.await(1, TimeUnit.SECONDS));
+        assertEquals(1, attempts.size());
+    }
+}
@@ -0,0 +1,234 @@
+package com.polidea.reactnativeble.connection;
+
+import androidx.annotation.NonNull;
+
+import com.polidea.multiplatformbleadapter.Device;
+import com.polidea.multiplatformbleadapter.OnErrorCallback;
+import com.polidea.multiplatformbleadapter.OnSuccessCallback;
+import com.polidea.multiplatformbleadapter.errors.BleError;
+import com.polidea.multiplatformbleadapter.errors.BleErrorCode;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+public class BatchConnectionTest {
+
+    private ScheduledExecutorService executor;
+    private final List<String> attempts = Collections.synchronizedList(new ArrayList<String>());
+    private final List<String> cancelledAttempts = new ArrayList<>();
+    private final Map<String, OnSuccessCallback<Device>> pendingSuccesses = new HashMap<>();
+    private final List<String> reportedDevices = Collections.synchronizedList(new ArrayList<String>());
+    private final CountDownLatch finished = new CountDownLatch(1);
+    private List<BatchConnection.Result> results;
+
+    @Before
+    public void setUp() {
+        executor = Executors.newSingleThreadScheduledExecutor();
+    }
+
+    @After
+    public void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    public void connectsWithLimitedConcurrency() {
+        BatchConnection connection = batchConnection(Arrays.asList("a", "b", "c"), 2, 1, new ManualConnector());
+        connection.start();
+        assertEquals(Arrays.asList("a", "b"), attempts);
+
+        succeed("b");
+        assertEquals(Arrays.asList("a", "b", "c"), attempts);
+        assertEquals(Arrays.asList("b"), reportedDevices);
+
+        succeed("a");
+        succeed("c");
+
+        assertEquals(3, results.size());
+        assertEquals("a", results.get(0).deviceId);
+        assertNotNull(results.get(0).device);
+        assertNull(results.get(0).error);
+        assertEquals(1, results.get(0).attempts);
+    }
+
+    @Test
+    public void retriesFailedDevicesAfterOtherOnes() throws InterruptedException {
+        final Map<String, Integer> failuresLeft = new HashMap<>();
+        failuresLeft.put("a", 1);
+        BatchConnection connection = batchConnection(Arrays.asList("a", "b"), 1, 3,
+                new BatchConnection.DeviceConnector() {
+                    @Override
+                    public void connect(@NonNull String deviceId,
+                                        @NonNull String attemptTransactionId,
+                                        @NonNull OnSuccessCallback<Device> onSuccessCallback,
+                                        @NonNull OnErrorCallback onErrorCallback) {
+                        attempts.add(deviceId);
+                        Integer failures = failuresLeft.get(deviceId);
+                        if (failures != null && failures > 0) {
+                            failuresLeft.put(deviceId, failures - 1);
+                            onErrorCallback.onError(new BleError(BleErrorCode.DeviceConnectionFailed, null, null));
+                        } else {
+                            onSuccessCallback.onSuccess(new Device(deviceId, null));
+                        }
+                    }
+
+                    @Override
+                    public void cancel(@NonNull String deviceId, @NonNull String attemptTransactionId) {
+                    }
+                });
+        connection.start();
+
+        assertTrue(finished.await(1, TimeUnit.SECONDS));
+        assertEquals(Arrays.asList("a", "b", "a"), attempts);
+        assertEquals(Arrays.asList("b", "a"), reportedDevices);
+        assertEquals(2, results.get(0).attempts);
+        assertNull(results.get(0).error);
+    }
+
+    @Test
+    public void reportsErrorAfterLastAttempt() throws InterruptedException {
+        BatchConnection connection = batchConnection(Collections.singletonList("a"), 1, 2,
+                new BatchConnection.DeviceConnector() {
+                    @Override
+                    public void connect(@NonNull String deviceId,
+                                        @NonNull String attemptTransactionId,
+                                        @NonNull OnSuccessCallback<Device> onSuccessCallback,
+                                        @NonNull OnErrorCallback onErrorCallback) {
+                        attempts.add(deviceId);
+                        onErrorCallback.onError(new BleError(BleErrorCode.DeviceConnectionFailed, null, null));
+                    }
+
+                    @Override
+                    public void cancel(@NonNull String deviceId, @NonNull String attemptTransactionId) {
+                    }
+                });
+        connection.start();
+
+        assertTrue(finished.await(1, TimeUnit.SECONDS));
+        assertEquals(Arrays.asList("a", "a"), attempts);
+        assertEquals(BleErrorCode.DeviceConnectionFailed, results.get(0).error.errorCode);
+        assertEquals(2, results.get(0).attempts);
+    }
+
+    @Test
+    public void cancelFinishesRemainingDevices() {
+        BatchConnection connection = batchConnection(Arrays.asList("a", "b", "c"), 1, 1, new ManualConnector());
+        connection.start();
+        succeed("a");
+
+        connection.cancel();
+        succeed("b");
+
+        assertEquals(Arrays.asList("tid#1.1"), cancelledAttempts);
+        assertEquals(Arrays.asList("a", "b", "c"), reportedDevices);
+        assertNull(results.get(0).error);
+        assertEquals(BleErrorCode.OperationCancelled, results.get(1).error.errorCode);
+        assertEquals(BleErrorCode.OperationCancelled, results.get(2).error.errorCode);
+        assertEquals(0, results.get(2).attempts);
+    }
+
+    @Test
+    public void ignoresLateCallbacksOfEarlierAttempts() throws InterruptedException {
+        final List<String> attemptTransactionIds = new ArrayList<>();
+        final List<OnErrorCallback> errorCallbacks = new ArrayList<>();
+        final List<OnSuccessCallback<Device>> successCallbacks = new ArrayList<>();
+        final CountDownLatch retried = new CountDownLatch(2);
+        BatchConnection connection = batchConnection(Collections.singletonList("a"), 1, 2,
+                new BatchConnection.DeviceConnector() {
+                    @Override
+                    public void connect(@NonNull String deviceId,
+                                        @NonNull String attemptTransactionId,
+                                        @NonNull OnSuccessCallback<Device> onSuccessCallback,
+                                        @NonNull OnErrorCallback onErrorCallback) {
+                        synchronized (attemptTransactionIds) {
+                            attemptTransactionIds.add(attemptTransactionId);
+                            successCallbacks.add(onSuccessCallback);
+                            errorCallbacks.add(onErrorCallback);
+                        }
+                        retried.countDown();
+                    }
+
+                    @Override
+                    public void cancel(@NonNull String deviceId, @NonNull String attemptTransactionId) {
+                        cancelledAttempts.add(attemptTransactionId);
+                    }
+                });
+        connection.start();
+        errorCallbacks.get(0).onError(new BleError(BleErrorCode.DeviceConnectionFailed, null, null));
+        assertTrue(retried.await(1, TimeUnit.SECONDS));
+
+        // A late success of the first attempt doesn't finish the retry
+        successCallbacks.get(0).onSuccess(new Device("a", null));
+        assertNull(results);
+
+        connection.cancel();
+        assertEquals(Arrays.asList("tid#0.1", "tid#0.2"), attemptTransactionIds);
+        assertEquals(Arrays.asList("tid#0.2"), cancelledAttempts);
+        assertEquals(BleErrorCode.OperationCancelled, results.get(0).error.errorCode);
+        assertEquals(2, results.get(0).attempts);
+    }
+
+    @Test
+    public void finishesEmptyBatchImmediately() {
+        batchConnection(Collections.<String>emptyList(), 2, 1, new ManualConnector()).start();
+
+        assertEquals(0, results.size());
+    }
+
+    private BatchConnection batchConnection(List<String> deviceIds,
+                                            int concurrency,
+                                            int maxAttempts,
+                                            BatchConnection.DeviceConnector connector) {
+        return new BatchConnection(deviceIds, concurrency, maxAttempts, 0, "tid", executor, connector,
+                new BatchConnection.OnDeviceResultCallback() {
+                    @Override
+                    public void onDeviceResult(@NonNull BatchConnection.Result result) {
+                        reportedDevices.add(result.deviceId);
+                    }
+                },
+                new OnSuccessCallback<List<BatchConnection.Result>>() {
+                    @Override
+                    public void onSuccess(List<BatchConnection.Result> data) {
+                        results = data;
+                        finished.countDown();
+                    }
+                });
+    }
+
+    private void succeed(String deviceId) {
+        pendingSuccesses.get(deviceId).onSuccess(new Device(deviceId, null));
+    }
+
+    private class ManualConnector implements BatchConnection.DeviceConnector {
+        @Override
+        public void connect(@NonNull String deviceId,
+                            @NonNull String attemptTransactionId,
+                            @NonNull OnSuccessCallback<Device> onSuccessCallback,
+                            @NonNull OnErrorCallback onErrorCallback) {
+            attempts.add(deviceId);
+            pendingSuccesses.put(deviceId, onSuccessCallback);
+        }
+
+        @Override
+        public void cancel(@NonNull String deviceId, @NonNull String attemptTransactionId) {
+            cancelledAttempts.add(attemptTransactionId);
+        }
+    }
+}
@@ -0,0 +1,249 @@
+package com.polidea.reactnativeble.connection;
+
+import androidx.annotation.NonNull;
+
+import com.polidea.multiplatformbleadapter.ConnectionOptions;
+import com.polidea.multiplatformbleadapter.Device;
+import com.polidea.multiplatformbleadapter.OnErrorCallback;
+import com.polidea.multiplatformbleadapter.OnSuccessCallback;
+import com.polidea.multiplatformbleadapter.errors.BleError;
+import com.polidea.multiplatformbleadapter.errors.BleErrorCode;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+public class ConnectionPoolTest {
+
+    private final List<String> connectAttempts = new ArrayList<>();
+    private final List<String> disconnects = new ArrayList<>();
+    private final Map<String, OnSuccessCallback<Device>> pendingConnects = new HashMap<>();
+    private final Map<String, OnErrorCallback> pendingConnectErrors = new HashMap<>();
+    private final Map<String, ConnectionOptions> connectOptions = new HashMap<>();
+    private final List<String> connected = new ArrayList<>();
+    private final List<BleErrorCode> errors = new ArrayList<>();
+
+    private ConnectionPool pool;
+
+    @Before
+    public void setUp() {
+        pool = new ConnectionPool(new ConnectionPool.Connector() {
+            @Override
+            public void connect(@NonNull String deviceId,
+                                @NonNull ConnectionOptions options,
+                                @NonNull OnSuccessCallback<Device> onSuccessCallback,
+                                @NonNull OnErrorCallback onErrorCallback) {
+                connectAttempts.add(deviceId);
+                connectOptions.put(deviceId, options);
+                pendingConnects.put(deviceId, onSuccessCallback);
+                pendingConnectErrors.put(deviceId, onErrorCallback);
+            }
+
+            @Override
+            public void disconnect(@NonNull String deviceId,
+                                   @NonNull OnSuccessCallback<Device> onSuccessCallback,
+                                   @NonNull OnErrorCallback onErrorCallback) {
+                disconnects.add(deviceId);
+                onSuccessCallback.onSuccess(new Device(deviceId, null));
+            }
+        });
+    }
+
+    @Test
+    public void connectsWithoutLimitsByDefault() {
+        connect("a");
+        connect("b");
+        connect("c");
+
+        assertEquals(Arrays.asList("a", "b", "c"), connectAttempts);
+    }
+
+    @Test
+    public void limitsConnectionsBeingEstablished() {
+        pool.setLimits(0, 2);
+
+        connect("a");
+        connect("b");
+        connect("c");
+        assertEquals(Arrays.asList("a", "b"), connectAttempts);
+        assertEquals(1, pool.getStats().queuedConnections);
+
+        finishConnecting("a");
+
+        assertEquals(Arrays.asList("a", "b", "c"), connectAttempts);
+        assertEquals(Arrays.asList("a"), connected);
+    }
+
+    @Test
+    public void evictsLeastRecentlyUsedConnection() {
+        pool.setLimits(2, 0);
+        connectAndFinish("a");
+        connectAndFinish("b");
+        pool.touch("a");
+
+        connect("c");
+
+        assertEquals(Arrays.asList("b"), disconnects);
+        assertTrue(pool.isEvicted("b"));
+        assertFalse(pool.isEvicted("a"));
+        assertEquals(Arrays.asList("a", "b", "c"), connectAttempts);
+        assertEquals(1, pool.getStats().evictions);
+    }
+
+    @Test
+    public void doesNotEvictBusyDevice() {
+        pool.setLimits(2, 0);
+        connectAndFinish("a");
+        connectAndFinish("b");
+        pool.beginUse("a");
+        pool.touch("b");
+
+        connect("c");
+
+        assertEquals(Arrays.asList("b"), disconnects);
+        assertFalse(pool.isEvicted("a"));
+    }
+
+    @Test
+    public void waitsForBusyDeviceToBecomeIdle() {
+        pool.setLimits(1, 0);
+        connectAndFinish("a");
+        pool.beginUse("a");
+        pool.beginUse("a");
+
+        connect("b");
+        assertTrue(disconnects.isEmpty());
+        assertEquals(1, pool.getStats().queuedConnections);
+
+        pool.endUse("a");
+        assertTrue(disconnects.isEmpty());
+
+        pool.endUse("a");
+        assertEquals(Arrays.asList("a"), disconnects);
+        assertEquals(Arrays.asList("a", "b"), connectAttempts);
+    }
+
+    @Test
+    public void endingUseMarksDeviceAsRecentlyUsed() {
+        pool.setLimits(2, 0);
+        connectAndFinish("a");
+        pool.beginUse("a");
+        connectAndFinish("b");
+        pool.endUse("a");
+
+        connect("c");
+
+        assertEquals(Arrays.asList("b"), disconnects);
+    }
+
+    @Test
+    public void waitsForSlotWhenAllConnectionsAreBeingEstablished() {
+        pool.setLimits(1, 0);
+        connect("a");
+        connect("b");
+
+        assertEquals(Arrays.asList("a"), connectAttempts);
+        assertTrue(disconnects.isEmpty());
+
+        pendingConnectErrors.get("a").onError(new BleError(BleErrorCode.DeviceConnectionFailed, null, null));
+
+        assertEquals(Arrays.asList("a", "b"), connectAttempts);
+        assertEquals(Arrays.asList(BleErrorCode.DeviceConnectionFailed), errors);
+    }
+
+    @Test
+    public void reconnectsEvictedDeviceWithItsOptions() {
+        pool.setLimits(1, 0);
+        ConnectionOptions options = new ConnectionOptions(true, 185, null, null, 0);
+        pool.connect("a", options, successRecorder(), errorRecorder());
+        finishConnecting("a");
+        connectAndFinish("b");
+        assertTrue(pool.isEvicted("a"));
+
+        pool.reconnect("a", successRecorder(), errorRecorder());
+
+        assertSame(options, connectOptions.get("a"));
+        assertFalse(pool.isEvicted("a"));
+        assertTrue(pool.isEvicted("b"));
+        assertEquals(1, pool.getStats().reconnections);
+    }
+
+    @Test
+    public void reportsEvictedDisconnections() {
+        pool.setLimits(1, 0);
+        connectAndFinish("a");
+        connectAndFinish("b");
+
+        assertTrue(pool.onDisconnected("a"));
+        assertFalse(pool.onDisconnected("b"));
+        assertEquals(0, pool.getStats().connectedDevices);
+    }
+
+    @Test
+    public void disconnectCancelsQueuedConnections() {
+        pool.setLimits(0, 1);
+        connect("a");
+        connect("b");
+
+        pool.disconnect("b", successRecorder(), errorRecorder());
+        finishConnecting("a");
+
+        assertEquals(Arrays.asList("a"), connectAttempts);
+        assertEquals(Arrays.asList(BleErrorCode.OperationCancelled), errors);
+        assertEquals(0, pool.getStats().queuedConnections);
+    }
+
+    @Test
+    public void disconnectReleasesSlot() {
+        pool.setLimits(1, 0);
+        connectAndFinish("a");
+
+        pool.disconnect("a", successRecorder(), errorRecorder());
+        connect("b");
+
+        assertEquals(Arrays.asList("a"), disconnects);
+        assertFalse(pool.isEvicted("a"));
+        assertEquals(Arrays.asList("a", "b"), connectAttempts);
+    }
+
+    private void connect(String deviceId) {
+        pool.connect(deviceId, new ConnectionOptions(false, 0, null, null, 0), successRecorder(), errorRecorder());
+    }
+
+    private void connectAndFinish(String deviceId) {
+        connect(deviceId);
+        finishConnecting(deviceId);
+    }
+
+    private void finishConnecting(String deviceId) {
+        pendingConnects.get(deviceId).onSuccess(new Device(deviceId, null));
+    }
+
+    private OnSuccessCallback<Device> successRecorder() {
+        return new OnSuccessCallback<Device>() {
+            @Override
+            public void onSuccess(Device data) {
+                connected.add(data.getId());
+            }
+        };
+    }
+
+    private OnErrorCallback errorRecorder() {
+        return new OnErrorCallback() {
+            @Override
+            public void onError(BleError error) {
+                errors.add(error.errorCode);
+            }
+        };
+    }
+}
@@ -0,0 +1,37 @@
+package com.polidea.reactnativeble.connection;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+
+public class ReconnectPolicyTest {
+
+    @Test
+    public void growsDelayExponentiallyUpToLimit() {
+        ReconnectPolicy policy = new ReconnectPolicy(10, 100, 1000, 2, 0, true);
+
+        assertEquals(100, policy.delayBeforeAttempt(1, 0.5));
+        assertEquals(200, policy.delayBeforeAttempt(2, 0.5));
+        assertEquals(800, policy.delayBeforeAttempt(4, 0.5));
+        assertEquals(1000, policy.delayBeforeAttempt(5, 0.5));
+    }
+
+    @Test
+    public void randomizesPartOfDelay() {
+        ReconnectPolicy policy = new ReconnectPolicy(10, 1000, 1000, 2, 0.5, true);
+
+        assertEquals(1000, policy.delayBeforeAttempt(1, 0));
+        assertEquals(750, policy.delayBeforeAttempt(1, 0.5));
+    }
+
+    @Test
+    public void clampsInvalidValues() {
+        ReconnectPolicy policy = new ReconnectPolicy(0, -1, -1, 0.5, 2, false);
+
+        assertEquals(1, policy.maxAttempts);
+        assertEquals(0, policy.initialDelayMs);
+        assertEquals(0, policy.maxDelayMs);
+        assertEquals(1, policy.multiplier, 0);
+        assertEquals(1, policy.jitter, 0);
+    }
+}
@@ -0,0 +1,171 @@
+package com.polidea.reactnativeble.gatt;
+
+import androidx.annotation.NonNull;
+
+import com.polidea.multiplatformbleadapter.Characteristic;
+import com.polidea.multiplatformbleadapter.OnErrorCallback;
+import com.polidea.multiplatformbleadapter.OnSuccessCallback;
+import com.polidea.multiplatformbleadapter.errors.BleError;
+import com.polidea.multiplatformbleadapter.errors.BleErrorCode;
+import com.polidea.reactnativeble.utils.Base64Converter;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+public class BulkCharacteristicWriteTest {
+
+    private static final String TRANSACTION_ID = "bulk";
+
+    private final List<String> writtenChunks = new ArrayList<>();
+    private final List<String> chunkTransactionIds = new ArrayList<>();
+    private final List<OnSuccessCallback<Characteristic>> chunkSuccessCallbacks = new ArrayList<>();
+    private final List<OnErrorCallback> chunkErrorCallbacks = new ArrayList<>();
+    // Cancelled chunks, progress updates and results in the order they happened
+    private final List<String> log = new ArrayList<>();
+    private final List<Characteristic> results = new ArrayList<>();
+
+    @Test
+    public void splitsValuesIntoChunksWithPartialLastChunk() {
+        BulkCharacteristicWrite bulkWrite = bulkWrite(
+                Arrays.asList(bytes(0, 10), new byte[0], bytes(10, 3)), 4, 1);
+        bulkWrite.start();
+
+        Characteristic last = new Characteristic();
+        for (int i = 0; i < 3; i++) {
+            finishChunk(i, new Characteristic());
+        }
+        finishChunk(3, last);
+
+        assertEquals(13, bulkWrite.getTotalBytes());
+        assertEquals(Arrays.asList(
+                Base64Converter.encode(bytes(0, 4)),
+                Base64Converter.encode(bytes(4, 4)),
+                Base64Converter.encode(bytes(8, 2)),
+                Base64Converter.encode(bytes(10, 3))), writtenChunks);
+        assertEquals(Arrays.asList("bulk#0", "bulk#1", "bulk#2", "bulk#3"), chunkTransactionIds);
+        assertEquals(Arrays.asList("progress 4/13", "progress 8/13", "progress 10/13", "progress 13/13", "success"),
+                log);
+        assertSame(last, results.get(0));
+    }
+
+    @Test
+    public void limitsWritesInFlight() {
+        bulkWrite(Collections.singletonList(bytes(0, 10)), 2, 2).start();
+        assertEquals(2, writtenChunks.size());
+
+        finishChunk(1, new Characteristic());
+        assertEquals(3, writtenChunks.size());
+
+        finishChunk(0, new Characteristic());
+        finishChunk(2, new Characteristic());
+        assertEquals(5, writtenChunks.size());
+    }
+
+    @Test
+    public void completesRightAwayWithoutBytesToWrite() {
+        bulkWrite(Arrays.asList(new byte[0], new byte[0]), 4, 2).start();
+
+        assertTrue(writtenChunks.isEmpty());
+        assertEquals(Collections.singletonList("success"), log);
+        assertNull(results.get(0));
+    }
+
+    @Test
+    public void cancelsPendingChunksBeforeReportingCancellation() {
+        BulkCharacteristicWrite bulkWrite = bulkWrite(Collections.singletonList(bytes(0, 10)), 2, 2);
+        bulkWrite.start();
+        finishChunk(0, new Characteristic());
+
+        bulkWrite.cancel();
+        // Late completions of cancelled chunks and repeated cancellation are ignored
+        finishChunk(1, new Characteristic());
+        chunkErrorCallbacks.get(2).onError(new BleError(BleErrorCode.OperationCancelled, null, null));
+        bulkWrite.cancel();
+
+        assertEquals(3, writtenChunks.size());
+        assertEquals(Arrays.asList("progress 2/10", "cancel bulk#1", "cancel bulk#2", "error OperationCancelled"),
+                sorted(log, 1, 3));
+    }
+
+    @Test
+    public void cancelsOtherChunksWhenChunkFails() {
+        bulkWrite(Collections.singletonList(bytes(0, 10)), 2, 3).start();
+
+        chunkErrorCallbacks.get(1).onError(new BleError(BleErrorCode.CharacteristicWriteFailed, null, null));
+
+        assertEquals(3, writtenChunks.size());
+        assertEquals(Arrays.asList(
+                "cancel bulk#0", "cancel bulk#1", "cancel bulk#2", "error CharacteristicWriteFailed"),
+                sorted(log, 0, 3));
+    }
+
+    private BulkCharacteristicWrite bulkWrite(List<byte[]> values, int chunkSize, int maxWritesInFlight) {
+        return new BulkCharacteristicWrite(values, chunkSize, maxWritesInFlight, TRANSACTION_ID,
+                new BulkCharacteristicWrite.ChunkWriter() {
+                    @Override
+                    public void write(@NonNull String chunkBase64,
+                                      @NonNull String chunkTransactionId,
+                                      @NonNull OnSuccessCallback<Characteristic> onSuccessCallback,
+                                      @NonNull OnErrorCallback onErrorCallback) {
+                        writtenChunks.add(chunkBase64);
+                        chunkTransactionIds.add(chunkTransactionId);
+                        chunkSuccessCallbacks.add(onSuccessCallback);
+                        chunkErrorCallbacks.add(onErrorCallback);
+                    }
+
+                    @Override
+                    public void cancel(@NonNull String chunkTransactionId) {
+                        log.add("cancel " + chunkTransactionId);
+                    }
+                },
+                new BulkCharacteristicWrite.OnProgressCallback() {
+                    @Override
+                    public void onProgress(int bytesWritten, int totalBytes) {
+                        log.add("progress " + bytesWritten + "/" + totalBytes);
+                    }
+                },
+                new OnSuccessCallback<Characteristic>() {
+                    @Override
+                    public void onSuccess(Characteristic data) {
+                        log.add("success");
+                        results.add(data);
+                    }
+                },
+                new OnErrorCallback() {
+                    @Override
+                    public void onError(BleError error) {
+                        log.add("error " + error.errorCode.name());
+                    }
+                });
+    }
+
+    private void finishChunk(int index, Characteristic characteristic) {
+        chunkSuccessCallbacks.get(index).onSuccess(characteristic);
+    }
+
+    private static byte[] bytes(int first, int count) {
+        byte[] bytes = new byte[count];
+        for (int i = 0; i < count; i++) {
+            bytes[i] = (byte) (first + i);
+        }
+        return bytes;
+    }
+
+    /**
+     * Pending chunks are cancelled in no particular order, so cancellations are sorted before comparing.
+     */
+    private static List<String> sorted(List<String> log, int from, int to) {
+        List<String> sorted = new ArrayList<>(log);
+        Collections.sort(sorted.subList(from, to));
+        return sorted;
+    }
+}
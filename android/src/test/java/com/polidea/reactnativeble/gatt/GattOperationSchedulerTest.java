@@ -0,0 +1,215 @@
+package com.polidea.reactnativeble.gatt;
+
+import androidx.annotation.NonNull;
+
+import com.polidea.multiplatformbleadapter.OnErrorCallback;
+import com.polidea.multiplatformbleadapter.OnSuccessCallback;
+import com.polidea.multiplatformbleadapter.errors.BleError;
+import com.polidea.multiplatformbleadapter.errors.BleErrorCode;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class GattOperationSchedulerTest {
+
+    private ScheduledExecutorService executor;
+    private final List<String> started = new ArrayList<>();
+    private final List<String> succeeded = new ArrayList<>();
+    private final List<BleErrorCode> errors = new ArrayList<>();
+    private final List<OnSuccessCallback<String>> running = new ArrayList<>();
+
+    @Before
+    public void setUp() {
+        executor = Executors.newSingleThreadScheduledExecutor();
+    }
+
+    @After
+    public void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    public void startsOperationsUpToDeviceLimit() {
+        GattOperationScheduler scheduler = new GattOperationScheduler(2, 8, executor);
+
+        schedule(scheduler, "device", "a", GattOperationScheduler.Priority.INTERACTIVE);
+        schedule(scheduler, "device", "b", GattOperationScheduler.Priority.INTERACTIVE);
+        schedule(scheduler, "device", "c", GattOperationScheduler.Priority.INTERACTIVE);
+
+        assertEquals(Arrays.asList("a", "b"), started);
+        assertEquals(2, scheduler.getOperationsInFlightCount());
+        assertEquals(1, scheduler.getPendingOperationCount());
+
+        finish(0);
+
+        assertEquals(Arrays.asList("a", "b", "c"), started);
+        assertEquals(Arrays.asList("a"), succeeded);
+    }
+
+    @Test
+    public void startsHigherPriorityOperationsFirst() {
+        GattOperationScheduler scheduler = new GattOperationScheduler(1, 8, executor);
+
+        schedule(scheduler, "device", "bulk-1", GattOperationScheduler.Priority.BULK);
+        schedule(scheduler, "device", "bulk-2", GattOperationScheduler.Priority.BULK);
+        schedule(scheduler, "device", "background", GattOperationScheduler.Priority.BACKGROUND);
+        schedule(scheduler, "device", "interactive", GattOperationScheduler.Priority.INTERACTIVE);
+
+        finish(0);
+        finish(1);
+        finish(2);
+
+        assertEquals(Arrays.asList("bulk-1", "interactive", "background", "bulk-2"), started);
+    }
+
+    @Test
+    public void servesDevicesInRoundRobinOrder() {
+        GattOperationScheduler scheduler = new GattOperationScheduler(1, 1, executor);
+
+        schedule(scheduler, "device-1", "1a", GattOperationScheduler.Priority.BULK);
+        schedule(scheduler, "device-1", "1b", GattOperationScheduler.Priority.BULK);
+        schedule(scheduler, "device-1", "1c", GattOperationScheduler.Priority.BULK);
+        schedule(scheduler, "device-2", "2a", GattOperationScheduler.Priority.INTERACTIVE);
+        schedule(scheduler, "device-2", "2b", GattOperationScheduler.Priority.INTERACTIVE);
+
+        for (int i = 0; i < 4; i++) {
+            finish(i);
+        }
+
+        assertEquals(Arrays.asList("1a", "2a", "1b", "2b", "1c"), started);
+    }
+
+    @Test
+    public void busyDeviceDoesNotBlockOtherDevices() {
+        GattOperationScheduler scheduler = new GattOperationScheduler(1, 8, executor);
+
+        schedule(scheduler, "device-1", "1a", GattOperationScheduler.Priority.BULK);
+        schedule(scheduler, "device-1", "1b", GattOperationScheduler.Priority.BULK);
+        schedule(scheduler, "device-2", "2a", GattOperationScheduler.Priority.INTERACTIVE);
+
+        assertEquals(Arrays.asList("1a", "2a"), started);
+    }
+
+    @Test
+    public void cancelsPendingOperationsByTransactionId() {
+        GattOperationScheduler scheduler = new GattOperationScheduler(1, 8, executor);
+
+        schedule(scheduler, "device", "a", GattOperationScheduler.Priority.INTERACTIVE);
+        schedule(scheduler, "device", "b", GattOperationScheduler.Priority.INTERACTIVE);
+
+        assertTrue(scheduler.cancel("b"));
+        assertFalse(scheduler.cancel("a"));
+        assertEquals(Arrays.asList(BleErrorCode.OperationCancelled), errors);
+
+        finish(0);
+
+        assertEquals(Arrays.asList("a"), started);
+        assertEquals(0, scheduler.getPendingOperationCount());
+        assertEquals(0, scheduler.getOperationsInFlightCount());
+    }
+
+    @Test
+    public void failsOperationsWhichMissTheirDeadline() throws InterruptedException {
+        GattOperationScheduler scheduler = new GattOperationScheduler(1, 8, executor);
+        final CountDownLatch timedOut = new CountDownLatch(1);
+
+        schedule(scheduler, "device", "a", GattOperationScheduler.Priority.INTERACTIVE);
+        scheduler.schedule("device", "b", GattOperationScheduler.Priority.INTERACTIVE, 10,
+                call("b"),
+                new OnSuccessCallback<String>() {
+                    @Override
+                    public void onSuccess(String data) {
+                    }
+                }, new OnErrorCallback() {
+                    @Override
+                    public void onError(BleError error) {
+                        if (error.errorCode == BleErrorCode.OperationTimedOut) {
+                            timedOut.countDown();
+                        }
+                    }
+                });
+
+        assertTrue(timedOut.await(1, TimeUnit.SECONDS));
+        assertEquals(0, scheduler.getPendingOperationCount());
+        finish(0);
+        assertEquals(Arrays.asList("a"), started);
+    }
+
+    @Test
+    public void releasesSlotOnError() {
+        GattOperationScheduler scheduler = new GattOperationScheduler(1, 8, executor);
+
+        scheduler.schedule("device", "a", GattOperationScheduler.Priority.INTERACTIVE, 0,
+                new GattOperationScheduler.Call<String>() {
+                    @Override
+                    public void call(@NonNull OnSuccessCallback<String> onSuccessCallback,
+                                     @NonNull OnErrorCallback onErrorCallback) {
+                        started.add("a");
+                        onErrorCallback.onError(new BleError(BleErrorCode.DeviceDisconnected, null, null));
+                    }
+                }, successRecorder(), errorRecorder());
+        schedule(scheduler, "device", "b", GattOperationScheduler.Priority.INTERACTIVE);
+
+        assertEquals(Arrays.asList("a", "b"), started);
+        assertEquals(Arrays.asList(BleErrorCode.DeviceDisconnected), errors);
+    }
+
+    private void schedule(GattOperationScheduler scheduler,
+                          String deviceKey,
+                          String transactionId,
+                          GattOperationScheduler.Priority priority) {
+        scheduler.schedule(deviceKey, transactionId, priority, 0, call(transactionId),
+                successRecorder(), errorRecorder());
+    }
+
+    private GattOperationScheduler.Call<String> call(final String transactionId) {
+        return new GattOperationScheduler.Call<String>() {
+            @Override
+            public void call(@NonNull final OnSuccessCallback<String> onSuccessCallback,
+                             @NonNull OnErrorCallback onErrorCallback) {
+                started.add(transactionId);
+                running.add(new OnSuccessCallback<String>() {
+                    @Override
+                    public void onSuccess(String data) {
+                        onSuccessCallback.onSuccess(transactionId);
+                    }
+                });
+            }
+        };
+    }
+
+    private void finish(int startedIndex) {
+        running.get(startedIndex).onSuccess(null);
+    }
+
+    private OnSuccessCallback<String> successRecorder() {
+        return new OnSuccessCallback<String>() {
+            @Override
+            public void onSuccess(String data) {
+                succeeded.add(data);
+            }
+        };
+    }
+
+    private OnErrorCallback errorRecorder() {
+        return new OnErrorCallback() {
+            @Override
+            public void onError(BleError error) {
+                errors.add(error.errorCode);
+            }
+        };
+    }
+}
@@ -0,0 +1,90 @@
+package com.polidea.reactnativeble.metrics;
+
+import com.polidea.reactnativeble.utils.UUIDStringCache;
+
+import org.junit.Test;
+
+import java.util.UUID;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+
+public class BleMetricsTest {
+
+    @Test
+    public void recordsMethodOnlyOnce() {
+        BleMetrics metrics = new BleMetrics(0);
+        Runnable timer = metrics.startMethod("readCharacteristic");
+        timer.run();
+        timer.run();
+
+        assertEquals(1, metrics.snapshot(1000, false).methods.get("readCharacteristic").count);
+    }
+
+    @Test
+    public void countsEventsAndPayloadSizes() {
+        BleMetrics metrics = new BleMetrics(0);
+        metrics.onEventSent("ScanBatchEvent", 10);
+        metrics.onEventSent("ScanBatchEvent", 5);
+        metrics.onEventSent("ReadEvent", 3);
+
+        BleMetrics.Snapshot snapshot = metrics.snapshot(1000, false);
+        assertEquals(2, snapshot.events.get("ScanBatchEvent").count);
+        assertEquals(15, snapshot.events.get("ScanBatchEvent").payloadSize);
+        assertEquals(1, snapshot.events.get("ReadEvent").count);
+    }
+
+    @Test
+    public void computesRatesSinceReset() {
+        BleMetrics metrics = new BleMetrics(0);
+        for (int i = 0; i < 20; i++) {
+            metrics.onScanResult();
+        }
+        metrics.onNotification();
+
+        BleMetrics.Snapshot snapshot = metrics.snapshot(2000, true);
+        assertEquals(2000, snapshot.periodMs);
+        assertEquals(10, snapshot.scanResultsPerSecond(), 0.001);
+        assertEquals(0.5, snapshot.notificationsPerSecond(), 0.001);
+
+        metrics.onScanResult();
+        snapshot = metrics.snapshot(3000, false);
+        assertEquals(1000, snapshot.periodMs);
+        assertEquals(1, snapshot.scanResults);
+        assertEquals(0, snapshot.notifications);
+    }
+
+    @Test
+    public void reportsUUIDStringCacheLookupsSinceReset() {
+        UUIDStringCache cache = new UUIDStringCache(8);
+        UUID uuid = UUID.randomUUID();
+        cache.get(uuid);
+        BleMetrics metrics = new BleMetrics(0, cache);
+        cache.get(uuid);
+        cache.get(UUID.randomUUID());
+
+        BleMetrics.CacheStats stats = metrics.snapshot(1000, true).uuidStringCache;
+        assertEquals(1, stats.hits);
+        assertEquals(1, stats.misses);
+        assertEquals(2, stats.size);
+
+        cache.get(uuid);
+        stats = metrics.snapshot(2000, false).uuidStringCache;
+        assertEquals(1, stats.hits);
+        assertEquals(0, stats.misses);
+    }
+
+    @Test
+    public void ignoresEverythingWhenDisabled() {
+        BleMetrics metrics = new BleMetrics(0);
+        metrics.setEnabled(false);
+        metrics.onScanResult();
+        metrics.onEventSent("ScanEvent", 2);
+
+        assertNull(metrics.startMethod("connectToDevice"));
+        BleMetrics.Snapshot snapshot = metrics.snapshot(1000, false);
+        assertEquals(0, snapshot.scanResults);
+        assertFalse(snapshot.events.containsKey("ScanEvent"));
+    }
+}
@@ -0,0 +1,52 @@
+package com.polidea.reactnativeble.metrics;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+
+public class LatencyHistogramTest {
+
+    @Test
+    public void recordsCountTotalAndMaximum() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        histogram.record(100);
+        histogram.record(300);
+        histogram.record(-5);
+
+        LatencyHistogram.Snapshot snapshot = histogram.snapshot(false);
+        assertEquals(3, snapshot.count);
+        assertEquals(400, snapshot.totalNs);
+        assertEquals(300, snapshot.maxNs);
+        assertEquals(400 / 3.0, snapshot.meanNs(), 0.001);
+    }
+
+    @Test
+    public void estimatesPercentilesFromBuckets() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        for (int i = 0; i < 90; i++) {
+            histogram.record(1000);
+        }
+        for (int i = 0; i < 10; i++) {
+            histogram.record(1000000);
+        }
+
+        LatencyHistogram.Snapshot snapshot = histogram.snapshot(false);
+        // 1000 ns falls into bucket [512, 1024), 1000000 ns into [524288, 1048576) capped by the maximum
+        assertEquals(1024, snapshot.percentileNs(50));
+        assertEquals(1024, snapshot.percentileNs(90));
+        assertEquals(1000000, snapshot.percentileNs(99));
+        assertEquals(0, new LatencyHistogram().snapshot(false).percentileNs(50));
+    }
+
+    @Test
+    public void startsOverAfterReset() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        histogram.record(100);
+
+        assertEquals(1, histogram.snapshot(true).count);
+        LatencyHistogram.Snapshot snapshot = histogram.snapshot(false);
+        assertEquals(0, snapshot.count);
+        assertEquals(0, snapshot.maxNs);
+        assertEquals(0, snapshot.percentileNs(99));
+    }
+}
@@ -0,0 +1,109 @@
+package com.polidea.reactnativeble.scan;
+
+import androidx.annotation.NonNull;
+
+import com.polidea.multiplatformbleadapter.ScanResult;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class ScanResultAggregatorTest {
+
+    private ScheduledExecutorService executor;
+    private final List<List<ScanResultAggregator.DeviceState>> updates = new ArrayList<>();
+    private final List<List<String>> expirations = new ArrayList<>();
+
+    @Before
+    public void setUp() {
+        executor = Executors.newSingleThreadScheduledExecutor();
+    }
+
+    @After
+    public void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    public void reportsOnlyUpdatedDevices() {
+        ScanResultAggregator aggregator = aggregator(0, 1);
+        aggregator.add(scanResult("a", -50), 1000);
+        aggregator.add(scanResult("b", -60), 1000);
+        aggregator.snapshot(1100);
+
+        aggregator.add(scanResult("b", -70), 1200);
+        aggregator.snapshot(1300);
+        aggregator.snapshot(1400);
+
+        assertEquals(2, updates.size());
+        assertEquals(2, updates.get(0).size());
+        assertEquals(1, updates.get(1).size());
+        assertEquals("b", updates.get(1).get(0).scanResult.getDeviceId());
+        assertEquals(1200, updates.get(1).get(0).lastSeenMs);
+    }
+
+    @Test
+    public void smoothsRssi() {
+        ScanResultAggregator aggregator = aggregator(0, 0.5);
+        aggregator.add(scanResult("a", -50), 1000);
+        aggregator.add(scanResult("a", -70), 1100);
+        aggregator.add(scanResult("a", -70), 1200);
+        aggregator.snapshot(1300);
+
+        ScanResultAggregator.DeviceState state = updates.get(0).get(0);
+        assertEquals(-65, state.smoothedRssi, 0.001);
+        assertEquals(-70, state.scanResult.getRssi());
+    }
+
+    @Test
+    public void expiresDevicesNotSeenWithinTtl() {
+        ScanResultAggregator aggregator = aggregator(1000, 1);
+        aggregator.add(scanResult("a", -50), 1000);
+        aggregator.add(scanResult("b", -50), 1500);
+        aggregator.snapshot(1600);
+
+        aggregator.snapshot(2100);
+        aggregator.add(scanResult("a", -50), 2200);
+        aggregator.snapshot(2300);
+
+        assertEquals(Arrays.asList(Arrays.<String>asList(), Arrays.asList("a"), Arrays.<String>asList()), expirations);
+        assertTrue(updates.get(1).isEmpty());
+        assertEquals("a", updates.get(2).get(0).scanResult.getDeviceId());
+    }
+
+    @Test
+    public void stopsReportingAfterDispose() {
+        ScanResultAggregator aggregator = aggregator(0, 1);
+        aggregator.add(scanResult("a", -50), 1000);
+        aggregator.dispose();
+        aggregator.add(scanResult("a", -50), 1100);
+        aggregator.snapshot(1200);
+
+        assertTrue(updates.isEmpty());
+    }
+
+    private ScanResultAggregator aggregator(long deviceTtlMs, double rssiSmoothingFactor) {
+        return new ScanResultAggregator(1000, deviceTtlMs, rssiSmoothingFactor, executor,
+                new ScanResultAggregator.OnSnapshotCallback() {
+                    @Override
+                    public void onSnapshot(@NonNull List<ScanResultAggregator.DeviceState> updatedDevices,
+                                           @NonNull List<String> expiredDeviceIds) {
+                        updates.add(updatedDevices);
+                        expirations.add(expiredDeviceIds);
+                    }
+                });
+    }
+
+    private static ScanResult scanResult(String deviceId, int rssi) {
+        return new ScanResult(deviceId, null, rssi, 0, null, null, null);
+    }
+}
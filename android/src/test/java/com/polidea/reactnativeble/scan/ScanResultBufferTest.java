@@ -0,0 +1,74 @@
+package com.polidea.reactnativeble.scan;
+
+import com.polidea.multiplatformbleadapter.ScanResult;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+
+public class ScanResultBufferTest {
+
+    @Test
+    public void drainsOldestResultsFirst() {
+        ScanResultBuffer buffer = new ScanResultBuffer(4, false);
+        buffer.add(scanResult("a", -50));
+        buffer.add(scanResult("b", -50));
+        buffer.add(scanResult("a", -60));
+
+        assertEquals(Arrays.asList("a", "b"), deviceIds(buffer.drain(2)));
+        assertEquals(Arrays.asList("a"), deviceIds(buffer.drain(2)));
+        assertEquals(0, buffer.size());
+    }
+
+    @Test
+    public void overwritesOldestResultsWhenFull() {
+        ScanResultBuffer buffer = new ScanResultBuffer(2, false);
+        buffer.add(scanResult("a", -50));
+        buffer.add(scanResult("b", -50));
+        buffer.add(scanResult("c", -50));
+
+        assertEquals(2, buffer.size());
+        assertEquals(Arrays.asList("b", "c"), deviceIds(buffer.drain(0)));
+
+        buffer.add(scanResult("d", -50));
+        assertEquals(Arrays.asList("d"), deviceIds(buffer.drain(10)));
+    }
+
+    @Test
+    public void keepsLatestResultOfEveryDevice() {
+        ScanResultBuffer buffer = new ScanResultBuffer(4, true);
+        buffer.add(scanResult("a", -50));
+        buffer.add(scanResult("b", -50));
+        buffer.add(scanResult("a", -70));
+
+        List<ScanResult> results = buffer.drain(0);
+        assertEquals(Arrays.asList("a", "b"), deviceIds(results));
+        assertEquals(-70, results.get(0).getRssi());
+    }
+
+    @Test
+    public void dropsOldestDeviceWhenFull() {
+        ScanResultBuffer buffer = new ScanResultBuffer(2, true);
+        buffer.add(scanResult("a", -50));
+        buffer.add(scanResult("b", -50));
+        buffer.add(scanResult("c", -50));
+
+        assertEquals(Arrays.asList("b", "c"), deviceIds(buffer.drain(0)));
+    }
+
+    private static ScanResult scanResult(String deviceId, int rssi) {
+        return new ScanResult(deviceId, null, rssi, 0, null, null, null);
+    }
+
+    private static List<String> deviceIds(List<ScanResult> results) {
+        List<String> deviceIds = new ArrayList<>();
+        for (ScanResult result : results) {
+            deviceIds.add(result.getDeviceId());
+        }
+        return deviceIds;
+    }
+}
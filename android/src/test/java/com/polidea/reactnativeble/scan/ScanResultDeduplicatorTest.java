@@ -0,0 +1,131 @@
+package com.polidea.reactnativeble.scan;
+
+import com.polidea.multiplatformbleadapter.AdvertisementData;
+import com.polidea.multiplatformbleadapter.ScanResult;
+
+import org.junit.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class ScanResultDeduplicatorTest {
+
+    private static final UUID SERVICE_UUID = UUID.fromString("0000feaa-0000-1000-8000-00805f9b34fb");
+
+    @Test
+    public void reportsFirstResultOfEveryDevice() {
+        ScanResultDeduplicator deduplicator = new ScanResultDeduplicator(-1, 0);
+
+        assertTrue(deduplicator.shouldReport(scanResult("a", -50), 0));
+        assertTrue(deduplicator.shouldReport(scanResult("b", -50), 0));
+        assertFalse(deduplicator.shouldReport(scanResult("a", -50), 0));
+    }
+
+    @Test
+    public void reportsRssiChangesAboveDelta() {
+        ScanResultDeduplicator deduplicator = new ScanResultDeduplicator(5, 0);
+        deduplicator.shouldReport(scanResult("a", -50), 0);
+
+        assertFalse(deduplicator.shouldReport(scanResult("a", -55), 1));
+        assertFalse(deduplicator.shouldReport(scanResult("a", -45), 2));
+        assertTrue(deduplicator.shouldReport(scanResult("a", -56), 3));
+        // Delta is measured from the last reported result
+        assertFalse(deduplicator.shouldReport(scanResult("a", -51), 4));
+        assertTrue(deduplicator.shouldReport(scanResult("a", -50), 5));
+    }
+
+    @Test
+    public void ignoresRssiChangesWithNegativeDelta() {
+        ScanResultDeduplicator deduplicator = new ScanResultDeduplicator(-1, 0);
+        deduplicator.shouldReport(scanResult("a", -50), 0);
+
+        assertFalse(deduplicator.shouldReport(scanResult("a", -100), 1));
+    }
+
+    @Test
+    public void reportsChangedPayloads() {
+        ScanResultDeduplicator deduplicator = new ScanResultDeduplicator(-1, 0);
+        Map<UUID, byte[]> serviceData = new HashMap<>();
+        serviceData.put(SERVICE_UUID, new byte[]{0x01});
+        Map<UUID, byte[]> changedServiceData = new HashMap<>();
+        changedServiceData.put(SERVICE_UUID, new byte[]{0x02});
+        deduplicator.shouldReport(scanResult("a", "Sensor", new byte[]{0x01, 0x02}, serviceData), 0);
+
+        assertFalse(deduplicator.shouldReport(
+                scanResult("a", "Sensor", new byte[]{0x01, 0x02}, copy(serviceData)), 1));
+        assertTrue(deduplicator.shouldReport(scanResult("a", "Sensor", new byte[]{0x01, 0x03}, serviceData), 2));
+        assertTrue(deduplicator.shouldReport(
+                scanResult("a", "Sensor", new byte[]{0x01, 0x03}, changedServiceData), 3));
+        assertTrue(deduplicator.shouldReport(
+                scanResult("a", "Sensor-2", new byte[]{0x01, 0x03}, changedServiceData), 4));
+        assertFalse(deduplicator.shouldReport(
+                scanResult("a", "Sensor-2", new byte[]{0x01, 0x03}, changedServiceData), 5));
+    }
+
+    @Test
+    public void reportsUnchangedResultsAfterInterval() {
+        ScanResultDeduplicator deduplicator = new ScanResultDeduplicator(-1, 1000);
+        deduplicator.shouldReport(scanResult("a", -50), 0);
+
+        assertFalse(deduplicator.shouldReport(scanResult("a", -50), 999));
+        assertTrue(deduplicator.shouldReport(scanResult("a", -50), 1000));
+        // Interval is measured from the last reported result
+        assertFalse(deduplicator.shouldReport(scanResult("a", -50), 1999));
+        assertTrue(deduplicator.shouldReport(scanResult("a", -50), 2000));
+    }
+
+    @Test
+    public void forgetsReportsAfterInterval() {
+        ScanResultDeduplicator deduplicator = new ScanResultDeduplicator(-1, 1000);
+        deduplicator.shouldReport(scanResult("a", -50), 0);
+        deduplicator.shouldReport(scanResult("b", -50), 500);
+        assertEquals(2, deduplicator.getTrackedDeviceCount());
+
+        deduplicator.shouldReport(scanResult("b", -50), 1000);
+
+        assertEquals(1, deduplicator.getTrackedDeviceCount());
+        deduplicator.shouldReport(scanResult("c", -50), 1500);
+        assertEquals(1, deduplicator.getTrackedDeviceCount());
+    }
+
+    @Test
+    public void limitsNumberOfTrackedDevices() {
+        ScanResultDeduplicator deduplicator = new ScanResultDeduplicator(-1, 0);
+        for (int i = 0; i <= ScanResultDeduplicator.MAX_TRACKED_DEVICES; i++) {
+            deduplicator.shouldReport(scanResult("device-" + i, -50), i);
+        }
+
+        assertEquals(ScanResultDeduplicator.MAX_TRACKED_DEVICES, deduplicator.getTrackedDeviceCount());
+        // The least recently reported device was forgotten, the next one is still tracked
+        long timeMs = ScanResultDeduplicator.MAX_TRACKED_DEVICES + 1;
+        assertTrue(deduplicator.shouldReport(scanResult("device-0", -50), timeMs));
+        assertFalse(deduplicator.shouldReport(scanResult("device-2", -50), timeMs));
+    }
+
+    private static Map<UUID, byte[]> copy(Map<UUID, byte[]> serviceData) {
+        Map<UUID, byte[]> copy = new HashMap<>();
+        for (Map.Entry<UUID, byte[]> entry : serviceData.entrySet()) {
+            copy.put(entry.getKey(), entry.getValue().clone());
+        }
+        return copy;
+    }
+
+    private static ScanResult scanResult(String deviceId, int rssi) {
+        return new ScanResult(deviceId, null, rssi, 0, null, null,
+                new AdvertisementData(null, null, null, null, null, null));
+    }
+
+    private static ScanResult scanResult(String deviceId,
+                                         String name,
+                                         byte[] manufacturerData,
+                                         Map<UUID, byte[]> serviceData) {
+        AdvertisementData advertisementData =
+                new AdvertisementData(manufacturerData, serviceData, null, null, null, null);
+        return new ScanResult(deviceId, name, -50, 0, null, null, advertisementData);
+    }
+}
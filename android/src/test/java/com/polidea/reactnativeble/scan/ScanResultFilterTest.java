@@ -0,0 +1,94 @@
+package com.polidea.reactnativeble.scan;
+
+import com.polidea.multiplatformbleadapter.AdvertisementData;
+import com.polidea.multiplatformbleadapter.ScanResult;
+
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+import java.util.regex.Pattern;
+
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class ScanResultFilterTest {
+
+    private static final UUID SERVICE_UUID = UUID.fromString("0000feaa-0000-1000-8000-00805f9b34fb");
+
+    @Test
+    public void rejectsResultsBelowMinimumRssi() {
+        ScanResultFilter filter =
+                new ScanResultFilter(-70, Collections.<ScanResultFilter.AdvertisementFilter>emptyList());
+
+        assertTrue(filter.matches(scanResult("a", -70, null, null, null)));
+        assertFalse(filter.matches(scanResult("a", -71, null, null, null)));
+    }
+
+    @Test
+    public void matchesManufacturerIdAndMaskedData() {
+        ScanResultFilter filter = filter(new ScanResultFilter.AdvertisementFilter(
+                0x004C, new byte[]{0x02, 0x10}, new byte[]{(byte) 0xFF, (byte) 0xF0}, null, null, null, null, null));
+
+        assertTrue(filter.matches(scanResult("a", -50, null, new byte[]{0x4C, 0x00, 0x02, 0x1A, 0x7F}, null)));
+        assertFalse(filter.matches(scanResult("a", -50, null, new byte[]{0x4C, 0x00, 0x02, 0x2A}, null)));
+        assertFalse(filter.matches(scanResult("a", -50, null, new byte[]{0x4D, 0x00, 0x02, 0x10}, null)));
+        assertFalse(filter.matches(scanResult("a", -50, null, new byte[]{0x4C, 0x00, 0x02}, null)));
+        assertFalse(filter.matches(scanResult("a", -50, null, null, null)));
+    }
+
+    @Test
+    public void matchesNamePrefixOrPattern() {
+        ScanResultFilter prefixFilter = filter(new ScanResultFilter.AdvertisementFilter(
+                null, null, null, "Sensor", null, null, null, null));
+        ScanResultFilter patternFilter = filter(new ScanResultFilter.AdvertisementFilter(
+                null, null, null, null, Pattern.compile("-\\d{4}$"), null, null, null));
+
+        assertTrue(prefixFilter.matches(scanResult("a", -50, "Sensor-0001", null, null)));
+        assertFalse(prefixFilter.matches(scanResult("a", -50, "Lamp", null, null)));
+        assertFalse(prefixFilter.matches(scanResult("a", -50, null, null, null)));
+        assertTrue(patternFilter.matches(scanResult("a", -50, "Sensor-0001", null, null)));
+        assertFalse(patternFilter.matches(scanResult("a", -50, "Sensor-01", null, null)));
+    }
+
+    @Test
+    public void matchesServiceData() {
+        ScanResultFilter filter = filter(new ScanResultFilter.AdvertisementFilter(
+                null, null, null, null, null, SERVICE_UUID, new byte[]{0x10}, null));
+        Map<UUID, byte[]> matching = new HashMap<>();
+        matching.put(SERVICE_UUID, new byte[]{0x10, 0x00});
+        Map<UUID, byte[]> other = new HashMap<>();
+        other.put(SERVICE_UUID, new byte[]{0x20, 0x00});
+
+        assertTrue(filter.matches(scanResult("a", -50, null, null, matching)));
+        assertFalse(filter.matches(scanResult("a", -50, null, null, other)));
+        assertFalse(filter.matches(scanResult("a", -50, null, null, null)));
+    }
+
+    @Test
+    public void acceptsResultsMatchingAnyFilter() {
+        ScanResultFilter filter = new ScanResultFilter(null, Arrays.asList(
+                new ScanResultFilter.AdvertisementFilter(null, null, null, "A", null, null, null, null),
+                new ScanResultFilter.AdvertisementFilter(null, null, null, "B", null, null, null, null)));
+
+        assertTrue(filter.matches(scanResult("a", -50, "Beacon", null, null)));
+        assertFalse(filter.matches(scanResult("a", -50, "Lamp", null, null)));
+    }
+
+    private static ScanResultFilter filter(ScanResultFilter.AdvertisementFilter advertisementFilter) {
+        return new ScanResultFilter(null, Collections.singletonList(advertisementFilter));
+    }
+
+    private static ScanResult scanResult(String deviceId,
+                                         int rssi,
+                                         String name,
+                                         byte[] manufacturerData,
+                                         Map<UUID, byte[]> serviceData) {
+        AdvertisementData advertisementData =
+                new AdvertisementData(manufacturerData, serviceData, null, null, null, null);
+        return new ScanResult(deviceId, name, rssi, 0, null, null, advertisementData);
+    }
+}
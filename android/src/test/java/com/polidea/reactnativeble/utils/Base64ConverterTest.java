@@ -0,0 +1,115 @@
+package com.polidea.reactnativeble.utils;
+
+import org.junit.Test;
+
+import java.util.Random;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+
+public class Base64ConverterTest {
+
+    private final Random random = new Random(42);
+
+    @Test
+    public void encodesKnownValues() {
+        assertEquals("", Base64Converter.encode(new byte[0]));
+        assertEquals("Zg==", Base64Converter.encode("f".getBytes()));
+        assertEquals("Zm8=", Base64Converter.encode("fo".getBytes()));
+        assertEquals("Zm9v", Base64Converter.encode("foo".getBytes()));
+        assertEquals("Zm9vYg==", Base64Converter.encode("foob".getBytes()));
+        assertEquals("Zm9vYmE=", Base64Converter.encode("fooba".getBytes()));
+        assertEquals("Zm9vYmFy", Base64Converter.encode("foobar".getBytes()));
+        assertEquals("+/8=", Base64Converter.encode(new byte[]{(byte) 0xfb, (byte) 0xff}));
+    }
+
+    @Test
+    public void encodesLikeNoWrapEncoderForAllLengths() {
+        for (int length = 0; length <= 600; length++) {
+            byte[] bytes = randomBytes(length);
+            assertEquals("length " + length,
+                    java.util.Base64.getEncoder().encodeToString(bytes), Base64Converter.encode(bytes));
+        }
+    }
+
+    @Test
+    public void encodesRangeOfArray() {
+        byte[] bytes = "xxfoobarxx".getBytes();
+        assertEquals("Zm9vYmFy", Base64Converter.encode(bytes, 2, 6));
+    }
+
+    @Test
+    public void decodesLikeDecoderForAllLengths() {
+        for (int length = 0; length <= 600; length++) {
+            byte[] bytes = randomBytes(length);
+            String base64 = java.util.Base64.getEncoder().encodeToString(bytes);
+            assertArrayEquals("length " + length, bytes, Base64Converter.decode(base64));
+        }
+    }
+
+    @Test
+    public void decodesValuesWithoutPadding() {
+        assertArrayEquals("f".getBytes(), Base64Converter.decode("Zg"));
+        assertArrayEquals("fo".getBytes(), Base64Converter.decode("Zm8"));
+    }
+
+    @Test
+    public void decodeSkipsCharactersOutsideOfAlphabet() {
+        assertArrayEquals("foobar".getBytes(), Base64Converter.decode("Zm9v\nYmFy"));
+        assertArrayEquals("foobar".getBytes(), Base64Converter.decode(" Zm9v YmFy "));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void decodeRejectsSingleTrailingCharacter() {
+        Base64Converter.decode("Zm9vY");
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void decodeRejectsIncompletePadding() {
+        Base64Converter.decode("Zg=");
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void decodeRejectsDataAfterPadding() {
+        Base64Converter.decode("Zg==Zg==");
+    }
+
+    @Test
+    public void convertsValuesConcurrently() throws InterruptedException {
+        final byte[][] values = new byte[8][];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = randomBytes(20 + i * 30);
+        }
+        final AssertionError[] failure = new AssertionError[1];
+        Thread[] threads = new Thread[values.length];
+        for (int i = 0; i < threads.length; i++) {
+            final byte[] value = values[i];
+            threads[i] = new Thread(new Runnable() {
+                @Override
+                public void run() {
+                    String expected = java.util.Base64.getEncoder().encodeToString(value);
+                    for (int j = 0; j < 1000; j++) {
+                        String encoded = Base64Converter.encode(value);
+                        if (!expected.equals(encoded)) {
+                            failure[0] = new AssertionError("Encoded value differs: " + encoded);
+                            return;
+                        }
+                    }
+                }
+            });
+            threads[i].start();
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        if (failure[0] != null) {
+            throw failure[0];
+        }
+    }
+
+    private byte[] randomBytes(int length) {
+        byte[] bytes = new byte[length];
+        random.nextBytes(bytes);
+        return bytes;
+    }
+}
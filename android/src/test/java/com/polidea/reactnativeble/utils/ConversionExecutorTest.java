@@ -0,0 +1,169 @@
+package com.polidea.reactnativeble.utils;
+
+import org.junit.After;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+public class ConversionExecutorTest {
+
+    private static final String KEY = "device";
+
+    private ConversionExecutor executor;
+    private final List<String> completed = Collections.synchronizedList(new ArrayList<String>());
+    private final CountDownLatch workerBlocked = new CountDownLatch(1);
+    private final CountDownLatch releaseWorker = new CountDownLatch(1);
+
+    @After
+    public void tearDown() {
+        releaseWorker.countDown();
+        executor.shutdown();
+    }
+
+    @Test
+    public void runsTasksOnWorkerThread() throws InterruptedException {
+        executor = new ConversionExecutor(1, 4);
+        final Thread[] thread = new Thread[1];
+        final CountDownLatch done = new CountDownLatch(1);
+
+        executor.execute(new Runnable() {
+            @Override
+            public void run() {
+                thread[0] = Thread.currentThread();
+                done.countDown();
+            }
+        });
+
+        assertTrue(done.await(1, TimeUnit.SECONDS));
+        assertNotSame(Thread.currentThread(), thread[0]);
+    }
+
+    @Test
+    public void runsTasksOnCallingThreadWhenQueueIsFull() throws InterruptedException {
+        executor = new ConversionExecutor(1, 1);
+        blockWorker();
+        executor.execute(record("queued"));
+        final Thread[] thread = new Thread[1];
+
+        executor.execute(new Runnable() {
+            @Override
+            public void run() {
+                thread[0] = Thread.currentThread();
+            }
+        });
+
+        assertSame(Thread.currentThread(), thread[0]);
+        releaseAndAwait("queued");
+    }
+
+    @Test
+    public void replacesPendingTaskWithTheSameKey() throws InterruptedException {
+        executor = new ConversionExecutor(1, 4);
+        blockWorker();
+
+        executor.executeLatest(KEY, record("first"));
+        executor.executeLatest("other", record("other"));
+        executor.executeLatest(KEY, record("second"));
+
+        releaseAndAwait("other");
+        assertEquals(Arrays.asList("second", "other"), completed);
+        assertEquals(1, executor.getCoalescedCount());
+    }
+
+    @Test
+    public void dropsOldestKeyedTaskWhenQueueIsFull() throws InterruptedException {
+        executor = new ConversionExecutor(1, 2);
+        blockWorker();
+
+        executor.executeLatest("a", record("a"));
+        executor.execute(record("must run"));
+        executor.executeLatest("b", record("b"));
+
+        releaseAndAwait("b");
+        assertEquals(Arrays.asList("must run", "b"), completed);
+        assertEquals(1, executor.getDroppedCount());
+    }
+
+    @Test
+    public void runsPendingTasksButDropsKeyedOnesOnShutdown() throws InterruptedException {
+        executor = new ConversionExecutor(1, 4);
+        blockWorker();
+        executor.executeLatest(KEY, record("dropped"));
+        executor.execute(record("queued"));
+
+        executor.shutdown();
+        executor.execute(record("after shutdown"));
+        executor.executeLatest(KEY, record("dropped after shutdown"));
+
+        releaseAndAwait("queued");
+        assertEquals(Arrays.asList("after shutdown", "queued"), completed);
+    }
+
+    @Test
+    public void keepsOrderOfTasksWithTheSameKeyAcrossWorkers() throws InterruptedException {
+        executor = new ConversionExecutor(4, 1000);
+        final List<Integer> values = Collections.synchronizedList(new ArrayList<Integer>());
+        final CountDownLatch done = new CountDownLatch(1);
+
+        for (int i = 0; i < 500; i++) {
+            final int value = i;
+            executor.executeLatest(KEY, new Runnable() {
+                @Override
+                public void run() {
+                    values.add(value);
+                    if (value == 499) {
+                        done.countDown();
+                    }
+                }
+            });
+        }
+
+        assertTrue(done.await(1, TimeUnit.SECONDS));
+        for (int i = 1; i < values.size(); i++) {
+            assertTrue(values.get(i - 1) < values.get(i));
+        }
+    }
+
+    private void blockWorker() throws InterruptedException {
+        executor.execute(new Runnable() {
+            @Override
+            public void run() {
+                workerBlocked.countDown();
+                try {
+                    releaseWorker.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+        });
+        assertTrue(workerBlocked.await(1, TimeUnit.SECONDS));
+    }
+
+    private void releaseAndAwait(String lastTask) throws InterruptedException {
+        releaseWorker.countDown();
+        long deadlineMs = System.currentTimeMillis() + 1000;
+        while (!completed.contains(lastTask)) {
+            assertTrue("waiting for " + lastTask, System.currentTimeMillis() < deadlineMs);
+            Thread.sleep(1);
+        }
+    }
+
+    private Runnable record(final String name) {
+        return new Runnable() {
+            @Override
+            public void run() {
+                completed.add(name);
+            }
+        };
+    }
+}
@@ -0,0 +1,129 @@
+package com.polidea.reactnativeble.utils;
+
+import com.polidea.multiplatformbleadapter.OnEventCallback;
+
+import org.junit.After;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class EventBatcherTest {
+
+    private final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor();
+    private final List<List<Integer>> batches = Collections.synchronizedList(new ArrayList<List<Integer>>());
+
+    @After
+    public void tearDown() {
+        scheduler.shutdownNow();
+    }
+
+    @Test
+    public void flushesFullBatchRightAway() {
+        EventBatcher<Integer> batcher = batcher(60000, 2, recordBatches());
+
+        batcher.add(1);
+        assertTrue(batches.isEmpty());
+        batcher.add(2);
+
+        assertEquals(Collections.singletonList(Arrays.asList(1, 2)), batches);
+    }
+
+    @Test
+    public void flushesBatchAfterInterval() throws InterruptedException {
+        final CountDownLatch flushed = new CountDownLatch(1);
+        EventBatcher<Integer> batcher = batcher(10, 0, new OnEventCallback<List<Integer>>() {
+            @Override
+            public void onEvent(List<Integer> data) {
+                batches.add(data);
+                flushed.countDown();
+            }
+        });
+
+        batcher.add(1);
+        batcher.add(2);
+
+        assertTrue(flushed.await(1, TimeUnit.SECONDS));
+        assertEquals(Collections.singletonList(Arrays.asList(1, 2)), batches);
+    }
+
+    @Test
+    public void dropsPendingEventsOnDispose() {
+        EventBatcher<Integer> batcher = batcher(60000, 0, recordBatches());
+        batcher.add(1);
+
+        batcher.dispose();
+        batcher.add(2);
+        batcher.flush();
+
+        assertTrue(batches.isEmpty());
+    }
+
+    @Test
+    public void handsOverBatchesInOrderAcrossThreads() throws InterruptedException {
+        final CountDownLatch firstBatchTaken = new CountDownLatch(1);
+        final CountDownLatch releaseFirstBatch = new CountDownLatch(1);
+        final EventBatcher<Integer> batcher = batcher(60000, 2, new OnEventCallback<List<Integer>>() {
+            @Override
+            public void onEvent(List<Integer> data) {
+                if (data.contains(1)) {
+                    firstBatchTaken.countDown();
+                    try {
+                        releaseFirstBatch.await();
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                }
+                batches.add(data);
+            }
+        });
+        Thread fullBatchThread = new Thread(new Runnable() {
+            @Override
+            public void run() {
+                batcher.add(1);
+                batcher.add(2);
+            }
+        });
+        fullBatchThread.start();
+        assertTrue(firstBatchTaken.await(1, TimeUnit.SECONDS));
+
+        Thread flushThread = new Thread(new Runnable() {
+            @Override
+            public void run() {
+                batcher.add(3);
+                batcher.flush();
+            }
+        });
+        flushThread.start();
+        flushThread.join(50);
+        releaseFirstBatch.countDown();
+        fullBatchThread.join(1000);
+        flushThread.join(1000);
+
+        assertEquals(Arrays.asList(Arrays.asList(1, 2), Collections.singletonList(3)), batches);
+    }
+
+    private EventBatcher<Integer> batcher(long batchIntervalMs,
+                                          int maxBatchSize,
+                                          OnEventCallback<List<Integer>> onFlushCallback) {
+        return new EventBatcher<>(batchIntervalMs, maxBatchSize, scheduler, onFlushCallback);
+    }
+
+    private OnEventCallback<List<Integer>> recordBatches() {
+        return new OnEventCallback<List<Integer>>() {
+            @Override
+            public void onEvent(List<Integer> data) {
+                batches.add(data);
+            }
+        };
+    }
+}
@@ -0,0 +1,71 @@
+package com.polidea.reactnativeble.utils;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+
+public class JsonWriterTest {
+
+    @Test
+    public void writesObjectsWithAllValueTypes() {
+        String json = JsonWriter.obtain()
+                .beginObject()
+                .name("string").value("text")
+                .name("number").value(-42)
+                .name("integer").value(Integer.valueOf(7))
+                .name("nullInteger").value((Integer) null)
+                .name("nullString").value((String) null)
+                .name("boolean").value(true)
+                .name("null").nullValue()
+                .name("nested").beginObject().name("a").value(1).endObject()
+                .name("empty").beginObject().endObject()
+                .endObject()
+                .toString();
+
+        assertEquals("{\"string\":\"text\",\"number\":-42,\"integer\":7,\"nullInteger\":null,\"nullString\":null,"
+                + "\"boolean\":true,\"null\":null,\"nested\":{\"a\":1},\"empty\":{}}", json);
+    }
+
+    @Test
+    public void escapesQuotesBackslashesAndShortEscapes() {
+        assertEquals("\"a\\\"b\\\\c/d\"", string("a\"b\\c/d"));
+        assertEquals("\"\\n\\r\\t\\b\\f\"", string("\n\r\t\b\f"));
+    }
+
+    @Test
+    public void escapesRemainingControlCharactersAsUnicode() {
+        assertEquals("\"\\u0000\\u0001\\u001f \"", string("\u0000\u0001\u001f "));
+        assertEquals("\"\u007f\"", string("\u007f"));
+    }
+
+    @Test
+    public void escapesLineSeparatorsForJavaScript() {
+        assertEquals("\"a\\u2028b\\u2029c\"", string("a\u2028b\u2029c"));
+    }
+
+    @Test
+    public void keepsOtherCharactersAndSurrogatePairsIntact() {
+        String value = "za\u017c\u00f3\u0142\u0107 \ud83d\ude00 \u2713";
+        assertEquals("\"" + value + "\"", string(value));
+    }
+
+    @Test
+    public void escapesNames() {
+        assertEquals("{\"a\\\"b\":1}", JsonWriter.obtain().beginObject().name("a\"b").value(1).endObject().toString());
+    }
+
+    @Test
+    public void obtainedWriterStartsEmptyAfterLongValues() {
+        StringBuilder longValue = new StringBuilder();
+        for (int i = 0; i < JsonWriter.MAX_POOLED_CAPACITY; i++) {
+            longValue.append('x');
+        }
+        JsonWriter.obtain().value(longValue.toString());
+
+        assertEquals("{}", JsonWriter.obtain().beginObject().endObject().toString());
+    }
+
+    private static String string(String value) {
+        return JsonWriter.obtain().value(value).toString();
+    }
+}
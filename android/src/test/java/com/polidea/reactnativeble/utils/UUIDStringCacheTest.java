@@ -0,0 +1,86 @@
+package com.polidea.reactnativeble.utils;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+public class UUIDStringCacheTest {
+
+    private static final UUID UPPER_CASE_UUID = UUID.fromString("0000FEAA-0000-1000-8000-00805F9B34FB");
+
+    @Test
+    public void returnsLowerCaseStringsAndCountsLookups() {
+        UUIDStringCache cache = new UUIDStringCache(4);
+
+        String first = cache.get(UPPER_CASE_UUID);
+        String second = cache.get(UPPER_CASE_UUID);
+
+        assertEquals("0000feaa-0000-1000-8000-00805f9b34fb", first);
+        assertSame(first, second);
+        assertEquals(1, cache.getHitCount());
+        assertEquals(1, cache.getMissCount());
+    }
+
+    @Test
+    public void clearsCacheWhenItOverflows() {
+        UUIDStringCache cache = new UUIDStringCache(2);
+        UUID first = UUID.randomUUID();
+        cache.get(first);
+        cache.get(UUID.randomUUID());
+        assertEquals(2, cache.size());
+
+        cache.get(UUID.randomUUID());
+
+        assertEquals(1, cache.size());
+        cache.get(first);
+        assertEquals(4, cache.getMissCount());
+        assertEquals(0, cache.getHitCount());
+    }
+
+    @Test
+    public void staysBoundedAndCorrectWhenUsedConcurrently() throws InterruptedException {
+        final int capacity = 16;
+        final int threadCount = 4;
+        final UUIDStringCache cache = new UUIDStringCache(capacity);
+        final List<UUID> uuids = new ArrayList<>();
+        for (int i = 0; i < capacity * 4; i++) {
+            uuids.add(UUID.randomUUID());
+        }
+        final AtomicBoolean isWrong = new AtomicBoolean(false);
+        final CountDownLatch done = new CountDownLatch(threadCount);
+
+        for (int t = 0; t < threadCount; t++) {
+            final int offset = t;
+            new Thread(new Runnable() {
+                @Override
+                public void run() {
+                    for (int i = 0; i < 10000; i++) {
+                        UUID uuid = uuids.get((i + offset) % uuids.size());
+                        if (!uuid.toString().equals(cache.get(uuid))) {
+                            isWrong.set(true);
+                        }
+                        // Threads may each add an entry after the capacity check
+                        if (cache.size() > capacity + threadCount) {
+                            isWrong.set(true);
+                        }
+                    }
+                    done.countDown();
+                }
+            }).start();
+        }
+
+        assertTrue(done.await(5, TimeUnit.SECONDS));
+        assertFalse(isWrong.get());
+        assertEquals(threadCount * 10000, cache.getHitCount() + cache.getMissCount());
+    }
+}
@@ -0,0 +1,82 @@
+// Benchmark of ReadEvent dispatch to characteristic monitors, run with `npm run benchmark`. It compares dispatch by
+// transaction id done by BleManager with broadcasting every event to a ReadEvent subscription of each monitor. The
+// last registered monitor is notified in both cases.
+import { BleManager } from '../index'
+import { Characteristic } from '../src/Characteristic'
+import * as Native from '../src/BleModule'
+
+import { NativeEventEmitter } from '../__tests__/Utils'
+Native.EventEmitter = NativeEventEmitter
+
+const NOTIFICATIONS_COUNT = 10000
+const MONITORS_COUNTS = [1, 10, 30, 100, 300]
+
+beforeEach(() => {
+  Native.BleModule = {
+    createClient: jest.fn(),
+    destroyClient: jest.fn(),
+    cancelTransaction: jest.fn(),
+    monitorCharacteristicForDevice: jest.fn().mockReturnValue(new Promise(() => {})),
+    ReadEvent: 'read_event'
+  }
+})
+
+function measureNsPerNotification(event) {
+  const startTime = process.hrtime.bigint()
+  for (let i = 0; i < NOTIFICATIONS_COUNT; i++) {
+    Native.BleModule.emit(Native.BleModule.ReadEvent, event)
+  }
+  return Number(process.hrtime.bigint() - startTime) / NOTIFICATIONS_COUNT
+}
+
+function measureDispatchByTransactionId(monitorsCount) {
+  const bleManager = new BleManager()
+  let receivedCount = 0
+  for (let i = 0; i < monitorsCount; i++) {
+    bleManager.monitorCharacteristicForDevice('id', 'aaaa', 'bbbb', () => receivedCount++, `monitor_${i}`)
+  }
+
+  const elapsedNs = measureNsPerNotification([null, { id: 1, value: 'AA==' }, `monitor_${monitorsCount - 1}`])
+  bleManager.destroy()
+  expect(receivedCount).toBe(NOTIFICATIONS_COUNT)
+  return elapsedNs
+}
+
+// Every monitor had its own ReadEvent subscription filtering events by transaction id before dispatch by
+// transaction id was introduced.
+function measureBroadcastDispatch(monitorsCount) {
+  const bleManager = new BleManager()
+  const eventEmitter = new Native.EventEmitter(Native.BleModule)
+  const subscriptions = []
+  let receivedCount = 0
+  let lastCharacteristic = null
+  for (let i = 0; i < monitorsCount; i++) {
+    const transactionId = `monitor_${i}`
+    subscriptions.push(
+      eventEmitter.addListener(Native.BleModule.ReadEvent, ([error, characteristic, msgTransactionId]) => {
+        if (msgTransactionId !== transactionId) return
+        if (error == null) {
+          lastCharacteristic = new Characteristic(characteristic, bleManager)
+          receivedCount++
+        }
+      })
+    )
+  }
+
+  const elapsedNs = measureNsPerNotification([null, { id: 1, value: 'AA==' }, `monitor_${monitorsCount - 1}`])
+  subscriptions.forEach(subscription => subscription.remove())
+  bleManager.destroy()
+  expect(receivedCount).toBe(NOTIFICATIONS_COUNT)
+  expect(lastCharacteristic).toBeInstanceOf(Characteristic)
+  return elapsedNs
+}
+
+test('Cost of ReadEvent dispatch while number of active monitors grows', () => {
+  const results = ['monitors | broadcast [ns] | by transaction id [ns]']
+  for (const monitorsCount of MONITORS_COUNTS) {
+    const broadcastNs = measureBroadcastDispatch(monitorsCount)
+    const byTransactionIdNs = measureDispatchByTransactionId(monitorsCount)
+    results.push(`${monitorsCount} | ${broadcastNs.toFixed(0)} | ${byTransactionIdNs.toFixed(0)}`)
+  }
+  process.stdout.write(results.join('\n') + '\n')
+})
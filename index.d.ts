@@ -77,91 +77,799 @@ declare module 'react-native-ble-plx' {
      * @instance
      */
     errorCodesToMessagesMapping?: BleErrorCodeMessageMapping
+
+    /**
+     * When enabled, characteristics received as a result of read and monitor operations contain only their
+     * identifier, value and notification state after {@link BleManager} cached them in full. Remaining metadata is
+     * restored from this cache, which reduces work done natively for every notification. Cached characteristics of
+     * a device are forgotten when it disconnects. [Android only]
+     *
+     * @memberof BleManagerOptions
+     * @instance
+     */
+    characteristicValueOnlyPayloads?: boolean
+
+    /**
+     * When set, the manager works with simulated devices instead of the radio, which allows to load test an
+     * application on an emulator. See {@link #runloadscenario|runLoadScenario()}. [Android only]
+     *
+     * @memberof BleManagerOptions
+     * @instance
+     */
+    simulation?: SimulationOptions
+  }
+
+  /**
+   * Object representing information about restored BLE state after application relaunch.
+   */
+  export interface BleRestoredState {
+    /**
+     * List of connected devices after state restoration.
+     * @type {Array<Device>}
+     * @instance
+     * @memberof BleRestoredState
+     */
+    connectedPeripherals: Device[]
+  }
+
+  /**
+   * UUID path of a {@link Characteristic} within a {@link Device}.
+   */
+  export interface CharacteristicPath {
+    /**
+     * {@link Service} UUID.
+     * @memberof CharacteristicPath
+     * @instance
+     */
+    serviceUUID: UUID
+
+    /**
+     * {@link Characteristic} UUID.
+     * @memberof CharacteristicPath
+     * @instance
+     */
+    characteristicUUID: UUID
+  }
+
+  /**
+   * Result of a single read performed by {@link #blemanagerreadcharacteristicsfordevice|readCharacteristicsForDevice()}.
+   * Exactly one of its fields is set.
+   */
+  export interface CharacteristicReadResult {
+    /**
+     * Read {@link Characteristic} with its latest value.
+     * @memberof CharacteristicReadResult
+     * @instance
+     */
+    characteristic: Characteristic | null
+
+    /**
+     * Error which caused the read to fail.
+     * @memberof CharacteristicReadResult
+     * @instance
+     */
+    error: BleError | null
+  }
+
+  /**
+   * Discovered {@link Service} together with its characteristics, returned by
+   * {@link #blemanagergattsnapshotfordevice|gattSnapshotForDevice()}.
+   */
+  export interface ServiceSnapshot {
+    /**
+     * Discovered service.
+     * @memberof ServiceSnapshot
+     * @instance
+     */
+    service: Service
+
+    /**
+     * Characteristics of the service with their descriptors.
+     * @memberof ServiceSnapshot
+     * @instance
+     */
+    characteristics: CharacteristicSnapshot[]
+  }
+
+  /**
+   * Discovered {@link Characteristic} together with its descriptors.
+   */
+  export interface CharacteristicSnapshot {
+    /**
+     * Discovered characteristic.
+     * @memberof CharacteristicSnapshot
+     * @instance
+     */
+    characteristic: Characteristic
+
+    /**
+     * Descriptors of the characteristic.
+     * @memberof CharacteristicSnapshot
+     * @instance
+     */
+    descriptors: Descriptor[]
+  }
+
+  /**
+   * Layout of attributes discovered on a {@link Device}, stored in persistent cache. It contains UUIDs and properties
+   * only, identifiers of attributes are assigned by discovery.
+   */
+  export interface GattLayout {
+    /**
+     * {@link Device} identifier.
+     * @memberof GattLayout
+     * @instance
+     */
+    deviceID: DeviceId
+
+    /**
+     * Version tag passed when layout was stored.
+     * @memberof GattLayout
+     * @instance
+     */
+    versionTag: string
+
+    /**
+     * Whether layout was loaded from the cache before discovery finished.
+     * @memberof GattLayout
+     * @instance
+     */
+    fromCache: boolean
+
+    /**
+     * Services of the device.
+     * @memberof GattLayout
+     * @instance
+     */
+    services: {
+      uuid: UUID
+      isPrimary: boolean
+      characteristics: {
+        uuid: UUID
+        isReadable: boolean
+        isWritableWithResponse: boolean
+        isWritableWithoutResponse: boolean
+        isNotifiable: boolean
+        isIndicatable: boolean
+        descriptors: UUID[]
+      }[]
+    }[]
+  }
+
+  /**
+   * Scan mode for Bluetooth LE scan.
+   */
+  export enum ScanMode {
+    /**
+     * A special Bluetooth LE scan mode. Applications using this scan mode will passively listen for
+     * other scan results without starting BLE scans themselves.
+     */
+    Opportunistic = -1,
+
+    /**
+     * Perform Bluetooth LE scan in low power mode. This is the default scan mode as it consumes the
+     * least power. [default value]
+     */
+    LowPower = 0,
+
+    /**
+     * Perform Bluetooth LE scan in balanced power mode. Scan results are returned at a rate that
+     * provides a good trade-off between scan frequency and power consumption.
+     */
+    Balanced = 1,
+
+    /**
+     * Scan using highest duty cycle. It's recommended to only use this mode when the application is
+     * running in the foreground.
+     */
+    LowLatency = 2
+  }
+
+  /**
+   * Scan callback type for Bluetooth LE scan.
+   * @name ScanCallbackType
+   */
+  export enum ScanCallbackType {
+    /**
+     * Trigger a callback for every Bluetooth advertisement found that matches the filter criteria.
+     * If no filter is active, all advertisement packets are reported. [default value]
+     */
+    AllMatches = 1,
+
+    /**
+     * A result callback is only triggered for the first advertisement packet received that matches
+     * the filter criteria.
+     */
+    FirstMatch = 2,
+
+    /**
+     * Receive a callback when advertisements are no longer received from a device that has been
+     * previously reported by a first match callback.
+     */
+    MatchLost = 4
+  }
+
+  /**
+   * Options which can be passed to scanning function
+   * @name ScanOptions
+   */
+  export interface ScanOptions {
+    /**
+     * By allowing duplicates scanning records are received more frequently [iOS only]
+     */
+    allowDuplicates?: boolean
+    /**
+     * Scan mode for Bluetooth LE scan [Android only]
+     */
+    scanMode?: ScanMode
+    /**
+     * Scan callback type for Bluetooth LE scan [Android only]
+     */
+    callbackType?: ScanCallbackType
+    /**
+     * When set, scanned devices are collected natively and passed over the bridge in batches at most every
+     * `batchIntervalMs` milliseconds instead of one by one. Listener is still called separately for each
+     * scanned device. Devices waiting for the next batch when scan is stopped are passed as well. [Android only]
+     */
+    batchIntervalMs?: number
+    /**
+     * Maximum number of scanned devices in one batch. Batch is passed over the bridge as soon as it reaches this
+     * size. Used only together with `batchIntervalMs`. [Android only]
+     */
+    maxBatchSize?: number
+    /**
+     * Enables native deduplication of scan results. Repeated advertisement of already reported device with
+     * unchanged payload is dropped unless its RSSI changed by more than this value. [Android only]
+     */
+    deduplicationRssiDelta?: number
+    /**
+     * Enables native deduplication of scan results. Repeated advertisement of already reported device with
+     * unchanged payload is passed again only after this number of milliseconds since it was last reported.
+     * [Android only]
+     */
+    deduplicationIntervalMs?: number
+    /**
+     * Enables pull mode. Scanned devices aren't passed to the listener, which receives only scan errors. They are
+     * kept natively in a buffer of this size until they are taken with
+     * {@link #blemanagerdrainscanresults|drainScanResults()}. When the buffer is full the oldest scanned device is
+     * dropped, so memory stays bounded regardless of the advertisement rate. [Android only]
+     */
+    scanResultBufferSize?: number
+    /**
+     * Keeps only the latest scanned {@link Device} object of every device in the pull mode buffer. Used only together
+     * with `scanResultBufferSize`. [Android only]
+     */
+    latestScanResultPerDevice?: boolean
+    /**
+     * Minimum RSSI of scanned devices. Weaker advertisements are dropped natively. [Android only]
+     */
+    minRssi?: number
+    /**
+     * Filters of scanned advertisements, of which any needs to match. Other advertisements are dropped natively
+     * before they are converted and passed over the bridge. Invalid filter fails the scan with
+     * {@link #bleerrorcodescanstartfailed|ScanStartFailed} error. [Android only]
+     */
+    advertisementFilters?: AdvertisementFilter[]
+    /**
+     * Enables native aggregation of scanned devices. Scanned devices aren't passed to the listener, which receives
+     * only scan errors. Instead every `aggregationIntervalMs` milliseconds a snapshot of devices updated since the
+     * previous one is passed to {@link #blemanageronscansnapshot|onScanSnapshot()} listeners. [Android only]
+     */
+    aggregationIntervalMs?: number
+    /**
+     * Time in milliseconds after which an aggregated device which isn't seen is reported as expired. 0 keeps devices
+     * until the scan is stopped. Defaults to 10000 milliseconds. [Android only]
+     */
+    aggregationDeviceTtlMs?: number
+    /**
+     * Weight of a new RSSI in the exponential moving average of aggregated devices, from 0 (exclusive) to 1. Lower
+     * values smooth more. 1 disables smoothing. Defaults to 0.3. [Android only]
+     */
+    rssiSmoothingFactor?: number
+  }
+
+  /**
+   * State of a scanned device passed in snapshots of {@link #blemanageronscansnapshot|onScanSnapshot()}.
+   * [Android only]
+   * @name ScannedDeviceState
+   */
+  export interface ScannedDeviceState {
+    /**
+     * The latest scanned {@link Device} object.
+     */
+    device: Device
+    /**
+     * Moving average of RSSI of the device.
+     */
+    smoothedRssi: number
+    /**
+     * Time in milliseconds since epoch when the device was seen for the last time.
+     */
+    lastSeen: number
+  }
+
+  /**
+   * Native filter of scanned advertisements. Advertisement matches the filter when it meets all its criteria.
+   * [Android only]
+   * @name AdvertisementFilter
+   */
+  export interface AdvertisementFilter {
+    /**
+     * Company identifier which starts manufacturer specific data, e.g. `0x004C`.
+     */
+    manufacturerId?: number
+    /**
+     * Expected manufacturer specific data following the company identifier. Advertised data may be longer.
+     */
+    manufacturerData?: Base64
+    /**
+     * Mask of compared `manufacturerData` bits. Defaults to comparing all bits.
+     */
+    manufacturerDataMask?: Base64
+    /**
+     * Prefix of the device name or the advertised local name.
+     */
+    namePrefix?: string
+    /**
+     * Regular expression which needs to be found in the device name or the advertised local name. Java regular
+     * expression syntax is used.
+     */
+    namePattern?: string
+    /**
+     * UUID of a service which needs to advertise service data.
+     */
+    serviceDataUUID?: UUID
+    /**
+     * Expected data of `serviceDataUUID` service. Advertised data may be longer.
+     */
+    serviceData?: Base64
+    /**
+     * Mask of compared `serviceData` bits. Defaults to comparing all bits.
+     */
+    serviceDataMask?: Base64
+  }
+
+  /**
+   * Options which can be passed to batched characteristic monitoring function
+   * @name MonitorBatchOptions
+   */
+  export interface MonitorBatchOptions {
+    /**
+     * Maximum time in milliseconds a received value waits natively before its batch is passed over the bridge.
+     * Defaults to 100 milliseconds.
+     */
+    batchIntervalMs?: number
+    /**
+     * Maximum number of values in one batch. Batch is passed over the bridge as soon as it reaches this size.
+     */
+    maxBatchSize?: number
+  }
+
+  /**
+   * Options which can be passed to bulk characteristic write function
+   * @name BulkWriteOptions
+   */
+  export interface BulkWriteOptions {
+    /**
+     * Whether chunks are written with response. Defaults to `false`.
+     */
+    withResponse?: boolean
+    /**
+     * Maximum number of bytes written in a single chunk. Defaults to the negotiated MTU decreased by the 3 byte ATT
+     * header.
+     */
+    chunkSize?: number
+    /**
+     * Number of chunk writes queued natively before previous ones complete. Values above 2, which is the default,
+     * are clamped to 2, as native scheduler runs at most 2 operations on a device at once.
+     */
+    maxWritesInFlight?: number
+    /**
+     * Minimum time in milliseconds between two progress updates. Final progress is always reported. Defaults to 100
+     * milliseconds.
+     */
+    progressIntervalMs?: number
+  }
+
+  /**
+   * Options of {@link #blemanagerconnectanddiscoverdevices|connectAndDiscoverDevices()}. [Android only]
+   * @name BatchConnectionOptions
+   */
+  export interface BatchConnectionOptions {
+    /**
+     * Options used to connect to every device.
+     */
+    connectionOptions?: ConnectionOptions
+    /**
+     * Maximum number of devices connected and discovered at once. Defaults to 4.
+     */
+    concurrency?: number
+    /**
+     * Maximum number of attempts to connect to and discover a single device. Defaults to 3.
+     */
+    maxAttempts?: number
+    /**
+     * Time in milliseconds after which a failed device is queued again behind remaining devices. Defaults to 1000
+     * milliseconds.
+     */
+    retryDelayMs?: number
+  }
+
+  /**
+   * Result of a single device connected by {@link #blemanagerconnectanddiscoverdevices|connectAndDiscoverDevices()}.
+   * Exactly one of `device` and `error` fields is set.
+   */
+  export interface DeviceConnectionResult {
+    /**
+     * Identifier of the device.
+     */
+    deviceId: DeviceId
+    /**
+     * Connected {@link Device} with discovered attributes.
+     */
+    device: Device | null
+    /**
+     * Error of the last attempt when all attempts failed.
+     */
+    error: BleError | null
+    /**
+     * Number of attempts made to connect to the device.
+     */
+    attempts: number
+  }
+
+  /**
+   * Limits of the native connection pool. [Android only]
+   * @name ConnectionPoolOptions
+   */
+  export interface ConnectionPoolOptions {
+    /**
+     * Maximum number of devices connected at once. When a new device is connected above the limit, the least
+     * recently used idle one is disconnected and connected again when it is used next time. 0 means no limit, which is
+     * the default.
+     */
+    maxConnections?: number
+    /**
+     * Maximum number of connections being established at once. Other connect requests wait in a queue. 0 means no
+     * limit, which is the default.
+     */
+    maxConcurrentConnections?: number
+  }
+
+  /**
+   * State of the native connection pool. [Android only]
+   * @name ConnectionPoolStats
+   */
+  export interface ConnectionPoolStats {
+    /**
+     * Maximum number of devices connected at once, 0 for no limit.
+     */
+    maxConnections: number
+    /**
+     * Maximum number of connections being established at once, 0 for no limit.
+     */
+    maxConcurrentConnections: number
+    /**
+     * Number of connected devices.
+     */
+    connectedDevices: number
+    /**
+     * Number of connections being established.
+     */
+    pendingConnections: number
+    /**
+     * Number of connect requests waiting for a free slot.
+     */
+    queuedConnections: number
+    /**
+     * Number of devices disconnected to make room for other ones, which are reconnected when used
+     * by device identifier again.
+     */
+    evictedDevices: number
+    /**
+     * Total number of evictions.
+     */
+    evictions: number
+    /**
+     * Total number of reconnections of evicted devices.
+     */
+    reconnections: number
+  }
+
+  /**
+   * Options of native metrics collection. [Android only]
+   * @name MetricsOptions
+   */
+  export interface MetricsOptions {
+    /**
+     * Whether metrics are collected. Collection uses only atomic counters and is enabled by default.
+     */
+    enabled?: boolean
+    /**
+     * Interval in milliseconds of metrics passed to {@link #blemanageronmetrics|onMetrics()} listeners. Every report
+     * covers the period since the previous one. 0 stops reports, which is the default.
+     */
+    reportIntervalMs?: number
+  }
+
+  /**
+   * Latency distribution of a native method or converter. Percentiles are estimated from power of two buckets, so
+   * they are accurate up to a factor of two. [Android only]
+   * @name LatencyStats
+   */
+  export interface LatencyStats {
+    /**
+     * Number of measured calls.
+     */
+    count: number
+    /**
+     * Mean duration in milliseconds.
+     */
+    meanMs: number
+    /**
+     * Maximum duration in milliseconds.
+     */
+    maxMs: number
+    /**
+     * Median duration in milliseconds.
+     */
+    p50Ms: number
+    /**
+     * 90th percentile of durations in milliseconds.
+     */
+    p90Ms: number
+    /**
+     * 99th percentile of durations in milliseconds.
+     */
+    p99Ms: number
+  }
+
+  /**
+   * Number of native events of a single type passed to JS. [Android only]
+   * @name EventStats
+   */
+  export interface EventStats {
+    /**
+     * Number of sent events.
+     */
+    count: number
+    /**
+     * Number of items carried by the events: scanned devices of `ScanBatchEvent`, values of batched `ReadEvent`,
+     * updated and expired devices of `ScanSnapshotEvent` and events of `MultiplexedEvent`. Other events carry 1 item.
+     */
+    payloadSize: number
+  }
+
+  /**
+   * Lookups in a native cache. [Android only]
+   * @name CacheStats
+   */
+  export interface CacheStats {
+    /**
+     * Number of lookups which found a cached value.
+     */
+    hits: number
+    /**
+     * Number of lookups which had to compute the value.
+     */
+    misses: number
+    /**
+     * Number of values in the cache.
+     */
+    size: number
+  }
+
+  /**
+   * Metrics of native bridge and GATT operations. [Android only]
+   * @name BleMetrics
+   */
+  export interface BleMetrics {
+    /**
+     * Length in milliseconds of the period covered by metrics.
+     */
+    periodMs: number
+    /**
+     * Latencies of native methods from the call until their promises settle, by method names. Monitors aren't
+     * measured, as their promises settle only when monitoring ends.
+     */
+    methods: { [method: string]: LatencyStats }
+    /**
+     * Durations of conversions of native objects passed to JS, by converter names.
+     */
+    conversions: { [converter: string]: LatencyStats }
+    /**
+     * Native events passed to JS by event names.
+     */
+    events: { [event: string]: EventStats }
+    /**
+     * Number of advertisements received by the native scanner, before any filtering.
+     */
+    scanResults: number
+    /**
+     * Rate of advertisements received by the native scanner.
+     */
+    scanResultsPerSecond: number
+    /**
+     * Number of received values of monitored characteristics.
+     */
+    notifications: number
+    /**
+     * Rate of received values of monitored characteristics.
+     */
+    notificationsPerSecond: number
+    /**
+     * Lookups of lower case UUID strings used in converted objects.
+     */
+    uuidStringCache?: CacheStats
+  }
+
+  /**
+   * Options of native workers converting scan results and result lists. [Android only]
+   * @name ConversionOptions
+   */
+  export interface ConversionOptions {
+    /**
+     * Number of worker threads. 0 converts results on Bluetooth callback threads, which is the default.
+     */
+    threads?: number
+    /**
+     * Maximum number of results waiting for a single worker. Further lists are converted on the callback thread and
+     * the oldest waiting scan results are dropped. 256 by default.
+     */
+    queueSize?: number
+  }
+
+  /**
+   * Options of native event emission. [Android only]
+   * @name EmitOptions
+   */
+  export interface EmitOptions {
+    /**
+     * Maximum number of bridge messages carrying events per second. 0 sends every event right away, which is the
+     * default.
+     */
+    rateHz?: number
+  }
+
+  /**
+   * Parameters of devices simulated instead of the radio. Every device advertises and exposes services described by
+   * {@link SimulatedUUID}. [Android only]
+   * @name SimulationOptions
+   */
+  export interface SimulationOptions {
+    /**
+     * Number of simulated devices, all of which advertise and are connectable. 1 by default.
+     */
+    advertisers?: number
+    /**
+     * Advertisements per second of every device. 10 by default.
+     */
+    advertisingRateHz?: number
+    /**
+     * Notifications per second of every monitored characteristic. 10 by default.
+     */
+    notificationRateHz?: number
+    /**
+     * Size of notified values in bytes, at least 4. 20 by default.
+     */
+    notificationSize?: number
+    /**
+     * Time in milliseconds a connection takes. 50 by default.
+     */
+    connectionLatencyMs?: number
+    /**
+     * Time in milliseconds a discovery, read or write takes. 10 by default.
+     */
+    gattLatencyMs?: number
+    /**
+     * Average number of unexpected disconnections of a connected device per minute. 0 by default.
+     */
+    disconnectsPerMinute?: number
+    /**
+     * Seed of randomized RSSI values and disconnections. 0 by default.
+     */
+    seed?: number
   }
 
   /**
-   * Object representing information about restored BLE state after application relaunch.
+   * Memory statistics of the native runtime. [Android only]
+   * @name MemoryStats
    */
-  export interface BleRestoredState {
+  export interface MemoryStats {
     /**
-     * List of connected devices after state restoration.
-     * @type {Array<Device>}
-     * @instance
-     * @memberof BleRestoredState
+     * Size in bytes of the used Java heap.
      */
-    connectedPeripherals: Device[]
+    heapUsedBytes: number
+    /**
+     * Total size in bytes of objects allocated since the process started. `null` before Android 6.0.
+     */
+    allocatedBytes: number | null
+    /**
+     * Number of garbage collections since the process started. `null` before Android 6.0.
+     */
+    gcCount: number | null
   }
 
   /**
-   * Scan mode for Bluetooth LE scan.
+   * Scenario run by {@link #runloadscenario|runLoadScenario()}. [Android only]
+   * @name LoadScenario
    */
-  export enum ScanMode {
+  export interface LoadScenario {
     /**
-     * A special Bluetooth LE scan mode. Applications using this scan mode will passively listen for
-     * other scan results without starting BLE scans themselves.
+     * Duration of the scenario in milliseconds, counted from its start.
      */
-    Opportunistic = -1,
-
+    durationMs: number
     /**
-     * Perform Bluetooth LE scan in low power mode. This is the default scan mode as it consumes the
-     * least power. [default value]
+     * Whether devices are scanned during the scenario. `true` by default.
      */
-    LowPower = 0,
-
+    scan?: boolean
     /**
-     * Perform Bluetooth LE scan in balanced power mode. Scan results are returned at a rate that
-     * provides a good trade-off between scan frequency and power consumption.
+     * Options of the scan.
      */
-    Balanced = 1,
-
+    scanOptions?: ScanOptions
     /**
-     * Scan using highest duty cycle. It's recommended to only use this mode when the application is
-     * running in the foreground.
+     * Number of simulated devices connected and discovered at the start of the scenario. 0 by default.
      */
-    LowLatency = 2
+    connections?: number
+    /**
+     * Whether the notify characteristic of every connected device is monitored. `true` by default.
+     */
+    monitor?: boolean
   }
 
   /**
-   * Scan callback type for Bluetooth LE scan.
-   * @name ScanCallbackType
+   * Report of a scenario run by {@link #runloadscenario|runLoadScenario()}. [Android only]
+   * @name LoadReport
    */
-  export enum ScanCallbackType {
+  export interface LoadReport {
     /**
-     * Trigger a callback for every Bluetooth advertisement found that matches the filter criteria.
-     * If no filter is active, all advertisement packets are reported. [default value]
+     * Actual duration of the scenario in milliseconds.
      */
-    AllMatches = 1,
-
+    durationMs: number
     /**
-     * A result callback is only triggered for the first advertisement packet received that matches
-     * the filter criteria.
+     * Number of scanned devices received by JS.
      */
-    FirstMatch = 2,
-
+    scannedDevices: number
     /**
-     * Receive a callback when advertisements are no longer received from a device that has been
-     * previously reported by a first match callback.
+     * Rate of scanned devices received by JS.
      */
-    MatchLost = 4
-  }
-
-  /**
-   * Options which can be passed to scanning function
-   * @name ScanOptions
-   */
-  export interface ScanOptions {
+    scannedDevicesPerSecond: number
     /**
-     * By allowing duplicates scanning records are received more frequently [iOS only]
+     * Number of devices which were connected.
      */
-    allowDuplicates?: boolean
+    connectedDevices: number
     /**
-     * Scan mode for Bluetooth LE scan [Android only]
+     * Number of characteristic values received by JS.
      */
-    scanMode?: ScanMode
+    notifications: number
     /**
-     * Scan callback type for Bluetooth LE scan [Android only]
+     * Rate of characteristic values received by JS.
      */
-    callbackType?: ScanCallbackType
+    notificationsPerSecond: number
+    /**
+     * Number of monitors stopped by unexpected disconnections.
+     */
+    disconnections: number
+    /**
+     * Errors of operations other than cancellations and disconnections.
+     */
+    errors: BleError[]
+    /**
+     * Native metrics covering the scenario.
+     */
+    metrics: BleMetrics
+    /**
+     * Bytes allocated natively during the scenario. `null` when unknown.
+     */
+    allocatedBytes: number | null
+    /**
+     * Number of native garbage collections during the scenario. `null` when unknown.
+     */
+    gcCount: number | null
+    /**
+     * Growth in bytes of the used Java heap during the scenario. `null` when unknown.
+     */
+    heapUsedBytes: number | null
   }
 
   /**
@@ -202,6 +910,51 @@ declare module 'react-native-ble-plx' {
      * @instance
      */
     timeout?: number
+
+    /**
+     * Reconnects the device natively whenever it's disconnected unexpectedly. [Android only]
+     * @memberof ConnectionOptions
+     * @instance
+     */
+    reconnect?: ReconnectOptions
+  }
+
+  /**
+   * Policy of native reconnection set with {@link #connectionoptions|ConnectionOptions}. Device is reconnected and its
+   * attributes are discovered again without waiting for JS. Delay before every attempt grows exponentially and its
+   * part is randomized. Result of reconnection is emitted to
+   * {@link #blemanagerondevicereconnected|onDeviceReconnected()} listeners. Reconnection stops when the device is
+   * disconnected by {@link #blemanagercanceldeviceconnection|cancelDeviceConnection()} or connected again from JS.
+   * [Android only]
+   * @name ReconnectOptions
+   */
+  export interface ReconnectOptions {
+    /**
+     * Maximum number of attempts after a single disconnection. Defaults to 5.
+     */
+    maxAttempts?: number
+    /**
+     * Delay in milliseconds before the first attempt. Defaults to 1000 milliseconds.
+     */
+    initialDelayMs?: number
+    /**
+     * Upper bound of the delay in milliseconds. Defaults to 30000 milliseconds.
+     */
+    maxDelayMs?: number
+    /**
+     * Factor by which the delay grows after every failed attempt. Defaults to 2.
+     */
+    multiplier?: number
+    /**
+     * Part of the delay, from 0 to 1, which is randomized. Defaults to 0.5.
+     */
+    jitter?: number
+    /**
+     * Whether characteristics monitored with device and UUIDs are monitored again after reconnection. Their listeners
+     * don't receive disconnection errors in the meantime. Monitors of characteristics and services passed by
+     * identifiers end with disconnection, as identifiers change after discovery. Defaults to true.
+     */
+    restoreMonitors?: boolean
   }
 
   /**
@@ -285,6 +1038,26 @@ declare module 'react-native-ble-plx' {
     LowPower = 2
   }
 
+  /**
+   * Priority class of GATT operations queued for a device. Operations of a higher class are started before already
+   * queued operations of lower classes. [Android only]
+   * @name OperationPriority
+   */
+  export enum OperationPriority {
+    /**
+     * Operations triggered by the user, which should finish as soon as possible. Default for single reads and writes.
+     */
+    Interactive = 'Interactive',
+    /**
+     * Operations which may wait for interactive ones. Default for `readCharacteristicsForDevice`.
+     */
+    Background = 'Background',
+    /**
+     * Long transfers which may wait for all other operations. Default for `writeCharacteristicInBulkForDevice`.
+     */
+    Bulk = 'Bulk'
+  }
+
   // Utils.js **********************************************************************************************************
 
   /**
@@ -295,6 +1068,58 @@ declare module 'react-native-ble-plx' {
    */
   export function fullUUID(uuid: UUID): UUID
 
+  /**
+   * Decodes {@link Base64} value (for example {@link Characteristic#value}) into raw bytes without any intermediate
+   * strings. Padding is optional. Values still cross the bridge as Base64 strings, this helper only avoids string
+   * conversions in JS.
+   *
+   * @param {Base64} value Base64 encoded value.
+   * @returns {Uint8Array} Decoded bytes backed by a fresh `ArrayBuffer`.
+   * @throws {Error} When the value contains characters outside of the Base64 alphabet or has invalid length.
+   */
+  export function base64ToBytes(value: Base64): Uint8Array
+
+  /**
+   * Encodes raw bytes into {@link Base64} value which can be passed to write functions of {@link BleManager}. Values
+   * still cross the bridge as Base64 strings, this helper only avoids string conversions in JS.
+   *
+   * @param {Uint8Array | ArrayBuffer} value Bytes to encode.
+   * @returns {Base64} Base64 encoded value with padding.
+   */
+  export function bytesToBase64(value: Uint8Array | ArrayBuffer): Base64
+
+  // LoadHarness.js ****************************************************************************************************
+
+  /**
+   * UUIDs of the service and characteristics exposed by every device simulated when {@link BleManagerOptions} contain
+   * {@link SimulationOptions}. The notify characteristic sends values starting with a 32 bit little endian sequence
+   * number and the write characteristic stores written values. [Android only]
+   */
+  export const SimulatedUUID: {
+    service: UUID
+    notifyCharacteristic: UUID
+    writeCharacteristic: UUID
+  }
+
+  /**
+   * Returns identifier of a simulated device.
+   *
+   * @param {number} index Index of the device, from 0 up to the number of simulated advertisers.
+   * @returns {DeviceId} Identifier of the device.
+   */
+  export function simulatedDeviceId(index: number): DeviceId
+
+  /**
+   * Runs a load scenario against a {@link BleManager} created with {@link SimulationOptions} and reports throughput
+   * observed in JS together with native metrics and allocations. Scanning, connections and monitors are stopped
+   * before the report is returned. [Android only]
+   *
+   * @param {BleManager} manager Manager using simulated devices.
+   * @param {LoadScenario} scenario Scenario to run.
+   * @returns {Promise<LoadReport>} Report of the scenario.
+   */
+  export function runLoadScenario(manager: BleManager, scenario: LoadScenario): Promise<LoadReport>
+
   // BleError.js *******************************************************************************************************
 
   export interface NativeBleError {
@@ -1049,6 +1874,73 @@ declare module 'react-native-ble-plx' {
      */
     cancelTransaction(transactionId: TransactionId): void
 
+    /**
+     * Sets priority class of the next read or write operation started with passed transaction id. GATT operations
+     * are queued per device and started in {@link #operationpriority|OperationPriority} order, so that e.g. an
+     * interactive read doesn't wait behind a long bulk transfer. Devices are served in round robin order. Operation
+     * which doesn't start within `deadlineMs` is rejected with {@link #bleerrorcodeoperationtimedout|OperationTimedOut}
+     * error. Has to be called before the operation is started. [Android only]
+     *
+     * @param {TransactionId} transactionId Transaction id of the operation.
+     * @param {OperationPriority} priority Priority class of the operation.
+     * @param {number} deadlineMs Maximum time in milliseconds the operation may wait in the queue. 0 means no limit.
+     */
+    setTransactionPriority(transactionId: TransactionId, priority: OperationPriority, deadlineMs?: number): void
+
+    /**
+     * Returns metrics of native bridge and GATT operations: latencies of native methods and converters, numbers of
+     * events passed to JS and rates of scanned advertisements and notifications. [Android only]
+     *
+     * @param {boolean} reset Whether collection starts over afterwards.
+     * @returns {Promise<BleMetrics>} Metrics collected since the previous reset.
+     */
+    getMetrics(reset?: boolean): Promise<BleMetrics>
+
+    /**
+     * Enables or disables native metrics and sets interval of reports passed to
+     * {@link #blemanageronmetrics|onMetrics()} listeners. [Android only]
+     *
+     * @param {MetricsOptions} options Metrics options.
+     */
+    setMetricsOptions(options: MetricsOptions): void
+
+    /**
+     * Notifies about metrics reported periodically when `reportIntervalMs` is set. Every report covers the period
+     * since the previous one. [Android only]
+     *
+     * @param {function(metrics: BleMetrics)} listener Callback receiving metrics.
+     * @returns {Subscription} Subscription on which `remove()` function can be called to unsubscribe.
+     */
+    onMetrics(listener: (metrics: BleMetrics) => void): Subscription
+
+    /**
+     * Moves conversion of scan results and result lists of {@link #blemanagerdevices|devices()},
+     * {@link #blemanagerconnecteddevices|connectedDevices()} and service, characteristic and descriptor getters to a
+     * pool of native workers, which keeps Bluetooth callbacks short under load. Scan results of a device waiting for
+     * conversion are replaced by newer ones and the oldest waiting results are dropped when workers fall behind.
+     * [Android only]
+     *
+     * @param {ConversionOptions} options Conversion options.
+     */
+    setConversionOptions(options: ConversionOptions): void
+
+    /**
+     * Limits the rate of native events passed to JS. Events of all types are collected into a single bridge message
+     * sent at most `rateHz` times per second, e.g. 60 or 30 to match frame rate, and dispatched to listeners in their
+     * original order. State and disconnection events are sent right away. [Android only]
+     *
+     * @param {EmitOptions} options Emit options.
+     */
+    setEmitOptions(options: EmitOptions): void
+
+    /**
+     * Returns memory statistics of the native runtime, which allow to compare allocations made by different
+     * scenarios. [Android only]
+     *
+     * @returns {Promise<MemoryStats>} Current memory statistics.
+     */
+    memoryStats(): Promise<MemoryStats>
+
     // Mark: Monitoring state ------------------------------------------------------------------------------------------
 
     /**
@@ -1118,6 +2010,28 @@ declare module 'react-native-ble-plx' {
      */
     stopDeviceScan(): void
 
+    /**
+     * Takes scanned devices buffered natively when scan was started with `scanResultBufferSize` option. Devices
+     * scanned before the scan was stopped can still be taken until the next scan starts. [Android only]
+     *
+     * @param {number} maxCount Maximum number of returned devices, 0 to take all of them.
+     * @returns {Promise<Array<Device>>} Scanned devices, oldest first.
+     */
+    drainScanResults(maxCount: number): Promise<Device[]>
+
+    /**
+     * Notifies about snapshots of devices aggregated natively when scan was started with `aggregationIntervalMs`
+     * option. [Android only]
+     *
+     * @param {function(updatedDevices: Array<ScannedDeviceState>, expiredDeviceIds: Array<DeviceId>)} listener
+     * Callback receiving devices updated since the previous snapshot and identifiers of devices which weren't seen
+     * for longer than `aggregationDeviceTtlMs`.
+     * @returns {Subscription} Subscription on which `remove()` function can be called to unsubscribe.
+     */
+    onScanSnapshot(
+      listener: (updatedDevices: ScannedDeviceState[], expiredDeviceIds: DeviceId[]) => void
+    ): Subscription
+
     /**
      * Request a connection parameter update. This functions may update connection parameters on Android API level 21 or
      * above.
@@ -1203,6 +2117,21 @@ declare module 'react-native-ble-plx' {
       listener: (error: BleError | null, device: Device | null) => void
     ): Subscription
 
+    /**
+     * Monitors native reconnections of {@link Device} connected with {@link #reconnectoptions|reconnect} option.
+     * Device was already disconnected when reconnection starts. [Android only]
+     *
+     * @param {DeviceId} deviceIdentifier {@link Device} identifier to be monitored.
+     * @param {function(error?: BleError, device: Device, attempts: number)} listener - callback returning error of
+     * the last attempt when all attempts failed, {@link Device} object with discovered attributes otherwise, and
+     * number of attempts made.
+     * @returns {Subscription} Subscription on which `remove()` function can be called to unsubscribe.
+     */
+    onDeviceReconnected(
+      deviceIdentifier: DeviceId,
+      listener: (error: BleError | null, device: Device, attempts: number) => void
+    ): Subscription
+
     /**
      * Check connection state of a {@link Device}.
      *
@@ -1211,6 +2140,47 @@ declare module 'react-native-ble-plx' {
      */
     isDeviceConnected(deviceIdentifier: DeviceId): Promise<boolean>
 
+    /**
+     * Connects to a list of devices and discovers all their services, characteristics and descriptors in one native
+     * call. Devices are processed with limited concurrency. Failed devices are retried natively behind remaining ones,
+     * so a single unreachable device doesn't stall the batch. [Android only]
+     *
+     * @param {DeviceId[]} deviceIdentifiers {@link Device} identifiers.
+     * @param {BatchConnectionOptions} options Batch connection options.
+     * @param {function(result: DeviceConnectionResult)} listener optional callback receiving result of every device
+     * as soon as it's known.
+     * @param {TransactionId} transactionId optional `transactionId` which can be used in
+     * {@link #blemanagercanceltransaction|cancelTransaction()} function. Cancelled batch finishes devices without
+     * results with {@link #bleerrorcodeoperationcancelled|OperationCancelled} error.
+     * @returns {Promise<DeviceConnectionResult[]>} Promise which emits results of all devices in the order of passed
+     * identifiers.
+     */
+    connectAndDiscoverDevices(
+      deviceIdentifiers: DeviceId[],
+      options?: BatchConnectionOptions | null,
+      listener?: ((result: DeviceConnectionResult) => void) | null,
+      transactionId?: TransactionId | null
+    ): Promise<DeviceConnectionResult[]>
+
+    /**
+     * Limits the number of devices connected at once. Connect requests above {@link #connectionpooloptions|limits}
+     * wait in a native queue, and when all slots are taken the least recently used idle device is disconnected to make
+     * room for a new one. Devices with monitored characteristics or operations in progress aren't idle, requests wait
+     * until one of them becomes idle when all connected devices are busy. Evicted device emits disconnection event and
+     * its services, characteristics and descriptors can't be used anymore. Methods taking its device identifier still
+     * work: the device is connected and discovered again before the operation, which delays it. [Android only]
+     *
+     * @param {ConnectionPoolOptions} options Connection pool limits.
+     */
+    setConnectionPoolOptions(options: ConnectionPoolOptions): void
+
+    /**
+     * Returns current state of the connection pool. [Android only]
+     *
+     * @returns {Promise<ConnectionPoolStats>} Connection pool state.
+     */
+    connectionPoolStats(): Promise<ConnectionPoolStats>
+
     // Mark: Discovery -------------------------------------------------------------------------------------------------
 
     /**
@@ -1226,6 +2196,47 @@ declare module 'react-native-ble-plx' {
       transactionId?: TransactionId
     ): Promise<Device>
 
+    /**
+     * Discovers all {@link Service}s, {@link Characteristic}s and {@link Descriptor}s for {@link Device} using
+     * persistent cache of discovered layouts. When layout stored for the same `versionTag` is available, it is emitted
+     * immediately and discovery continues in the background. Cache doesn't make the device usable sooner: discovery
+     * always runs, as it's needed to access attributes, and operations on the device issued meanwhile are started when
+     * it finishes. Cached layout only lets the app learn about attributes earlier, e.g. to prepare its UI. If
+     * discovered layout differs from the cached one, cache is updated, and if discovery fails, cached layout is
+     * removed. In both cases {@link #blemanagerongattlayoutchanged|onGattLayoutChanged()} listeners are notified, as
+     * the promise already emitted the cached layout. [Android only]
+     *
+     * @param {DeviceId} deviceIdentifier {@link Device} identifier.
+     * @param {string} versionTag Application supplied tag identifying device's GATT layout, e.g. firmware revision.
+     * Cached layout is used only when stored with the same tag.
+     * @param {?TransactionId} transactionId Transaction handle used to cancel operation
+     * @returns {Promise<GattLayout>} Promise which emits cached or discovered layout of the device.
+     */
+    discoverAllServicesAndCharacteristicsWithCacheForDevice(
+      deviceIdentifier: DeviceId,
+      versionTag: string,
+      transactionId?: TransactionId
+    ): Promise<GattLayout>
+
+    /**
+     * Removes cached GATT layout of a {@link Device}, or of all devices when identifier is not passed. [Android only]
+     *
+     * @param {?DeviceId} deviceIdentifier {@link Device} identifier.
+     * @returns {Promise<void>} Promise which resolves when cache entries are removed.
+     */
+    invalidateGattLayoutCache(deviceIdentifier?: DeviceId | null): Promise<void>
+
+    /**
+     * Monitors if cached GATT layout of a {@link Device} became invalid, either because discovery found different
+     * attributes or failed, or because the device indicated Service Changed. Services should be discovered again to
+     * get up to date attributes. [Android only]
+     *
+     * @param {DeviceId} deviceIdentifier {@link Device} identifier to be monitored.
+     * @param {function()} listener - callback called when layout of the device changed.
+     * @returns {Subscription} Subscription on which `remove()` function can be called to unsubscribe.
+     */
+    onGattLayoutChanged(deviceIdentifier: DeviceId, listener: () => void): Subscription
+
     // Mark: Service and characteristic getters ------------------------------------------------------------------------
 
     /**
@@ -1237,6 +2248,17 @@ declare module 'react-native-ble-plx' {
      */
     servicesForDevice(deviceIdentifier: DeviceId): Promise<Service[]>
 
+    /**
+     * Whole discovered GATT layout of a {@link Device} fetched in a single call. It is equivalent to calling
+     * {@link #blemanagerservicesfordevice|servicesForDevice()} and then fetching characteristics and descriptors for
+     * each returned object, but requires only one round trip to the native module. [Android only]
+     *
+     * @param {DeviceId} deviceIdentifier {@link Device} identifier.
+     * @returns {Promise<ServiceSnapshot[]>} Promise which emits discovered services together with their
+     * characteristics and descriptors.
+     */
+    gattSnapshotForDevice(deviceIdentifier: DeviceId): Promise<ServiceSnapshot[]>
+
     /**
      * List of discovered {@link Characteristic}s for given {@link Device} and {@link Service}.
      *
@@ -1282,6 +2304,23 @@ declare module 'react-native-ble-plx' {
       transactionId?: TransactionId
     ): Promise<Characteristic>
 
+    /**
+     * Read values of multiple {@link Characteristic}s of a {@link Device} in one call. Reads are queued natively and
+     * executed back to back. Failure of a single read doesn't fail the others. [Android only]
+     *
+     * @param {DeviceId} deviceIdentifier {@link Device} identifier.
+     * @param {CharacteristicPath[]} characteristics UUID paths of characteristics to read.
+     * @param {?TransactionId} transactionId optional `transactionId` which can be used in
+     * {@link #blemanagercanceltransaction|cancelTransaction()} function to cancel all pending reads.
+     * @returns {Promise<CharacteristicReadResult[]>} Promise which emits read results in the order of passed
+     * characteristics. Each result contains either read {@link Characteristic} or {@link BleError}.
+     */
+    readCharacteristicsForDevice(
+      deviceIdentifier: DeviceId,
+      characteristics: CharacteristicPath[],
+      transactionId?: TransactionId
+    ): Promise<CharacteristicReadResult[]>
+
     /**
      * Write {@link Characteristic} value with response.
      *
@@ -1322,6 +2361,34 @@ declare module 'react-native-ble-plx' {
       transactionId?: TransactionId
     ): Promise<Characteristic>
 
+    /**
+     * Write long value or a stream of values to a {@link Characteristic} in one call. Values are split natively into
+     * chunks fitting negotiated MTU and written back to back, which avoids a bridge round trip for every chunk.
+     * [Android only]
+     *
+     * @param {DeviceId} deviceIdentifier {@link Device} identifier.
+     * @param {UUID} serviceUUID {@link Service} UUID.
+     * @param {UUID} characteristicUUID {@link Characteristic} UUID.
+     * @param {Base64 | Base64[]} value Value in Base64 format or list of such values. Each value longer than
+     * a single chunk is split, shorter values are written as separate chunks.
+     * @param {?BulkWriteOptions} options Bulk write options.
+     * @param {?function(bytesWritten: number, totalBytes: number)} progressListener optional callback reporting number
+     * of bytes written so far.
+     * @param {?TransactionId} transactionId optional `transactionId` which can be used in
+     * {@link #blemanagercanceltransaction|cancelTransaction()} function.
+     * @returns {Promise<Characteristic | null>} Promise which emits {@link Characteristic} returned by the last chunk
+     * write when all chunks are written or `null` when there was nothing to write.
+     */
+    writeCharacteristicInBulkForDevice(
+      deviceIdentifier: DeviceId,
+      serviceUUID: UUID,
+      characteristicUUID: UUID,
+      value: Base64 | Base64[],
+      options?: BulkWriteOptions | null,
+      progressListener?: ((bytesWritten: number, totalBytes: number) => void) | null,
+      transactionId?: TransactionId
+    ): Promise<Characteristic | null>
+
     /**
      * Monitor value changes of a {@link Characteristic}. If notifications are enabled they will be used
      * in favour of indications.
@@ -1343,6 +2410,35 @@ declare module 'react-native-ble-plx' {
       transactionId?: TransactionId
     ): Subscription
 
+    /**
+     * Monitor value changes of a {@link Characteristic}. Received values are collected natively and passed in batches,
+     * which reduces bridge traffic for characteristics notifying at high rates. [Android only]
+     *
+     * @param {DeviceId} deviceIdentifier {@link Device} identifier.
+     * @param {UUID} serviceUUID {@link Service} UUID.
+     * @param {UUID} characteristicUUID {@link Characteristic} UUID.
+     * @param {function(error?: BleError, characteristic?: Characteristic, values?: Base64[], timestamps?: number[])} listener
+     * - callback which emits {@link Characteristic} object with the latest value, all values received since previous
+     * batch and their receive times in milliseconds since epoch.
+     * @param {?MonitorBatchOptions} options Batching options.
+     * @param {?TransactionId} transactionId optional `transactionId` which can be used in
+     * {@link #blemanagercanceltransaction|cancelTransaction()} function.
+     * @returns {Subscription} Subscription on which `remove()` function can be called to unsubscribe.
+     */
+    monitorCharacteristicForDeviceInBatches(
+      deviceIdentifier: DeviceId,
+      serviceUUID: UUID,
+      characteristicUUID: UUID,
+      listener: (
+        error: BleError | null,
+        characteristic: Characteristic | null,
+        values: (Base64 | null)[] | null,
+        timestamps: number[] | null
+      ) => void,
+      options?: MonitorBatchOptions | null,
+      transactionId?: TransactionId
+    ): Subscription
+
     // Mark: Descriptors operations ----------------------------------------------------------------------------------
 
     /**
@@ -1531,6 +2627,18 @@ declare module 'react-native-ble-plx' {
      */
     discoverAllServicesAndCharacteristics(transactionId?: TransactionId): Promise<Device>
 
+    /**
+     * {@link #blemanagerdiscoverallservicesandcharacteristicswithcachefordevice|bleManager.discoverAllServicesAndCharacteristicsWithCacheForDevice()} with partially filled arguments.
+     *
+     * @param {string} versionTag Application supplied tag identifying device's GATT layout, e.g. firmware revision.
+     * @param {?TransactionId} transactionId Transaction handle used to cancel operation
+     * @returns {Promise<GattLayout>} Promise which emits cached or discovered layout of the device. [Android only]
+     */
+    discoverAllServicesAndCharacteristicsWithCache(
+      versionTag: string,
+      transactionId?: TransactionId
+    ): Promise<GattLayout>
+
     /**
      * {@link #blemanagerservicesfordevice|bleManager.servicesForDevice()} with partially filled arguments.
      *
@@ -1539,6 +2647,14 @@ declare module 'react-native-ble-plx' {
      */
     services(): Promise<Service[]>
 
+    /**
+     * {@link #blemanagergattsnapshotfordevice|bleManager.gattSnapshotForDevice()} with partially filled arguments.
+     *
+     * @returns {Promise<ServiceSnapshot[]>} Promise which emits discovered services together with their
+     * characteristics and descriptors. [Android only]
+     */
+    gattSnapshot(): Promise<ServiceSnapshot[]>
+
     /**
      * {@link #blemanagercharacteristicsfordevice|bleManager.characteristicsForDevice()} with partially filled arguments.
      *
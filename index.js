@@ -6,8 +6,16 @@ export { Device } from './src/Device'
 export { Service } from './src/Service'
 export { Characteristic } from './src/Characteristic'
 export { Descriptor } from './src/Descriptor'
-export { fullUUID } from './src/Utils'
-export { State, LogLevel, ConnectionPriority, ScanCallbackType, ScanMode } from './src/TypeDefinition'
+export { fullUUID, base64ToBytes, bytesToBase64 } from './src/Utils'
+export { runLoadScenario, simulatedDeviceId, SimulatedUUID } from './src/LoadHarness'
+export {
+  State,
+  LogLevel,
+  ConnectionPriority,
+  OperationPriority,
+  ScanCallbackType,
+  ScanMode
+} from './src/TypeDefinition'
 
 export type {
   Subscription,
@@ -16,7 +24,32 @@ export type {
   TransactionId,
   Base64,
   ScanOptions,
+  AdvertisementFilter,
+  ScannedDeviceState,
+  MonitorBatchOptions,
+  BulkWriteOptions,
+  CharacteristicPath,
+  CharacteristicReadResult,
+  ServiceSnapshot,
+  CharacteristicSnapshot,
+  GattLayout,
+  BatchConnectionOptions,
+  DeviceConnectionResult,
+  ConnectionPoolOptions,
+  ConnectionPoolStats,
+  MetricsOptions,
+  LatencyStats,
+  EventStats,
+  CacheStats,
+  BleMetrics,
+  ConversionOptions,
+  EmitOptions,
+  SimulationOptions,
+  MemoryStats,
+  LoadScenario,
+  LoadReport,
   ConnectionOptions,
+  ReconnectOptions,
   BleManagerOptions,
   BleRestoredState
 } from './src/TypeDefinition'
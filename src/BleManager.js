@@ -5,7 +5,13 @@ import { Device } from './Device'
 import { Service } from './Service'
 import { Characteristic } from './Characteristic'
 import { Descriptor } from './Descriptor'
-import { State, LogLevel, type BleErrorCodeMessageMapping, ConnectionPriority } from './TypeDefinition'
+import {
+  State,
+  LogLevel,
+  type BleErrorCodeMessageMapping,
+  ConnectionPriority,
+  OperationPriority
+} from './TypeDefinition'
 import { BleModule, EventEmitter } from './BleModule'
 import {
   parseBleError,
@@ -16,7 +22,14 @@ import {
   BleAndroidErrorCode,
   BleIOSErrorCode
 } from './BleError'
-import type { NativeDevice, NativeCharacteristic, NativeDescriptor, NativeBleRestoredState } from './BleModule'
+import type {
+  NativeDevice,
+  NativeCharacteristic,
+  NativeDescriptor,
+  NativeBleRestoredState,
+  NativeDeviceConnectionResult,
+  NativeScannedDeviceState
+} from './BleModule'
 import type {
   Subscription,
   DeviceId,
@@ -25,10 +38,37 @@ import type {
   TransactionId,
   Base64,
   ScanOptions,
+  ScannedDeviceState,
+  MonitorBatchOptions,
+  BulkWriteOptions,
+  CharacteristicPath,
+  CharacteristicReadResult,
+  ServiceSnapshot,
+  GattLayout,
+  BatchConnectionOptions,
+  DeviceConnectionResult,
+  ConnectionPoolOptions,
+  ConnectionPoolStats,
   ConnectionOptions,
+  MetricsOptions,
+  BleMetrics,
+  MemoryStats,
+  ConversionOptions,
+  EmitOptions,
   BleManagerOptions
 } from './TypeDefinition'
 
+/**
+ * Listener of characteristic value updates received in ReadEvent.
+ * @private
+ */
+type NativeMonitorListener = (
+  error: ?string,
+  characteristic: NativeCharacteristic,
+  values: ?Array<?Base64>,
+  timestamps: ?Array<number>
+) => void
+
 /**
  *
  * BleManager is an entry point for react-native-ble-plx library. It provides all means to discover and work with
@@ -46,6 +86,9 @@ import type {
 export class BleManager {
   // Scan subscriptions
   _scanEventSubscription: ?EventEmitter
+  _scanBatchEventSubscription: ?EventEmitter
+  // Settles when the last stopped scan passed its remaining batches [Android only]
+  _scanStopped: ?Promise<void>
   // Listening to BleModule events
   _eventEmitter: EventEmitter
   // Unique identifier used to create internal transactionIds
@@ -54,6 +97,14 @@ export class BleManager {
   _activePromises: { [id: string]: (error: BleError) => void }
   // Map of active subscriptions
   _activeSubscriptions: { [id: string]: Subscription }
+  // Map of characteristic monitor listeners by their transaction ids
+  _monitorListeners: { [transactionId: TransactionId]: NativeMonitorListener }
+  // Subscription to ReadEvent shared by all characteristic monitors
+  _readEventSubscription: ?Subscription
+  // Map of characteristics received in full by their ids, used to restore value only objects
+  _characteristicsCache: { [id: Identifier]: NativeCharacteristic }
+  // Whether native module passes value only characteristics after they were acknowledged
+  _characteristicValueOnlyPayloads: boolean
 
   // Map of error codes to error messages
   _errorCodesToMessagesMapping: BleErrorCodeMessageMapping
@@ -66,6 +117,9 @@ export class BleManager {
     this._uniqueId = 0
     this._activePromises = {}
     this._activeSubscriptions = {}
+    this._monitorListeners = {}
+    this._characteristicsCache = {}
+    this._characteristicValueOnlyPayloads = false
 
     const restoreStateFunction = options.restoreStateFunction
     if (restoreStateFunction != null && options.restoreStateIdentifier != null) {
@@ -85,11 +139,40 @@ export class BleManager {
       )
     }
 
+    if (BleModule.MultiplexedEvent != null) {
+      this._activeSubscriptions[this._nextUniqueID()] = this._eventEmitter.addListener(
+        BleModule.MultiplexedEvent,
+        (events: Array<[string, any]>) => {
+          for (const [eventName, payload] of events) {
+            this._eventEmitter.emit(eventName, payload)
+          }
+        }
+      )
+    }
+
     this._errorCodesToMessagesMapping = options.errorCodesToMessagesMapping
       ? options.errorCodesToMessagesMapping
       : BleErrorCodeMessage
 
+    if (options.simulation != null && BleModule.setSimulationOptions != null) {
+      BleModule.setSimulationOptions(options.simulation)
+    }
     BleModule.createClient(options.restoreStateIdentifier || null)
+    if (options.characteristicValueOnlyPayloads === true && BleModule.setCharacteristicValueOnlyPayloads != null) {
+      BleModule.setCharacteristicValueOnlyPayloads(true)
+      this._characteristicValueOnlyPayloads = true
+      // Native module forgets acknowledged characteristics of disconnected devices as well
+      this._activeSubscriptions[this._nextUniqueID()] = this._eventEmitter.addListener(
+        BleModule.DisconnectionEvent,
+        ([, nativeDevice]: [?string, NativeDevice]) => {
+          for (const id of Object.keys(this._characteristicsCache)) {
+            if (this._characteristicsCache[id].deviceID === nativeDevice.id) {
+              delete this._characteristicsCache[id]
+            }
+          }
+        }
+      )
+    }
   }
 
   /**
@@ -122,6 +205,21 @@ export class BleManager {
     }
   }
 
+  /**
+   * Destroys subscriptions of a scan which is in progress.
+   * @private
+   */
+  _destroyScanSubscriptions() {
+    if (this._scanEventSubscription != null) {
+      this._scanEventSubscription.remove()
+      this._scanEventSubscription = null
+    }
+    if (this._scanBatchEventSubscription != null) {
+      this._scanBatchEventSubscription.remove()
+      this._scanBatchEventSubscription = null
+    }
+  }
+
   /**
    * Destroys {@link BleManager} instance. A new instance needs to be created to continue working with
    * this library. All operations which were in progress completes with
@@ -132,10 +230,7 @@ export class BleManager {
     BleModule.destroyClient()
 
     // Unsubscribe from any subscriptions
-    if (this._scanEventSubscription != null) {
-      this._scanEventSubscription.remove()
-      this._scanEventSubscription = null
-    }
+    this._destroyScanSubscriptions()
     this._destroySubscriptions()
 
     // Destroy all promises
@@ -175,6 +270,32 @@ export class BleManager {
     }
   }
 
+  /**
+   * Restores characteristic metadata of value only object received from native module. Characteristics received in
+   * full are cached, acknowledged to native module and returned unchanged. Value only object which isn't cached, for
+   * example because its device disconnected in the meantime, is returned as is and native module passes the next one
+   * in full.
+   *
+   * @param {NativeCharacteristic} nativeCharacteristic Characteristic received from native module.
+   * @returns {NativeCharacteristic} Characteristic with all its metadata when it's available.
+   * @private
+   */
+  _restoreNativeCharacteristic(nativeCharacteristic: NativeCharacteristic): NativeCharacteristic {
+    const cachedCharacteristic = this._characteristicsCache[nativeCharacteristic.id]
+    if (nativeCharacteristic.uuid != null) {
+      this._characteristicsCache[nativeCharacteristic.id] = nativeCharacteristic
+      if (this._characteristicValueOnlyPayloads && cachedCharacteristic == null) {
+        BleModule.acknowledgeFullCharacteristic(nativeCharacteristic.id, nativeCharacteristic.deviceID)
+      }
+      return nativeCharacteristic
+    }
+    if (cachedCharacteristic == null) {
+      BleModule.requestFullCharacteristic(nativeCharacteristic.id)
+      return nativeCharacteristic
+    }
+    return { ...cachedCharacteristic, ...nativeCharacteristic }
+  }
+
   // Mark: Common ------------------------------------------------------------------------------------------------------
 
   /**
@@ -221,6 +342,119 @@ export class BleManager {
     BleModule.cancelTransaction(transactionId)
   }
 
+  /**
+   * Sets priority class of the next read or write operation started with passed transaction id. GATT operations are
+   * queued per device and started in {@link #operationpriority|OperationPriority} order, so that e.g. an interactive
+   * read doesn't wait behind a long bulk transfer. Devices are served in round robin order. Operation which doesn't
+   * start within `deadlineMs` is rejected with {@link #bleerrorcodeoperationtimedout|OperationTimedOut} error.
+   * Has to be called before the operation is started. [Android only]
+   *
+   * @example
+   * manager.setTransactionPriority('firmware', OperationPriority.Bulk)
+   * manager.writeCharacteristicInBulkForDevice(device.id, serviceUUID, characteristicUUID, image, {}, null, 'firmware')
+   *
+   * @param {TransactionId} transactionId Transaction id of the operation.
+   * @param {OperationPriority} priority Priority class of the operation.
+   * @param {number} deadlineMs Maximum time in milliseconds the operation may wait in the queue. 0 means no limit.
+   */
+  setTransactionPriority(
+    transactionId: TransactionId,
+    priority: $Values<typeof OperationPriority>,
+    deadlineMs: number = 0
+  ) {
+    if (BleModule.setTransactionPriority != null) {
+      BleModule.setTransactionPriority(transactionId, priority, deadlineMs)
+    }
+  }
+
+  /**
+   * Returns metrics of native bridge and GATT operations: latencies of native methods and converters, numbers of
+   * events passed to JS and rates of scanned advertisements and notifications. [Android only]
+   *
+   * @param {boolean} reset Whether collection starts over afterwards.
+   * @returns {Promise<BleMetrics>} Metrics collected since the previous reset.
+   */
+  getMetrics(reset: boolean = false): Promise<BleMetrics> {
+    return this._callPromise(BleModule.getMetrics(reset))
+  }
+
+  /**
+   * Enables or disables native metrics and sets interval of reports passed to
+   * {@link #blemanageronmetrics|onMetrics()} listeners. [Android only]
+   *
+   * @example
+   * manager.onMetrics(metrics => console.log(metrics.methods.readCharacteristicForDevice))
+   * manager.setMetricsOptions({ reportIntervalMs: 10000 })
+   *
+   * @param {MetricsOptions} options Metrics options.
+   */
+  setMetricsOptions(options: MetricsOptions) {
+    if (BleModule.setMetricsOptions != null) {
+      BleModule.setMetricsOptions(options)
+    }
+  }
+
+  /**
+   * Notifies about metrics reported periodically when {@link #metricsoptions|reportIntervalMs} is set. Every report
+   * covers the period since the previous one. [Android only]
+   *
+   * @param {function(metrics: BleMetrics)} listener Callback receiving metrics.
+   * @returns {Subscription} Subscription on which `remove()` function can be called to unsubscribe.
+   */
+  onMetrics(listener: (metrics: BleMetrics) => void): Subscription {
+    const subscription: Subscription = this._eventEmitter.addListener(BleModule.MetricsEvent, listener)
+
+    const id = this._nextUniqueID()
+    const wrappedSubscription = {
+      remove: () => {
+        if (this._activeSubscriptions[id] != null) {
+          delete this._activeSubscriptions[id]
+          subscription.remove()
+        }
+      }
+    }
+    this._activeSubscriptions[id] = wrappedSubscription
+    return wrappedSubscription
+  }
+
+  /**
+   * Moves conversion of scan results and result lists of {@link #blemanagerdevices|devices()},
+   * {@link #blemanagerconnecteddevices|connectedDevices()} and service, characteristic and descriptor getters to a
+   * pool of native workers, which keeps Bluetooth callbacks short under load. Scan results of a device waiting for
+   * conversion are replaced by newer ones and the oldest waiting results are dropped when workers fall behind.
+   * [Android only]
+   *
+   * @param {ConversionOptions} options Conversion options.
+   */
+  setConversionOptions(options: ConversionOptions) {
+    if (BleModule.setConversionOptions != null) {
+      BleModule.setConversionOptions(options)
+    }
+  }
+
+  /**
+   * Limits the rate of native events passed to JS. Events of all types are collected into a single bridge message
+   * sent at most `rateHz` times per second, e.g. 60 or 30 to match frame rate, and dispatched to listeners in their
+   * original order. State and disconnection events are sent right away. [Android only]
+   *
+   * @param {EmitOptions} options Emit options.
+   */
+  setEmitOptions(options: EmitOptions) {
+    if (BleModule.setEmitOptions != null) {
+      BleModule.setEmitOptions(options)
+    }
+  }
+
+  /**
+   * Returns memory statistics of the native runtime, which allow to compare allocations made by different scenarios.
+   * [Android only]
+   *
+   * @returns {Promise<MemoryStats>} Current memory statistics.
+   */
+  memoryStats(): Promise<MemoryStats> {
+    return this._callPromise(BleModule.memoryStats())
+  }
+
   // Mark: Monitoring state --------------------------------------------------------------------------------------------
 
   /**
@@ -334,6 +568,14 @@ export class BleManager {
     listener: (error: ?BleError, scannedDevice: ?Device) => void
   ) {
     this.stopDeviceScan()
+    // Batches received before the previous scan is reported as stopped belong to that scan
+    let isPreviousScanStopped = this._scanStopped == null
+    if (this._scanStopped != null) {
+      const onPreviousScanStopped = () => {
+        isPreviousScanStopped = true
+      }
+      this._scanStopped.then(onPreviousScanStopped, onPreviousScanStopped)
+    }
     const scanListener = ([error, nativeDevice]: [?string, ?NativeDevice]) => {
       listener(
         error ? parseBleError(error, this._errorCodesToMessagesMapping) : null,
@@ -342,6 +584,16 @@ export class BleManager {
     }
     // $FlowFixMe: Flow cannot deduce EmitterSubscription type.
     this._scanEventSubscription = this._eventEmitter.addListener(BleModule.ScanEvent, scanListener)
+    if (options != null && options.batchIntervalMs != null && BleModule.ScanBatchEvent != null) {
+      const scanBatchListener = (nativeDevices: Array<NativeDevice>) => {
+        if (!isPreviousScanStopped) return
+        for (const nativeDevice of nativeDevices) {
+          listener(null, new Device(nativeDevice, this))
+        }
+      }
+      // $FlowFixMe: Flow cannot deduce EmitterSubscription type.
+      this._scanBatchEventSubscription = this._eventEmitter.addListener(BleModule.ScanBatchEvent, scanBatchListener)
+    }
     BleModule.startDeviceScan(UUIDs, options)
   }
 
@@ -349,11 +601,87 @@ export class BleManager {
    * Stops {@link Device} scan if in progress.
    */
   stopDeviceScan() {
-    if (this._scanEventSubscription != null) {
-      this._scanEventSubscription.remove()
-      this._scanEventSubscription = null
+    const scanBatchEventSubscription = this._scanBatchEventSubscription
+    this._scanBatchEventSubscription = null
+    this._destroyScanSubscriptions()
+    const stopped = BleModule.stopDeviceScan()
+    this._scanStopped = stopped
+    if (scanBatchEventSubscription == null) {
+      return
+    }
+    if (stopped == null) {
+      scanBatchEventSubscription.remove()
+      return
+    }
+    // Devices waiting for the next batch are still passed to the listener before scan is reported as stopped
+    const removeSubscription = () => scanBatchEventSubscription.remove()
+    stopped.then(removeSubscription, removeSubscription)
+  }
+
+  /**
+   * Takes scanned devices buffered natively when scan was started with
+   * {@link #scanoptions|scanResultBufferSize} option. Pulling devices lets the app decide how much work it takes on,
+   * instead of receiving every advertisement. Devices scanned before the scan was stopped can still be taken until the
+   * next scan starts. [Android only]
+   *
+   * @example
+   * manager.startDeviceScan(null, { scanResultBufferSize: 100, latestScanResultPerDevice: true }, onScanError)
+   * const devices = await manager.drainScanResults(20)
+   *
+   * @param {number} maxCount Maximum number of returned devices, 0 to take all of them.
+   * @returns {Promise<Array<Device>>} Scanned devices, oldest first.
+   */
+  async drainScanResults(maxCount: number): Promise<Array<Device>> {
+    if (BleModule.drainScanResults == null) {
+      return []
+    }
+    const nativeDevices = await this._callPromise(BleModule.drainScanResults(maxCount))
+    return nativeDevices.map((nativeDevice: NativeDevice) => {
+      return new Device(nativeDevice, this)
+    })
+  }
+
+  /**
+   * Notifies about snapshots of devices aggregated natively when scan was started with
+   * {@link #scanoptions|aggregationIntervalMs} option. A snapshot replaces all advertisements received during its
+   * interval with a single update per device. [Android only]
+   *
+   * @example
+   * manager.onScanSnapshot((updatedDevices, expiredDeviceIds) => {
+   *   // Update proximity view
+   * })
+   * manager.startDeviceScan(null, { aggregationIntervalMs: 500 }, onScanError)
+   *
+   * @param {function(updatedDevices: Array<ScannedDeviceState>, expiredDeviceIds: Array<DeviceId>)} listener
+   * Callback receiving devices updated since the previous snapshot and identifiers of devices which weren't seen
+   * for longer than `aggregationDeviceTtlMs`.
+   * @returns {Subscription} Subscription on which `remove()` function can be called to unsubscribe.
+   */
+  onScanSnapshot(
+    listener: (updatedDevices: Array<ScannedDeviceState>, expiredDeviceIds: Array<DeviceId>) => void
+  ): Subscription {
+    const snapshotListener = ([nativeStates, expiredDeviceIds]: [Array<NativeScannedDeviceState>, Array<DeviceId>]) => {
+      const updatedDevices = nativeStates.map(nativeState => ({
+        device: new Device(nativeState.device, this),
+        smoothedRssi: nativeState.smoothedRssi,
+        lastSeen: nativeState.lastSeen
+      }))
+      listener(updatedDevices, expiredDeviceIds)
     }
-    BleModule.stopDeviceScan()
+
+    const subscription: Subscription = this._eventEmitter.addListener(BleModule.ScanSnapshotEvent, snapshotListener)
+
+    const id = this._nextUniqueID()
+    const wrappedSubscription = {
+      remove: () => {
+        if (this._activeSubscriptions[id] != null) {
+          delete this._activeSubscriptions[id]
+          subscription.remove()
+        }
+      }
+    }
+    this._activeSubscriptions[id] = wrappedSubscription
+    return wrappedSubscription
   }
 
   /**
@@ -496,6 +824,44 @@ export class BleManager {
     return wrappedSubscription
   }
 
+  /**
+   * Monitors native reconnections of {@link Device} connected with {@link #reconnectoptions|reconnect} option.
+   * Device was already disconnected when reconnection starts. [Android only]
+   *
+   * @param {DeviceId} deviceIdentifier {@link Device} identifier to be monitored.
+   * @param {function(error: ?BleError, device: Device, attempts: number)} listener - callback returning error of
+   * the last attempt when all attempts failed, {@link Device} object with discovered attributes otherwise, and
+   * number of attempts made.
+   * @returns {Subscription} Subscription on which `remove()` function can be called to unsubscribe.
+   */
+  onDeviceReconnected(
+    deviceIdentifier: DeviceId,
+    listener: (error: ?BleError, device: Device, attempts: number) => void
+  ): Subscription {
+    const reconnectionListener = ([error, nativeDevice, attempts]: [?string, NativeDevice, number]) => {
+      if (deviceIdentifier !== nativeDevice.id) return
+      listener(
+        error ? parseBleError(error, this._errorCodesToMessagesMapping) : null,
+        new Device(nativeDevice, this),
+        attempts
+      )
+    }
+
+    const subscription: Subscription = this._eventEmitter.addListener(BleModule.ReconnectionEvent, reconnectionListener)
+
+    const id = this._nextUniqueID()
+    const wrappedSubscription = {
+      remove: () => {
+        if (this._activeSubscriptions[id] != null) {
+          delete this._activeSubscriptions[id]
+          subscription.remove()
+        }
+      }
+    }
+    this._activeSubscriptions[id] = wrappedSubscription
+    return wrappedSubscription
+  }
+
   /**
    * Check connection state of a {@link Device}.
    *
@@ -506,6 +872,94 @@ export class BleManager {
     return this._callPromise(BleModule.isDeviceConnected(deviceIdentifier))
   }
 
+  /**
+   * Connects to a list of devices and discovers all their services, characteristics and descriptors in one native
+   * call. Devices are processed with limited concurrency. Failed devices are retried natively behind remaining ones,
+   * so a single unreachable device doesn't stall the batch. [Android only]
+   *
+   * @example
+   * const results = await manager.connectAndDiscoverDevices(deviceIds, { concurrency: 3 }, result => {
+   *   // Device is ready or all its attempts failed
+   * })
+   *
+   * @param {Array<DeviceId>} deviceIdentifiers {@link Device} identifiers.
+   * @param {?BatchConnectionOptions} options Batch connection options.
+   * @param {?function(result: DeviceConnectionResult)} listener optional callback receiving result of every device
+   * as soon as it's known.
+   * @param {?TransactionId} transactionId optional `transactionId` which can be used in
+   * {@link #blemanagercanceltransaction|cancelTransaction()} function. Cancelled batch finishes devices without
+   * results with {@link #bleerrorcodeoperationcancelled|OperationCancelled} error.
+   * @returns {Promise<Array<DeviceConnectionResult>>} Promise which emits results of all devices in the order of
+   * passed identifiers.
+   */
+  async connectAndDiscoverDevices(
+    deviceIdentifiers: Array<DeviceId>,
+    options: ?BatchConnectionOptions,
+    listener: ?(result: DeviceConnectionResult) => void,
+    transactionId: ?TransactionId
+  ): Promise<Array<DeviceConnectionResult>> {
+    const filledTransactionId = transactionId || this._nextUniqueID()
+    const resultSubscription =
+      listener != null
+        ? this._eventEmitter.addListener(BleModule.BatchConnectionEvent, ([resultTransactionId, nativeResult]) => {
+            if (resultTransactionId === filledTransactionId && listener != null) {
+              listener(this._deviceConnectionResult(nativeResult))
+            }
+          })
+        : null
+    try {
+      const nativeResults = await this._callPromise(
+        BleModule.connectAndDiscoverDevices(deviceIdentifiers, options, filledTransactionId)
+      )
+      return nativeResults.map(nativeResult => this._deviceConnectionResult(nativeResult))
+    } finally {
+      if (resultSubscription != null) {
+        resultSubscription.remove()
+      }
+    }
+  }
+
+  /**
+   * Converts result of a single device connected in a batch.
+   *
+   * @param {NativeDeviceConnectionResult} nativeResult Result passed from BleModule.
+   * @returns {DeviceConnectionResult} Result with {@link Device} and {@link BleError} objects.
+   * @private
+   */
+  _deviceConnectionResult(nativeResult: NativeDeviceConnectionResult): DeviceConnectionResult {
+    return {
+      deviceId: nativeResult.deviceId,
+      device: nativeResult.device != null ? new Device(nativeResult.device, this) : null,
+      error: nativeResult.error != null ? parseBleError(nativeResult.error, this._errorCodesToMessagesMapping) : null,
+      attempts: nativeResult.attempts
+    }
+  }
+
+  /**
+   * Limits the number of devices connected at once. Connect requests above {@link #connectionpooloptions|limits} wait
+   * in a native queue, and when all slots are taken the least recently used idle device is disconnected to make room
+   * for a new one. Devices with monitored characteristics or operations in progress aren't idle, requests wait until
+   * one of them becomes idle when all connected devices are busy. Evicted device emits disconnection event and its
+   * services, characteristics and descriptors can't be used anymore. Methods taking its device identifier still work:
+   * the device is connected and discovered again before the operation, which delays it. [Android only]
+   *
+   * @param {ConnectionPoolOptions} options Connection pool limits.
+   */
+  setConnectionPoolOptions(options: ConnectionPoolOptions) {
+    if (BleModule.setConnectionPoolOptions != null) {
+      BleModule.setConnectionPoolOptions(options)
+    }
+  }
+
+  /**
+   * Returns current state of the connection pool. [Android only]
+   *
+   * @returns {Promise<ConnectionPoolStats>} Connection pool state.
+   */
+  connectionPoolStats(): Promise<ConnectionPoolStats> {
+    return this._callPromise(BleModule.connectionPoolStats())
+  }
+
   // Mark: Discovery ---------------------------------------------------------------------------------------------------
 
   /**
@@ -529,6 +983,75 @@ export class BleManager {
     return new Device(nativeDevice, this)
   }
 
+  /**
+   * Discovers all {@link Service}s, {@link Characteristic}s and {@link Descriptor}s for {@link Device} using
+   * persistent cache of discovered layouts. When layout stored for the same `versionTag` is available, it is emitted
+   * immediately and discovery continues in the background. Cache doesn't make the device usable sooner: discovery
+   * always runs, as it's needed to access attributes, and operations on the device issued meanwhile are started when
+   * it finishes. Cached layout only lets the app learn about attributes earlier, e.g. to prepare its UI. If
+   * discovered layout differs from the cached one, cache is updated, and if discovery fails, cached layout is
+   * removed. In both cases {@link #blemanagerongattlayoutchanged|onGattLayoutChanged()} listeners are notified, as
+   * the promise already emitted the cached layout. [Android only]
+   *
+   * @param {DeviceId} deviceIdentifier {@link Device} identifier.
+   * @param {string} versionTag Application supplied tag identifying device's GATT layout, e.g. firmware revision.
+   * Cached layout is used only when stored with the same tag.
+   * @param {?TransactionId} transactionId Transaction handle used to cancel operation
+   * @returns {Promise<GattLayout>} Promise which emits cached or discovered layout of the device.
+   */
+  discoverAllServicesAndCharacteristicsWithCacheForDevice(
+    deviceIdentifier: DeviceId,
+    versionTag: string,
+    transactionId: ?TransactionId
+  ): Promise<GattLayout> {
+    if (!transactionId) {
+      transactionId = this._nextUniqueID()
+    }
+    return this._callPromise(
+      BleModule.discoverAllServicesAndCharacteristicsWithCacheForDevice(deviceIdentifier, versionTag, transactionId)
+    )
+  }
+
+  /**
+   * Removes cached GATT layout of a {@link Device}, or of all devices when identifier is not passed. [Android only]
+   *
+   * @param {?DeviceId} deviceIdentifier {@link Device} identifier.
+   * @returns {Promise<void>} Promise which resolves when cache entries are removed.
+   */
+  invalidateGattLayoutCache(deviceIdentifier: ?DeviceId): Promise<void> {
+    return this._callPromise(BleModule.invalidateGattLayoutCache(deviceIdentifier))
+  }
+
+  /**
+   * Monitors if cached GATT layout of a {@link Device} became invalid, either because discovery found different
+   * attributes or failed, or because the device indicated Service Changed. Services should be discovered again to
+   * get up to date attributes. [Android only]
+   *
+   * @param {DeviceId} deviceIdentifier {@link Device} identifier to be monitored.
+   * @param {function()} listener - callback called when layout of the device changed.
+   * @returns {Subscription} Subscription on which `remove()` function can be called to unsubscribe.
+   */
+  onGattLayoutChanged(deviceIdentifier: DeviceId, listener: () => void): Subscription {
+    const subscription: Subscription = this._eventEmitter.addListener(
+      BleModule.GattLayoutChangedEvent,
+      (changedDeviceIdentifier: DeviceId) => {
+        if (changedDeviceIdentifier === deviceIdentifier) listener()
+      }
+    )
+
+    const id = this._nextUniqueID()
+    const wrappedSubscription = {
+      remove: () => {
+        if (this._activeSubscriptions[id] != null) {
+          delete this._activeSubscriptions[id]
+          subscription.remove()
+        }
+      }
+    }
+    this._activeSubscriptions[id] = wrappedSubscription
+    return wrappedSubscription
+  }
+
   // Mark: Service and characteristic getters --------------------------------------------------------------------------
 
   /**
@@ -642,6 +1165,26 @@ export class BleManager {
     })
   }
 
+  /**
+   * Whole discovered GATT layout of a {@link Device} fetched in a single call. It is equivalent to calling
+   * {@link #blemanagerservicesfordevice|servicesForDevice()} and then fetching characteristics and descriptors for
+   * each returned object, but requires only one round trip to the native module. [Android only]
+   *
+   * @param {DeviceId} deviceIdentifier {@link Device} identifier.
+   * @returns {Promise<Array<ServiceSnapshot>>} Promise which emits discovered services together with their
+   * characteristics and descriptors.
+   */
+  async gattSnapshotForDevice(deviceIdentifier: DeviceId): Promise<Array<ServiceSnapshot>> {
+    const services = await this._callPromise(BleModule.gattSnapshotForDevice(deviceIdentifier))
+    return services.map(nativeService => ({
+      service: new Service(nativeService.service, this),
+      characteristics: nativeService.characteristics.map(nativeCharacteristic => ({
+        characteristic: new Characteristic(nativeCharacteristic.characteristic, this),
+        descriptors: nativeCharacteristic.descriptors.map(nativeDescriptor => new Descriptor(nativeDescriptor, this))
+      }))
+    }))
+  }
+
   // Mark: Characteristics operations ----------------------------------------------------------------------------------
 
   /**
@@ -667,7 +1210,40 @@ export class BleManager {
     const nativeCharacteristic = await this._callPromise(
       BleModule.readCharacteristicForDevice(deviceIdentifier, serviceUUID, characteristicUUID, transactionId)
     )
-    return new Characteristic(nativeCharacteristic, this)
+    return new Characteristic(this._restoreNativeCharacteristic(nativeCharacteristic), this)
+  }
+
+  /**
+   * Read values of multiple {@link Characteristic}s of a {@link Device} in one call. Reads are queued natively and
+   * executed back to back. Failure of a single read doesn't fail the others. [Android only]
+   *
+   * @param {DeviceId} deviceIdentifier {@link Device} identifier.
+   * @param {Array<CharacteristicPath>} characteristics UUID paths of characteristics to read.
+   * @param {?TransactionId} transactionId optional `transactionId` which can be used in
+   * {@link #blemanagercanceltransaction|cancelTransaction()} function to cancel all pending reads.
+   * @returns {Promise<Array<CharacteristicReadResult>>} Promise which emits read results in the order of passed
+   * characteristics. Each result contains either read {@link Characteristic} or {@link BleError}.
+   */
+  async readCharacteristicsForDevice(
+    deviceIdentifier: DeviceId,
+    characteristics: Array<CharacteristicPath>,
+    transactionId: ?TransactionId
+  ): Promise<Array<CharacteristicReadResult>> {
+    if (!transactionId) {
+      transactionId = this._nextUniqueID()
+    }
+    const results = await this._callPromise(
+      BleModule.readCharacteristicsForDevice(deviceIdentifier, characteristics, transactionId)
+    )
+    return results.map(result => {
+      if (result.error != null) {
+        return { characteristic: null, error: parseBleError(result.error, this._errorCodesToMessagesMapping) }
+      }
+      return {
+        characteristic: new Characteristic(this._restoreNativeCharacteristic(result.characteristic), this),
+        error: null
+      }
+    })
   }
 
   /**
@@ -692,7 +1268,7 @@ export class BleManager {
     const nativeCharacteristic = await this._callPromise(
       BleModule.readCharacteristicForService(serviceIdentifier, characteristicUUID, transactionId)
     )
-    return new Characteristic(nativeCharacteristic, this)
+    return new Characteristic(this._restoreNativeCharacteristic(nativeCharacteristic), this)
   }
 
   /**
@@ -715,7 +1291,7 @@ export class BleManager {
     const nativeCharacteristic = await this._callPromise(
       BleModule.readCharacteristic(characteristicIdentifier, transactionId)
     )
-    return new Characteristic(nativeCharacteristic, this)
+    return new Characteristic(this._restoreNativeCharacteristic(nativeCharacteristic), this)
   }
 
   /**
@@ -892,6 +1468,61 @@ export class BleManager {
     return new Characteristic(nativeCharacteristic, this)
   }
 
+  /**
+   * Write long value or a stream of values to a {@link Characteristic} in one call. Values are split natively into
+   * chunks fitting negotiated MTU and written back to back, which avoids a bridge round trip for every chunk.
+   * [Android only]
+   *
+   * @param {DeviceId} deviceIdentifier {@link Device} identifier.
+   * @param {UUID} serviceUUID {@link Service} UUID.
+   * @param {UUID} characteristicUUID {@link Characteristic} UUID.
+   * @param {Base64 | Array<Base64>} value Value in Base64 format or list of such values. Each value longer than
+   * a single chunk is split, shorter values are written as separate chunks.
+   * @param {?BulkWriteOptions} options Bulk write options.
+   * @param {?function(bytesWritten: number, totalBytes: number)} progressListener optional callback reporting number
+   * of bytes written so far.
+   * @param {?TransactionId} transactionId optional `transactionId` which can be used in
+   * {@link #blemanagercanceltransaction|cancelTransaction()} function.
+   * @returns {Promise<?Characteristic>} Promise which emits {@link Characteristic} returned by the last chunk write
+   * when all chunks are written or `null` when there was nothing to write.
+   */
+  async writeCharacteristicInBulkForDevice(
+    deviceIdentifier: DeviceId,
+    serviceUUID: UUID,
+    characteristicUUID: UUID,
+    value: Base64 | Array<Base64>,
+    options: ?BulkWriteOptions,
+    progressListener: ?(bytesWritten: number, totalBytes: number) => void,
+    transactionId: ?TransactionId
+  ): Promise<?Characteristic> {
+    const filledTransactionId = transactionId || this._nextUniqueID()
+    const progressSubscription =
+      progressListener != null
+        ? this._eventEmitter.addListener(BleModule.WriteProgressEvent, ([progressTransactionId, written, total]) => {
+            if (progressTransactionId === filledTransactionId && progressListener != null) {
+              progressListener(written, total)
+            }
+          })
+        : null
+    try {
+      const nativeCharacteristic = await this._callPromise(
+        BleModule.writeCharacteristicInBulkForDevice(
+          deviceIdentifier,
+          serviceUUID,
+          characteristicUUID,
+          Array.isArray(value) ? value : [value],
+          options,
+          filledTransactionId
+        )
+      )
+      return nativeCharacteristic != null ? new Characteristic(nativeCharacteristic, this) : null
+    } finally {
+      if (progressSubscription != null) {
+        progressSubscription.remove()
+      }
+    }
+  }
+
   /**
    * Monitor value changes of a {@link Characteristic}. If notifications are enabled they will be used
    * in favour of indications.
@@ -972,6 +1603,61 @@ export class BleManager {
     )
   }
 
+  /**
+   * Monitor value changes of a {@link Characteristic}. Received values are collected natively and passed in batches,
+   * which reduces bridge traffic for characteristics notifying at high rates. [Android only]
+   *
+   * @param {DeviceId} deviceIdentifier {@link Device} identifier.
+   * @param {UUID} serviceUUID {@link Service} UUID.
+   * @param {UUID} characteristicUUID {@link Characteristic} UUID.
+   * @param {function(error: ?BleError, characteristic: ?Characteristic, values: ?Array<?Base64>, timestamps: ?Array<number>)} listener
+   * - callback which emits {@link Characteristic} object with the latest value, all values received since previous
+   * batch and their receive times in milliseconds since epoch.
+   * @param {?MonitorBatchOptions} options Batching options.
+   * @param {?TransactionId} transactionId optional `transactionId` which can be used in
+   * {@link #blemanagercanceltransaction|cancelTransaction()} function.
+   * @returns {Subscription} Subscription on which `remove()` function can be called to unsubscribe.
+   */
+  monitorCharacteristicForDeviceInBatches(
+    deviceIdentifier: DeviceId,
+    serviceUUID: UUID,
+    characteristicUUID: UUID,
+    listener: (
+      error: ?BleError,
+      characteristic: ?Characteristic,
+      values: ?Array<?Base64>,
+      timestamps: ?Array<number>
+    ) => void,
+    options: ?MonitorBatchOptions,
+    transactionId: ?TransactionId
+  ): Subscription {
+    const filledTransactionId = transactionId || this._nextUniqueID()
+    const monitorListener = (
+      error: ?string,
+      characteristic: NativeCharacteristic,
+      values: ?Array<?Base64>,
+      timestamps: ?Array<number>
+    ) => {
+      if (error) {
+        listener(parseBleError(error, this._errorCodesToMessagesMapping), null, null, null)
+        return
+      }
+      listener(null, new Characteristic(this._restoreNativeCharacteristic(characteristic), this), values, timestamps)
+    }
+    return this._handleMonitor(
+      BleModule.monitorCharacteristicForDeviceInBatches(
+        deviceIdentifier,
+        serviceUUID,
+        characteristicUUID,
+        options,
+        filledTransactionId
+      ),
+      filledTransactionId,
+      monitorListener,
+      error => listener(error, null, null, null)
+    )
+  }
+
   /**
    * Common code to handle characteristic monitoring.
    *
@@ -987,27 +1673,40 @@ export class BleManager {
     transactionId: TransactionId,
     listener: (error: ?BleError, characteristic: ?Characteristic) => void
   ): Subscription {
-    const monitorListener = ([error, characteristic, msgTransactionId]: [
-      ?string,
-      NativeCharacteristic,
-      TransactionId
-    ]) => {
-      if (transactionId !== msgTransactionId) return
+    const monitorListener = (error: ?string, characteristic: NativeCharacteristic) => {
       if (error) {
         listener(parseBleError(error, this._errorCodesToMessagesMapping), null)
         return
       }
-      listener(null, new Characteristic(characteristic, this))
+      listener(null, new Characteristic(this._restoreNativeCharacteristic(characteristic), this))
     }
+    return this._handleMonitor(monitorPromise, transactionId, monitorListener, error => listener(error, null))
+  }
 
-    const subscription: Subscription = this._eventEmitter.addListener(BleModule.ReadEvent, monitorListener)
+  /**
+   * Common code to handle monitoring promise and its ReadEvent updates.
+   *
+   * @param {Promise<void>} monitorPromise Characteristic monitoring promise
+   * @param {TransactionId} transactionId TransactionId of passed promise
+   * @param {NativeMonitorListener} monitorListener Listener of ReadEvent updates with matching transaction id.
+   * @param {function(error: BleError)} errorListener Listener of monitoring promise error.
+   * @returns {Subscription} Subscription on which `remove()` function can be called to unsubscribe.
+   * @private
+   */
+  _handleMonitor(
+    monitorPromise: Promise<void>,
+    transactionId: TransactionId,
+    monitorListener: NativeMonitorListener,
+    errorListener: (error: BleError) => void
+  ): Subscription {
+    this._addMonitorListener(transactionId, monitorListener)
 
     const id = this._nextUniqueID()
     const wrappedSubscription: Subscription = {
       remove: () => {
         if (this._activeSubscriptions[id] != null) {
           delete this._activeSubscriptions[id]
-          subscription.remove()
+          this._removeMonitorListener(transactionId, monitorListener)
         }
       }
     }
@@ -1018,7 +1717,7 @@ export class BleManager {
         wrappedSubscription.remove()
       },
       (error: BleError) => {
-        listener(error, null)
+        errorListener(error)
         wrappedSubscription.remove()
       }
     )
@@ -1030,6 +1729,53 @@ export class BleManager {
     }
   }
 
+  /**
+   * Registers listener for characteristic value updates of a specified transaction. All monitors share a single
+   * ReadEvent subscription which dispatches updates by their transaction id.
+   *
+   * @param {TransactionId} transactionId Transaction id of a monitor.
+   * @param {NativeMonitorListener} listener Listener of updates.
+   * @private
+   */
+  _addMonitorListener(transactionId: TransactionId, listener: NativeMonitorListener) {
+    this._monitorListeners[transactionId] = listener
+    if (this._readEventSubscription == null) {
+      this._readEventSubscription = this._eventEmitter.addListener(
+        BleModule.ReadEvent,
+        ([error, characteristic, msgTransactionId, values, timestamps]: [
+          ?string,
+          NativeCharacteristic,
+          TransactionId,
+          ?Array<?Base64>,
+          ?Array<number>
+        ]) => {
+          const monitorListener = this._monitorListeners[msgTransactionId]
+          if (monitorListener != null) {
+            monitorListener(error, characteristic, values, timestamps)
+          }
+        }
+      )
+    }
+  }
+
+  /**
+   * Unregisters listener of characteristic value updates. Shared ReadEvent subscription is removed together with
+   * the last listener.
+   *
+   * @param {TransactionId} transactionId Transaction id of a monitor.
+   * @param {NativeMonitorListener} listener Listener of updates.
+   * @private
+   */
+  _removeMonitorListener(transactionId: TransactionId, listener: NativeMonitorListener) {
+    if (this._monitorListeners[transactionId] === listener) {
+      delete this._monitorListeners[transactionId]
+    }
+    if (Object.keys(this._monitorListeners).length === 0 && this._readEventSubscription != null) {
+      this._readEventSubscription.remove()
+      this._readEventSubscription = null
+    }
+  }
+
   // Mark: Descriptors operations ----------------------------------------------------------------------------------
 
   /**
@@ -2,7 +2,7 @@
 'use strict'
 
 import { NativeModules, NativeEventEmitter } from 'react-native'
-import { State, LogLevel, ConnectionPriority } from './TypeDefinition'
+import { State, LogLevel, ConnectionPriority, OperationPriority } from './TypeDefinition'
 import type {
   DeviceId,
   Identifier,
@@ -10,7 +10,20 @@ import type {
   TransactionId,
   Base64,
   ScanOptions,
-  ConnectionOptions
+  MonitorBatchOptions,
+  BulkWriteOptions,
+  CharacteristicPath,
+  GattLayout,
+  BatchConnectionOptions,
+  ConnectionPoolOptions,
+  ConnectionPoolStats,
+  ConnectionOptions,
+  MetricsOptions,
+  BleMetrics,
+  SimulationOptions,
+  MemoryStats,
+  ConversionOptions,
+  EmitOptions
 } from './TypeDefinition'
 
 /**
@@ -185,6 +198,89 @@ export interface NativeCharacteristic {
   value: ?Base64;
 }
 
+/**
+ * Result of a single read passed from BleModule. Contains either characteristic or serialized error.
+ * @private
+ */
+export interface NativeCharacteristicReadResult {
+  /**
+   * Read characteristic
+   * @private
+   */
+  characteristic: ?NativeCharacteristic;
+  /**
+   * Serialized error of a failed read
+   * @private
+   */
+  error: ?string;
+}
+
+/**
+ * State of an aggregated scanned device passed from BleModule.
+ * @private
+ */
+export interface NativeScannedDeviceState {
+  /**
+   * The latest scanned device
+   * @private
+   */
+  device: NativeDevice;
+  /**
+   * Moving average of RSSI
+   * @private
+   */
+  smoothedRssi: number;
+  /**
+   * Time of the last advertisement in milliseconds since epoch
+   * @private
+   */
+  lastSeen: number;
+}
+
+/**
+ * Result of a single device connected in a batch passed from BleModule. Contains either device or serialized error.
+ * @private
+ */
+export interface NativeDeviceConnectionResult {
+  /**
+   * Device identifier
+   * @private
+   */
+  deviceId: DeviceId;
+  /**
+   * Connected device
+   * @private
+   */
+  device: ?NativeDevice;
+  /**
+   * Serialized error of the last attempt
+   * @private
+   */
+  error: ?string;
+  /**
+   * Number of connection attempts
+   * @private
+   */
+  attempts: number;
+}
+
+/**
+ * Native service passed from BleModule together with its characteristics.
+ * @private
+ */
+export interface NativeServiceSnapshot {
+  /**
+   * Service
+   * @private
+   */
+  service: NativeService;
+  /**
+   * Characteristics of the service with their descriptors
+   * @private
+   */
+  characteristics: Array<{ characteristic: NativeCharacteristic, descriptors: Array<NativeDescriptor> }>;
+}
+
 /**
  * Native descriptor object passed from BleModule.
  * @private
@@ -315,10 +411,22 @@ export interface BleModuleInterface {
   startDeviceScan(filteredUUIDs: ?Array<UUID>, options: ?ScanOptions): void;
 
   /**
-   * Stops device scan.
+   * Stops device scan. On Android returned promise resolves after devices waiting for the next scan batch were
+   * passed in {@link ScanBatchEvent}.
+   *
+   * @returns {?Promise<void>}
    * @private
    */
-  stopDeviceScan(): void;
+  stopDeviceScan(): ?Promise<void>;
+
+  /**
+   * Takes scan results buffered in pull mode. [Android only]
+   *
+   * @param {number} maxCount Maximum number of returned results, 0 to take all of them.
+   * @returns {Promise<Array<NativeDevice>>} Buffered results, oldest first.
+   * @private
+   */
+  drainScanResults(maxCount: number): Promise<Array<NativeDevice>>;
 
   // Device operations
 
@@ -408,6 +516,38 @@ export interface BleModuleInterface {
    */
   isDeviceConnected(deviceIdentifier: DeviceId): Promise<boolean>;
 
+  /**
+   * Connects to devices and discovers their attributes with limited concurrency. Every device result is emitted
+   * in BatchConnectionEvent as soon as it's known. [Android only]
+   *
+   * @param {Array<DeviceId>} deviceIdentifiers Devices to connect to.
+   * @param {?BatchConnectionOptions} options Batch connection options.
+   * @param {TransactionId} transactionId Transaction handle used to cancel the batch.
+   * @returns {Promise<Array<NativeDeviceConnectionResult>>} Results in the order of passed devices.
+   * @private
+   */
+  connectAndDiscoverDevices(
+    deviceIdentifiers: Array<DeviceId>,
+    options: ?BatchConnectionOptions,
+    transactionId: TransactionId
+  ): Promise<Array<NativeDeviceConnectionResult>>;
+
+  /**
+   * Sets limits of the connection pool. [Android only]
+   *
+   * @param {ConnectionPoolOptions} options Connection pool limits.
+   * @private
+   */
+  setConnectionPoolOptions(options: ConnectionPoolOptions): void;
+
+  /**
+   * Returns current state of the connection pool. [Android only]
+   *
+   * @returns {Promise<ConnectionPoolStats>} Connection pool state.
+   * @private
+   */
+  connectionPoolStats(): Promise<ConnectionPoolStats>;
+
   // Discovery
 
   /**
@@ -423,6 +563,30 @@ export interface BleModuleInterface {
     transactionId: TransactionId
   ): Promise<NativeDevice>;
 
+  /**
+   * Discovers all services, characteristics and descriptors for device using persistent layout cache.
+   *
+   * @param {DeviceId} deviceIdentifier Connected device identifier
+   * @param {string} versionTag Tag which has to match tag of cached layout
+   * @param {TransactionId} transactionId Transaction handle used to cancel operation
+   * @returns {Promise<GattLayout>} Cached or discovered layout of the device
+   * @private
+   */
+  discoverAllServicesAndCharacteristicsWithCacheForDevice(
+    deviceIdentifier: DeviceId,
+    versionTag: string,
+    transactionId: TransactionId
+  ): Promise<GattLayout>;
+
+  /**
+   * Removes cached layout of a device or of all devices.
+   *
+   * @param {?DeviceId} deviceIdentifier Device identifier or null to remove all entries
+   * @returns {Promise<void>} Promise resolved when entries are removed
+   * @private
+   */
+  invalidateGattLayoutCache(deviceIdentifier: ?DeviceId): Promise<void>;
+
   // Service and characteristic getters
 
   /**
@@ -487,6 +651,15 @@ export interface BleModuleInterface {
    */
   descriptorsForCharacteristic(characteristicIdentifier: Identifier): Promise<Array<NativeDescriptor>>;
 
+  /**
+   * Get all discovered services of a device with their characteristics and descriptors.
+   *
+   * @param {DeviceId} deviceIdentifier Connected device identifier
+   * @returns {Promise<Array<NativeServiceSnapshot>>} Nested services, characteristics and descriptors
+   * @private
+   */
+  gattSnapshotForDevice(deviceIdentifier: DeviceId): Promise<Array<NativeServiceSnapshot>>;
+
   // Characteristics operations
 
   /**
@@ -531,6 +704,21 @@ export interface BleModuleInterface {
    */
   readCharacteristic(characteristicIdentifer: Identifier, transactionId: TransactionId): Promise<NativeCharacteristic>;
 
+  /**
+   * Read values of multiple characteristics one after another.
+   *
+   * @param {DeviceId} deviceIdentifier Connected device identifier
+   * @param {Array<CharacteristicPath>} characteristics Service and characteristic UUIDs of characteristics to read
+   * @param {TransactionId} transactionId Transaction handle used to cancel all pending reads
+   * @returns {Promise<Array<NativeCharacteristicReadResult>>} Read results in the order of passed characteristics
+   * @private
+   */
+  readCharacteristicsForDevice(
+    deviceIdentifier: DeviceId,
+    characteristics: Array<CharacteristicPath>,
+    transactionId: TransactionId
+  ): Promise<Array<NativeCharacteristicReadResult>>;
+
   /**
    * Write value to characteristic.
    *
@@ -588,6 +776,27 @@ export interface BleModuleInterface {
     transactionId: TransactionId
   ): Promise<NativeCharacteristic>;
 
+  /**
+   * Write values to characteristic in chunks not larger than negotiated MTU allows. [Android only]
+   *
+   * @param {DeviceId} deviceIdentifier Connected device identifier
+   * @param {UUID} serviceUUID Service UUID
+   * @param {UUID} characteristicUUID Characteristic UUID
+   * @param {Array<Base64>} valuesBase64 Values to be written coded in Base64, split natively when needed
+   * @param {?BulkWriteOptions} options Bulk write options
+   * @param {TransactionId} transactionId Transaction handle used to cancel operation and to match progress events
+   * @returns {Promise<?NativeCharacteristic>} Characteristic returned by the last chunk write
+   * @private
+   */
+  writeCharacteristicInBulkForDevice(
+    deviceIdentifier: DeviceId,
+    serviceUUID: UUID,
+    characteristicUUID: UUID,
+    valuesBase64: Array<Base64>,
+    options: ?BulkWriteOptions,
+    transactionId: TransactionId
+  ): Promise<?NativeCharacteristic>;
+
   /**
    * Setup monitoring of characteristic value.
    *
@@ -630,6 +839,25 @@ export interface BleModuleInterface {
    */
   monitorCharacteristic(characteristicIdentifier: Identifier, transactionId: TransactionId): Promise<void>;
 
+  /**
+   * Setup monitoring of characteristic value. Received values are passed in batches. [Android only]
+   *
+   * @param {DeviceId} deviceIdentifier Connected device identifier
+   * @param {UUID} serviceUUID Service UUID
+   * @param {UUID} characteristicUUID Characteristic UUID
+   * @param {?MonitorBatchOptions} options Batching options
+   * @param {TransactionId} transactionId Transaction handle used to cancel operation
+   * @returns {Promise<void>} Value which is returned when monitoring was cancelled or resulted in error
+   * @private
+   */
+  monitorCharacteristicForDeviceInBatches(
+    deviceIdentifier: DeviceId,
+    serviceUUID: UUID,
+    characteristicUUID: UUID,
+    options: ?MonitorBatchOptions,
+    transactionId: TransactionId
+  ): Promise<void>;
+
   // Descriptor operations
 
   /**
@@ -789,6 +1017,98 @@ export interface BleModuleInterface {
    */
   logLevel(): Promise<$Keys<typeof LogLevel>>;
 
+  /**
+   * Enables passing characteristics as value only objects after they were passed once in full as a result of read
+   * and monitor operations. [Android only]
+   *
+   * @param {boolean} enabled Whether value only objects should be used.
+   * @private
+   */
+  setCharacteristicValueOnlyPayloads(enabled: boolean): void;
+
+  /**
+   * Acknowledges that characteristic passed in full was cached, so that it can be passed as value only object from
+   * now on. Acknowledgements are forgotten when device disconnects. [Android only]
+   *
+   * @param {Identifier} characteristicIdentifier Characteristic ID.
+   * @param {DeviceId} deviceIdentifier Device ID of the characteristic.
+   * @private
+   */
+  acknowledgeFullCharacteristic(characteristicIdentifier: Identifier, deviceIdentifier: DeviceId): void;
+
+  /**
+   * Withdraws acknowledgement of characteristic which was received as value only object but isn't cached, so that
+   * it's passed in full again. [Android only]
+   *
+   * @param {Identifier} characteristicIdentifier Characteristic ID.
+   * @private
+   */
+  requestFullCharacteristic(characteristicIdentifier: Identifier): void;
+
+  /**
+   * Sets priority class and queueing deadline of the operation started next with passed transaction id.
+   * [Android only]
+   *
+   * @param {TransactionId} transactionId Transaction id of the operation.
+   * @param {OperationPriority} priority Priority class of the operation.
+   * @param {number} deadlineMs Maximum time in milliseconds the operation may wait in the queue, 0 for no limit.
+   * @private
+   */
+  setTransactionPriority(
+    transactionId: TransactionId,
+    priority: $Values<typeof OperationPriority>,
+    deadlineMs: number
+  ): void;
+
+  /**
+   * Returns metrics collected natively. [Android only]
+   *
+   * @param {boolean} reset Whether collection starts over afterwards.
+   * @returns {Promise<BleMetrics>} Collected metrics.
+   * @private
+   */
+  getMetrics(reset: boolean): Promise<BleMetrics>;
+
+  /**
+   * Enables or disables metrics and sets interval of metrics events. [Android only]
+   *
+   * @param {MetricsOptions} options Metrics options.
+   * @private
+   */
+  setMetricsOptions(options: MetricsOptions): void;
+
+  /**
+   * Sets workers converting scan results and result lists. [Android only]
+   *
+   * @param {ConversionOptions} options Conversion options.
+   * @private
+   */
+  setConversionOptions(options: ConversionOptions): void;
+
+  /**
+   * Sets rate of native event emission. [Android only]
+   *
+   * @param {EmitOptions} options Emit options.
+   * @private
+   */
+  setEmitOptions(options: EmitOptions): void;
+
+  /**
+   * Makes the next created client use simulated devices instead of the radio. [Android only]
+   *
+   * @param {?SimulationOptions} options Simulated devices or `null` to use the radio.
+   * @private
+   */
+  setSimulationOptions(options: ?SimulationOptions): void;
+
+  /**
+   * Returns memory statistics of the native runtime. [Android only]
+   *
+   * @returns {Promise<MemoryStats>} Current memory statistics.
+   * @private
+   */
+  memoryStats(): Promise<MemoryStats>;
+
   // Events
 
   /**
@@ -797,13 +1117,28 @@ export interface BleModuleInterface {
    */
   ScanEvent: string;
 
+  /**
+   * Batch of scanned devices arrived as Array<NativeDevice>. Emitted instead of ScanEvent for successful scan
+   * results when scan batching is enabled in ScanOptions. [Android only]
+   * @private
+   */
+  ScanBatchEvent: string;
+
   /**
    * Characteristic value update broadcasted due to registered notification as
-   * [?Error, ?NativeCharacteristic, ?TransactionId].
+   * [?Error, ?NativeCharacteristic, ?TransactionId]. Batched monitoring appends received values and their
+   * timestamps as [?Error, ?NativeCharacteristic, ?TransactionId, ?Array<?Base64>, ?Array<number>].
    * @private
    */
   ReadEvent: string;
 
+  /**
+   * Progress of a bulk characteristic write as [TransactionId, number, number] where numbers are written and total
+   * bytes.
+   * @private
+   */
+  WriteProgressEvent: string;
+
   /**
    * BLE Manager changed its state as $Keys<typeof State>
    * @private
@@ -821,6 +1156,42 @@ export interface BleModuleInterface {
    * @private
    */
   DisconnectionEvent: string;
+
+  /**
+   * Cached GATT layout of a device became invalid, passed as DeviceId
+   * @private
+   */
+  GattLayoutChangedEvent: string;
+
+  /**
+   * Result of a single device connected in a batch as [TransactionId, NativeDeviceConnectionResult]
+   * @private
+   */
+  BatchConnectionEvent: string;
+
+  /**
+   * Device was reconnected natively or all its attempts failed as [Error?, NativeDevice, number of attempts]
+   * @private
+   */
+  ReconnectionEvent: string;
+
+  /**
+   * Aggregated scanned devices as [Array<NativeScannedDeviceState>, Array<DeviceId>] of updated and expired devices
+   * @private
+   */
+  ScanSnapshotEvent: string;
+
+  /**
+   * Metrics collected since the previous report as BleMetrics
+   * @private
+   */
+  MetricsEvent: string;
+
+  /**
+   * Events coalesced natively as Array<[string, any]> of event names and payloads
+   * @private
+   */
+  MultiplexedEvent: string;
 }
 
 export const BleModule: BleModuleInterface = NativeModules.BleClientManager
@@ -8,7 +8,16 @@ import type { Service } from './Service'
 import type { Descriptor } from './Descriptor'
 import { ConnectionPriority } from './TypeDefinition'
 import type { NativeDevice } from './BleModule'
-import type { DeviceId, Base64, UUID, Subscription, TransactionId, ConnectionOptions } from './TypeDefinition'
+import type {
+  DeviceId,
+  Base64,
+  UUID,
+  Subscription,
+  TransactionId,
+  ConnectionOptions,
+  ServiceSnapshot,
+  GattLayout
+} from './TypeDefinition'
 
 /**
  * Device instance which can be retrieved only by calling
@@ -180,6 +189,20 @@ export class Device implements NativeDevice {
     return this._manager.discoverAllServicesAndCharacteristicsForDevice(this.id, transactionId)
   }
 
+  /**
+   * {@link #blemanagerdiscoverallservicesandcharacteristicswithcachefordevice|bleManager.discoverAllServicesAndCharacteristicsWithCacheForDevice()} with partially filled arguments.
+   *
+   * @param {string} versionTag Application supplied tag identifying device's GATT layout, e.g. firmware revision.
+   * @param {?TransactionId} transactionId Transaction handle used to cancel operation
+   * @returns {Promise<GattLayout>} Promise which emits cached or discovered layout of the device. [Android only]
+   */
+  discoverAllServicesAndCharacteristicsWithCache(
+    versionTag: string,
+    transactionId: ?TransactionId
+  ): Promise<GattLayout> {
+    return this._manager.discoverAllServicesAndCharacteristicsWithCacheForDevice(this.id, versionTag, transactionId)
+  }
+
   /**
    * {@link #blemanagerservicesfordevice|bleManager.servicesForDevice()} with partially filled arguments.
    *
@@ -190,6 +213,16 @@ export class Device implements NativeDevice {
     return this._manager.servicesForDevice(this.id)
   }
 
+  /**
+   * {@link #blemanagergattsnapshotfordevice|bleManager.gattSnapshotForDevice()} with partially filled arguments.
+   *
+   * @returns {Promise<Array<ServiceSnapshot>>} Promise which emits discovered services together with their
+   * characteristics and descriptors. [Android only]
+   */
+  gattSnapshot(): Promise<Array<ServiceSnapshot>> {
+    return this._manager.gattSnapshotForDevice(this.id)
+  }
+
   /**
    * {@link #blemanagercharacteristicsfordevice|bleManager.characteristicsForDevice()} with partially filled arguments.
    *
@@ -0,0 +1,159 @@
+// @flow
+'use strict'
+
+import { BleManager } from './BleManager'
+import { BleError, BleErrorCode } from './BleError'
+import type { Subscription, DeviceId, LoadScenario, LoadReport, MemoryStats } from './TypeDefinition'
+
+/**
+ * UUIDs of the service and characteristics exposed by every device simulated when {@link BleManagerOptions} contain
+ * {@link SimulationOptions}. The notify characteristic sends values starting with a 32 bit little endian sequence
+ * number and the write characteristic stores written values. [Android only]
+ */
+export const SimulatedUUID = {
+  /**
+   * Advertised service containing both characteristics.
+   */
+  service: '5e1a0001-0000-4000-8000-00805f9b34fb',
+  /**
+   * Readable and notifiable characteristic.
+   */
+  notifyCharacteristic: '5e1a0002-0000-4000-8000-00805f9b34fb',
+  /**
+   * Readable and writable characteristic.
+   */
+  writeCharacteristic: '5e1a0003-0000-4000-8000-00805f9b34fb'
+}
+
+/**
+ * Returns identifier of a simulated device.
+ *
+ * @param {number} index Index of the device, from 0 up to the number of simulated advertisers.
+ * @returns {DeviceId} Identifier of the device.
+ */
+export function simulatedDeviceId(index: number): DeviceId {
+  const hex = (byte: number) => (byte < 16 ? '0' : '') + byte.toString(16).toUpperCase()
+  return `5E:1A:00:00:${hex((index >> 8) & 0xff)}:${hex(index & 0xff)}`
+}
+
+/**
+ * Runs a load scenario against a {@link BleManager} created with {@link SimulationOptions} and reports throughput
+ * observed in JS together with native metrics and allocations. Scanning, connections and monitors are stopped before
+ * the report is returned. [Android only]
+ *
+ * @example
+ * const manager = new BleManager({ simulation: { advertisers: 20, notificationRateHz: 200 } })
+ * const report = await runLoadScenario(manager, { durationMs: 10000, scan: false, connections: 20 })
+ * console.log(report.notificationsPerSecond, report.allocatedBytes)
+ *
+ * @param {BleManager} manager Manager using simulated devices.
+ * @param {LoadScenario} scenario Scenario to run.
+ * @returns {Promise<LoadReport>} Report of the scenario.
+ */
+export async function runLoadScenario(manager: BleManager, scenario: LoadScenario): Promise<LoadReport> {
+  const connections = scenario.connections != null ? scenario.connections : 0
+  const monitor = scenario.monitor !== false
+  const errors: Array<BleError> = []
+  const connectedDevices: Array<DeviceId> = []
+  const monitorSubscriptions: Array<Subscription> = []
+  let scannedDevices = 0
+  let notifications = 0
+  let disconnections = 0
+
+  const onError = (error: BleError) => {
+    if (error.errorCode === BleErrorCode.DeviceDisconnected) {
+      disconnections++
+    } else if (error.errorCode !== BleErrorCode.OperationCancelled) {
+      errors.push(error)
+    }
+  }
+
+  await manager.getMetrics(true)
+  const memoryBefore = await memoryStatsOrNull(manager)
+  const startTime = Date.now()
+
+  if (scenario.scan !== false) {
+    manager.startDeviceScan(null, scenario.scanOptions, (error, device) => {
+      if (error != null) {
+        onError(error)
+      } else if (device != null) {
+        scannedDevices++
+      }
+    })
+  }
+
+  await Promise.all(
+    Array.from({ length: connections }, async (_, index) => {
+      const deviceId = simulatedDeviceId(index)
+      try {
+        await manager.connectToDevice(deviceId)
+        connectedDevices.push(deviceId)
+        await manager.discoverAllServicesAndCharacteristicsForDevice(deviceId)
+      } catch (error) {
+        onError(error)
+        return
+      }
+      if (monitor) {
+        monitorSubscriptions.push(
+          manager.monitorCharacteristicForDevice(
+            deviceId,
+            SimulatedUUID.service,
+            SimulatedUUID.notifyCharacteristic,
+            (error, characteristic) => {
+              if (error != null) {
+                onError(error)
+              } else if (characteristic != null) {
+                notifications++
+              }
+            }
+          )
+        )
+      }
+    })
+  )
+
+  await new Promise(resolve => setTimeout(resolve, Math.max(0, startTime + scenario.durationMs - Date.now())))
+  const durationMs = Date.now() - startTime
+  const reportedScannedDevices = scannedDevices
+  const reportedNotifications = notifications
+
+  const metrics = await manager.getMetrics(true)
+  const memoryAfter = await memoryStatsOrNull(manager)
+
+  if (scenario.scan !== false) {
+    manager.stopDeviceScan()
+  }
+  monitorSubscriptions.forEach(subscription => subscription.remove())
+  await Promise.all(connectedDevices.map(deviceId => manager.cancelDeviceConnection(deviceId).catch(() => {})))
+
+  const difference = (key: 'allocatedBytes' | 'gcCount' | 'heapUsedBytes'): ?number => {
+    if (memoryBefore == null || memoryAfter == null || memoryBefore[key] == null || memoryAfter[key] == null) {
+      return null
+    }
+    return memoryAfter[key] - memoryBefore[key]
+  }
+  const perSecond = (count: number) => (durationMs > 0 ? (count * 1000) / durationMs : 0)
+
+  return {
+    durationMs,
+    scannedDevices: reportedScannedDevices,
+    scannedDevicesPerSecond: perSecond(reportedScannedDevices),
+    connectedDevices: connectedDevices.length,
+    notifications: reportedNotifications,
+    notificationsPerSecond: perSecond(reportedNotifications),
+    disconnections,
+    errors,
+    metrics,
+    allocatedBytes: difference('allocatedBytes'),
+    gcCount: difference('gcCount'),
+    heapUsedBytes: difference('heapUsedBytes')
+  }
+}
+
+async function memoryStatsOrNull(manager: BleManager): Promise<?MemoryStats> {
+  try {
+    return await manager.memoryStats()
+  } catch (error) {
+    return null
+  }
+}
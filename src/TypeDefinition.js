@@ -2,7 +2,10 @@
 'use strict'
 
 import type { Device } from './Device'
-import { BleErrorCode } from './BleError'
+import type { Service } from './Service'
+import type { Characteristic } from './Characteristic'
+import type { Descriptor } from './Descriptor'
+import { BleErrorCode, type BleError } from './BleError'
 
 /**
  * Bluetooth device id.
@@ -85,99 +88,1085 @@ export interface BleManagerOptions {
    * @instance
    */
   errorCodesToMessagesMapping?: BleErrorCodeMessageMapping;
+
+  /**
+   * When enabled, characteristics received as a result of read and monitor operations contain only their
+   * identifier, value and notification state after {@link BleManager} cached them in full. Remaining metadata is
+   * restored from this cache, which reduces work done natively for every notification. Cached characteristics of a
+   * device are forgotten when it disconnects. [Android only]
+   *
+   * @memberof BleManagerOptions
+   * @instance
+   */
+  characteristicValueOnlyPayloads?: boolean;
+
+  /**
+   * When set, the manager works with simulated devices instead of the radio, which allows to load test an application
+   * on an emulator. See {@link #runloadscenario|runLoadScenario()}. [Android only]
+   *
+   * @memberof BleManagerOptions
+   * @instance
+   */
+  simulation?: SimulationOptions;
+}
+
+/**
+ * Object representing information about restored BLE state after application relaunch.
+ */
+export interface BleRestoredState {
+  /**
+   * List of connected devices after state restoration.
+   * @type {Array<Device>}
+   * @instance
+   * @memberof BleRestoredState
+   */
+  connectedPeripherals: Array<Device>;
+}
+
+/**
+ * UUID path of a {@link Characteristic} within a {@link Device}.
+ */
+export interface CharacteristicPath {
+  /**
+   * {@link Service} UUID.
+   * @memberof CharacteristicPath
+   * @instance
+   */
+  serviceUUID: UUID;
+
+  /**
+   * {@link Characteristic} UUID.
+   * @memberof CharacteristicPath
+   * @instance
+   */
+  characteristicUUID: UUID;
+}
+
+/**
+ * Result of a single read performed by {@link #blemanagerreadcharacteristicsfordevice|readCharacteristicsForDevice()}.
+ * Exactly one of its fields is set.
+ */
+export interface CharacteristicReadResult {
+  /**
+   * Read {@link Characteristic} with its latest value.
+   * @memberof CharacteristicReadResult
+   * @instance
+   */
+  characteristic: ?Characteristic;
+
+  /**
+   * Error which caused the read to fail.
+   * @memberof CharacteristicReadResult
+   * @instance
+   */
+  error: ?BleError;
+}
+
+/**
+ * Discovered {@link Service} together with its characteristics, returned by
+ * {@link #blemanagergattsnapshotfordevice|gattSnapshotForDevice()}.
+ */
+export interface ServiceSnapshot {
+  /**
+   * Discovered service.
+   * @memberof ServiceSnapshot
+   * @instance
+   */
+  service: Service;
+
+  /**
+   * Characteristics of the service with their descriptors.
+   * @memberof ServiceSnapshot
+   * @instance
+   */
+  characteristics: Array<CharacteristicSnapshot>;
+}
+
+/**
+ * Discovered {@link Characteristic} together with its descriptors.
+ */
+export interface CharacteristicSnapshot {
+  /**
+   * Discovered characteristic.
+   * @memberof CharacteristicSnapshot
+   * @instance
+   */
+  characteristic: Characteristic;
+
+  /**
+   * Descriptors of the characteristic.
+   * @memberof CharacteristicSnapshot
+   * @instance
+   */
+  descriptors: Array<Descriptor>;
+}
+
+/**
+ * Layout of attributes discovered on a {@link Device}, stored in persistent cache. It contains UUIDs and properties
+ * only, identifiers of attributes are assigned by discovery.
+ */
+export interface GattLayout {
+  /**
+   * {@link Device} identifier.
+   * @memberof GattLayout
+   * @instance
+   */
+  deviceID: DeviceId;
+
+  /**
+   * Version tag passed when layout was stored.
+   * @memberof GattLayout
+   * @instance
+   */
+  versionTag: string;
+
+  /**
+   * Whether layout was loaded from the cache before discovery finished.
+   * @memberof GattLayout
+   * @instance
+   */
+  fromCache: boolean;
+
+  /**
+   * Services of the device.
+   * @memberof GattLayout
+   * @instance
+   */
+  services: Array<{
+    uuid: UUID,
+    isPrimary: boolean,
+    characteristics: Array<{
+      uuid: UUID,
+      isReadable: boolean,
+      isWritableWithResponse: boolean,
+      isWritableWithoutResponse: boolean,
+      isNotifiable: boolean,
+      isIndicatable: boolean,
+      descriptors: Array<UUID>
+    }>
+  }>;
+}
+
+/**
+ * Scan mode for Bluetooth LE scan.
+ */
+export const ScanMode = {
+  /**
+   * A special Bluetooth LE scan mode. Applications using this scan mode will passively listen for
+   * other scan results without starting BLE scans themselves.
+   */
+  Opportunistic: -1,
+
+  /**
+   * Perform Bluetooth LE scan in low power mode. This is the default scan mode as it consumes the
+   * least power. [default value]
+   */
+  LowPower: 0,
+
+  /**
+   * Perform Bluetooth LE scan in balanced power mode. Scan results are returned at a rate that
+   * provides a good trade-off between scan frequency and power consumption.
+   */
+  Balanced: 1,
+
+  /**
+   * Scan using highest duty cycle. It's recommended to only use this mode when the application is
+   * running in the foreground.
+   */
+  LowLatency: 2
+}
+
+/**
+ * Scan callback type for Bluetooth LE scan.
+ * @name ScanCallbackType
+ */
+export const ScanCallbackType = {
+  /**
+   * Trigger a callback for every Bluetooth advertisement found that matches the filter criteria.
+   * If no filter is active, all advertisement packets are reported. [default value]
+   */
+  AllMatches: 1,
+
+  /**
+   * A result callback is only triggered for the first advertisement packet received that matches
+   * the filter criteria.
+   */
+  FirstMatch: 2,
+
+  /**
+   * Receive a callback when advertisements are no longer received from a device that has been
+   * previously reported by a first match callback.
+   */
+  MatchLost: 4
+}
+
+/**
+ * Options which can be passed to scanning function
+ * @name ScanOptions
+ */
+export interface ScanOptions {
+  /**
+   * By allowing duplicates scanning records are received more frequently [iOS only]
+   * @memberof ScanOptions
+   * @instance
+   */
+  allowDuplicates?: boolean;
+
+  /**
+   * Scan mode for Bluetooth LE scan [Android only]
+   * @memberof ScanOptions
+   * @instance
+   */
+  scanMode?: $Values<typeof ScanMode>;
+
+  /**
+   * Scan callback type for Bluetooth LE scan [Android only]
+   * @memberof ScanOptions
+   * @instance
+   */
+  callbackType?: $Values<typeof ScanCallbackType>;
+
+  /**
+   * When set, scanned devices are collected natively and passed over the bridge in batches at most every
+   * `batchIntervalMs` milliseconds instead of one by one. Listener is still called separately for each
+   * scanned device. Devices waiting for the next batch when scan is stopped are passed as well. [Android only]
+   * @memberof ScanOptions
+   * @instance
+   */
+  batchIntervalMs?: number;
+
+  /**
+   * Maximum number of scanned devices in one batch. Batch is passed over the bridge as soon as it reaches this
+   * size. Used only together with `batchIntervalMs`. [Android only]
+   * @memberof ScanOptions
+   * @instance
+   */
+  maxBatchSize?: number;
+
+  /**
+   * Enables native deduplication of scan results. Repeated advertisement of already reported device with
+   * unchanged payload is dropped unless its RSSI changed by more than this value. [Android only]
+   * @memberof ScanOptions
+   * @instance
+   */
+  deduplicationRssiDelta?: number;
+
+  /**
+   * Enables native deduplication of scan results. Repeated advertisement of already reported device with
+   * unchanged payload is passed again only after this number of milliseconds since it was last reported.
+   * [Android only]
+   * @memberof ScanOptions
+   * @instance
+   */
+  deduplicationIntervalMs?: number;
+
+  /**
+   * Enables pull mode. Scanned devices aren't passed to the listener, which receives only scan errors. They are
+   * kept natively in a buffer of this size until they are taken with
+   * {@link #blemanagerdrainscanresults|drainScanResults()}. When the buffer is full the oldest scanned device is
+   * dropped, so memory stays bounded regardless of the advertisement rate. [Android only]
+   * @memberof ScanOptions
+   * @instance
+   */
+  scanResultBufferSize?: number;
+
+  /**
+   * Keeps only the latest scanned {@link Device} object of every device in the pull mode buffer. Used only together
+   * with `scanResultBufferSize`. [Android only]
+   * @memberof ScanOptions
+   * @instance
+   */
+  latestScanResultPerDevice?: boolean;
+
+  /**
+   * Minimum RSSI of scanned devices. Weaker advertisements are dropped natively. [Android only]
+   * @memberof ScanOptions
+   * @instance
+   */
+  minRssi?: number;
+
+  /**
+   * Filters of scanned advertisements, of which any needs to match. Other advertisements are dropped natively before
+   * they are converted and passed over the bridge. Invalid filter fails the scan with
+   * {@link #bleerrorcodescanstartfailed|ScanStartFailed} error. [Android only]
+   * @memberof ScanOptions
+   * @instance
+   */
+  advertisementFilters?: Array<AdvertisementFilter>;
+
+  /**
+   * Enables native aggregation of scanned devices. Scanned devices aren't passed to the listener, which receives only
+   * scan errors. Instead every `aggregationIntervalMs` milliseconds a snapshot of devices updated since the previous
+   * one is passed to {@link #blemanageronscansnapshot|onScanSnapshot()} listeners. [Android only]
+   * @memberof ScanOptions
+   * @instance
+   */
+  aggregationIntervalMs?: number;
+
+  /**
+   * Time in milliseconds after which an aggregated device which isn't seen is reported as expired. 0 keeps devices
+   * until the scan is stopped. Defaults to 10000 milliseconds. [Android only]
+   * @memberof ScanOptions
+   * @instance
+   */
+  aggregationDeviceTtlMs?: number;
+
+  /**
+   * Weight of a new RSSI in the exponential moving average of aggregated devices, from 0 (exclusive) to 1. Lower
+   * values smooth more. 1 disables smoothing. Defaults to 0.3. [Android only]
+   * @memberof ScanOptions
+   * @instance
+   */
+  rssiSmoothingFactor?: number;
+}
+
+/**
+ * State of a scanned device passed in snapshots of {@link #blemanageronscansnapshot|onScanSnapshot()}.
+ * [Android only]
+ * @name ScannedDeviceState
+ */
+export interface ScannedDeviceState {
+  /**
+   * The latest scanned {@link Device} object.
+   * @memberof ScannedDeviceState
+   * @instance
+   */
+  device: Device;
+
+  /**
+   * Moving average of RSSI of the device.
+   * @memberof ScannedDeviceState
+   * @instance
+   */
+  smoothedRssi: number;
+
+  /**
+   * Time in milliseconds since epoch when the device was seen for the last time.
+   * @memberof ScannedDeviceState
+   * @instance
+   */
+  lastSeen: number;
+}
+
+/**
+ * Native filter of scanned advertisements. Advertisement matches the filter when it meets all its criteria.
+ * [Android only]
+ * @name AdvertisementFilter
+ */
+export interface AdvertisementFilter {
+  /**
+   * Company identifier which starts manufacturer specific data, e.g. `0x004C`.
+   * @memberof AdvertisementFilter
+   * @instance
+   */
+  manufacturerId?: number;
+
+  /**
+   * Expected manufacturer specific data following the company identifier. Advertised data may be longer.
+   * @memberof AdvertisementFilter
+   * @instance
+   */
+  manufacturerData?: Base64;
+
+  /**
+   * Mask of compared `manufacturerData` bits. Defaults to comparing all bits.
+   * @memberof AdvertisementFilter
+   * @instance
+   */
+  manufacturerDataMask?: Base64;
+
+  /**
+   * Prefix of the device name or the advertised local name.
+   * @memberof AdvertisementFilter
+   * @instance
+   */
+  namePrefix?: string;
+
+  /**
+   * Regular expression which needs to be found in the device name or the advertised local name. Java regular expression
+   * syntax is used.
+   * @memberof AdvertisementFilter
+   * @instance
+   */
+  namePattern?: string;
+
+  /**
+   * UUID of a service which needs to advertise service data.
+   * @memberof AdvertisementFilter
+   * @instance
+   */
+  serviceDataUUID?: UUID;
+
+  /**
+   * Expected data of `serviceDataUUID` service. Advertised data may be longer.
+   * @memberof AdvertisementFilter
+   * @instance
+   */
+  serviceData?: Base64;
+
+  /**
+   * Mask of compared `serviceData` bits. Defaults to comparing all bits.
+   * @memberof AdvertisementFilter
+   * @instance
+   */
+  serviceDataMask?: Base64;
+}
+
+/**
+ * Options which can be passed to batched characteristic monitoring function
+ * @name MonitorBatchOptions
+ */
+export interface MonitorBatchOptions {
+  /**
+   * Maximum time in milliseconds a received value waits natively before its batch is passed over the bridge.
+   * Defaults to 100 milliseconds.
+   * @memberof MonitorBatchOptions
+   * @instance
+   */
+  batchIntervalMs?: number;
+
+  /**
+   * Maximum number of values in one batch. Batch is passed over the bridge as soon as it reaches this size.
+   * @memberof MonitorBatchOptions
+   * @instance
+   */
+  maxBatchSize?: number;
+}
+
+/**
+ * Options which can be passed to bulk characteristic write function
+ * @name BulkWriteOptions
+ */
+export interface BulkWriteOptions {
+  /**
+   * Whether chunks are written with response. Defaults to `false`.
+   * @memberof BulkWriteOptions
+   * @instance
+   */
+  withResponse?: boolean;
+
+  /**
+   * Maximum number of bytes written in a single chunk. Defaults to the negotiated MTU decreased by the 3 byte ATT
+   * header.
+   * @memberof BulkWriteOptions
+   * @instance
+   */
+  chunkSize?: number;
+
+  /**
+   * Number of chunk writes queued natively before previous ones complete. Values above 2, which is the default, are
+   * clamped to 2, as native scheduler runs at most 2 operations on a device at once.
+   * @memberof BulkWriteOptions
+   * @instance
+   */
+  maxWritesInFlight?: number;
+
+  /**
+   * Minimum time in milliseconds between two progress updates. Final progress is always reported. Defaults to 100
+   * milliseconds.
+   * @memberof BulkWriteOptions
+   * @instance
+   */
+  progressIntervalMs?: number;
+}
+
+/**
+ * Options of {@link #blemanagerconnectanddiscoverdevices|connectAndDiscoverDevices()}. [Android only]
+ * @name BatchConnectionOptions
+ */
+export interface BatchConnectionOptions {
+  /**
+   * Options used to connect to every device.
+   * @memberof BatchConnectionOptions
+   * @instance
+   */
+  connectionOptions?: ConnectionOptions;
+
+  /**
+   * Maximum number of devices connected and discovered at once. Defaults to 4.
+   * @memberof BatchConnectionOptions
+   * @instance
+   */
+  concurrency?: number;
+
+  /**
+   * Maximum number of attempts to connect to and discover a single device. Defaults to 3.
+   * @memberof BatchConnectionOptions
+   * @instance
+   */
+  maxAttempts?: number;
+
+  /**
+   * Time in milliseconds after which a failed device is queued again behind remaining devices. Defaults to 1000
+   * milliseconds.
+   * @memberof BatchConnectionOptions
+   * @instance
+   */
+  retryDelayMs?: number;
+}
+
+/**
+ * Result of a single device connected by {@link #blemanagerconnectanddiscoverdevices|connectAndDiscoverDevices()}.
+ * Exactly one of `device` and `error` fields is set.
+ */
+export interface DeviceConnectionResult {
+  /**
+   * Identifier of the device.
+   * @memberof DeviceConnectionResult
+   * @instance
+   */
+  deviceId: DeviceId;
+
+  /**
+   * Connected {@link Device} with discovered attributes.
+   * @memberof DeviceConnectionResult
+   * @instance
+   */
+  device: ?Device;
+
+  /**
+   * Error of the last attempt when all attempts failed.
+   * @memberof DeviceConnectionResult
+   * @instance
+   */
+  error: ?BleError;
+
+  /**
+   * Number of attempts made to connect to the device.
+   * @memberof DeviceConnectionResult
+   * @instance
+   */
+  attempts: number;
+}
+
+/**
+ * Limits of the native connection pool. [Android only]
+ * @name ConnectionPoolOptions
+ */
+export interface ConnectionPoolOptions {
+  /**
+   * Maximum number of devices connected at once. When a new device is connected above the limit, the least recently
+   * used idle one is disconnected and connected again when it is used next time. 0 means no limit, which is the
+   * default.
+   * @memberof ConnectionPoolOptions
+   * @instance
+   */
+  maxConnections?: number;
+
+  /**
+   * Maximum number of connections being established at once. Other connect requests wait in a queue. 0 means no
+   * limit, which is the default.
+   * @memberof ConnectionPoolOptions
+   * @instance
+   */
+  maxConcurrentConnections?: number;
+}
+
+/**
+ * State of the native connection pool. [Android only]
+ * @name ConnectionPoolStats
+ */
+export interface ConnectionPoolStats {
+  /**
+   * Maximum number of devices connected at once, 0 for no limit.
+   * @memberof ConnectionPoolStats
+   * @instance
+   */
+  maxConnections: number;
+
+  /**
+   * Maximum number of connections being established at once, 0 for no limit.
+   * @memberof ConnectionPoolStats
+   * @instance
+   */
+  maxConcurrentConnections: number;
+
+  /**
+   * Number of connected devices.
+   * @memberof ConnectionPoolStats
+   * @instance
+   */
+  connectedDevices: number;
+
+  /**
+   * Number of connections being established.
+   * @memberof ConnectionPoolStats
+   * @instance
+   */
+  pendingConnections: number;
+
+  /**
+   * Number of connect requests waiting for a free slot.
+   * @memberof ConnectionPoolStats
+   * @instance
+   */
+  queuedConnections: number;
+
+  /**
+   * Number of devices disconnected to make room for other ones, which are reconnected when used by
+   * device identifier again.
+   * @memberof ConnectionPoolStats
+   * @instance
+   */
+  evictedDevices: number;
+
+  /**
+   * Total number of evictions.
+   * @memberof ConnectionPoolStats
+   * @instance
+   */
+  evictions: number;
+
+  /**
+   * Total number of reconnections of evicted devices.
+   * @memberof ConnectionPoolStats
+   * @instance
+   */
+  reconnections: number;
+}
+
+/**
+ * Options of native metrics collection. [Android only]
+ * @name MetricsOptions
+ */
+export interface MetricsOptions {
+  /**
+   * Whether metrics are collected. Collection uses only atomic counters and is enabled by default.
+   * @memberof MetricsOptions
+   * @instance
+   */
+  enabled?: boolean;
+
+  /**
+   * Interval in milliseconds of metrics passed to {@link #blemanageronmetrics|onMetrics()} listeners. Every report
+   * covers the period since the previous one. 0 stops reports, which is the default.
+   * @memberof MetricsOptions
+   * @instance
+   */
+  reportIntervalMs?: number;
+}
+
+/**
+ * Latency distribution of a native method or converter. Percentiles are estimated from power of two buckets, so
+ * they are accurate up to a factor of two. [Android only]
+ * @name LatencyStats
+ */
+export interface LatencyStats {
+  /**
+   * Number of measured calls.
+   * @memberof LatencyStats
+   * @instance
+   */
+  count: number;
+
+  /**
+   * Mean duration in milliseconds.
+   * @memberof LatencyStats
+   * @instance
+   */
+  meanMs: number;
+
+  /**
+   * Maximum duration in milliseconds.
+   * @memberof LatencyStats
+   * @instance
+   */
+  maxMs: number;
+
+  /**
+   * Median duration in milliseconds.
+   * @memberof LatencyStats
+   * @instance
+   */
+  p50Ms: number;
+
+  /**
+   * 90th percentile of durations in milliseconds.
+   * @memberof LatencyStats
+   * @instance
+   */
+  p90Ms: number;
+
+  /**
+   * 99th percentile of durations in milliseconds.
+   * @memberof LatencyStats
+   * @instance
+   */
+  p99Ms: number;
 }
 
 /**
- * Object representing information about restored BLE state after application relaunch.
+ * Number of native events of a single type passed to JS. [Android only]
+ * @name EventStats
  */
-export interface BleRestoredState {
+export interface EventStats {
   /**
-   * List of connected devices after state restoration.
-   * @type {Array<Device>}
+   * Number of sent events.
+   * @memberof EventStats
    * @instance
-   * @memberof BleRestoredState
    */
-  connectedPeripherals: Array<Device>;
+  count: number;
+
+  /**
+   * Number of items carried by the events: scanned devices of `ScanBatchEvent`, values of batched `ReadEvent`,
+   * updated and expired devices of `ScanSnapshotEvent` and events of `MultiplexedEvent`. Other events carry 1 item.
+   * @memberof EventStats
+   * @instance
+   */
+  payloadSize: number;
 }
 
 /**
- * Scan mode for Bluetooth LE scan.
+ * Lookups in a native cache. [Android only]
+ * @name CacheStats
  */
-export const ScanMode = {
+export interface CacheStats {
   /**
-   * A special Bluetooth LE scan mode. Applications using this scan mode will passively listen for
-   * other scan results without starting BLE scans themselves.
+   * Number of lookups which found a cached value.
+   * @memberof CacheStats
+   * @instance
    */
-  Opportunistic: -1,
+  hits: number;
 
   /**
-   * Perform Bluetooth LE scan in low power mode. This is the default scan mode as it consumes the
-   * least power. [default value]
+   * Number of lookups which had to compute the value.
+   * @memberof CacheStats
+   * @instance
    */
-  LowPower: 0,
+  misses: number;
 
   /**
-   * Perform Bluetooth LE scan in balanced power mode. Scan results are returned at a rate that
-   * provides a good trade-off between scan frequency and power consumption.
+   * Number of values in the cache.
+   * @memberof CacheStats
+   * @instance
    */
-  Balanced: 1,
+  size: number;
+}
 
+/**
+ * Metrics of native bridge and GATT operations. [Android only]
+ * @name BleMetrics
+ */
+export interface BleMetrics {
   /**
-   * Scan using highest duty cycle. It's recommended to only use this mode when the application is
-   * running in the foreground.
+   * Length in milliseconds of the period covered by metrics.
+   * @memberof BleMetrics
+   * @instance
    */
-  LowLatency: 2
+  periodMs: number;
+
+  /**
+   * Latencies of native methods from the call until their promises settle, by method names. Monitors aren't
+   * measured, as their promises settle only when monitoring ends.
+   * @memberof BleMetrics
+   * @instance
+   */
+  methods: { [method: string]: LatencyStats };
+
+  /**
+   * Durations of conversions of native objects passed to JS, by converter names.
+   * @memberof BleMetrics
+   * @instance
+   */
+  conversions: { [converter: string]: LatencyStats };
+
+  /**
+   * Native events passed to JS by event names.
+   * @memberof BleMetrics
+   * @instance
+   */
+  events: { [event: string]: EventStats };
+
+  /**
+   * Number of advertisements received by the native scanner, before any filtering.
+   * @memberof BleMetrics
+   * @instance
+   */
+  scanResults: number;
+
+  /**
+   * Rate of advertisements received by the native scanner.
+   * @memberof BleMetrics
+   * @instance
+   */
+  scanResultsPerSecond: number;
+
+  /**
+   * Number of received values of monitored characteristics.
+   * @memberof BleMetrics
+   * @instance
+   */
+  notifications: number;
+
+  /**
+   * Rate of received values of monitored characteristics.
+   * @memberof BleMetrics
+   * @instance
+   */
+  notificationsPerSecond: number;
+
+  /**
+   * Lookups of lower case UUID strings used in converted objects.
+   * @memberof BleMetrics
+   * @instance
+   */
+  uuidStringCache?: CacheStats;
 }
 
 /**
- * Scan callback type for Bluetooth LE scan.
- * @name ScanCallbackType
+ * Options of native workers converting scan results and result lists. [Android only]
+ * @name ConversionOptions
  */
-export const ScanCallbackType = {
+export interface ConversionOptions {
   /**
-   * Trigger a callback for every Bluetooth advertisement found that matches the filter criteria.
-   * If no filter is active, all advertisement packets are reported. [default value]
+   * Number of worker threads. 0 converts results on Bluetooth callback threads, which is the default.
+   * @memberof ConversionOptions
+   * @instance
    */
-  AllMatches: 1,
+  threads?: number;
 
   /**
-   * A result callback is only triggered for the first advertisement packet received that matches
-   * the filter criteria.
+   * Maximum number of results waiting for a single worker. Further lists are converted on the callback thread and
+   * the oldest waiting scan results are dropped. 256 by default.
+   * @memberof ConversionOptions
+   * @instance
    */
-  FirstMatch: 2,
+  queueSize?: number;
+}
 
+/**
+ * Options of native event emission. [Android only]
+ * @name EmitOptions
+ */
+export interface EmitOptions {
   /**
-   * Receive a callback when advertisements are no longer received from a device that has been
-   * previously reported by a first match callback.
+   * Maximum number of bridge messages carrying events per second. 0 sends every event right away, which is the
+   * default.
+   * @memberof EmitOptions
+   * @instance
    */
-  MatchLost: 4
+  rateHz?: number;
 }
 
 /**
- * Options which can be passed to scanning function
- * @name ScanOptions
+ * Parameters of devices simulated instead of the radio. Every device advertises and exposes services described by
+ * {@link SimulatedUUID}. [Android only]
+ * @name SimulationOptions
  */
-export interface ScanOptions {
+export interface SimulationOptions {
   /**
-   * By allowing duplicates scanning records are received more frequently [iOS only]
-   * @memberof ScanOptions
+   * Number of simulated devices, all of which advertise and are connectable. 1 by default.
+   * @memberof SimulationOptions
    * @instance
    */
-  allowDuplicates?: boolean;
+  advertisers?: number;
 
   /**
-   * Scan mode for Bluetooth LE scan [Android only]
-   * @memberof ScanOptions
+   * Advertisements per second of every device. 10 by default.
+   * @memberof SimulationOptions
    * @instance
    */
-  scanMode?: $Values<typeof ScanMode>;
+  advertisingRateHz?: number;
 
   /**
-   * Scan callback type for Bluetooth LE scan [Android only]
-   * @memberof ScanOptions
+   * Notifications per second of every monitored characteristic. 10 by default.
+   * @memberof SimulationOptions
    * @instance
    */
-  callbackType?: $Values<typeof ScanCallbackType>;
+  notificationRateHz?: number;
+
+  /**
+   * Size of notified values in bytes, at least 4. 20 by default.
+   * @memberof SimulationOptions
+   * @instance
+   */
+  notificationSize?: number;
+
+  /**
+   * Time in milliseconds a connection takes. 50 by default.
+   * @memberof SimulationOptions
+   * @instance
+   */
+  connectionLatencyMs?: number;
+
+  /**
+   * Time in milliseconds a discovery, read or write takes. 10 by default.
+   * @memberof SimulationOptions
+   * @instance
+   */
+  gattLatencyMs?: number;
+
+  /**
+   * Average number of unexpected disconnections of a connected device per minute. 0 by default.
+   * @memberof SimulationOptions
+   * @instance
+   */
+  disconnectsPerMinute?: number;
+
+  /**
+   * Seed of randomized RSSI values and disconnections. 0 by default.
+   * @memberof SimulationOptions
+   * @instance
+   */
+  seed?: number;
+}
+
+/**
+ * Memory statistics of the native runtime. [Android only]
+ * @name MemoryStats
+ */
+export interface MemoryStats {
+  /**
+   * Size in bytes of the used Java heap.
+   * @memberof MemoryStats
+   * @instance
+   */
+  heapUsedBytes: number;
+
+  /**
+   * Total size in bytes of objects allocated since the process started. `null` before Android 6.0.
+   * @memberof MemoryStats
+   * @instance
+   */
+  allocatedBytes: ?number;
+
+  /**
+   * Number of garbage collections since the process started. `null` before Android 6.0.
+   * @memberof MemoryStats
+   * @instance
+   */
+  gcCount: ?number;
+}
+
+/**
+ * Scenario run by {@link #runloadscenario|runLoadScenario()}. [Android only]
+ * @name LoadScenario
+ */
+export interface LoadScenario {
+  /**
+   * Duration of the scenario in milliseconds, counted from its start.
+   * @memberof LoadScenario
+   * @instance
+   */
+  durationMs: number;
+
+  /**
+   * Whether devices are scanned during the scenario. `true` by default.
+   * @memberof LoadScenario
+   * @instance
+   */
+  scan?: boolean;
+
+  /**
+   * Options of the scan.
+   * @memberof LoadScenario
+   * @instance
+   */
+  scanOptions?: ScanOptions;
+
+  /**
+   * Number of simulated devices connected and discovered at the start of the scenario. 0 by default.
+   * @memberof LoadScenario
+   * @instance
+   */
+  connections?: number;
+
+  /**
+   * Whether the notify characteristic of every connected device is monitored. `true` by default.
+   * @memberof LoadScenario
+   * @instance
+   */
+  monitor?: boolean;
+}
+
+/**
+ * Report of a scenario run by {@link #runloadscenario|runLoadScenario()}. [Android only]
+ * @name LoadReport
+ */
+export interface LoadReport {
+  /**
+   * Actual duration of the scenario in milliseconds.
+   * @memberof LoadReport
+   * @instance
+   */
+  durationMs: number;
+
+  /**
+   * Number of scanned devices received by JS.
+   * @memberof LoadReport
+   * @instance
+   */
+  scannedDevices: number;
+
+  /**
+   * Rate of scanned devices received by JS.
+   * @memberof LoadReport
+   * @instance
+   */
+  scannedDevicesPerSecond: number;
+
+  /**
+   * Number of devices which were connected.
+   * @memberof LoadReport
+   * @instance
+   */
+  connectedDevices: number;
+
+  /**
+   * Number of characteristic values received by JS.
+   * @memberof LoadReport
+   * @instance
+   */
+  notifications: number;
+
+  /**
+   * Rate of characteristic values received by JS.
+   * @memberof LoadReport
+   * @instance
+   */
+  notificationsPerSecond: number;
+
+  /**
+   * Number of monitors stopped by unexpected disconnections.
+   * @memberof LoadReport
+   * @instance
+   */
+  disconnections: number;
+
+  /**
+   * Errors of operations other than cancellations and disconnections.
+   * @memberof LoadReport
+   * @instance
+   */
+  errors: Array<BleError>;
+
+  /**
+   * Native metrics covering the scenario.
+   * @memberof LoadReport
+   * @instance
+   */
+  metrics: BleMetrics;
+
+  /**
+   * Bytes allocated natively during the scenario. `null` when unknown.
+   * @memberof LoadReport
+   * @instance
+   */
+  allocatedBytes: ?number;
+
+  /**
+   * Number of native garbage collections during the scenario. `null` when unknown.
+   * @memberof LoadReport
+   * @instance
+   */
+  gcCount: ?number;
+
+  /**
+   * Growth in bytes of the used Java heap during the scenario. `null` when unknown.
+   * @memberof LoadReport
+   * @instance
+   */
+  heapUsedBytes: ?number;
 }
 
 /**
@@ -218,6 +1207,68 @@ export interface ConnectionOptions {
    * @instance
    */
   timeout?: number;
+
+  /**
+   * Reconnects the device natively whenever it's disconnected unexpectedly. [Android only]
+   * @memberof ConnectionOptions
+   * @instance
+   */
+  reconnect?: ReconnectOptions;
+}
+
+/**
+ * Policy of native reconnection set with {@link #connectionoptions|ConnectionOptions}. Device is reconnected and its
+ * attributes are discovered again without waiting for JS. Delay before every attempt grows exponentially and its
+ * part is randomized. Result of reconnection is emitted to
+ * {@link #blemanagerondevicereconnected|onDeviceReconnected()} listeners. Reconnection stops when the device is
+ * disconnected by {@link #blemanagercanceldeviceconnection|cancelDeviceConnection()} or connected again from JS.
+ * [Android only]
+ * @name ReconnectOptions
+ */
+export interface ReconnectOptions {
+  /**
+   * Maximum number of attempts after a single disconnection. Defaults to 5.
+   * @memberof ReconnectOptions
+   * @instance
+   */
+  maxAttempts?: number;
+
+  /**
+   * Delay in milliseconds before the first attempt. Defaults to 1000 milliseconds.
+   * @memberof ReconnectOptions
+   * @instance
+   */
+  initialDelayMs?: number;
+
+  /**
+   * Upper bound of the delay in milliseconds. Defaults to 30000 milliseconds.
+   * @memberof ReconnectOptions
+   * @instance
+   */
+  maxDelayMs?: number;
+
+  /**
+   * Factor by which the delay grows after every failed attempt. Defaults to 2.
+   * @memberof ReconnectOptions
+   * @instance
+   */
+  multiplier?: number;
+
+  /**
+   * Part of the delay, from 0 to 1, which is randomized. Defaults to 0.5.
+   * @memberof ReconnectOptions
+   * @instance
+   */
+  jitter?: number;
+
+  /**
+   * Whether characteristics monitored with device and UUIDs are monitored again after reconnection. Their listeners
+   * don't receive disconnection errors in the meantime. Monitors of characteristics and services passed by
+   * identifiers end with disconnection, as identifiers change after discovery. Defaults to true.
+   * @memberof ReconnectOptions
+   * @instance
+   */
+  restoreMonitors?: boolean;
 }
 
 /**
@@ -300,3 +1351,23 @@ export const ConnectionPriority = {
    */
   LowPower: 2
 }
+
+/**
+ * Priority class of GATT operations queued for a device. Operations of a higher class are started before already
+ * queued operations of lower classes. [Android only]
+ * @name OperationPriority
+ */
+export const OperationPriority = {
+  /**
+   * Operations triggered by the user, which should finish as soon as possible. Default for single reads and writes.
+   */
+  Interactive: 'Interactive',
+  /**
+   * Operations which may wait for interactive ones. Default for `readCharacteristicsForDevice`.
+   */
+  Background: 'Background',
+  /**
+   * Long transfers which may wait for all other operations. Default for `writeCharacteristicInBulkForDevice`.
+   */
+  Bulk: 'Bulk'
+}
@@ -1,7 +1,7 @@
 // @flow
 'use strict'
 
-import type { UUID } from './TypeDefinition'
+import type { UUID, Base64 } from './TypeDefinition'
 
 /**
  * Converts UUID to full 128bit, lowercase format which should be used to compare UUID values.
@@ -20,3 +20,84 @@ export function fillStringWithArguments(value: string, object: Object) {
     return object[arg] || '?'
   })
 }
+
+const base64Alphabet = 'ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz0123456789+/'
+const base64Lookup = new Uint8Array(256).fill(255)
+for (let i = 0; i < base64Alphabet.length; i++) {
+  base64Lookup[base64Alphabet.charCodeAt(i)] = i
+}
+
+/**
+ * Decodes {@link Base64} value (for example {@link Characteristic#value}) into raw bytes without any intermediate
+ * strings. Padding is optional. Values still cross the bridge as Base64 strings, this helper only avoids string
+ * conversions in JS.
+ *
+ * @param {Base64} value Base64 encoded value.
+ * @returns {Uint8Array} Decoded bytes backed by a fresh `ArrayBuffer`.
+ * @throws {Error} When the value contains characters outside of the Base64 alphabet or has invalid length.
+ */
+export function base64ToBytes(value: Base64): Uint8Array {
+  let length = value.length
+  while (length > 0 && value.charCodeAt(length - 1) === 61 /* = */) length--
+  const paddingLength = value.length - length
+  if (length % 4 === 1 || paddingLength > 2 || (paddingLength > 0 && value.length % 4 !== 0)) {
+    throw new Error(`Invalid Base64 length ${value.length}`)
+  }
+  const bytes = new Uint8Array((length * 3) >> 2)
+  let accumulator = 0
+  let bits = 0
+  let offset = 0
+  for (let i = 0; i < length; i++) {
+    const code = value.charCodeAt(i)
+    const sextet = code > 255 ? 255 : base64Lookup[code]
+    if (sextet === 255) {
+      throw new Error(`Invalid Base64 character at position ${i}`)
+    }
+    accumulator = (accumulator << 6) | sextet
+    bits += 6
+    if (bits >= 8) {
+      bits -= 8
+      bytes[offset++] = (accumulator >> bits) & 0xff
+    }
+  }
+  return bytes
+}
+
+/**
+ * Encodes raw bytes into {@link Base64} value which can be passed to write functions of {@link BleManager}. Values
+ * still cross the bridge as Base64 strings, this helper only avoids string conversions in JS.
+ *
+ * @param {Uint8Array | ArrayBuffer} value Bytes to encode.
+ * @returns {Base64} Base64 encoded value with padding.
+ */
+export function bytesToBase64(value: Uint8Array | ArrayBuffer): Base64 {
+  const bytes = value instanceof Uint8Array ? value : new Uint8Array(value)
+  const chunks: Array<string> = []
+  const chunk: Array<number> = []
+  let i = 0
+  for (; i + 2 < bytes.length; i += 3) {
+    const triple = (bytes[i] << 16) | (bytes[i + 1] << 8) | bytes[i + 2]
+    chunk.push(
+      base64Alphabet.charCodeAt(triple >> 18),
+      base64Alphabet.charCodeAt((triple >> 12) & 63),
+      base64Alphabet.charCodeAt((triple >> 6) & 63),
+      base64Alphabet.charCodeAt(triple & 63)
+    )
+    if (chunk.length >= 4096) {
+      chunks.push(String.fromCharCode.apply(null, chunk))
+      chunk.length = 0
+    }
+  }
+  const remaining = bytes.length - i
+  if (remaining > 0) {
+    const triple = (bytes[i] << 16) | (remaining === 2 ? bytes[i + 1] << 8 : 0)
+    chunk.push(
+      base64Alphabet.charCodeAt(triple >> 18),
+      base64Alphabet.charCodeAt((triple >> 12) & 63),
+      remaining === 2 ? base64Alphabet.charCodeAt((triple >> 6) & 63) : 61,
+      61
+    )
+  }
+  chunks.push(String.fromCharCode.apply(null, chunk))
+  return chunks.join('')
+}